@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.resource.mgt.cache;
+
+import org.wso2.carbon.identity.application.common.model.APIResource;
+import org.wso2.carbon.identity.application.common.model.Scope;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Index of the scopes of a tenant by scope name, along with the names of their API resources.
+ * <p>
+ * The index is immutable. A change to the scopes creates a new index, so that the index can be read without locking
+ * while it is being updated.
+ */
+public class APIResourceScopeIndex {
+
+    private final Map<String, List<Scope>> scopesByName;
+    private final Map<String, String> apiResourceNames;
+
+    /**
+     * Create the index from the given API resources.
+     *
+     * @param apiResources   API resources with their scopes.
+     * @param tenantAgnostic Whether to index the tenant agnostic scopes, ie the scopes without an organization ID,
+     *                       or the scopes owned by the tenant.
+     */
+    public APIResourceScopeIndex(List<APIResource> apiResources, boolean tenantAgnostic) {
+
+        this(new LinkedHashMap<>(), new HashMap<>());
+        for (APIResource apiResource : apiResources) {
+            if (apiResource.getScopes() == null) {
+                continue;
+            }
+            for (Scope scope : apiResource.getScopes()) {
+                if ((scope.getOrgID() == null) == tenantAgnostic) {
+                    addScope(scope, apiResource.getName());
+                }
+            }
+        }
+    }
+
+    private APIResourceScopeIndex(Map<String, List<Scope>> scopesByName, Map<String, String> apiResourceNames) {
+
+        this.scopesByName = scopesByName;
+        this.apiResourceNames = apiResourceNames;
+    }
+
+    /**
+     * Get the scopes with the given name.
+     *
+     * @param scopeName Scope name.
+     * @return Scopes with the given name.
+     */
+    public List<Scope> getScopes(String scopeName) {
+
+        List<Scope> scopes = scopesByName.get(scopeName);
+        return scopes != null ? scopes : Collections.emptyList();
+    }
+
+    /**
+     * Get all the scopes in the index.
+     *
+     * @return All the scopes.
+     */
+    public List<Scope> getScopes() {
+
+        List<Scope> scopes = new ArrayList<>();
+        for (List<Scope> scopesWithName : scopesByName.values()) {
+            scopes.addAll(scopesWithName);
+        }
+        return scopes;
+    }
+
+    /**
+     * Get the name of the API resource of an indexed scope.
+     *
+     * @param apiId API resource id.
+     * @return API resource name.
+     */
+    public String getAPIResourceName(String apiId) {
+
+        return apiResourceNames.get(apiId);
+    }
+
+    /**
+     * Create an index with the scopes of the given API resource added.
+     *
+     * @param apiResource API resource with its scopes.
+     * @param orgID       Organization ID of the scopes, which is null for tenant agnostic scopes.
+     * @return Updated index.
+     */
+    public APIResourceScopeIndex withAPIResource(APIResource apiResource, String orgID) {
+
+        APIResourceScopeIndex scopeIndex = withoutScopes(scope -> apiResource.getId().equals(scope.getApiID()));
+        if (apiResource.getScopes() != null) {
+            for (Scope scope : apiResource.getScopes()) {
+                scopeIndex.addScope(new Scope(scope.getId(), scope.getName(), scope.getDisplayName(),
+                        scope.getDescription(), apiResource.getId(), orgID), apiResource.getName());
+            }
+        }
+        return scopeIndex;
+    }
+
+    /**
+     * Create an index without the scopes matching the given predicate.
+     *
+     * @param predicate Predicate of the scopes to be removed.
+     * @return Updated index.
+     */
+    public APIResourceScopeIndex withoutScopes(Predicate<Scope> predicate) {
+
+        APIResourceScopeIndex scopeIndex = new APIResourceScopeIndex(new LinkedHashMap<>(), new HashMap<>());
+        for (List<Scope> scopes : scopesByName.values()) {
+            for (Scope scope : scopes) {
+                if (!predicate.test(scope)) {
+                    scopeIndex.addScope(scope, apiResourceNames.get(scope.getApiID()));
+                }
+            }
+        }
+        return scopeIndex;
+    }
+
+    /**
+     * Create an index with the display name and the description of the scopes matching the given predicate updated.
+     *
+     * @param predicate   Predicate of the scopes to be updated.
+     * @param displayName Display name of the scopes.
+     * @param description Description of the scopes.
+     * @return Updated index.
+     */
+    public APIResourceScopeIndex withScopeMetadata(Predicate<Scope> predicate, String displayName,
+                                                   String description) {
+
+        APIResourceScopeIndex scopeIndex = new APIResourceScopeIndex(new LinkedHashMap<>(), new HashMap<>());
+        for (List<Scope> scopes : scopesByName.values()) {
+            for (Scope scope : scopes) {
+                if (predicate.test(scope)) {
+                    scope = new Scope(scope.getId(), scope.getName(), displayName, description, scope.getApiID(),
+                            scope.getOrgID());
+                }
+                scopeIndex.addScope(scope, apiResourceNames.get(scope.getApiID()));
+            }
+        }
+        return scopeIndex;
+    }
+
+    private void addScope(Scope scope, String apiResourceName) {
+
+        scopesByName.computeIfAbsent(scope.getName(), name -> new ArrayList<>(1)).add(scope);
+        if (scope.getApiID() != null && apiResourceName != null) {
+            apiResourceNames.put(scope.getApiID(), apiResourceName);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.resource.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key for the scope index of a tenant. The scopes owned by a tenant and the tenant agnostic scopes are
+ * indexed separately, so that a change to the tenant agnostic scopes does not invalidate the index of every tenant.
+ */
+public class APIResourceScopeIndexCacheKey extends CacheKey {
+
+    private static final String TENANT_SCOPES = "TENANT_SCOPES";
+    private static final String TENANT_AGNOSTIC_SCOPES = "TENANT_AGNOSTIC_SCOPES";
+
+    private final String indexName;
+
+    private APIResourceScopeIndexCacheKey(String indexName) {
+
+        this.indexName = indexName;
+    }
+
+    /**
+     * Get the cache key of the scopes owned by a tenant.
+     *
+     * @return Cache key of the tenant scopes.
+     */
+    public static APIResourceScopeIndexCacheKey forTenantScopes() {
+
+        return new APIResourceScopeIndexCacheKey(TENANT_SCOPES);
+    }
+
+    /**
+     * Get the cache key of the tenant agnostic scopes.
+     *
+     * @return Cache key of the tenant agnostic scopes.
+     */
+    public static APIResourceScopeIndexCacheKey forTenantAgnosticScopes() {
+
+        return new APIResourceScopeIndexCacheKey(TENANT_AGNOSTIC_SCOPES);
+    }
+
+    public String getIndexName() {
+
+        return indexName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (!(o instanceof APIResourceScopeIndexCacheKey)) {
+            return false;
+        }
+        return indexName.equals(((APIResourceScopeIndexCacheKey) o).getIndexName());
+    }
+
+    @Override
+    public int hashCode() {
+
+        return indexName.hashCode();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -50,6 +50,7 @@ public class SQLConstants {
     public static final String SCOPE_QUALIFIED_NAME_COLUMN_NAME = "SCOPE_QUALIFIED_NAME";
     public static final String SCOPE_DISPLAY_NAME_COLUMN_NAME = "SCOPE_DISPLAY_NAME";
     public static final String SCOPE_DESCRIPTION_COLUMN_NAME = "SCOPE_DESCRIPTION";
+    public static final String SCOPE_TENANT_ID_COLUMN_NAME = "SCOPE_TENANT_ID";
     public static final String SCOPE_API_ID_COLUMN_NAME = "API_ID";
     public static final String API_RESOURCE_PROPERTY_ID_COLUMN_NAME = "PROPERTY_ID";
     public static final String API_RESOURCE_PROPERTY_NAME_COLUMN_NAME = "PROPERTY_NAME";
@@ -217,6 +218,15 @@ public class SQLConstants {
             " S.DESCRIPTION AS SCOPE_DESCRIPTION" +
             " FROM API_RESOURCE AR LEFT JOIN SCOPE S ON AR.ID = S.API_ID WHERE (S.TENANT_ID = ? " +
             "OR S.TENANT_ID IS NULL) AND S.NAME IN (" + SCOPE_LIST_PLACEHOLDER + ")";
+    public static final String GET_API_RESOURCE_SCOPES_BY_TENANT_ID = "SELECT" +
+            " AR.ID AS API_RESOURCE_ID," +
+            " AR.NAME AS API_RESOURCE_NAME," +
+            " S.ID AS SCOPE_ID," +
+            " S.NAME AS SCOPE_QUALIFIED_NAME," +
+            " S.DISPLAY_NAME AS SCOPE_DISPLAY_NAME," +
+            " S.DESCRIPTION AS SCOPE_DESCRIPTION," +
+            " S.TENANT_ID AS SCOPE_TENANT_ID" +
+            " FROM API_RESOURCE AR JOIN SCOPE S ON AR.ID = S.API_ID WHERE S.TENANT_ID = ? OR S.TENANT_ID IS NULL";
 
     public static final String ADD_AUTHORIZATION_DETAILS_TYPE = "INSERT INTO AUTHORIZATION_DETAILS_TYPES" +
             " (ID, TYPE, API_ID, NAME, DESCRIPTION, JSON_SCHEMA, TENANT_ID) VALUES (?, ?, ?, ?, ?, ?, ?)";
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -297,4 +297,18 @@ public interface APIResourceManagementDAO {
      * @throws APIResourceMgtException If an error occurs while retrieving the scope metadata.
      */
     List<APIResource> getScopeMetadata(List<String> scopeNames, Integer tenantId) throws APIResourceMgtException;
+
+    /**
+     * Retrieve the scopes owned by the given tenant and the tenant agnostic scopes, grouped by their API resources.
+     * The organization ID of a tenant agnostic scope is null.
+     *
+     * @param tenantId Tenant Id.
+     * @return List of API Resources with their scopes, or null if not supported.
+     * @throws APIResourceMgtException If an error occurs while retrieving the scopes.
+     */
+    default List<APIResource> getAPIResourceScopesByTenantId(Integer tenantId) throws APIResourceMgtException {
+
+        // no implementation
+        return null;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (https://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (https://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -807,6 +807,43 @@ public class APIResourceManagementDAOImpl implements APIResourceManagementDAO {
         }
     }
 
+    @Override
+    public List<APIResource> getAPIResourceScopesByTenantId(Integer tenantId) throws APIResourceMgtException {
+
+        try (Connection dbConnection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = dbConnection.prepareStatement(
+                     SQLConstants.GET_API_RESOURCE_SCOPES_BY_TENANT_ID)) {
+            prepStmt.setInt(1, tenantId);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                Map<String, APIResource> apiResources = new LinkedHashMap<>();
+                while (resultSet.next()) {
+                    String apiId = resultSet.getString(SQLConstants.API_RESOURCE_ID_COLUMN_NAME);
+                    APIResource apiResource = apiResources.get(apiId);
+                    if (apiResource == null) {
+                        apiResource = new APIResource.APIResourceBuilder()
+                                .id(apiId)
+                                .name(resultSet.getString(SQLConstants.API_RESOURCE_NAME_COLUMN_NAME))
+                                .scopes(new ArrayList<>())
+                                .build();
+                        apiResources.put(apiId, apiResource);
+                    }
+                    apiResource.getScopes().add(new Scope(
+                            resultSet.getString(SQLConstants.SCOPE_ID_COLUMN_NAME),
+                            resultSet.getString(SQLConstants.SCOPE_QUALIFIED_NAME_COLUMN_NAME),
+                            resultSet.getString(SQLConstants.SCOPE_DISPLAY_NAME_COLUMN_NAME),
+                            resultSet.getString(SQLConstants.SCOPE_DESCRIPTION_COLUMN_NAME),
+                            apiId,
+                            resultSet.getString(SQLConstants.SCOPE_TENANT_ID_COLUMN_NAME)
+                    ));
+                }
+                return new ArrayList<>(apiResources.values());
+            }
+        } catch (SQLException e) {
+            throw APIResourceManagementUtil.handleServerException(
+                    APIResourceManagementConstants.ErrorMessages.ERROR_CODE_ERROR_WHILE_GETTING_SCOPES, e);
+        }
+    }
+
     /**
      * Get API resources list.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -18,9 +18,11 @@
 
 package org.wso2.carbon.identity.api.resource.mgt.dao.impl;
 
+import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.identity.api.resource.mgt.APIResourceMgtException;
 import org.wso2.carbon.identity.api.resource.mgt.APIResourceMgtServerException;
 import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceCacheById;
@@ -28,29 +30,57 @@ import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceCacheByIdentif
 import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceCacheEntry;
 import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceIdCacheKey;
 import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceIdentifierCacheKey;
+import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceScopeIndex;
+import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceScopeIndexCache;
+import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceScopeIndexCacheEntry;
+import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceScopeIndexCacheKey;
+import org.wso2.carbon.identity.api.resource.mgt.constant.APIResourceManagementConstants;
 import org.wso2.carbon.identity.api.resource.mgt.dao.APIResourceManagementDAO;
+import org.wso2.carbon.identity.api.resource.mgt.util.APIResourceManagementUtil;
 import org.wso2.carbon.identity.application.common.model.APIResource;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.common.model.Scope;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
-
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 
 /**
  * This class implements the {@link APIResourceManagementDAO} interface.
+ * <p>
+ * Scope lookups by name are served from a per tenant scope index, which holds the scopes owned by the tenant, and a
+ * shared index of the tenant agnostic scopes. The indexes are built with a single query when first needed, and are
+ * updated on scope changes. Organizations resolve the scopes of their root organization, hence their lookups are
+ * passed through to the underlying DAO.
  */
 public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
 
     private static final Log LOG = LogFactory.getLog(CacheBackedAPIResourceMgtDAO.class);
+    private static final int TENANT_AGNOSTIC_TENANT_ID = 0;
     private final APIResourceCacheByIdentifier apiResourceCacheByIdentifier;
     private final APIResourceCacheById apiResourceCacheById;
+    private final APIResourceScopeIndexCache scopeIndexCache;
     private final APIResourceManagementDAO apiResourceManagementDAO;
+    /**
+     * Incremented on every scope change, so that an index built concurrently with a change is not cached.
+     */
+    private final AtomicLong scopeIndexVersion = new AtomicLong();
 
     public CacheBackedAPIResourceMgtDAO(APIResourceManagementDAO apiResourceManagementDAO) {
 
         this.apiResourceManagementDAO = apiResourceManagementDAO;
         apiResourceCacheByIdentifier = APIResourceCacheByIdentifier.getInstance();
         apiResourceCacheById = APIResourceCacheById.getInstance();
+        scopeIndexCache = APIResourceScopeIndexCache.getInstance();
     }
 
     @Override
@@ -98,7 +128,14 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     @Override
     public APIResource addAPIResource(APIResource apiResource, Integer tenantId) throws APIResourceMgtException {
 
-        return apiResourceManagementDAO.addAPIResource(apiResource, tenantId);
+        APIResource createdAPIResource = apiResourceManagementDAO.addAPIResource(apiResource, tenantId);
+        if (createdAPIResource != null && createdAPIResource.getId() != null) {
+            String orgID = tenantId == TENANT_AGNOSTIC_TENANT_ID ? null : String.valueOf(tenantId);
+            updateScopeIndex(tenantId, scopeIndex -> scopeIndex.withAPIResource(createdAPIResource, orgID));
+        } else {
+            clearScopeIndex(tenantId);
+        }
+        return createdAPIResource;
     }
 
     @Override
@@ -219,6 +256,10 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
 
         clearAPIResourceCache(apiResource.getIdentifier(), apiResource.getId(), tenantId);
         apiResourceManagementDAO.updateAPIResource(apiResource, addedScopes, removedScopes, tenantId);
+        // The scopes of system APIs are tenant agnostic. The added scopes are indexed once they are read with their
+        // generated ids.
+        clearScopeIndex(APIResourceManagementUtil.isSystemAPI(apiResource.getType()) ? TENANT_AGNOSTIC_TENANT_ID :
+                tenantId);
     }
 
     @Override
@@ -227,6 +268,9 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
 
         clearAPIResourceCache(apiResource.getIdentifier(), apiResource.getId(), tenantId);
         apiResourceManagementDAO.updateScopeMetadata(scope, apiResource, tenantId);
+        updateOwnedScopeIndex(tenantId, scopeIndex -> scopeIndex.withScopeMetadata(
+                indexedScope -> StringUtils.equals(scope.getName(), indexedScope.getName()), scope.getDisplayName(),
+                scope.getDescription()));
     }
 
     @Override
@@ -235,6 +279,9 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
 
         clearAPIResourceCache(apiResource.getIdentifier(), apiResource.getId(), tenantId);
         apiResourceManagementDAO.updateScopeMetadataById(scope, apiResource, tenantId);
+        updateOwnedScopeIndex(tenantId, scopeIndex -> scopeIndex.withScopeMetadata(
+                indexedScope -> StringUtils.equals(scope.getId(), indexedScope.getId()), scope.getDisplayName(),
+                scope.getDescription()));
     }
 
     @Override
@@ -242,12 +289,22 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
 
         clearAPIResourceCache(null, apiId, tenantId);
         apiResourceManagementDAO.deleteAPIResourceById(apiId, tenantId);
+        removeAPIResourceFromScopeIndexes(apiId, tenantId);
     }
 
     @Override
     public boolean isScopeExistByName(String name, Integer tenantId) throws APIResourceMgtException {
 
-        return apiResourceManagementDAO.isScopeExistByName(name, tenantId);
+        List<APIResourceScopeIndex> scopeIndexes = getScopeIndexes(tenantId);
+        if (scopeIndexes == null) {
+            return apiResourceManagementDAO.isScopeExistByName(name, tenantId);
+        }
+        for (APIResourceScopeIndex scopeIndex : scopeIndexes) {
+            if (!scopeIndex.getScopes(name).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -259,21 +316,52 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     @Override
     public Scope getScopeByNameAndTenantId(String name, Integer tenantId) throws APIResourceMgtException {
 
-        return apiResourceManagementDAO.getScopeByNameAndTenantId(name, tenantId);
+        List<APIResourceScopeIndex> scopeIndexes = getScopeIndexes(tenantId);
+        if (scopeIndexes == null) {
+            return apiResourceManagementDAO.getScopeByNameAndTenantId(name, tenantId);
+        }
+        for (APIResourceScopeIndex scopeIndex : scopeIndexes) {
+            List<Scope> scopes = scopeIndex.getScopes(name);
+            if (!scopes.isEmpty()) {
+                return scopes.get(0);
+            }
+        }
+        return null;
     }
 
     @Override
     public Scope getScopeByNameTenantIdAPIId(String name, Integer tenantId, String apiId)
             throws APIResourceMgtException {
 
-        return apiResourceManagementDAO.getScopeByNameTenantIdAPIId(name, tenantId, apiId);
+        List<APIResourceScopeIndex> scopeIndexes = getScopeIndexes(tenantId);
+        if (scopeIndexes == null) {
+            return apiResourceManagementDAO.getScopeByNameTenantIdAPIId(name, tenantId, apiId);
+        }
+        for (APIResourceScopeIndex scopeIndex : scopeIndexes) {
+            for (Scope scope : scopeIndex.getScopes(name)) {
+                if (StringUtils.equals(apiId, scope.getApiID())) {
+                    return scope;
+                }
+            }
+        }
+        return null;
     }
 
     @Override
     public List<Scope> getScopesByTenantId(Integer tenantId, List<ExpressionNode> expressionNodes)
             throws APIResourceMgtException {
 
-        return apiResourceManagementDAO.getScopesByTenantId(tenantId, expressionNodes);
+        // Filtered scopes are retrieved from the DB, since the filters are evaluated by the DB.
+        List<APIResourceScopeIndex> scopeIndexes = CollectionUtils.isEmpty(expressionNodes) ?
+                getScopeIndexes(tenantId) : null;
+        if (scopeIndexes == null) {
+            return apiResourceManagementDAO.getScopesByTenantId(tenantId, expressionNodes);
+        }
+        List<Scope> scopes = new ArrayList<>();
+        for (APIResourceScopeIndex scopeIndex : scopeIndexes) {
+            scopes.addAll(scopeIndex.getScopes());
+        }
+        return scopes;
     }
 
     @Override
@@ -281,6 +369,8 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
 
         clearAPIResourceCache(null, apiId, tenantId);
         apiResourceManagementDAO.addScopes(scopes, apiId, tenantId);
+        // The added scopes are indexed once they are read with their generated ids.
+        clearScopeIndex(tenantId);
     }
 
     @Override
@@ -288,6 +378,7 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
 
         clearAPIResourceCache(null, apiId, tenantId);
         apiResourceManagementDAO.deleteAllScopes(apiId, tenantId);
+        removeAPIResourceFromScopeIndexes(apiId, tenantId);
     }
 
     @Override
@@ -295,6 +386,8 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
 
         clearAPIResourceCache(null, apiId, tenantId);
         apiResourceManagementDAO.deleteScope(apiId, scopeName, tenantId);
+        updateOwnedScopeIndex(tenantId, scopeIndex -> scopeIndex.withoutScopes(
+                indexedScope -> StringUtils.equals(scopeName, indexedScope.getName())));
     }
 
     @Override
@@ -302,6 +395,8 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
 
         clearAPIResourceCache(null, apiId, tenantId);
         apiResourceManagementDAO.deleteScopeById(apiId, scopeId, tenantId);
+        updateOwnedScopeIndex(tenantId, scopeIndex -> scopeIndex.withoutScopes(
+                indexedScope -> StringUtils.equals(scopeId, indexedScope.getId())));
     }
 
     @Override
@@ -310,6 +405,8 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
 
         clearAPIResourceCache(null, apiId, tenantId);
         apiResourceManagementDAO.putScopes(apiId, currentScopes, scopes, tenantId);
+        // The new scopes are indexed once they are read with their generated ids.
+        clearScopeIndex(tenantId);
     }
 
     @Override
@@ -322,7 +419,185 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     public List<APIResource> getScopeMetadata(List<String> scopeNames, Integer tenantId)
             throws APIResourceMgtException {
 
+        List<APIResourceScopeIndex> scopeIndexes = getScopeIndexes(tenantId);
+        if (scopeIndexes == null) {
             return apiResourceManagementDAO.getScopeMetadata(scopeNames, tenantId);
+        }
+        if (CollectionUtils.isEmpty(scopeNames)) {
+            return new ArrayList<>();
+        }
+        // Resolve the metadata of the whole scope set from the index, grouped by the API resources of the scopes.
+        Map<String, List<Scope>> scopesByAPIId = new LinkedHashMap<>();
+        Map<String, String> apiResourceNames = new LinkedHashMap<>();
+        for (String scopeName : new LinkedHashSet<>(scopeNames)) {
+            for (APIResourceScopeIndex scopeIndex : scopeIndexes) {
+                for (Scope scope : scopeIndex.getScopes(scopeName)) {
+                    scopesByAPIId.computeIfAbsent(scope.getApiID(), apiId -> new ArrayList<>()).add(
+                            new Scope.ScopeBuilder()
+                                    .name(scope.getName())
+                                    .displayName(scope.getDisplayName())
+                                    .description(scope.getDescription())
+                                    .build());
+                    apiResourceNames.putIfAbsent(scope.getApiID(), scopeIndex.getAPIResourceName(scope.getApiID()));
+                }
+            }
+        }
+        List<APIResource> apiResources = new ArrayList<>();
+        for (Map.Entry<String, List<Scope>> entry : scopesByAPIId.entrySet()) {
+            apiResources.add(new APIResource.APIResourceBuilder()
+                    .id(entry.getKey())
+                    .name(apiResourceNames.get(entry.getKey()))
+                    .scopes(entry.getValue())
+                    .build());
+        }
+        return apiResources;
+    }
+
+    @Override
+    public List<APIResource> getAPIResourceScopesByTenantId(Integer tenantId) throws APIResourceMgtException {
+
+        return apiResourceManagementDAO.getAPIResourceScopesByTenantId(tenantId);
+    }
+
+    /**
+     * Get the scope index of the tenant and the scope index of the tenant agnostic scopes, building them if they are
+     * not cached.
+     *
+     * @param tenantId Tenant Id.
+     * @return Scope indexes, or null if the scopes of the tenant are not indexed.
+     * @throws APIResourceMgtException If an error occurs while building the scope indexes.
+     */
+    private List<APIResourceScopeIndex> getScopeIndexes(int tenantId) throws APIResourceMgtException {
+
+        if (tenantId == TENANT_AGNOSTIC_TENANT_ID || !scopeIndexCache.isEnabled() || isOrganization(tenantId)) {
+            return null;
+        }
+        APIResourceScopeIndexCacheKey tenantScopesKey = APIResourceScopeIndexCacheKey.forTenantScopes();
+        APIResourceScopeIndexCacheKey tenantAgnosticScopesKey = APIResourceScopeIndexCacheKey.forTenantAgnosticScopes();
+        APIResourceScopeIndexCacheEntry tenantScopes = scopeIndexCache.getValueFromCache(tenantScopesKey, tenantId);
+        APIResourceScopeIndexCacheEntry tenantAgnosticScopes = scopeIndexCache.getValueFromCache(
+                tenantAgnosticScopesKey, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        if (tenantScopes != null && tenantAgnosticScopes != null) {
+            return Arrays.asList(tenantScopes.getScopeIndex(), tenantAgnosticScopes.getScopeIndex());
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Scope index not found in cache for tenantId: " + tenantId + ". Building it from DB");
+        }
+        long version = scopeIndexVersion.get();
+        List<APIResource> apiResources = apiResourceManagementDAO.getAPIResourceScopesByTenantId(tenantId);
+        if (apiResources == null) {
+            return null;
+        }
+        // Do not cache the indexes if the scopes were changed while they were being read.
+        boolean cacheable = version == scopeIndexVersion.get();
+        if (tenantScopes == null) {
+            tenantScopes = new APIResourceScopeIndexCacheEntry(new APIResourceScopeIndex(apiResources, false));
+            if (cacheable) {
+                scopeIndexCache.addToCache(tenantScopesKey, tenantScopes, tenantId);
+            }
+        }
+        if (tenantAgnosticScopes == null) {
+            tenantAgnosticScopes = new APIResourceScopeIndexCacheEntry(new APIResourceScopeIndex(apiResources, true));
+            if (cacheable) {
+                scopeIndexCache.addToCache(tenantAgnosticScopesKey, tenantAgnosticScopes,
+                        MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            }
+        }
+        return Arrays.asList(tenantScopes.getScopeIndex(), tenantAgnosticScopes.getScopeIndex());
+    }
+
+    /**
+     * Apply a scope change to the cached scope index of the tenant, if the index is cached.
+     *
+     * @param tenantId Tenant Id of the changed scopes, which is 0 for tenant agnostic scopes.
+     * @param update   Scope change.
+     */
+    private synchronized void updateScopeIndex(int tenantId, UnaryOperator<APIResourceScopeIndex> update) {
+
+        scopeIndexVersion.incrementAndGet();
+        APIResourceScopeIndexCacheEntry entry;
+        if (tenantId == TENANT_AGNOSTIC_TENANT_ID) {
+            entry = scopeIndexCache.getValueFromCache(APIResourceScopeIndexCacheKey.forTenantAgnosticScopes(),
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        } else {
+            entry = scopeIndexCache.getValueFromCache(APIResourceScopeIndexCacheKey.forTenantScopes(), tenantId);
+        }
+        if (entry == null) {
+            return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Updating the scope index of tenantId: " + tenantId);
+        }
+        APIResourceScopeIndexCacheEntry updatedEntry =
+                new APIResourceScopeIndexCacheEntry(update.apply(entry.getScopeIndex()));
+        if (tenantId == TENANT_AGNOSTIC_TENANT_ID) {
+            scopeIndexCache.addToCache(APIResourceScopeIndexCacheKey.forTenantAgnosticScopes(), updatedEntry,
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        } else {
+            scopeIndexCache.addToCache(APIResourceScopeIndexCacheKey.forTenantScopes(), updatedEntry, tenantId);
+        }
+    }
+
+    /**
+     * Apply a change of the scopes owned by the tenant to the cached scope index of the tenant. Such changes do not
+     * affect the tenant agnostic scopes.
+     *
+     * @param tenantId Tenant Id of the changed scopes.
+     * @param update   Scope change.
+     */
+    private void updateOwnedScopeIndex(int tenantId, UnaryOperator<APIResourceScopeIndex> update) {
+
+        if (tenantId != TENANT_AGNOSTIC_TENANT_ID) {
+            updateScopeIndex(tenantId, update);
+        }
+    }
+
+    /**
+     * Remove the scopes of an API resource from the cached scope indexes. The scopes of an API resource are deleted
+     * along with its tenant agnostic scopes.
+     *
+     * @param apiId    API resource id.
+     * @param tenantId Tenant Id.
+     */
+    private void removeAPIResourceFromScopeIndexes(String apiId, int tenantId) {
+
+        UnaryOperator<APIResourceScopeIndex> update = scopeIndex -> scopeIndex.withoutScopes(
+                indexedScope -> StringUtils.equals(apiId, indexedScope.getApiID()));
+        updateScopeIndex(tenantId, update);
+        if (tenantId != TENANT_AGNOSTIC_TENANT_ID) {
+            updateScopeIndex(TENANT_AGNOSTIC_TENANT_ID, update);
+        }
+    }
+
+    /**
+     * Clear the cached scope index of the tenant, so that it is built again when needed.
+     *
+     * @param tenantId Tenant Id of the changed scopes, which is 0 for tenant agnostic scopes.
+     */
+    private synchronized void clearScopeIndex(int tenantId) {
+
+        scopeIndexVersion.incrementAndGet();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Removing the scope index of tenantId: " + tenantId + " from cache.");
+        }
+        if (tenantId == TENANT_AGNOSTIC_TENANT_ID) {
+            scopeIndexCache.clearCacheEntry(APIResourceScopeIndexCacheKey.forTenantAgnosticScopes(),
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        } else {
+            scopeIndexCache.clearCacheEntry(APIResourceScopeIndexCacheKey.forTenantScopes(), tenantId);
+        }
+    }
+
+    private boolean isOrganization(int tenantId) throws APIResourceMgtServerException {
+
+        try {
+            return OrganizationManagementUtil.isOrganization(tenantId);
+        } catch (OrganizationManagementException e) {
+            throw APIResourceManagementUtil.handleServerException(APIResourceManagementConstants.ErrorMessages
+                            .ERROR_CODE_ERROR_WHILE_RESOLVING_ORGANIZATION_FOR_TENANT, e,
+                    IdentityTenantUtil.getTenantDomain(tenantId));
+        }
     }
 
     private void clearAPIResourceCache(String identifier, String resourceId, int tenantId) throws
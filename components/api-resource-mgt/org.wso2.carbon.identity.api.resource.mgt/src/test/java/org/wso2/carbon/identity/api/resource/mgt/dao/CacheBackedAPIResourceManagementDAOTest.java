@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -160,8 +160,10 @@ public class CacheBackedAPIResourceManagementDAOTest {
     public void testAddAPIResource(String postfix, int tenantId) throws Exception {
 
         try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
              MockedStatic<OrganizationManagementUtil> organizationManagementUtil =
                      mockStatic(OrganizationManagementUtil.class)) {
+            mockTenantDomains(identityTenantUtil);
             identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
                     .thenReturn(getConnection());
             organizationManagementUtil.when(() -> OrganizationManagementUtil.isOrganization(anyInt()))
@@ -190,6 +192,7 @@ public class CacheBackedAPIResourceManagementDAOTest {
              MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
              MockedStatic<OrganizationManagementUtil> organizationManagementUtil =
                      mockStatic(OrganizationManagementUtil.class)) {
+            mockTenantDomains(identityTenantUtil);
             String apiId = addAPIResourceToDB(name, getConnection(), tenantId, identityDatabaseUtil,
                     organizationManagementUtil).getId();
             identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(true)).thenReturn(getConnection());
@@ -215,6 +218,7 @@ public class CacheBackedAPIResourceManagementDAOTest {
              MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
              MockedStatic<OrganizationManagementUtil> organizationManagementUtil =
                      mockStatic(OrganizationManagementUtil.class)) {
+            mockTenantDomains(identityTenantUtil);
             addAPIResourceToDB(identifierPostFix, getConnection(), tenantId, identityDatabaseUtil,
                     organizationManagementUtil);
             identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(true)).thenReturn(getConnection());
@@ -241,6 +245,7 @@ public class CacheBackedAPIResourceManagementDAOTest {
              MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
              MockedStatic<OrganizationManagementUtil> organizationManagementUtil =
                      mockStatic(OrganizationManagementUtil.class)) {
+            mockTenantDomains(identityTenantUtil);
             APIResource apiresource =
                     addAPIResourceToDB("testIsAPIResourceExistById", getConnection(), tenantId, identityDatabaseUtil,
                             organizationManagementUtil);
@@ -296,8 +301,10 @@ public class CacheBackedAPIResourceManagementDAOTest {
     public void testIsScopeExistById(Integer tenantId, boolean expected) throws Exception {
 
         try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
              MockedStatic<OrganizationManagementUtil> organizationManagementUtil =
                      mockStatic(OrganizationManagementUtil.class)) {
+            mockTenantDomains(identityTenantUtil);
             String scopeId = addAPIResourceToDB("testIsScopeExistById", getConnection(), tenantId,
                     identityDatabaseUtil, organizationManagementUtil).getScopes().get(0).getId();
             identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
@@ -358,8 +365,10 @@ public class CacheBackedAPIResourceManagementDAOTest {
     public void testIsScopeExistByName(Integer tenantId, String scopeName, boolean expected) throws Exception {
 
         try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
              MockedStatic<OrganizationManagementUtil> organizationManagementUtil =
                      mockStatic(OrganizationManagementUtil.class)) {
+            mockTenantDomains(identityTenantUtil);
             addAPIResourceToDB(scopeName, getConnection(), tenantId, identityDatabaseUtil, organizationManagementUtil);
             identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
                     .thenReturn(getConnection());
@@ -381,8 +390,10 @@ public class CacheBackedAPIResourceManagementDAOTest {
             throws Exception {
 
         try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
              MockedStatic<OrganizationManagementUtil> organizationManagementUtil =
                      mockStatic(OrganizationManagementUtil.class)) {
+            mockTenantDomains(identityTenantUtil);
             addAPIResourceToDB(scopeName, getConnection(), tenantId, identityDatabaseUtil, organizationManagementUtil);
             identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
                     .thenReturn(getConnection());
@@ -580,6 +591,54 @@ public class CacheBackedAPIResourceManagementDAOTest {
         }
     }
 
+    @Test(priority = 16)
+    public void testGetScopesFromScopeIndex() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<OrganizationManagementUtil> organizationManagementUtil =
+                     mockStatic(OrganizationManagementUtil.class)) {
+            mockTenantDomains(identityTenantUtil);
+            APIResource apiResource = addAPIResourceToDB("testScopeIndex", getConnection(), TENANT_ID,
+                    identityDatabaseUtil, organizationManagementUtil);
+            String apiId = apiResource.getId();
+            String scopeName1 = apiResource.getScopes().get(0).getName();
+            String scopeName2 = apiResource.getScopes().get(1).getName();
+
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                    .thenAnswer(invocation -> getConnection());
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.commitTransaction(any(Connection.class)))
+                    .thenAnswer((Answer<Void>) invocation -> {
+                        ((Connection) invocation.getArgument(0)).commit();
+                        return null;
+                    });
+
+            // Scopes added after the index is built are resolved.
+            Scope scope = daoImpl.getScopeByNameTenantIdAPIId(scopeName1, TENANT_ID, apiId);
+            Assert.assertNotNull(scope);
+            Assert.assertEquals(scope.getApiID(), apiId);
+            Assert.assertEquals(scope.getOrgID(), String.valueOf(TENANT_ID));
+            Assert.assertNull(daoImpl.getScopeByNameTenantIdAPIId(scopeName1, TENANT_ID, "invalidAPIId"));
+            // Scopes of other tenants are not resolved.
+            Assert.assertNull(daoImpl.getScopeByNameAndTenantId(scopeName1, INVALID_TENANT_ID));
+
+            // Metadata of a scope set is resolved in a single lookup, grouped by the API resources.
+            List<APIResource> scopeMetadata = daoImpl.getScopeMetadata(
+                    Arrays.asList(scopeName1, scopeName2, scopeName1, "nonExistentScopeName"), TENANT_ID);
+            Assert.assertEquals(scopeMetadata.size(), 1);
+            Assert.assertEquals(scopeMetadata.get(0).getId(), apiId);
+            Assert.assertEquals(scopeMetadata.get(0).getName(), apiResource.getName());
+            Assert.assertEquals(scopeMetadata.get(0).getScopes().size(), 2);
+
+            // Deleted scopes are removed from the index.
+            daoImpl.deleteScope(apiId, scopeName1, TENANT_ID);
+            Assert.assertFalse(daoImpl.isScopeExistByName(scopeName1, TENANT_ID));
+            Assert.assertTrue(daoImpl.isScopeExistByName(scopeName2, TENANT_ID));
+            daoImpl.deleteAPIResourceById(apiId, TENANT_ID);
+            Assert.assertFalse(daoImpl.isScopeExistByName(scopeName2, TENANT_ID));
+        }
+    }
+
     /**
      * Create scope with the given name.
      *
@@ -630,8 +689,10 @@ public class CacheBackedAPIResourceManagementDAOTest {
     private APIResource addAPIResourceToDB(String namePostFix, Connection connection, int tenantId) throws Exception {
 
         try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
              MockedStatic<OrganizationManagementUtil> organizationManagementUtil =
                      mockStatic(OrganizationManagementUtil.class)) {
+            mockTenantDomains(identityTenantUtil);
             return addAPIResourceToDB(namePostFix, connection, tenantId, identityDatabaseUtil,
                     organizationManagementUtil);
         }
@@ -721,6 +782,12 @@ public class CacheBackedAPIResourceManagementDAOTest {
         throw new IllegalArgumentException("DB Script file name cannot be empty.");
     }
 
+    private static void mockTenantDomains(MockedStatic<IdentityTenantUtil> identityTenantUtil) {
+
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(anyInt()))
+                .thenAnswer(invocation -> getTenantDomain(invocation.getArgument(0)));
+    }
+
     private static String getTenantDomain(int tenantId) {
 
         if (tenantId == TENANT_ID) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014-2024, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2014-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -131,6 +131,16 @@ public class ApplicationConstants {
     public static final String ENABLE_CROSS_TENANT_AUTHORIZED_API_VALIDATION_PROPERTY =
             "ApplicationMgt.EnableCrossTenantAuthorizedApiValidation";
 
+    // Bulk loading of the applications of a tenant into the application caches.
+    public static final String APPLICATION_BULK_LOAD_ENABLED_PROPERTY = "ApplicationMgt.BulkLoad.Enable";
+    public static final String APPLICATION_BULK_LOAD_MAX_APPLICATIONS_PROPERTY =
+            "ApplicationMgt.BulkLoad.MaxApplications";
+    public static final String APPLICATION_BULK_LOAD_INTERVAL_PROPERTY = "ApplicationMgt.BulkLoad.MinIntervalInSeconds";
+    public static final int DEFAULT_APPLICATION_BULK_LOAD_MAX_APPLICATIONS = 200;
+    public static final int DEFAULT_APPLICATION_BULK_LOAD_INTERVAL = 300;
+    // Maximum number of application IDs bound to a single IN clause when loading applications in bulk.
+    public static final int APPLICATION_BULK_LOAD_BATCH_SIZE = 100;
+
     public static final String NON_EXISTING_USER_CODE = "30007 - ";
 
     // Console and My Account application names.
@@ -291,11 +291,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             prepStmt.setInt(1, spId);
             rs = prepStmt.executeQuery();
             while (rs.next()) {
-                ServiceProviderProperty property = new ServiceProviderProperty();
-                property.setName(rs.getString("NAME"));
-                property.setValue(rs.getString("VALUE"));
-                property.setDisplayName(rs.getString("DISPLAY_NAME"));
-                idpProperties.add(property);
+                idpProperties.add(buildServiceProviderProperty(rs));
             }
         } catch (SQLException e) {
             throw new SQLException("Error while retrieving SP metadata for SP ID: " + spId, e);
@@ -306,6 +302,15 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return idpProperties;
     }
 
+    private ServiceProviderProperty buildServiceProviderProperty(ResultSet rs) throws SQLException {
+
+        ServiceProviderProperty property = new ServiceProviderProperty();
+        property.setName(rs.getString("NAME"));
+        property.setValue(rs.getString("VALUE"));
+        property.setDisplayName(rs.getString("DISPLAY_NAME"));
+        return property;
+    }
+
     /**
      * Add Service provider properties
      *
@@ -1401,36 +1406,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             resultSet = outboundProConfigPrepStmt.executeQuery();
 
             while (resultSet.next()) {
-                ProvisioningConnectorConfig proConnector = null;
-                IdentityProvider fedIdp = null;
-
-                fedIdp = new IdentityProvider();
-                fedIdp.setIdentityProviderName(resultSet.getString(1));
-
-                proConnector = new ProvisioningConnectorConfig();
-                proConnector.setName(resultSet.getString(2));
-
-                if ("1".equals(resultSet.getString(3))) {
-                    JustInTimeProvisioningConfig jitConfig = new JustInTimeProvisioningConfig();
-                    jitConfig.setProvisioningEnabled(true);
-                    fedIdp.setJustInTimeProvisioningConfig(jitConfig);
-                }
-
-                if ("1".equals(resultSet.getString(4))) {
-                    proConnector.setBlocking(true);
-                } else {
-                    proConnector.setBlocking(false);
-                }
-
-                if ("1".equals(resultSet.getString(5))) {
-                    proConnector.setRulesEnabled(true);
-                } else {
-                    proConnector.setRulesEnabled(false);
-                }
-
-                fedIdp.setDefaultProvisioningConnectorConfig(proConnector);
-                idpProConnectors.add(fedIdp);
-
+                idpProConnectors.add(buildProvisioningIdentityProvider(resultSet));
             }
 
             outBoundProvisioningConfig.setProvisioningIdentityProviders(idpProConnectors.toArray(new
@@ -1442,6 +1418,33 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return outBoundProvisioningConfig;
     }
 
+    /**
+     * Build the provisioning identity provider of an SP_PROVISIONING_CONNECTOR row.
+     *
+     * @param resultSet Result set positioned at the row.
+     * @return Identity provider with its default provisioning connector.
+     * @throws SQLException If an error occurred while reading the row.
+     */
+    private IdentityProvider buildProvisioningIdentityProvider(ResultSet resultSet) throws SQLException {
+
+        IdentityProvider fedIdp = new IdentityProvider();
+        fedIdp.setIdentityProviderName(resultSet.getString("IDP_NAME"));
+
+        ProvisioningConnectorConfig proConnector = new ProvisioningConnectorConfig();
+        proConnector.setName(resultSet.getString("CONNECTOR_NAME"));
+
+        if ("1".equals(resultSet.getString("IS_JIT_ENABLED"))) {
+            JustInTimeProvisioningConfig jitConfig = new JustInTimeProvisioningConfig();
+            jitConfig.setProvisioningEnabled(true);
+            fedIdp.setJustInTimeProvisioningConfig(jitConfig);
+        }
+        proConnector.setBlocking("1".equals(resultSet.getString("BLOCKING")));
+        proConnector.setRulesEnabled("1".equals(resultSet.getString("RULE_ENABLED")));
+
+        fedIdp.setDefaultProvisioningConnectorConfig(proConnector);
+        return fedIdp;
+    }
+
     /**
      * @param applicationId
      * @param localAndOutboundAuthConfig
@@ -2260,74 +2263,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                 return null;
             }
             int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
-            List<ServiceProviderProperty> propertyList = getServicePropertiesBySpId(connection, applicationId);
-
-            serviceProvider.setJwksUri(getJwksUri(propertyList));
-            serviceProvider.setTemplateId(getTemplateId(propertyList));
-            serviceProvider.setTemplateVersion(getTemplateVersion(propertyList));
-            serviceProvider.setApplicationEnabled(getIsApplicationEnabled(propertyList));
-            serviceProvider.setManagementApp(getIsManagementApp(propertyList));
-            serviceProvider.setB2BSelfServiceApp(getIsB2BSSApp(propertyList));
-            serviceProvider.setEnhancedOrganizationAuthenticationEnabled(
-                    getIsEnhancedOrganizationAuthenticationEnabled(propertyList));
-            serviceProvider.setAPIBasedAuthenticationEnabled(getIsAPIBasedAuthenticationEnabled(propertyList));
-            ClientAttestationMetaData clientAttestationMetaData = new ClientAttestationMetaData();
-            clientAttestationMetaData.setAttestationEnabled(getIsAttestationEnabled(propertyList));
-            clientAttestationMetaData.setAndroidPackageName(getAndroidPackageName(propertyList));
-            clientAttestationMetaData.setAppleAppId(getAppleAppId(propertyList));
-            if (StringUtils.isNotEmpty(clientAttestationMetaData.getAndroidPackageName())
-                    && clientAttestationMetaData.isAttestationEnabled()) {
-                clientAttestationMetaData.setAndroidAttestationServiceCredentials
-                        (getAndroidAttestationServiceCredentials(serviceProvider));
-            }
-            serviceProvider.setClientAttestationMetaData(clientAttestationMetaData);
-            serviceProvider.setTrustedAppMetadata(
-                    getSpTrustedAppMetadata(applicationId, connection, tenantID, propertyList));
-            serviceProvider.setInboundAuthenticationConfig(getInboundAuthenticationConfig(
-                    applicationId, connection, tenantID));
-            serviceProvider
-                    .setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
-                            applicationId, connection, tenantID, propertyList));
-
-            serviceProvider.setInboundProvisioningConfig(getInboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
-
-            serviceProvider.setOutboundProvisioningConfig(getOutboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
-
-            // Load Claim Mapping
-            serviceProvider.setClaimConfig(getClaimConfiguration(applicationId, connection,
-                    tenantID));
-
-            // Load Role Mappings
-            List<RoleMapping> roleMappings = getRoleMappingOfApplication(applicationId, connection,
-                    tenantID);
-            PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
-            permissionAndRoleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
-            serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
-
-            RequestPathAuthenticatorConfig[] requestPathAuthenticators = getRequestPathAuthenticators(
-                    applicationId, connection, tenantID);
-            serviceProvider.setRequestPathAuthenticatorConfigs(requestPathAuthenticators);
-
-            serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
-            serviceProvider.setCertificateContent(getCertificateContent(propertyList, tenantID));
-
-            // Set role associations.
-            serviceProvider.setAssociatedRolesConfig(
-                    getAssociatedRoles(serviceProvider.getApplicationResourceId(), connection, tenantID));
-            // Will be supported with 'Advance Consent Management Feature'.
-            /*
-            ConsentConfig consentConfig = serviceProvider.getConsentConfig();
-            if (isNull(consentConfig)) {
-                consentConfig = new ConsentConfig();
-            }
-            consentConfig.setConsentPurposeConfigs(getConsentPurposeConfigs(connection, applicationId, tenantID));
-            serviceProvider.setConsentConfig(consentConfig);
-            */
-
-            String serviceProviderName = serviceProvider.getApplicationName();
-            loadApplicationPermissions(serviceProviderName, serviceProvider);
+            populateApplication(serviceProvider, connection, tenantID, null);
             return serviceProvider;
         } catch (SQLException | CertificateRetrievingException e) {
             throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
@@ -2335,6 +2271,372 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
     }
 
+    /**
+     * Get the applications of the tenant with the given IDs.
+     * <p>
+     * The basic data, properties, trusted apps, inbound authentication, provisioning, claim, role mapping and request
+     * path authenticator configurations of the applications are read with one query per batch of applications. The
+     * local and outbound authentication configuration, the associated roles, the permissions and the certificate are
+     * resolved per application as in {@link #getApplication(int)}, since they are read through several tables or
+     * other services.
+     *
+     * @param applicationIds Internal IDs of the applications.
+     * @param tenantDomain   Tenant domain of the applications.
+     * @return Applications in the ascending order of the IDs. IDs which do not belong to the tenant are skipped.
+     * @throws IdentityApplicationManagementException If an error occurred while loading the applications.
+     */
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds, String tenantDomain)
+            throws IdentityApplicationManagementException {
+
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        if (CollectionUtils.isEmpty(applicationIds)) {
+            return serviceProviders;
+        }
+        int tenantID = IdentityTenantUtil.getTenantId(tenantDomain);
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            for (int i = 0; i < applicationIds.size(); i += ApplicationConstants.APPLICATION_BULK_LOAD_BATCH_SIZE) {
+                List<Integer> batch = applicationIds.subList(i,
+                        Math.min(i + ApplicationConstants.APPLICATION_BULK_LOAD_BATCH_SIZE, applicationIds.size()));
+                ApplicationSections sections = new ApplicationSections();
+                List<ServiceProvider> batchServiceProviders = getBasicApplicationData(batch, connection, tenantID,
+                        sections);
+                if (batchServiceProviders.isEmpty()) {
+                    continue;
+                }
+                loadApplicationSections(batchServiceProviders, connection, tenantID, sections);
+                for (ServiceProvider serviceProvider : batchServiceProviders) {
+                    populateApplication(serviceProvider, connection, tenantID, sections);
+                    serviceProviders.add(serviceProvider);
+                }
+            }
+        } catch (SQLException | CertificateRetrievingException e) {
+            throw new IdentityApplicationManagementException("Failed to get the service providers of tenant: " +
+                    tenantDomain, e);
+        }
+        return serviceProviders;
+    }
+
+    /**
+     * Get the internal IDs of the applications of the tenant, excluding the resident service provider.
+     *
+     * @param tenantDomain        Tenant domain.
+     * @param maxApplicationCount Maximum number of application IDs to return.
+     * @return Up to the given number of application IDs, in the ascending order.
+     * @throws IdentityApplicationManagementException If an error occurred while reading the application IDs.
+     */
+    public List<Integer> getApplicationIds(String tenantDomain, int maxApplicationCount)
+            throws IdentityApplicationManagementException {
+
+        List<Integer> applicationIds = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = connection.prepareStatement(ApplicationMgtDBQueries.LOAD_APP_IDS_BY_TENANT)) {
+            prepStmt.setInt(1, IdentityTenantUtil.getTenantId(tenantDomain));
+            prepStmt.setString(2, LOCAL_SP);
+            prepStmt.setMaxRows(Math.max(maxApplicationCount, 0));
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next() && applicationIds.size() < maxApplicationCount) {
+                    applicationIds.add(rs.getInt(1));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityApplicationManagementException("Error while reading the application IDs of tenant: " +
+                    tenantDomain, e);
+        }
+        return applicationIds;
+    }
+
+    /**
+     * Populate the configurations of an application which has its basic data loaded. The sections which are
+     * available in the given prefetched sections are taken from there, and the rest are read from the database.
+     *
+     * @param serviceProvider Application with the basic data.
+     * @param connection      Database connection.
+     * @param tenantID        Tenant ID of the application.
+     * @param sections        Prefetched sections of the application, or null to read all the sections.
+     */
+    private void populateApplication(ServiceProvider serviceProvider, Connection connection, int tenantID,
+                                     ApplicationSections sections)
+            throws SQLException, CertificateRetrievingException, IdentityApplicationManagementException {
+
+        int applicationId = serviceProvider.getApplicationID();
+        List<ServiceProviderProperty> propertyList = sections != null ? sections.getProperties(applicationId) :
+                getServicePropertiesBySpId(connection, applicationId);
+
+        serviceProvider.setJwksUri(getJwksUri(propertyList));
+        serviceProvider.setTemplateId(getTemplateId(propertyList));
+        serviceProvider.setTemplateVersion(getTemplateVersion(propertyList));
+        serviceProvider.setApplicationEnabled(getIsApplicationEnabled(propertyList));
+        serviceProvider.setManagementApp(getIsManagementApp(propertyList));
+        serviceProvider.setB2BSelfServiceApp(getIsB2BSSApp(propertyList));
+        serviceProvider.setEnhancedOrganizationAuthenticationEnabled(
+                getIsEnhancedOrganizationAuthenticationEnabled(propertyList));
+        serviceProvider.setAPIBasedAuthenticationEnabled(getIsAPIBasedAuthenticationEnabled(propertyList));
+        ClientAttestationMetaData clientAttestationMetaData = new ClientAttestationMetaData();
+        clientAttestationMetaData.setAttestationEnabled(getIsAttestationEnabled(propertyList));
+        clientAttestationMetaData.setAndroidPackageName(getAndroidPackageName(propertyList));
+        clientAttestationMetaData.setAppleAppId(getAppleAppId(propertyList));
+        if (StringUtils.isNotEmpty(clientAttestationMetaData.getAndroidPackageName())
+                && clientAttestationMetaData.isAttestationEnabled()) {
+            clientAttestationMetaData.setAndroidAttestationServiceCredentials
+                    (getAndroidAttestationServiceCredentials(serviceProvider));
+        }
+        serviceProvider.setClientAttestationMetaData(clientAttestationMetaData);
+        serviceProvider.setTrustedAppMetadata(sections != null ?
+                setTrustedAppConsent(sections.trustedAppMetadata.get(applicationId), propertyList) :
+                getSpTrustedAppMetadata(applicationId, connection, tenantID, propertyList));
+        serviceProvider.setInboundAuthenticationConfig(sections != null ?
+                sections.getInboundAuthenticationConfig(applicationId) :
+                getInboundAuthenticationConfig(applicationId, connection, tenantID));
+        serviceProvider
+                .setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
+                        applicationId, connection, tenantID, propertyList));
+
+        serviceProvider.setInboundProvisioningConfig(sections != null ?
+                sections.getInboundProvisioningConfig(applicationId) :
+                getInboundProvisioningConfiguration(applicationId, connection, tenantID));
+
+        serviceProvider.setOutboundProvisioningConfig(sections != null ?
+                sections.getOutboundProvisioningConfig(applicationId) :
+                getOutboundProvisioningConfiguration(applicationId, connection, tenantID));
+
+        // Load Claim Mapping
+        serviceProvider.setClaimConfig(sections != null ? sections.getClaimConfig(applicationId) :
+                getClaimConfiguration(applicationId, connection, tenantID));
+
+        // Load Role Mappings
+        List<RoleMapping> roleMappings = sections != null ? sections.getRoleMappings(applicationId) :
+                getRoleMappingOfApplication(applicationId, connection, tenantID);
+        PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
+        permissionAndRoleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
+        serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
+
+        RequestPathAuthenticatorConfig[] requestPathAuthenticators = sections != null ?
+                sections.getRequestPathAuthenticators(applicationId) :
+                getRequestPathAuthenticators(applicationId, connection, tenantID);
+        serviceProvider.setRequestPathAuthenticatorConfigs(requestPathAuthenticators);
+
+        serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
+        serviceProvider.setCertificateContent(getCertificateContent(propertyList, tenantID));
+
+        // Set role associations.
+        serviceProvider.setAssociatedRolesConfig(
+                getAssociatedRoles(serviceProvider.getApplicationResourceId(), connection, tenantID));
+        // Will be supported with 'Advance Consent Management Feature'.
+        /*
+        ConsentConfig consentConfig = serviceProvider.getConsentConfig();
+        if (isNull(consentConfig)) {
+            consentConfig = new ConsentConfig();
+        }
+        consentConfig.setConsentPurposeConfigs(getConsentPurposeConfigs(connection, applicationId, tenantID));
+        serviceProvider.setConsentConfig(consentConfig);
+        */
+
+        String serviceProviderName = serviceProvider.getApplicationName();
+        loadApplicationPermissions(serviceProviderName, serviceProvider);
+    }
+
+    /**
+     * Load the basic data of a batch of applications of the tenant. The claim configuration attributes stored with
+     * the basic data are recorded in the given sections.
+     *
+     * @param applicationIds Internal IDs of the applications.
+     * @param connection     Database connection.
+     * @param tenantID       Tenant ID.
+     * @param sections       Sections of the batch.
+     * @return Applications with the basic data.
+     */
+    private List<ServiceProvider> getBasicApplicationData(List<Integer> applicationIds, Connection connection,
+                                                          int tenantID, ApplicationSections sections)
+            throws SQLException, IdentityApplicationManagementException {
+
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        try (PreparedStatement prepStmt = connection.prepareStatement(
+                getBatchQuery(ApplicationMgtDBQueries.LOAD_BASIC_APP_INFO_BY_APP_IDS, applicationIds.size()))) {
+            prepStmt.setInt(1, tenantID);
+            setApplicationIds(prepStmt, 2, applicationIds);
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    ServiceProvider serviceProvider = buildBasicApplicationData(rs, connection);
+                    ClaimConfig claimConfig = new ClaimConfig();
+                    setClaimConfigAttributes(claimConfig, rs.getString(ApplicationTableColumns.ROLE_CLAIM),
+                            rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT),
+                            rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID));
+                    sections.claimConfigs.put(serviceProvider.getApplicationID(), claimConfig);
+                    InboundProvisioningConfig inboundProvisioningConfig = new InboundProvisioningConfig();
+                    inboundProvisioningConfig.setProvisioningUserStore(
+                            rs.getString(ApplicationTableColumns.PROVISIONING_USERSTORE_DOMAIN));
+                    inboundProvisioningConfig.setDumbMode("1".equals(rs.getString("IS_DUMB_MODE")));
+                    sections.inboundProvisioningConfigs.put(serviceProvider.getApplicationID(),
+                            inboundProvisioningConfig);
+                    serviceProviders.add(serviceProvider);
+                }
+            }
+        }
+        return serviceProviders;
+    }
+
+    /**
+     * Read the sections of a batch of applications which are stored in rows keyed by the application ID, with one
+     * query per section.
+     *
+     * @param serviceProviders Applications of the batch.
+     * @param connection       Database connection.
+     * @param tenantID         Tenant ID of the applications.
+     * @param sections         Sections of the batch.
+     */
+    private void loadApplicationSections(List<ServiceProvider> serviceProviders, Connection connection, int tenantID,
+                                         ApplicationSections sections) throws SQLException {
+
+        List<Integer> applicationIds = new ArrayList<>(serviceProviders.size());
+        for (ServiceProvider serviceProvider : serviceProviders) {
+            applicationIds.add(serviceProvider.getApplicationID());
+        }
+
+        String metadataQuery = isH2DB(connection.getMetaData().getDatabaseProductName()) ?
+                ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS_H2 :
+                ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS;
+        try (PreparedStatement prepStmt = connection.prepareStatement(
+                getBatchQuery(metadataQuery, applicationIds.size()))) {
+            setApplicationIds(prepStmt, 1, applicationIds);
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    sections.properties.computeIfAbsent(rs.getInt("SP_ID"), id -> new ArrayList<>())
+                            .add(buildServiceProviderProperty(rs));
+                }
+            }
+        }
+        readApplicationRows(connection, ApplicationMgtDBQueries.LOAD_CLIENTS_INFO_BY_APP_IDS, tenantID,
+                applicationIds, rs -> addInboundAuthenticationRequestConfig(sections.inboundAuthenticationRequestConfigs
+                        .computeIfAbsent(rs.getInt("APP_ID"), id -> new HashMap<>()), rs));
+        readApplicationRows(connection, ApplicationMgtDBQueries.LOAD_CLAIM_MAPPING_BY_APP_IDS, tenantID,
+                applicationIds, rs -> sections.claimMappings.computeIfAbsent(rs.getInt("APP_ID"),
+                        id -> new ArrayList<>()).add(buildClaimMapping(rs)));
+        readApplicationRows(connection, ApplicationMgtDBQueries.LOAD_SP_DIALECTS_BY_APP_IDS, tenantID,
+                applicationIds, rs -> {
+                    String spDialect = rs.getString("SP_DIALECT");
+                    if (spDialect != null && !spDialect.isEmpty()) {
+                        sections.spDialects.computeIfAbsent(rs.getInt("APP_ID"), id -> new ArrayList<>())
+                                .add(spDialect);
+                    }
+                });
+        readApplicationRows(connection, ApplicationMgtDBQueries.LOAD_ROLE_MAPPING_BY_APP_IDS, tenantID,
+                applicationIds, rs -> sections.roleMappings.computeIfAbsent(rs.getInt("APP_ID"),
+                        id -> new ArrayList<>()).add(buildRoleMapping(rs)));
+        readApplicationRows(connection, ApplicationMgtDBQueries.LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_IDS, tenantID,
+                applicationIds, rs -> {
+                    RequestPathAuthenticatorConfig reqAuth = new RequestPathAuthenticatorConfig();
+                    reqAuth.setName(rs.getString("AUTHENTICATOR_NAME"));
+                    sections.requestPathAuthenticators.computeIfAbsent(rs.getInt("APP_ID"),
+                            id -> new ArrayList<>()).add(reqAuth);
+                });
+        readApplicationRows(connection, ApplicationMgtDBQueries.LOAD_PRO_CONNECTORS_BY_APP_IDS, tenantID,
+                applicationIds, rs -> sections.provisioningIdentityProviders.computeIfAbsent(rs.getInt("APP_ID"),
+                        id -> new ArrayList<>()).add(buildProvisioningIdentityProvider(rs)));
+        readApplicationRows(connection, ApplicationMgtDBQueries.LOAD_TRUSTED_APPS_BY_APP_IDS, tenantID,
+                applicationIds, rs -> addTrustedAppMetadata(sections.trustedAppMetadata.computeIfAbsent(
+                        rs.getInt("SP_ID"), id -> new SpTrustedAppMetadata()), rs));
+    }
+
+    private void readApplicationRows(Connection connection, String query, int tenantID, List<Integer> applicationIds,
+                                     ApplicationRowHandler rowHandler) throws SQLException {
+
+        try (PreparedStatement prepStmt = connection.prepareStatement(getBatchQuery(query, applicationIds.size()))) {
+            prepStmt.setInt(1, tenantID);
+            setApplicationIds(prepStmt, 2, applicationIds);
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    rowHandler.handle(rs);
+                }
+            }
+        }
+    }
+
+    private String getBatchQuery(String query, int applicationCount) {
+
+        return query.replace(ApplicationMgtDBQueries.SQLPlaceholders.APP_ID_LIST_PLACEHOLDER,
+                String.join(",", Collections.nCopies(applicationCount, "?")));
+    }
+
+    private void setApplicationIds(PreparedStatement prepStmt, int startIndex, List<Integer> applicationIds)
+            throws SQLException {
+
+        for (int i = 0; i < applicationIds.size(); i++) {
+            prepStmt.setInt(startIndex + i, applicationIds.get(i));
+        }
+    }
+
+    /**
+     * Handles a row of a batched application query.
+     */
+    @FunctionalInterface
+    private interface ApplicationRowHandler {
+
+        void handle(ResultSet resultSet) throws SQLException;
+    }
+
+    /**
+     * Sections of a batch of applications which are read with a single query for the whole batch.
+     */
+    private class ApplicationSections {
+
+        private final Map<Integer, List<ServiceProviderProperty>> properties = new HashMap<>();
+        private final Map<Integer, Map<String, InboundAuthenticationRequestConfig>>
+                inboundAuthenticationRequestConfigs = new HashMap<>();
+        private final Map<Integer, ClaimConfig> claimConfigs = new HashMap<>();
+        private final Map<Integer, List<ClaimMapping>> claimMappings = new HashMap<>();
+        private final Map<Integer, List<String>> spDialects = new HashMap<>();
+        private final Map<Integer, List<RoleMapping>> roleMappings = new HashMap<>();
+        private final Map<Integer, List<RequestPathAuthenticatorConfig>> requestPathAuthenticators = new HashMap<>();
+        private final Map<Integer, InboundProvisioningConfig> inboundProvisioningConfigs = new HashMap<>();
+        private final Map<Integer, List<IdentityProvider>> provisioningIdentityProviders = new HashMap<>();
+        private final Map<Integer, SpTrustedAppMetadata> trustedAppMetadata = new HashMap<>();
+
+        private List<ServiceProviderProperty> getProperties(int applicationId) {
+
+            return properties.getOrDefault(applicationId, new ArrayList<>());
+        }
+
+        private InboundAuthenticationConfig getInboundAuthenticationConfig(int applicationId) {
+
+            return buildInboundAuthenticationConfig(
+                    inboundAuthenticationRequestConfigs.getOrDefault(applicationId, new HashMap<>()));
+        }
+
+        private ClaimConfig getClaimConfig(int applicationId) {
+
+            ClaimConfig claimConfig = claimConfigs.computeIfAbsent(applicationId, id -> new ClaimConfig());
+            claimConfig.setClaimMappings(claimMappings.getOrDefault(applicationId, Collections.emptyList())
+                    .toArray(new ClaimMapping[0]));
+            claimConfig.setSpClaimDialects(spDialects.getOrDefault(applicationId, Collections.emptyList())
+                    .toArray(new String[0]));
+            return claimConfig;
+        }
+
+        private List<RoleMapping> getRoleMappings(int applicationId) {
+
+            return roleMappings.getOrDefault(applicationId, Collections.emptyList());
+        }
+
+        private RequestPathAuthenticatorConfig[] getRequestPathAuthenticators(int applicationId) {
+
+            return requestPathAuthenticators.getOrDefault(applicationId, Collections.emptyList())
+                    .toArray(new RequestPathAuthenticatorConfig[0]);
+        }
+
+        private InboundProvisioningConfig getInboundProvisioningConfig(int applicationId) {
+
+            return inboundProvisioningConfigs.getOrDefault(applicationId, new InboundProvisioningConfig());
+        }
+
+        private OutboundProvisioningConfig getOutboundProvisioningConfig(int applicationId) {
+
+            OutboundProvisioningConfig outboundProvisioningConfig = new OutboundProvisioningConfig();
+            outboundProvisioningConfig.setProvisioningIdentityProviders(provisioningIdentityProviders
+                    .getOrDefault(applicationId, Collections.emptyList()).toArray(new IdentityProvider[0]));
+            return outboundProvisioningConfig;
+        }
+    }
+
     private AssociatedRolesConfig getAssociatedRoles(String applicationId, Connection connection, int tenantID)
             throws IdentityApplicationManagementException {
 
@@ -2690,89 +2992,107 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             rs = prepStmt.executeQuery();
 
             if (rs.next()) {
-                serviceProvider = new ServiceProvider();
-                serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
-                serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
-                serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
-                serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
-                serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
-                serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
-
-                serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
-                if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
-                    serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
-                            rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
-                }
-                String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
-                if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
-                    String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(consoleAccessUrl)) {
-                        serviceProvider.setAccessUrl(consoleAccessUrl);
-                    }
-                }
-                if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
-                    String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
-                    if (StringUtils.isNotBlank(myAccountAccessUrl)) {
-                        serviceProvider.setAccessUrl(myAccountAccessUrl);
-                    }
-                }
-
-                serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
-                serviceProvider.setDiscoverableGroups(getDiscoverableGroups(appId, connection, tenantDomain));
-
-                User owner = new User();
-                owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
-                owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
-                owner.setTenantDomain(getUserTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
-                        rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
-                                rs.getString(ApplicationTableColumns.USERNAME)));
-                serviceProvider.setOwner(owner);
-                serviceProvider.setTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+                serviceProvider = buildBasicApplicationData(rs, connection);
+            }
+            return serviceProvider;
+        } finally {
+            IdentityApplicationManagementUtil.closeResultSet(rs);
+            IdentityApplicationManagementUtil.closeStatement(prepStmt);
+        }
+    }
 
-                ClaimConfig claimConfig = new ClaimConfig();
-                claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
-                claimConfig.setLocalClaimDialect(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
-                claimConfig.setAlwaysSendMappedLocalSubjectId(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
-                serviceProvider.setClaimConfig(claimConfig);
+    /**
+     * Build the basic application data from the current row of a result set of the basic application info query.
+     *
+     * @param rs         Result set positioned at the application row.
+     * @param connection Database connection.
+     * @return Service provider with the basic application data.
+     * @throws SQLException If an error occurred while reading the row.
+     * @throws IdentityApplicationManagementException If an error occurred while resolving the access URL.
+     */
+    private ServiceProvider buildBasicApplicationData(ResultSet rs, Connection connection)
+            throws SQLException, IdentityApplicationManagementException {
 
-                LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
-                        new LocalAndOutboundAuthenticationConfig();
-                localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
-                localAndOutboundAuthenticationConfig.setEnableAuthorization(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
-                localAndOutboundAuthenticationConfig.setSubjectClaimUri(
-                        rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
-                serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+        ServiceProvider serviceProvider = new ServiceProvider();
+        try {
+            serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
+            serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
+            serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
+            serviceProvider.setApplicationVersion(rs.getString(ApplicationTableColumns.APP_VERSION));
+            serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
+            serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
+
+            serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
+            if (ApplicationMgtUtil.isConsoleOrMyAccount(serviceProvider.getApplicationName())) {
+                serviceProvider.setAccessUrl(ApplicationMgtUtil.resolveOriginUrlFromPlaceholders(
+                        rs.getString(ApplicationTableColumns.ACCESS_URL), serviceProvider.getApplicationName()));
+            }
+            String tenantDomain = IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID));
+            if (ApplicationMgtUtil.isConsole(serviceProvider.getApplicationName())) {
+                String consoleAccessUrl = getConsoleAccessUrlFromServerConfig(tenantDomain);
+                if (StringUtils.isNotBlank(consoleAccessUrl)) {
+                    serviceProvider.setAccessUrl(consoleAccessUrl);
+                }
+            }
+            if (ApplicationMgtUtil.isMyAccount(serviceProvider.getApplicationName())) {
+                String myAccountAccessUrl = getMyAccountAccessUrlFromServerConfig(tenantDomain);
+                if (StringUtils.isNotBlank(myAccountAccessUrl)) {
+                    serviceProvider.setAccessUrl(myAccountAccessUrl);
+                }
+            }
 
-                serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
+            serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
+            serviceProvider.setDiscoverableGroups(getDiscoverableGroups(serviceProvider.getApplicationID(), connection,
+                    tenantDomain));
+
+            User owner = new User();
+            owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
+            owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
+            owner.setTenantDomain(getUserTenantDomain(
+                    IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
+                    rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
+                            rs.getString(ApplicationTableColumns.USERNAME)));
+            serviceProvider.setOwner(owner);
+            serviceProvider.setTenantDomain(
+                    IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+
+            ClaimConfig claimConfig = new ClaimConfig();
+            claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
+            claimConfig.setLocalClaimDialect(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
+            claimConfig.setAlwaysSendMappedLocalSubjectId(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
+            serviceProvider.setClaimConfig(claimConfig);
+
+            LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
+                    new LocalAndOutboundAuthenticationConfig();
+            localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
+            localAndOutboundAuthenticationConfig.setEnableAuthorization(
+                    getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
+            localAndOutboundAuthenticationConfig.setSubjectClaimUri(
+                    rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
+            serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+
+            serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
 
-                // Will be supported with 'Advance Consent Management Feature'.
-                /*
-                ConsentConfig consentConfig = new ConsentConfig();
-                consentConfig.setEnabled("1".equals(rs.getString(18)));
-                serviceProvider.setConsentConfig(consentConfig);
-                */
+            // Will be supported with 'Advance Consent Management Feature'.
+            /*
+            ConsentConfig consentConfig = new ConsentConfig();
+            consentConfig.setEnabled("1".equals(rs.getString(18)));
+            serviceProvider.setConsentConfig(consentConfig);
+            */
 
-                if (log.isDebugEnabled()) {
-                    log.debug("ApplicationID: " + serviceProvider.getApplicationID()
-                            + " ApplicationName: " + serviceProvider.getApplicationName()
-                            + " UserName: " + serviceProvider.getOwner().getUserName()
-                            + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
-                }
+            if (log.isDebugEnabled()) {
+                log.debug("ApplicationID: " + serviceProvider.getApplicationID()
+                        + " ApplicationName: " + serviceProvider.getApplicationName()
+                        + " UserName: " + serviceProvider.getOwner().getUserName()
+                        + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
             }
-
             return serviceProvider;
         } catch (URLBuilderException e) {
             throw new IdentityApplicationManagementException(
                     "Error occurred when resolving origin of the access URL with placeholders", e);
-        } finally {
-            IdentityApplicationManagementUtil.closeResultSet(rs);
-            IdentityApplicationManagementUtil.closeStatement(prepStmt);
         }
     }
 
@@ -3024,51 +3344,79 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             resultSet = getClientInfo.executeQuery();
 
             while (resultSet.next()) {
-                String authKey = resultSet.getString(1);
-                //this is done to handle empty string added to oracle database as null.
-                if (authKey == null) {
-                    authKey = new String();
-                }
-                String authType = resultSet.getString(2);
-                String propName = resultSet.getString(3);
-                String propValue = resultSet.getString(4);
-                String configType = resultSet.getString(5);
-
-                String mapKey = authType + ":" + authKey;
-
-                InboundAuthenticationRequestConfig inboundAuthRequest = null;
-                if ((inboundAuthRequest = inboundAuthenticationRequestConfigMap.get(mapKey)) == null) {
-                    inboundAuthRequest = new InboundAuthenticationRequestConfig();
-                }
-                inboundAuthRequest.setInboundAuthKey(authKey);
-                inboundAuthRequest.setInboundAuthType(authType);
-                inboundAuthRequest.setInboundConfigType(configType);
-
-                boolean isCustomAuthenticator = isCustomInboundAuthType(authType);
-                AbstractInboundAuthenticatorConfig customAuthenticator = ApplicationManagementServiceComponentHolder
-                        .getInboundAuthenticatorConfig(authType + ":" + configType);
-                if (isCustomAuthenticator && customAuthenticator != null) {
-                    inboundAuthRequest.setFriendlyName(customAuthenticator.getFriendlyName());
-                }
-                if (propName != null) {
-                    Property prop = new Property();
-                    prop.setName(propName);
-                    prop.setValue(propValue);
-                    if (isCustomAuthenticator && customAuthenticator != null) {
-                        Property mappedProperty = getMappedProperty(customAuthenticator, propName);
-                        if (mappedProperty != null) {
-                            prop.setDisplayName(mappedProperty.getDisplayName());
-                        }
-                    }
-                    inboundAuthRequest.setProperties((ApplicationMgtUtil.concatArrays(new Property[] {prop},
-                            inboundAuthRequest.getProperties())));
-                }
-                inboundAuthenticationRequestConfigMap.put(mapKey, inboundAuthRequest);
+                addInboundAuthenticationRequestConfig(inboundAuthenticationRequestConfigMap, resultSet);
             }
         } finally {
             IdentityApplicationManagementUtil.closeStatement(getClientInfo);
             IdentityApplicationManagementUtil.closeResultSet(resultSet);
         }
+        return buildInboundAuthenticationConfig(inboundAuthenticationRequestConfigMap);
+    }
+
+    /**
+     * Add the inbound authentication request configuration property in the current row of a result set of the
+     * SP_INBOUND_AUTH table to the configuration of its inbound key.
+     *
+     * @param inboundAuthenticationRequestConfigMap Inbound authentication request configurations by the type and key.
+     * @param resultSet                             Result set positioned at the inbound authentication row.
+     * @throws SQLException If an error occurred while reading the row.
+     */
+    private void addInboundAuthenticationRequestConfig(
+            Map<String, InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigMap,
+            ResultSet resultSet) throws SQLException {
+
+        String authKey = resultSet.getString("INBOUND_AUTH_KEY");
+        //this is done to handle empty string added to oracle database as null.
+        if (authKey == null) {
+            authKey = new String();
+        }
+        String authType = resultSet.getString("INBOUND_AUTH_TYPE");
+        String propName = resultSet.getString("PROP_NAME");
+        String propValue = resultSet.getString("PROP_VALUE");
+        String configType = resultSet.getString("INBOUND_CONFIG_TYPE");
+
+        String mapKey = authType + ":" + authKey;
+
+        InboundAuthenticationRequestConfig inboundAuthRequest = null;
+        if ((inboundAuthRequest = inboundAuthenticationRequestConfigMap.get(mapKey)) == null) {
+            inboundAuthRequest = new InboundAuthenticationRequestConfig();
+        }
+        inboundAuthRequest.setInboundAuthKey(authKey);
+        inboundAuthRequest.setInboundAuthType(authType);
+        inboundAuthRequest.setInboundConfigType(configType);
+
+        boolean isCustomAuthenticator = isCustomInboundAuthType(authType);
+        AbstractInboundAuthenticatorConfig customAuthenticator = ApplicationManagementServiceComponentHolder
+                .getInboundAuthenticatorConfig(authType + ":" + configType);
+        if (isCustomAuthenticator && customAuthenticator != null) {
+            inboundAuthRequest.setFriendlyName(customAuthenticator.getFriendlyName());
+        }
+        if (propName != null) {
+            Property prop = new Property();
+            prop.setName(propName);
+            prop.setValue(propValue);
+            if (isCustomAuthenticator && customAuthenticator != null) {
+                Property mappedProperty = getMappedProperty(customAuthenticator, propName);
+                if (mappedProperty != null) {
+                    prop.setDisplayName(mappedProperty.getDisplayName());
+                }
+            }
+            inboundAuthRequest.setProperties((ApplicationMgtUtil.concatArrays(new Property[] {prop},
+                    inboundAuthRequest.getProperties())));
+        }
+        inboundAuthenticationRequestConfigMap.put(mapKey, inboundAuthRequest);
+    }
+
+    /**
+     * Build the inbound authentication configuration of an application from its inbound authentication request
+     * configurations, merged with the configurations of the registered custom inbound authenticators.
+     *
+     * @param inboundAuthenticationRequestConfigMap Inbound authentication request configurations by the type and key.
+     * @return Inbound authentication configuration.
+     */
+    private InboundAuthenticationConfig buildInboundAuthenticationConfig(
+            Map<String, InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigMap) {
+
         Map<String, AbstractInboundAuthenticatorConfig> allCustomAuthenticators = new HashMap<>
                 (ApplicationManagementServiceComponentHolder.getAllInboundAuthenticatorConfig());
         for (Map.Entry<String, InboundAuthenticationRequestConfig> entry : inboundAuthenticationRequestConfigMap
@@ -3438,50 +3786,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             resultSet = get.executeQuery();
 
             while (resultSet.next()) {
-                ClaimMapping claimMapping = new ClaimMapping();
-                Claim localClaim = new Claim();
-                Claim remoteClaim = new Claim();
-
-                localClaim.setClaimUri(resultSet.getString(1));
-                remoteClaim.setClaimUri(resultSet.getString(2));
-
-                String requested = resultSet.getString(3);
-
-                if ("1".equalsIgnoreCase(requested)) {
-                    claimMapping.setRequested(true);
-                } else {
-                    claimMapping.setRequested(false);
-                }
-
-                String mandatory = resultSet.getString(4);
-
-                if ("1".equalsIgnoreCase(mandatory)) {
-                    claimMapping.setMandatory(true);
-                } else {
-                    claimMapping.setMandatory(false);
-                }
-
-                if (remoteClaim.getClaimUri() == null
-                        || remoteClaim.getClaimUri().trim().length() == 0) {
-                    remoteClaim.setClaimUri(localClaim.getClaimUri());
-                }
-
-                if (localClaim.getClaimUri() == null
-                        || localClaim.getClaimUri().trim().length() == 0) {
-                    localClaim.setClaimUri(remoteClaim.getClaimUri());
-                }
-
-                claimMapping.setDefaultValue(resultSet.getString(5));
-
-                claimMapping.setLocalClaim(localClaim);
-                claimMapping.setRemoteClaim(remoteClaim);
-
-                claimMappingList.add(claimMapping);
-
-                if (log.isDebugEnabled()) {
-                    log.debug("Local Claim: " + claimMapping.getLocalClaim().getClaimUri()
-                            + " SPClaim: " + claimMapping.getRemoteClaim().getClaimUri());
-                }
+                claimMappingList.add(buildClaimMapping(resultSet));
             }
 
             claimConfig.setClaimMappings(claimMappingList.toArray(new ClaimMapping[claimMappingList
@@ -3504,22 +3809,8 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             loadClaimConfigsResultSet = loadClaimConfigsPrepStmt.executeQuery();
 
             while (loadClaimConfigsResultSet.next()) {
-                claimConfig.setRoleClaimURI(loadClaimConfigsResultSet.getString(1));
-                claimConfig.setLocalClaimDialect("1".equals(loadClaimConfigsResultSet.getString(2)));
-
-                switch (loadClaimConfigsResultSet.getString(3)) {
-                    case "1":
-                        claimConfig.setAlwaysSendMappedLocalSubjectId(true);
-                        claimConfig.setMappedLocalSubjectMandatory(false);
-                        break;
-                    case "2":
-                        claimConfig.setAlwaysSendMappedLocalSubjectId(true);
-                        claimConfig.setMappedLocalSubjectMandatory(true);
-                        break;
-                    default:
-                        claimConfig.setAlwaysSendMappedLocalSubjectId(false);
-                        claimConfig.setMappedLocalSubjectMandatory(false);
-                }
+                setClaimConfigAttributes(claimConfig, loadClaimConfigsResultSet.getString(1),
+                        loadClaimConfigsResultSet.getString(2), loadClaimConfigsResultSet.getString(3));
             }
         } catch (SQLException e) {
             throw new IdentityApplicationManagementException("Error while retrieving all application", e);
@@ -3548,13 +3839,82 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         } catch (SQLException e) {
             throw new IdentityApplicationManagementException("Error while retrieving all application", e);
         } finally {
-            IdentityApplicationManagementUtil.closeStatement(loadClaimConfigsPrepStmt);
-            IdentityApplicationManagementUtil.closeResultSet(loadClaimConfigsResultSet);
+            IdentityApplicationManagementUtil.closeStatement(loadSPDialectsPrepStmt);
+            IdentityApplicationManagementUtil.closeResultSet(loadSPDialectsResultSet);
         }
 
         return claimConfig;
     }
 
+    /**
+     * Build a claim mapping from the current row of a result set of the SP_CLAIM_MAPPING table.
+     *
+     * @param resultSet Result set positioned at the claim mapping row.
+     * @return Claim mapping.
+     * @throws SQLException If an error occurred while reading the row.
+     */
+    private ClaimMapping buildClaimMapping(ResultSet resultSet) throws SQLException {
+
+        ClaimMapping claimMapping = new ClaimMapping();
+        Claim localClaim = new Claim();
+        Claim remoteClaim = new Claim();
+
+        localClaim.setClaimUri(resultSet.getString("IDP_CLAIM"));
+        remoteClaim.setClaimUri(resultSet.getString("SP_CLAIM"));
+        claimMapping.setRequested("1".equalsIgnoreCase(resultSet.getString("IS_REQUESTED")));
+        claimMapping.setMandatory("1".equalsIgnoreCase(resultSet.getString("IS_MANDATORY")));
+
+        if (remoteClaim.getClaimUri() == null
+                || remoteClaim.getClaimUri().trim().length() == 0) {
+            remoteClaim.setClaimUri(localClaim.getClaimUri());
+        }
+
+        if (localClaim.getClaimUri() == null
+                || localClaim.getClaimUri().trim().length() == 0) {
+            localClaim.setClaimUri(remoteClaim.getClaimUri());
+        }
+
+        claimMapping.setDefaultValue(resultSet.getString("DEFAULT_VALUE"));
+
+        claimMapping.setLocalClaim(localClaim);
+        claimMapping.setRemoteClaim(remoteClaim);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Local Claim: " + claimMapping.getLocalClaim().getClaimUri()
+                    + " SPClaim: " + claimMapping.getRemoteClaim().getClaimUri());
+        }
+        return claimMapping;
+    }
+
+    /**
+     * Set the claim configuration attributes stored in the SP_APP table.
+     *
+     * @param claimConfig        Claim configuration.
+     * @param roleClaim          Role claim URI.
+     * @param localClaimDialect  Whether the local claim dialect is used.
+     * @param sendLocalSubjectId Whether the mapped local subject ID is sent, and whether it is mandatory.
+     */
+    private void setClaimConfigAttributes(ClaimConfig claimConfig, String roleClaim, String localClaimDialect,
+                                          String sendLocalSubjectId) {
+
+        claimConfig.setRoleClaimURI(roleClaim);
+        claimConfig.setLocalClaimDialect("1".equals(localClaimDialect));
+
+        switch (sendLocalSubjectId) {
+            case "1":
+                claimConfig.setAlwaysSendMappedLocalSubjectId(true);
+                claimConfig.setMappedLocalSubjectMandatory(false);
+                break;
+            case "2":
+                claimConfig.setAlwaysSendMappedLocalSubjectId(true);
+                claimConfig.setMappedLocalSubjectMandatory(true);
+                break;
+            default:
+                claimConfig.setAlwaysSendMappedLocalSubjectId(false);
+                claimConfig.setMappedLocalSubjectMandatory(false);
+        }
+    }
+
     /**
      * @param applicationId
      * @param connection
@@ -3680,31 +4040,47 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
                     if (spTrustedAppMetadata == null) {
                         spTrustedAppMetadata = new SpTrustedAppMetadata();
                     }
-                    // There should be maximum two entries for each service provider. One for Android and one for iOS.
-                    PlatformType platformType = PlatformType.valueOf(appConfigResultSet.getString(1));
-                    if (PlatformType.ANDROID.equals(platformType)) {
-                        spTrustedAppMetadata.setAndroidPackageName(appConfigResultSet.getString(2));
-                        if (appConfigResultSet.getString(3) != null) {
-                            spTrustedAppMetadata.setAndroidThumbprints(
-                                    appConfigResultSet.getString(3).split(ATTRIBUTE_SEPARATOR));
-                        } else {
-                            spTrustedAppMetadata.setAndroidThumbprints(new String[0]);
-                        }
-                    } else if (PlatformType.IOS.equals(platformType)) {
-                        spTrustedAppMetadata.setAppleAppId(appConfigResultSet.getString(2));
-                    }
-                    spTrustedAppMetadata.setIsFidoTrusted(appConfigResultSet.getBoolean(4));
-                }
-                if (spTrustedAppMetadata != null) {
-                    // If consent required property is disabled, consent is always considered as granted.
-                    spTrustedAppMetadata.setIsConsentGranted(!ApplicationMgtUtil.isTrustedAppConsentRequired() ||
-                            getTrustedAppConsent(spPropertyList));
+                    addTrustedAppMetadata(spTrustedAppMetadata, appConfigResultSet);
                 }
             }
 
         } catch (SQLException e) {
             throw new IdentityApplicationManagementException("Error while retrieving trusted app configurations.", e);
         }
+        return setTrustedAppConsent(spTrustedAppMetadata, spPropertyList);
+    }
+
+    /**
+     * Add the platform specific configurations of an SP_TRUSTED_APPS row to the trusted app metadata.
+     *
+     * @param spTrustedAppMetadata Trusted app metadata of the application.
+     * @param resultSet            Result set positioned at the row.
+     * @throws SQLException If an error occurred while reading the row.
+     */
+    private void addTrustedAppMetadata(SpTrustedAppMetadata spTrustedAppMetadata, ResultSet resultSet)
+            throws SQLException {
+
+        // There should be maximum two entries for each service provider. One for Android and one for iOS.
+        PlatformType platformType = PlatformType.valueOf(resultSet.getString("PLATFORM_TYPE"));
+        if (PlatformType.ANDROID.equals(platformType)) {
+            spTrustedAppMetadata.setAndroidPackageName(resultSet.getString("APP_IDENTIFIER"));
+            String thumbprints = resultSet.getString("THUMBPRINTS");
+            spTrustedAppMetadata.setAndroidThumbprints(thumbprints != null ? thumbprints.split(ATTRIBUTE_SEPARATOR) :
+                    new String[0]);
+        } else if (PlatformType.IOS.equals(platformType)) {
+            spTrustedAppMetadata.setAppleAppId(resultSet.getString("APP_IDENTIFIER"));
+        }
+        spTrustedAppMetadata.setIsFidoTrusted(resultSet.getBoolean("IS_FIDO_TRUSTED"));
+    }
+
+    private SpTrustedAppMetadata setTrustedAppConsent(SpTrustedAppMetadata spTrustedAppMetadata,
+                                                      List<ServiceProviderProperty> spPropertyList) {
+
+        if (spTrustedAppMetadata != null) {
+            // If consent required property is disabled, consent is always considered as granted.
+            spTrustedAppMetadata.setIsConsentGranted(!ApplicationMgtUtil.isTrustedAppConsentRequired() ||
+                    getTrustedAppConsent(spPropertyList));
+        }
         return spTrustedAppMetadata;
     }
 
@@ -3808,17 +4184,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             resultSet = getClientInfo.executeQuery();
 
             while (resultSet.next()) {
-                RoleMapping roleMapping = new RoleMapping();
-                LocalRole localRole = new LocalRole();
-                localRole.setLocalRoleName(resultSet.getString(1));
-                roleMapping.setLocalRole(localRole);
-                roleMapping.setRemoteRole(resultSet.getString(2));
-                roleMappingList.add(roleMapping);
-
-                if (log.isDebugEnabled()) {
-                    log.debug("Local Role: " + roleMapping.getLocalRole().getLocalRoleName()
-                            + " SPRole: " + roleMapping.getRemoteRole());
-                }
+                roleMappingList.add(buildRoleMapping(resultSet));
             }
 
         } catch (SQLException e) {
@@ -3830,6 +4196,28 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return roleMappingList;
     }
 
+    /**
+     * Build a role mapping from the current row of a result set of the SP_ROLE_MAPPING table.
+     *
+     * @param resultSet Result set positioned at the role mapping row.
+     * @return Role mapping.
+     * @throws SQLException If an error occurred while reading the row.
+     */
+    private RoleMapping buildRoleMapping(ResultSet resultSet) throws SQLException {
+
+        RoleMapping roleMapping = new RoleMapping();
+        LocalRole localRole = new LocalRole();
+        localRole.setLocalRoleName(resultSet.getString("IDP_ROLE"));
+        roleMapping.setLocalRole(localRole);
+        roleMapping.setRemoteRole(resultSet.getString("SP_ROLE"));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Local Role: " + roleMapping.getLocalRole().getLocalRoleName()
+                    + " SPRole: " + roleMapping.getRemoteRole());
+        }
+        return roleMapping;
+    }
+
     /**
      * Get count of applications for user
      *
@@ -322,6 +322,50 @@ public class ApplicationMgtDBQueries {
     public static final String GET_SP_METADATA_BY_SP_ID_H2 = "SELECT ID, NAME, `VALUE`, DISPLAY_NAME FROM " +
             "SP_METADATA WHERE SP_ID = ?";
 
+    // Batched application loading queries.
+    public static final String LOAD_APP_IDS_BY_TENANT = "SELECT ID FROM SP_APP WHERE TENANT_ID = ? AND APP_NAME != ? " +
+            "ORDER BY ID";
+
+    public static final String LOAD_BASIC_APP_INFO_BY_APP_IDS = "SELECT ID, TENANT_ID, APP_NAME, VERSION, " +
+            "USER_STORE, USERNAME, DESCRIPTION, ROLE_CLAIM, AUTH_TYPE, PROVISIONING_USERSTORE_DOMAIN, " +
+            "IS_LOCAL_CLAIM_DIALECT, IS_SEND_LOCAL_SUBJECT_ID, IS_SEND_AUTH_LIST_OF_IDPS, " +
+            "IS_USE_TENANT_DOMAIN_SUBJECT, IS_USE_USER_DOMAIN_SUBJECT, ENABLE_AUTHORIZATION, " +
+            "SUBJECT_CLAIM_URI, IS_SAAS_APP, UUID, IMAGE_URL, ACCESS_URL, IS_DISCOVERABLE, IS_DUMB_MODE " +
+            "FROM SP_APP WHERE TENANT_ID = ? AND ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ") ORDER BY ID";
+
+    public static final String GET_SP_METADATA_BY_SP_IDS = "SELECT SP_ID, NAME, VALUE, DISPLAY_NAME FROM " +
+            "SP_METADATA WHERE SP_ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+
+    public static final String GET_SP_METADATA_BY_SP_IDS_H2 = "SELECT SP_ID, NAME, `VALUE`, DISPLAY_NAME FROM " +
+            "SP_METADATA WHERE SP_ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+
+    public static final String LOAD_CLIENTS_INFO_BY_APP_IDS = "SELECT APP_ID, INBOUND_AUTH_KEY, INBOUND_AUTH_TYPE, " +
+            "PROP_NAME, PROP_VALUE, INBOUND_CONFIG_TYPE FROM SP_INBOUND_AUTH WHERE TENANT_ID = ? AND APP_ID IN (" +
+            SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+
+    public static final String LOAD_CLAIM_MAPPING_BY_APP_IDS = "SELECT APP_ID, IDP_CLAIM, SP_CLAIM, IS_REQUESTED, " +
+            "IS_MANDATORY, DEFAULT_VALUE FROM SP_CLAIM_MAPPING WHERE TENANT_ID = ? AND APP_ID IN (" +
+            SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+
+    public static final String LOAD_SP_DIALECTS_BY_APP_IDS = "SELECT APP_ID, SP_DIALECT FROM SP_CLAIM_DIALECT WHERE " +
+            "TENANT_ID = ? AND APP_ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+
+    public static final String LOAD_ROLE_MAPPING_BY_APP_IDS = "SELECT APP_ID, IDP_ROLE, SP_ROLE FROM SP_ROLE_MAPPING " +
+            "WHERE TENANT_ID = ? AND APP_ID IN (" + SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+
+    public static final String LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_IDS = "SELECT APP_ID, AUTHENTICATOR_NAME FROM " +
+            "SP_REQ_PATH_AUTHENTICATOR WHERE TENANT_ID = ? AND APP_ID IN (" +
+            SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+
+    public static final String LOAD_PRO_CONNECTORS_BY_APP_IDS = "SELECT APP_ID, IDP_NAME, CONNECTOR_NAME, " +
+            "IS_JIT_ENABLED, BLOCKING, RULE_ENABLED FROM SP_PROVISIONING_CONNECTOR WHERE TENANT_ID = ? " +
+            "AND APP_ID IN (" +
+            SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+
+    public static final String LOAD_TRUSTED_APPS_BY_APP_IDS = "SELECT SP_ID, PLATFORM_TYPE, APP_IDENTIFIER, " +
+            "THUMBPRINTS, IS_FIDO_TRUSTED FROM SP_TRUSTED_APPS WHERE TENANT_ID = ? AND SP_ID IN (" +
+            SQLPlaceholders.APP_ID_LIST_PLACEHOLDER + ")";
+
     public static final String GET_SP_PROPERTY_VALUE_BY_PROPERTY_KEY = "SELECT B.VALUE " +
             "FROM SP_APP A JOIN SP_METADATA B ON A.ID = B.SP_ID WHERE " +
             "UUID=:" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_APP_ID + "; AND " +
@@ -740,6 +784,9 @@ public class ApplicationMgtDBQueries {
         public static final String SHARED_ORG_ID_LIST_PLACEHOLDER = "_SHARED_ORG_ID_LIST_";
         public static final String SHARED_ORG_ID_PLACEHOLDER_PREFIX = "SHARED_ORG_ID_";
 
+        // Related to the batched application loading queries.
+        public static final String APP_ID_LIST_PLACEHOLDER = "_APP_ID_LIST_";
+
         // Related to AUTHORIZED_API and AUTHORIZED_SCOPE tables.
         public static final String API_ID_PREFIX = "API_ID_";
         public static final String SCOPE_ID_PREFIX = "SCOPE_ID_";
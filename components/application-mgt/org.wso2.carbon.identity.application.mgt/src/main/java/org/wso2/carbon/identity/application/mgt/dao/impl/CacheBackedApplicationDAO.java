@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ * Copyright (c) 2019-2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
  *
  *  WSO2 Inc. licenses this file to you under the Apache License,
  *  Version 2.0 (the "License"); you may not use this file except
@@ -32,6 +32,7 @@ import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthent
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.model.SpTrustedAppMetadata;
 import org.wso2.carbon.identity.application.common.model.TrustedApp;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCache;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCacheEntry;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCacheKey;
@@ -57,12 +58,15 @@ import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderRe
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppByPlatformTypeCache;
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatformTypeCacheEntry;
 import org.wso2.carbon.identity.application.mgt.internal.cache.TrustedAppPlatformTypeCacheKey;
+import org.wso2.carbon.identity.core.cache.TenantCacheBulkLoader;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.PlatformType;
 
@@ -73,6 +77,7 @@ import static org.wso2.carbon.identity.application.common.util.IdentityApplicati
 public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
     private static final Log log = LogFactory.getLog(CacheBackedApplicationDAO.class);
+    private static final TenantCacheBulkLoader APP_BULK_LOADER = new TenantCacheBulkLoader("ApplicationCache");
 
     private ApplicationDAO appDAO;
 
@@ -103,6 +108,9 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
         ServiceProvider serviceProvider = getApplicationFromCache(applicationName, tenantDomain);
         if (serviceProvider == null) {
+            if (!ApplicationConstants.LOCAL_SP.equals(applicationName)) {
+                scheduleApplicationsLoad(tenantDomain);
+            }
             try {
                 serviceProvider = appDAO.getApplication(applicationName, tenantDomain);
                 if (serviceProvider != null) {
@@ -119,9 +127,10 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
     public ServiceProvider getApplication(int appId) throws IdentityApplicationManagementException {
 
-        ServiceProvider serviceProvider = getApplicationFromCache(appId,
-                CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        ServiceProvider serviceProvider = getApplicationFromCache(appId, tenantDomain);
         if (serviceProvider == null) {
+            scheduleApplicationsLoad(tenantDomain);
             serviceProvider = appDAO.getApplication(appId);
             if (serviceProvider == null) {
                 throw new IdentityApplicationManagementException(
@@ -244,6 +253,8 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         // Clear the trusted app cache only if the trusted app metadata is changed.
         validateAndClearTrustedAppCache(storedApp.getTrustedAppMetadata(), serviceProvider.getTrustedAppMetadata());
         appDAO.updateApplication(serviceProvider, tenantDomain);
+        // A load which started after the cache was cleared may have cached the application before the update.
+        clearAllAppCache(storedApp, tenantDomain);
     }
 
     public void clearApplicationFromCache(ServiceProvider serviceProvider, String tenantDomain) {
@@ -260,6 +271,8 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         // Clear the trusted app cache only if the trusted app metadata is available in the SP to be deleted.
         validateAndClearTrustedAppCache(serviceProvider.getTrustedAppMetadata());
         appDAO.deleteApplication(applicationName);
+        // A load which started after the cache was cleared may have cached the application before the deletion.
+        clearAllAppCache(serviceProvider, tenantDomain);
     }
 
     public ApplicationBasicInfo[] getAllApplicationBasicInfo() throws IdentityApplicationManagementException {
@@ -475,6 +488,7 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
         ServiceProvider application = getApplicationFromCacheByResourceId(resourceId, tenantDomain);
         if (application == null) {
+            scheduleApplicationsLoad(tenantDomain);
             // Cache miss, fetch from DB.
             application = appDAO.getApplicationByResourceId(resourceId, tenantDomain);
             if (application != null) {
@@ -505,6 +519,8 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         // Clear the trusted app cache only if the trusted app metadata is changed.
         validateAndClearTrustedAppCache(storedApp.getTrustedAppMetadata(), updatedApp.getTrustedAppMetadata());
         appDAO.updateApplicationByResourceId(resourceId, tenantDomain, updatedApp);
+        // A load which started after the cache was cleared may have cached the application before the update.
+        clearAllAppCache(storedApp, tenantDomain);
     }
 
     @Override
@@ -517,6 +533,8 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         // Clear the trusted app cache only if the trusted app metadata is available in the SP to be deleted.
         validateAndClearTrustedAppCache(serviceProvider.getTrustedAppMetadata());
         appDAO.deleteApplicationByResourceId(resourceId, tenantDomain);
+        // A load which started after the cache was cleared may have cached the application before the deletion.
+        clearAllAppCache(serviceProvider, tenantDomain);
     }
 
     @Override
@@ -569,6 +587,8 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
         clearAllAppCache(serviceProvider, tenantDomain);
         appDAO.updateApplicationLocalAndOutboundAuthConfig(serviceProvider, tenantDomain);
+        // A load which started after the cache was cleared may have cached the application before the update.
+        clearAllAppCache(serviceProvider, tenantDomain);
     }
 
     private void addToCache(ServiceProvider serviceProvider, String tenantDomain) {
@@ -607,6 +627,65 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         }
     }
 
+    /**
+     * Schedule a background load of the applications of the tenant into the caches with batched queries, if bulk
+     * loading is enabled and the applications of the tenant were not loaded within the configured interval. This
+     * warms up the caches of a tenant on its first application lookups, instead of loading the applications one by
+     * one. The lookup which triggers the load does not wait for it.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    private void scheduleApplicationsLoad(String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain) || !(appDAO instanceof ApplicationDAOImpl) ||
+                !Boolean.parseBoolean(IdentityUtil.getProperty(
+                        ApplicationConstants.APPLICATION_BULK_LOAD_ENABLED_PROPERTY))) {
+            return;
+        }
+        APP_BULK_LOADER.load(tenantDomain, TimeUnit.SECONDS.toMillis(getIntProperty(
+                ApplicationConstants.APPLICATION_BULK_LOAD_INTERVAL_PROPERTY,
+                ApplicationConstants.DEFAULT_APPLICATION_BULK_LOAD_INTERVAL)),
+                load -> loadApplicationsToCache(tenantDomain, load));
+    }
+
+    private void loadApplicationsToCache(String tenantDomain, TenantCacheBulkLoader.Load load) {
+
+        ApplicationDAOImpl applicationDAO = (ApplicationDAOImpl) appDAO;
+        try {
+            List<Integer> applicationIds = applicationDAO.getApplicationIds(tenantDomain, getIntProperty(
+                    ApplicationConstants.APPLICATION_BULK_LOAD_MAX_APPLICATIONS_PROPERTY,
+                    ApplicationConstants.DEFAULT_APPLICATION_BULK_LOAD_MAX_APPLICATIONS));
+            List<ServiceProvider> serviceProviders = applicationDAO.getApplications(applicationIds, tenantDomain);
+            for (ServiceProvider serviceProvider : serviceProviders) {
+                // Entries read before an application of the tenant was modified may be stale.
+                if (!load.addIfCurrent(() -> addToCache(serviceProvider, tenantDomain),
+                        () -> clearAppCacheEntries(serviceProvider, tenantDomain))) {
+                    return;
+                }
+            }
+            if (log.isDebugEnabled()) {
+                log.debug(serviceProviders.size() + " applications of tenant: " + tenantDomain +
+                        " are loaded to the cache.");
+            }
+        } catch (IdentityApplicationManagementException e) {
+            log.warn("Error while loading the applications of tenant: " + tenantDomain + " to the cache.", e);
+        }
+    }
+
+    private int getIntProperty(String propertyName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for: " + propertyName + ". Using the default " +
+                        "value: " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
     private void addAppBasicInfoToCache(ApplicationBasicInfo appBasicInfo, String tenantDomain) {
 
         if (log.isDebugEnabled()) {
@@ -785,6 +864,13 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
 
     public static void clearAllAppCache(ServiceProvider serviceProvider, String tenantDomain) {
 
+        // Invalidated before the entries are cleared, so that a load of the tenant cannot add them back.
+        APP_BULK_LOADER.invalidate(tenantDomain);
+        clearAppCacheEntries(serviceProvider, tenantDomain);
+    }
+
+    private static void clearAppCacheEntries(ServiceProvider serviceProvider, String tenantDomain) {
+
         if (log.isDebugEnabled()) {
             log.debug("Clearing all the Service Provider Caches for " + serviceProvider.getApplicationName() + "@" +
                     tenantDomain);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -423,6 +423,47 @@ public class ApplicationDAOImplTest {
         assertEquals(serviceProvider2.getAssociatedRolesConfig().getRoles().length, 0);
     }
 
+    @Test(description = "Test loading the applications of a tenant in batches.",
+            dependsOnMethods = { "testUpdateApplicationForFragmentApp" })
+    public void testGetApplications() throws IdentityApplicationManagementException {
+
+        ApplicationDAOImpl applicationDAO = new ApplicationDAOImpl();
+        List<Integer> applicationIds = applicationDAO.getApplicationIds(SUPER_TENANT_DOMAIN_NAME, 100);
+        assertTrue(applicationIds.size() > 1);
+        assertEquals(applicationDAO.getApplicationIds(SUPER_TENANT_DOMAIN_NAME, 1),
+                applicationIds.subList(0, 1));
+
+        List<ServiceProvider> serviceProviders = applicationDAO.getApplications(applicationIds,
+                SUPER_TENANT_DOMAIN_NAME);
+        assertEquals(serviceProviders.size(), applicationIds.size());
+        for (ServiceProvider serviceProvider : serviceProviders) {
+            ServiceProvider expected = applicationDAO.getApplication(serviceProvider.getApplicationID());
+            assertEquals(serviceProvider.getApplicationName(), expected.getApplicationName());
+            assertEquals(serviceProvider.getApplicationResourceId(), expected.getApplicationResourceId());
+            assertEquals(serviceProvider.getAccessUrl(), expected.getAccessUrl());
+            assertEquals(serviceProvider.isDiscoverable(), expected.isDiscoverable());
+            assertEquals(serviceProvider.getSpProperties().length, expected.getSpProperties().length);
+            assertEquals(serviceProvider.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs()
+                    .length, expected.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs().length);
+            assertEquals(serviceProvider.getClaimConfig().getClaimMappings().length,
+                    expected.getClaimConfig().getClaimMappings().length);
+            assertEquals(serviceProvider.getClaimConfig().isLocalClaimDialect(),
+                    expected.getClaimConfig().isLocalClaimDialect());
+            assertEquals(serviceProvider.getPermissionAndRoleConfig().getRoleMappings().length,
+                    expected.getPermissionAndRoleConfig().getRoleMappings().length);
+            assertEquals(serviceProvider.getAssociatedRolesConfig().getRoles().length,
+                    expected.getAssociatedRolesConfig().getRoles().length);
+            assertEquals(serviceProvider.getInboundProvisioningConfig().getProvisioningUserStore(),
+                    expected.getInboundProvisioningConfig().getProvisioningUserStore());
+            assertEquals(serviceProvider.getInboundProvisioningConfig().isDumbMode(),
+                    expected.getInboundProvisioningConfig().isDumbMode());
+            assertEquals(serviceProvider.getOutboundProvisioningConfig().getProvisioningIdentityProviders().length,
+                    expected.getOutboundProvisioningConfig().getProvisioningIdentityProviders().length);
+            assertEquals(serviceProvider.getTrustedAppMetadata() == null, expected.getTrustedAppMetadata() == null);
+        }
+        assertTrue(applicationDAO.getApplications(Collections.emptyList(), SUPER_TENANT_DOMAIN_NAME).isEmpty());
+    }
+
     /**
      * Get a new DiscoverableGroup object.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -62,6 +62,7 @@ public class AsyncOperationStatusMgtServiceComponent {
         try {
             BundleContext bundleCtx = context.getBundleContext();
             bundleCtx.ungetService(bundleCtx.getServiceReference(AsyncOperationStatusMgtService.class));
+            AsyncOperationStatusMgtServiceImpl.getInstance().shutdown();
             LOG.debug("Async operation status mgt bundle is deactivated");
         } catch (Throwable e) {
             LOG.error("Error while deactivating Async operation status management component.", e);
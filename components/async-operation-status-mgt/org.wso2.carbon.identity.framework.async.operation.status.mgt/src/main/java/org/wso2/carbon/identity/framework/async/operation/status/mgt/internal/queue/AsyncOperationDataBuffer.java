@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -25,42 +25,107 @@ import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.AsyncOperationStatusMgtDAO;
 
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * In-memory queue to store async operations, with database fallback.
+ * <p>
+ * Producers add operations to a lock-free queue without waiting for the database. The queued operations are
+ * persisted in batches by a background thread, once the number of queued operations reaches the threshold or the
+ * flush interval elapses, whichever comes first. The queue is bounded by the given capacity. When it is full, the
+ * producer persists a batch itself before its operation is accepted, so producers are slowed down to the rate of the
+ * database instead of the operations being dropped. When a flush fails, the next flushes are backed off exponentially
+ * up to the flush interval. The queued operations are persisted when the buffer is shut down.
  */
 public class AsyncOperationDataBuffer {
 
     private static final Log LOG = LogFactory.getLog(AsyncOperationDataBuffer.class);
+    private static final int DEFAULT_CAPACITY_PER_THRESHOLD = 100;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 1000L;
+
     private final ConcurrentLinkedQueue<UnitOperationInitDTO> queue = new ConcurrentLinkedQueue<>();
+    // Size of the queue, since the size of a ConcurrentLinkedQueue is computed by traversing it.
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
     private final AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO;
     private final int threshold;
+    private final int capacity;
     private final int flushIntervalSeconds;
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "async-operation-status-buffer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Producers hold the read lock while enqueuing, so that no operation is enqueued after the shutdown is flagged.
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+    private volatile boolean shutdown;
+    private volatile int consecutiveFailures;
+    private volatile long retryAfterMillis;
 
     public AsyncOperationDataBuffer(AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO, int threshold,
                                     int flushIntervalSeconds) {
 
+        this(asyncOperationStatusMgtDAO, threshold, flushIntervalSeconds, threshold * DEFAULT_CAPACITY_PER_THRESHOLD);
+    }
+
+    public AsyncOperationDataBuffer(AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO, int threshold,
+                                    int flushIntervalSeconds, int capacity) {
+
         this.asyncOperationStatusMgtDAO = asyncOperationStatusMgtDAO;
         this.threshold = threshold;
         this.flushIntervalSeconds = flushIntervalSeconds;
+        this.capacity = Math.max(capacity, threshold);
+        // A flush waiting for its backoff is not awaited on shutdown, since the shutdown persists the queue itself.
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
 
         startPeriodicFlushTask();
     }
 
     /**
-     * Add an operation to the queue. If queue exceeds threshold, persist to DB.
+     * Add an operation to the queue. If queue reaches the threshold, the queued operations are persisted to the DB in
+     * the background. If the queue is full, a batch of the queued operations is persisted to the DB by the caller.
      *
      * @param operation The operation to add.
+     * @throws AsyncOperationStatusMgtException If the caller fails to persist the operations to the DB.
      */
-    public synchronized void add(UnitOperationInitDTO operation) throws AsyncOperationStatusMgtException {
+    public void add(UnitOperationInitDTO operation) throws AsyncOperationStatusMgtException {
 
-        queue.offer(operation);
-        if (queue.size() >= threshold) {
-            persistToDatabase();
+        int size = -1;
+        shutdownLock.readLock().lock();
+        try {
+            if (!shutdown && queueSize.get() < capacity) {
+                queue.offer(operation);
+                size = queueSize.incrementAndGet();
+            }
+        } finally {
+            shutdownLock.readLock().unlock();
+        }
+        if (size >= 0) {
+            if (size >= threshold) {
+                scheduleFlush();
+            }
+            return;
+        }
+
+        if (LOG.isDebugEnabled() && !shutdown) {
+            LOG.debug("Unit operation buffer reached its capacity: " + capacity +
+                    ". Persisting a batch of unit operations in the calling thread.");
+        }
+        ConcurrentLinkedQueue<UnitOperationInitDTO> batch = drain(shutdown ? -1 : threshold - 1);
+        try {
+            batch.offer(operation);
+            asyncOperationStatusMgtDAO.registerAsyncStatusUnit(batch);
+        } catch (AsyncOperationStatusMgtException e) {
+            batch.remove(operation);
+            requeue(batch);
+            throw e;
         }
     }
 
@@ -79,27 +144,117 @@ public class AsyncOperationDataBuffer {
      *
      * @return The next operation, or null if the queue is empty.
      */
-    public synchronized UnitOperationInitDTO dequeue() {
+    public UnitOperationInitDTO dequeue() {
 
-        return queue.poll();
+        UnitOperationInitDTO operation = queue.poll();
+        if (operation != null) {
+            queueSize.decrementAndGet();
+        }
+        return operation;
     }
 
     /**
-     * Shuts down the scheduled task.
+     * Shuts down the scheduled task and persists the queued operations. Operations added after the buffer is shut
+     * down are persisted by the caller.
      */
     public void shutdown() {
 
+        shutdownLock.writeLock().lock();
+        try {
+            shutdown = true;
+        } finally {
+            shutdownLock.writeLock().unlock();
+        }
         scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("Timed out while waiting for the unit operation records to be flushed to the database.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        persistToDatabase(false);
     }
 
     /**
-     * Persist queued operations to the database in batch.
+     * Persist the queued operations to the database in batches.
+     *
+     * @param fullBatchesOnly Whether to persist only the batches which reach the threshold.
      */
-    private synchronized void persistToDatabase() throws AsyncOperationStatusMgtException {
+    private void persistToDatabase(boolean fullBatchesOnly) {
 
-        if (!queue.isEmpty()) {
-            asyncOperationStatusMgtDAO.registerAsyncStatusUnit(queue);
-            queue.clear();
+        while (fullBatchesOnly ? queueSize.get() >= threshold : !queue.isEmpty()) {
+            ConcurrentLinkedQueue<UnitOperationInitDTO> batch = drain(threshold);
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                asyncOperationStatusMgtDAO.registerAsyncStatusUnit(batch);
+                consecutiveFailures = 0;
+            } catch (AsyncOperationStatusMgtException | RuntimeException e) {
+                LOG.error("Error while flushing " + batch.size() + " unit operation records to the database.", e);
+                // Retried on the next flush, once the backoff elapses.
+                requeue(batch);
+                backOff();
+                return;
+            }
+        }
+    }
+
+    private void backOff() {
+
+        int failures = ++consecutiveFailures;
+        long maxDelayMillis = Math.max(TimeUnit.SECONDS.toMillis(flushIntervalSeconds), INITIAL_RETRY_DELAY_MILLIS);
+        long delayMillis = INITIAL_RETRY_DELAY_MILLIS << Math.min(failures - 1, 30);
+        retryAfterMillis = System.currentTimeMillis() + Math.min(delayMillis, maxDelayMillis);
+    }
+
+    private long getRetryDelayMillis() {
+
+        return consecutiveFailures == 0 ? 0 : Math.max(retryAfterMillis - System.currentTimeMillis(), 0);
+    }
+
+    /**
+     * Remove the queued operations from the queue.
+     *
+     * @param maxOperations Maximum number of operations to remove, or a negative value to remove all.
+     * @return Removed operations.
+     */
+    private ConcurrentLinkedQueue<UnitOperationInitDTO> drain(int maxOperations) {
+
+        ConcurrentLinkedQueue<UnitOperationInitDTO> batch = new ConcurrentLinkedQueue<>();
+        int count = 0;
+        UnitOperationInitDTO operation;
+        while ((maxOperations < 0 || count < maxOperations) && (operation = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            batch.offer(operation);
+            count++;
+        }
+        return batch;
+    }
+
+    private void requeue(ConcurrentLinkedQueue<UnitOperationInitDTO> batch) {
+
+        for (UnitOperationInitDTO operation : batch) {
+            queue.offer(operation);
+            queueSize.incrementAndGet();
+        }
+    }
+
+    private void scheduleFlush() {
+
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // After a failed flush, the flush waits for the backoff instead of retrying at once.
+            scheduler.schedule(() -> {
+                flushScheduled.set(false);
+                persistToDatabase(true);
+            }, getRetryDelayMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The buffer is shut down, and the queued operations are persisted by the shutdown.
+            flushScheduled.set(false);
         }
     }
 
@@ -109,16 +264,9 @@ public class AsyncOperationDataBuffer {
     private void startPeriodicFlushTask() {
 
         scheduler.scheduleAtFixedRate(() -> {
-            if (!queue.isEmpty()) {
-                try {
-                    persistToDatabase();
-                } catch (AsyncOperationStatusMgtException e) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.error("Error while flushing unit operation records to the database.", e);
-                    }
-                }
+            if (!queue.isEmpty() && getRetryDelayMillis() == 0) {
+                persistToDatabase(false);
             }
         }, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
     }
-
 }
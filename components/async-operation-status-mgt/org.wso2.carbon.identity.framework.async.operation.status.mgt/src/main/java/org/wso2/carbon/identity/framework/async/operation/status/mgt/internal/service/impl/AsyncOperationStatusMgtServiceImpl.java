@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -128,6 +128,14 @@ public class AsyncOperationStatusMgtServiceImpl implements AsyncOperationStatusM
         }
     }
 
+    /**
+     * Persist the buffered unit operation statuses and stop buffering them.
+     */
+    public void shutdown() {
+
+        operationDataBuffer.shutdown();
+    }
+
     @Override
     public List<OperationResponseDTO> getOperations(String tenantDomain, String after, String before, Integer limit,
                                                     String filter) throws AsyncOperationStatusMgtException {
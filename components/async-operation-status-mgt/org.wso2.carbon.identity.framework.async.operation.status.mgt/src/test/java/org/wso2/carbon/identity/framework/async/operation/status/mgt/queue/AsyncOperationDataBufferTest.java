@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -21,16 +21,25 @@ package org.wso2.carbon.identity.framework.async.operation.status.mgt.queue;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtException;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.AsyncOperationStatusMgtDAO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.queue.AsyncOperationDataBuffer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -93,6 +102,128 @@ public class AsyncOperationDataBufferTest {
         assertTrue(dataBuffer.isEmpty());
     }
 
+    @Test
+    void testAddToFullBufferPersistsInCallingThread() throws Exception {
+
+        AsyncOperationStatusMgtDAO dao = mock(AsyncOperationStatusMgtDAO.class);
+        Thread callingThread = Thread.currentThread();
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFlush = new CountDownLatch(1);
+        AtomicInteger callerPersistedCount = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (Thread.currentThread() == callingThread) {
+                callerPersistedCount.addAndGet(((Collection<?>) invocation.getArgument(0)).size());
+            } else {
+                // Hold the background flush so that the buffer fills up.
+                flushStarted.countDown();
+                releaseFlush.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(dao).registerAsyncStatusUnit(any());
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(dao, 2, 60, 4);
+        try {
+            buffer.add(new UnitOperationInitDTO());
+            buffer.add(new UnitOperationInitDTO());
+            assertTrue(flushStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 4; i++) {
+                buffer.add(new UnitOperationInitDTO());
+            }
+            assertEquals(0, callerPersistedCount.get());
+
+            buffer.add(new UnitOperationInitDTO());
+
+            assertEquals(2, callerPersistedCount.get());
+        } finally {
+            releaseFlush.countDown();
+            buffer.shutdown();
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void testShutdownPersistsQueuedOperations() throws Exception {
+
+        AsyncOperationStatusMgtDAO dao = mock(AsyncOperationStatusMgtDAO.class);
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(dao, 10, 60);
+        buffer.add(new UnitOperationInitDTO());
+        buffer.add(new UnitOperationInitDTO());
+        verify(dao, never()).registerAsyncStatusUnit(any());
+
+        buffer.shutdown();
+
+        verify(dao, times(1)).registerAsyncStatusUnit(any());
+        assertTrue(buffer.isEmpty());
+
+        buffer.add(new UnitOperationInitDTO());
+        verify(dao, times(2)).registerAsyncStatusUnit(any());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void testFailedFlushIsBackedOff() throws Exception {
+
+        AsyncOperationStatusMgtDAO dao = mock(AsyncOperationStatusMgtDAO.class);
+        doThrow(new AsyncOperationStatusMgtException("Database is unavailable.")).when(dao)
+                .registerAsyncStatusUnit(any());
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(dao, 1, 60);
+        try {
+            buffer.add(new UnitOperationInitDTO());
+            TimeUnit.MILLISECONDS.sleep(200);
+            verify(dao, times(1)).registerAsyncStatusUnit(any());
+
+            for (int i = 0; i < 10; i++) {
+                buffer.add(new UnitOperationInitDTO());
+            }
+            TimeUnit.MILLISECONDS.sleep(200);
+            verify(dao, times(1)).registerAsyncStatusUnit(any());
+
+            TimeUnit.MILLISECONDS.sleep(1200);
+            verify(dao, times(2)).registerAsyncStatusUnit(any());
+            assertFalse(buffer.isEmpty());
+        } finally {
+            buffer.shutdown();
+        }
+    }
+
+    @Test
+    void testShutdownPersistsOperationsAddedConcurrently() throws Exception {
+
+        AsyncOperationStatusMgtDAO dao = mock(AsyncOperationStatusMgtDAO.class);
+        AtomicInteger persistedCount = new AtomicInteger();
+        doAnswer(invocation -> {
+            persistedCount.addAndGet(((Collection<?>) invocation.getArgument(0)).size());
+            return null;
+        }).when(dao).registerAsyncStatusUnit(any());
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(dao, 1000, 60);
+        int producerCount = 4;
+        int operationsPerProducer = 5000;
+        CountDownLatch producersStarted = new CountDownLatch(producerCount);
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < producerCount; i++) {
+            Thread producer = new Thread(() -> {
+                producersStarted.countDown();
+                for (int j = 0; j < operationsPerProducer; j++) {
+                    try {
+                        buffer.add(new UnitOperationInitDTO());
+                    } catch (AsyncOperationStatusMgtException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        assertTrue(producersStarted.await(5, TimeUnit.SECONDS));
+
+        buffer.shutdown();
+        for (Thread producer : producers) {
+            producer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        assertEquals(producerCount * operationsPerProducer, persistedCount.get());
+        assertTrue(buffer.isEmpty());
+    }
+
     private void emptyBuffer() {
 
         while (!dataBuffer.isEmpty()) {
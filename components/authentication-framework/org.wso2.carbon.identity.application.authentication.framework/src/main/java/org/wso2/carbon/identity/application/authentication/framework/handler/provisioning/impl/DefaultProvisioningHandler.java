@@ -71,6 +71,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.ALLOW_ASSOCIATING_TO_EXISTING_USER;
@@ -97,6 +98,7 @@ public class DefaultProvisioningHandler implements ProvisioningHandler {
     private static volatile DefaultProvisioningHandler instance;
     private static final String LOCAL_DEFAULT_CLAIM_DIALECT = "http://wso2.org/claims";
     private static Boolean allowAssociationToExistingUser;
+    private final ProvisioningSyncFingerprintStore syncFingerprintStore = new ProvisioningSyncFingerprintStore();
 
     public static DefaultProvisioningHandler getInstance() {
         if (instance == null) {
@@ -159,9 +161,15 @@ public class DefaultProvisioningHandler implements ProvisioningHandler {
                 log.debug("User: " + username + " with roles : " + roles + " is going to be provisioned");
             }
 
-            handleUserProvisioning(username, userStoreManager, userStoreDomain, attributes, tenantDomain);
-            handleV1Roles(username, userStoreManager, realm, roles, idpToLocalRoleMapping);
-            PermissionUpdateUtil.updatePermissionTree(tenantId);
+            String syncKey = getSyncKey(tenantDomain, attributes);
+            String syncFingerprint = getSyncFingerprint(syncKey, username, userStoreDomain, attributes, roles,
+                    "V1", String.valueOf(idpToLocalRoleMapping));
+            if (!handleUserProvisioning(username, userStoreManager, userStoreDomain, attributes, tenantDomain,
+                    syncKey, syncFingerprint)) {
+                handleV1Roles(username, userStoreManager, realm, roles, idpToLocalRoleMapping);
+                PermissionUpdateUtil.updatePermissionTree(tenantId);
+                recordSyncFingerprint(syncKey, syncFingerprint);
+            }
 
         } catch (org.wso2.carbon.user.api.UserStoreException | FederatedAssociationManagerException e) {
             throw new FrameworkException("Error while provisioning user : " + subject, e);
@@ -208,8 +216,14 @@ public class DefaultProvisioningHandler implements ProvisioningHandler {
                 log.debug("User: " + username + " with roles : " + roleIdList + " is going to be provisioned");
             }
 
-            handleUserProvisioning(username, userStoreManager, userStoreDomain, attributes, tenantDomain);
-            handleV2Roles(username, userStoreManager, realm, roleIdList, tenantDomain);
+            String syncKey = getSyncKey(tenantDomain, attributes);
+            String syncFingerprint = getSyncFingerprint(syncKey, username, userStoreDomain, attributes, roleIdList,
+                    "V2", getIdpGroupSyncMethod());
+            if (!handleUserProvisioning(username, userStoreManager, userStoreDomain, attributes, tenantDomain,
+                    syncKey, syncFingerprint)) {
+                handleV2Roles(username, userStoreManager, realm, roleIdList, tenantDomain);
+                recordSyncFingerprint(syncKey, syncFingerprint);
+            }
 
         } catch (org.wso2.carbon.user.api.UserStoreException | FederatedAssociationManagerException e) {
             handleProvisioningException(e, subject);
@@ -220,8 +234,21 @@ public class DefaultProvisioningHandler implements ProvisioningHandler {
         }
     }
 
-    private void handleUserProvisioning(String username, UserStoreManager userStoreManager, String userStoreDomain,
-                                        Map<String, String> attributes, String tenantDomain)
+    /**
+     * Provision the user, or sync the attributes of the already provisioned user.
+     *
+     * @param username         Username.
+     * @param userStoreManager User store manager of the user store domain.
+     * @param userStoreDomain  User store domain.
+     * @param attributes       Attributes of the federated identity.
+     * @param tenantDomain     Tenant domain.
+     * @param syncKey          Key of the federated identity in the sync fingerprint store.
+     * @param syncFingerprint  Fingerprint of the provisioning input, or null if unchanged syncs must not be skipped.
+     * @return True if the sync of the already provisioned user is skipped since its input has not changed.
+     */
+    private boolean handleUserProvisioning(String username, UserStoreManager userStoreManager, String userStoreDomain,
+                                           Map<String, String> attributes, String tenantDomain, String syncKey,
+                                           String syncFingerprint)
             throws UserStoreException, FederatedAssociationManagerException, FrameworkException {
 
         String attributeSyncMethod = IdentityUtil.threadLocalProperties.get()
@@ -252,6 +279,13 @@ public class DefaultProvisioningHandler implements ProvisioningHandler {
                 user claim update scenario.
                  */
             IdentityUtil.threadLocalProperties.get().put(FrameworkConstants.JIT_PROVISIONING_FLOW, true);
+            if (syncFingerprint != null && syncFingerprintStore.isUnchanged(syncKey, syncFingerprint)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Attributes and roles of the user: " + LoggerUtils.getMaskedContent(username) +
+                            " have not changed since the last sync. Hence skipping the sync.");
+                }
+                return true;
+            }
             if (!userClaims.isEmpty() && !FrameworkConstants.SYNC_NONE.equals(attributeSyncMethod)) {
                     /*
                     In the syncing process of existing claim mappings with IDP claim mappings for JIT provisioned user,
@@ -296,24 +330,31 @@ public class DefaultProvisioningHandler implements ProvisioningHandler {
                     userStoreManager.setUserClaimValues(UserCoreUtil.removeDomainFromName(username), userClaims, null);
                 }
                     /*
-                    Since the user is exist following code is get all active claims of user and crosschecking against
+                    Since the user is exist following code is crosschecking the active claims of user against
                     tobeDeleted claims (claims came from federated idp as null). If there is a match those claims
-                    will be deleted.
+                    will be deleted at once. The claims read before the update are used, since the update does not
+                    add any of the tobeDeleted claims.
                     */
                 if (CollectionUtils.isNotEmpty(toBeDeletedUserClaims)) {
-                    Claim[] userActiveClaims =
+                    Claim[] userActiveClaims = existingUserClaimList != null ? existingUserClaimList :
                             userStoreManager.getUserClaimValues(UserCoreUtil.removeDomainFromName(username), null);
-                    for (Claim claim : userActiveClaims) {
-                        if (toBeDeletedUserClaims.contains(claim.getClaimUri())) {
-                            if (log.isDebugEnabled()) {
-                                log.debug("Claim from external attributes " + claim.getClaimUri() +
-                                        " has null value But user has not null claim value for Claim " +
-                                        claim.getClaimUri() + ". Hence user claim value will be deleted.");
+                    List<String> claimsToDelete = new ArrayList<>();
+                    if (userActiveClaims != null) {
+                        for (Claim claim : userActiveClaims) {
+                            if (toBeDeletedUserClaims.contains(claim.getClaimUri())) {
+                                if (log.isDebugEnabled()) {
+                                    log.debug("Claim from external attributes " + claim.getClaimUri() +
+                                            " has null value But user has not null claim value for Claim " +
+                                            claim.getClaimUri() + ". Hence user claim value will be deleted.");
+                                }
+                                claimsToDelete.add(claim.getClaimUri());
                             }
-                            userStoreManager.deleteUserClaimValue(UserCoreUtil.removeDomainFromName(username),
-                                    claim.getClaimUri(), null);
                         }
                     }
+                    if (!claimsToDelete.isEmpty()) {
+                        userStoreManager.deleteUserClaimValues(UserCoreUtil.removeDomainFromName(username),
+                                claimsToDelete.toArray(new String[0]), null);
+                    }
                 }
             }
         } else {
@@ -376,7 +417,7 @@ public class DefaultProvisioningHandler implements ProvisioningHandler {
                             "complete while JIT provisioning due to user operation workflow engagement. Therefore" +
                             " the user account association and role and permission update are skipped.");
                 }
-                return;
+                return false;
             }
 
             // Associate user only if the user is existing in the userstore.
@@ -386,6 +427,7 @@ public class DefaultProvisioningHandler implements ProvisioningHandler {
                 log.debug("Federated user: " + username + " is provisioned by authentication framework.");
             }
         }
+        return false;
     }
 
     protected char[] resolvePassword(Map<String, String> userClaims) {
@@ -557,6 +599,60 @@ public class DefaultProvisioningHandler implements ProvisioningHandler {
         }
     }
 
+    /**
+     * Get the key of the federated identity in the sync fingerprint store.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param attributes   Attributes of the federated identity.
+     * @return Key, or null if the federated identity is not known.
+     */
+    private String getSyncKey(String tenantDomain, Map<String, String> attributes) {
+
+        return ProvisioningSyncFingerprintStore.buildKey(tenantDomain, attributes.get(FrameworkConstants.IDP_ID),
+                attributes.get(FrameworkConstants.ASSOCIATED_ID));
+    }
+
+    /**
+     * Compute the fingerprint of the provisioning input, so that a sync of an already provisioned user can be skipped
+     * if the input has not changed since the last sync.
+     *
+     * @param syncKey         Key of the federated identity in the sync fingerprint store.
+     * @param username        Username.
+     * @param userStoreDomain User store domain.
+     * @param attributes      Attributes of the federated identity.
+     * @param roles           Roles of the federated identity.
+     * @param options         Options which affect how the roles are provisioned.
+     * @return Fingerprint, or null if unchanged syncs must not be skipped.
+     */
+    private String getSyncFingerprint(String syncKey, String username, String userStoreDomain,
+                                      Map<String, String> attributes, List<String> roles, String... options) {
+
+        if (syncKey == null || getUnchangedSyncSkipTimeout() <= 0) {
+            return null;
+        }
+        Map<String, String> fingerprintAttributes = new HashMap<>(attributes);
+        fingerprintAttributes.remove(FrameworkConstants.PASSWORD);
+        String[] fingerprintOptions = Arrays.copyOf(options, options.length + 1);
+        fingerprintOptions[options.length] = String.valueOf(IdentityUtil.threadLocalProperties.get()
+                .get(FrameworkConstants.ATTRIBUTE_SYNC_METHOD));
+        return ProvisioningSyncFingerprintStore.computeFingerprint(username, userStoreDomain, fingerprintAttributes,
+                roles, fingerprintOptions);
+    }
+
+    private void recordSyncFingerprint(String syncKey, String syncFingerprint) {
+
+        if (syncFingerprint != null) {
+            syncFingerprintStore.put(syncKey, syncFingerprint,
+                    TimeUnit.SECONDS.toMillis(getUnchangedSyncSkipTimeout()));
+        }
+    }
+
+    private int getUnchangedSyncSkipTimeout() {
+
+        return IdentityUtil.getIntProperty(FrameworkConstants.JIT_UNCHANGED_SYNC_SKIP_TIMEOUT,
+                FrameworkConstants.DEFAULT_JIT_UNCHANGED_SYNC_SKIP_TIMEOUT);
+    }
+
     /**
      * Get IDP group sync method from thread local.
      *
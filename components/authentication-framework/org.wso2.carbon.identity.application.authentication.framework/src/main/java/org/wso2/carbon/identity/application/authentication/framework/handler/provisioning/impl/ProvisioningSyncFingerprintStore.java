@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.handler.provisioning.impl;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Bounded in-memory store of the fingerprints of the attributes and roles last provisioned for federated identities.
+ * <p>
+ * A fingerprint is a digest of the provisioning input of a federated identity, so that a returning user whose
+ * attributes and roles have not changed at the identity provider can be recognized without reading the user store.
+ * A fingerprint is valid until its expiry time, so that local changes to the user are overridden by the identity
+ * provider at least once per validity period. Once the store holds the maximum number of fingerprints, the least
+ * recently used fingerprint is evicted.
+ */
+public class ProvisioningSyncFingerprintStore {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10000;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String KEY_SEPARATOR = "\n";
+
+    private final Map<String, FingerprintEntry> fingerprints;
+
+    public ProvisioningSyncFingerprintStore() {
+
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public ProvisioningSyncFingerprintStore(int maxEntries) {
+
+        this.fingerprints = new LinkedHashMap<String, FingerprintEntry>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FingerprintEntry> eldest) {
+
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Build the key of a federated identity.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param idp          Identity provider of the federated identity.
+     * @param subject      Subject of the federated identity at the identity provider.
+     * @return Key, or null if the identity provider or the subject is not known.
+     */
+    public static String buildKey(String tenantDomain, String idp, String subject) {
+
+        if (StringUtils.isBlank(idp) || StringUtils.isBlank(subject)) {
+            return null;
+        }
+        return tenantDomain + KEY_SEPARATOR + idp + KEY_SEPARATOR + subject;
+    }
+
+    /**
+     * Compute the fingerprint of a provisioning input. The order of the attributes and the roles does not affect the
+     * fingerprint.
+     *
+     * @param username        Username of the provisioned user.
+     * @param userStoreDomain User store domain of the provisioned user.
+     * @param attributes      Attributes of the federated identity.
+     * @param roles           Roles of the federated identity.
+     * @param options         Options which affect how the input is provisioned, such as the sync methods.
+     * @return Fingerprint.
+     */
+    public static String computeFingerprint(String username, String userStoreDomain, Map<String, String> attributes,
+                                            Collection<String> roles, String... options) {
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Digest algorithm: " + DIGEST_ALGORITHM + " is not available.", e);
+        }
+        update(digest, username);
+        update(digest, userStoreDomain);
+        Map<String, String> sortedAttributes = new TreeMap<>();
+        if (attributes != null) {
+            attributes.forEach((name, value) -> {
+                if (name != null) {
+                    sortedAttributes.put(name, value);
+                }
+            });
+        }
+        updateLength(digest, sortedAttributes.size());
+        for (Map.Entry<String, String> attribute : sortedAttributes.entrySet()) {
+            update(digest, attribute.getKey());
+            update(digest, attribute.getValue());
+        }
+        List<String> sortedRoles = roles != null ? new ArrayList<>(roles) : new ArrayList<>();
+        sortedRoles.removeIf(role -> role == null);
+        Collections.sort(sortedRoles);
+        updateLength(digest, sortedRoles.size());
+        for (String role : sortedRoles) {
+            update(digest, role);
+        }
+        for (String option : options) {
+            update(digest, option);
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    /**
+     * Check whether the fingerprint of the federated identity is the same as the last provisioned one, and has not
+     * expired.
+     *
+     * @param key         Key of the federated identity.
+     * @param fingerprint Fingerprint of the provisioning input.
+     * @return True if the provisioning input has not changed, false otherwise.
+     */
+    public synchronized boolean isUnchanged(String key, String fingerprint) {
+
+        FingerprintEntry entry = fingerprints.get(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.expiryTime <= System.currentTimeMillis()) {
+            fingerprints.remove(key);
+            return false;
+        }
+        return entry.fingerprint.equals(fingerprint);
+    }
+
+    /**
+     * Record the fingerprint of the provisioning input of the federated identity.
+     *
+     * @param key         Key of the federated identity.
+     * @param fingerprint Fingerprint of the provisioning input.
+     * @param validity    Validity period of the fingerprint in milliseconds.
+     */
+    public synchronized void put(String key, String fingerprint, long validity) {
+
+        fingerprints.put(key, new FingerprintEntry(fingerprint, System.currentTimeMillis() + validity));
+    }
+
+    /**
+     * Remove the fingerprint of the federated identity.
+     *
+     * @param key Key of the federated identity.
+     */
+    public synchronized void remove(String key) {
+
+        fingerprints.remove(key);
+    }
+
+    public synchronized int size() {
+
+        return fingerprints.size();
+    }
+
+    public synchronized void clear() {
+
+        fingerprints.clear();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+
+        if (value == null) {
+            // Distinguishes a null value from an empty value.
+            digest.update((byte) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        updateLength(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void updateLength(MessageDigest digest, int length) {
+
+        digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8),
+                (byte) length});
+    }
+
+    /**
+     * Fingerprint of a federated identity.
+     */
+    private static final class FingerprintEntry {
+
+        private final String fingerprint;
+        private final long expiryTime;
+
+        private FingerprintEntry(String fingerprint, long expiryTime) {
+
+            this.fingerprint = fingerprint;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
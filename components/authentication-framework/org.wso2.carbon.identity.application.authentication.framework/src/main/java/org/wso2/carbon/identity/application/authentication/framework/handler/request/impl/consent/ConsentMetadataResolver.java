@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.handler.request.impl.consent;
+
+import org.wso2.carbon.consent.mgt.core.ConsentManager;
+import org.wso2.carbon.consent.mgt.core.exception.ConsentManagementClientException;
+import org.wso2.carbon.consent.mgt.core.exception.ConsentManagementException;
+import org.wso2.carbon.consent.mgt.core.model.PIICategory;
+import org.wso2.carbon.consent.mgt.core.model.Purpose;
+import org.wso2.carbon.consent.mgt.core.model.PurposeCategory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.authentication.framework.handler.request.impl.consent.exception.SSOConsentServiceException;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.consent.mgt.core.constant.ConsentConstants.ErrorMessages.ERROR_CODE_PII_CAT_NAME_INVALID;
+import static org.wso2.carbon.consent.mgt.core.constant.ConsentConstants.ErrorMessages.ERROR_CODE_PURPOSE_CAT_NAME_INVALID;
+import static org.wso2.carbon.consent.mgt.core.constant.ConsentConstants.ErrorMessages.ERROR_CODE_PURPOSE_NAME_INVALID;
+
+/**
+ * Resolves the consent metadata used to build the SSO consent receipts.
+ * <p>
+ * The default purpose, the default purpose category and the PII categories of the claims are cached per tenant. The
+ * PII categories of the claims which are not cached yet are resolved together from pages of the PII category list,
+ * reading no more pages than the number of lookups by name it replaces. Claims which are not found in the pages read
+ * are retrieved by name, or added right away when the whole list was read. Cached metadata expires after a timeout,
+ * and can be cleared, such as when the consent store rejects a receipt built from it.
+ */
+class ConsentMetadataResolver {
+
+    private static final String DEFAULT_PURPOSE = "DEFAULT";
+    private static final String DEFAULT_PURPOSE_CATEGORY = "DEFAULT";
+    private static final String DEFAULT_PURPOSE_GROUP = "DEFAULT";
+    private static final String DEFAULT_PURPOSE_GROUP_TYPE = "SP";
+    private static final long METADATA_CACHE_TIMEOUT = TimeUnit.MINUTES.toMillis(15);
+    private static final int MAX_CACHED_TENANTS = 1000;
+    private static final int PII_CATEGORY_PAGE_SIZE = 100;
+    private static final int MAX_PII_CATEGORY_PAGES = 10;
+
+    private final Map<String, TenantConsentMetadata> tenantMetadata = new ConcurrentHashMap<>();
+
+    /**
+     * Get the default purpose category, adding it if it does not exist.
+     *
+     * @return Default purpose category.
+     * @throws SSOConsentServiceException If error occurs while retrieving or adding the purpose category.
+     */
+    PurposeCategory getDefaultPurposeCategory() throws SSOConsentServiceException {
+
+        TenantConsentMetadata metadata = getTenantMetadata();
+        if (metadata != null && metadata.defaultPurposeCategory != null) {
+            return metadata.defaultPurposeCategory;
+        }
+        PurposeCategory purposeCategory;
+        try {
+            purposeCategory = getConsentManager().getPurposeCategoryByName(DEFAULT_PURPOSE_CATEGORY);
+        } catch (ConsentManagementClientException e) {
+
+            if (isInvalidPurposeCategoryError(e)) {
+                purposeCategory = addDefaultPurposeCategory();
+            } else {
+                throw new SSOConsentServiceException("Consent purpose category error", "Error while retrieving" +
+                        " purpose category: " + DEFAULT_PURPOSE_CATEGORY, e);
+            }
+        } catch (ConsentManagementException e) {
+            throw new SSOConsentServiceException("Consent purpose category error", "Error while retrieving " +
+                    "purpose category: " + DEFAULT_PURPOSE_CATEGORY, e);
+        }
+        if (metadata != null) {
+            metadata.defaultPurposeCategory = purposeCategory;
+        }
+        return purposeCategory;
+    }
+
+    /**
+     * Get the default purpose, adding it if it does not exist.
+     *
+     * @return Default purpose.
+     * @throws SSOConsentServiceException If error occurs while retrieving or adding the purpose.
+     */
+    Purpose getDefaultPurpose() throws SSOConsentServiceException {
+
+        TenantConsentMetadata metadata = getTenantMetadata();
+        if (metadata != null && metadata.defaultPurpose != null) {
+            return metadata.defaultPurpose;
+        }
+        Purpose purpose;
+        try {
+            purpose = getConsentManager().getPurposeByName(DEFAULT_PURPOSE, DEFAULT_PURPOSE_GROUP,
+                                                           DEFAULT_PURPOSE_GROUP_TYPE);
+        } catch (ConsentManagementClientException e) {
+
+            if (isInvalidPurposeError(e)) {
+                purpose = addDefaultPurpose();
+            } else {
+                throw new SSOConsentServiceException("Consent purpose error", "Error while retrieving purpose: " +
+                        DEFAULT_PURPOSE, e);
+            }
+        } catch (ConsentManagementException e) {
+            throw new SSOConsentServiceException("Consent purpose error", "Error while retrieving purpose: " +
+                    DEFAULT_PURPOSE, e);
+        }
+        if (metadata != null) {
+            metadata.defaultPurpose = purpose;
+        }
+        return purpose;
+    }
+
+    /**
+     * Get the PII categories of the claims, adding the PII categories which do not exist.
+     *
+     * @param claims Claims.
+     * @return PII categories mapped by claim URI.
+     * @throws SSOConsentServiceException If error occurs while retrieving or adding the PII categories.
+     */
+    Map<String, PIICategory> getPIICategories(Collection<ClaimMetaData> claims) throws SSOConsentServiceException {
+
+        Map<String, PIICategory> piiCategories = new HashMap<>();
+        Map<String, ClaimMetaData> uncachedClaims = new LinkedHashMap<>();
+        TenantConsentMetadata metadata = getTenantMetadata();
+        for (ClaimMetaData claim : claims) {
+            if (claim == null || claim.getClaimUri() == null || piiCategories.containsKey(claim.getClaimUri())) {
+                continue;
+            }
+            PIICategory piiCategory = null;
+            if (metadata != null) {
+                piiCategory = metadata.piiCategories.get(claim.getClaimUri());
+            }
+            if (piiCategory != null) {
+                piiCategories.put(claim.getClaimUri(), piiCategory);
+            } else {
+                uncachedClaims.putIfAbsent(claim.getClaimUri(), claim);
+            }
+        }
+        if (uncachedClaims.isEmpty()) {
+            return piiCategories;
+        }
+
+        boolean listedAll = false;
+        if (uncachedClaims.size() > 1) {
+            listedAll = listPIICategories(uncachedClaims, piiCategories);
+        }
+        for (ClaimMetaData claim : uncachedClaims.values()) {
+            PIICategory piiCategory = piiCategories.get(claim.getClaimUri());
+            if (piiCategory == null) {
+                piiCategory = listedAll ? addPIICategoryForClaim(claim) : getPIICategory(claim);
+                piiCategories.put(claim.getClaimUri(), piiCategory);
+            }
+            if (metadata != null) {
+                metadata.piiCategories.put(claim.getClaimUri(), piiCategory);
+            }
+        }
+        return piiCategories;
+    }
+
+    /**
+     * Remove the cached consent metadata of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    void clearTenantMetadata(String tenantDomain) {
+
+        if (tenantDomain != null) {
+            tenantMetadata.remove(tenantDomain);
+        }
+    }
+
+    /**
+     * Get the cached consent metadata of the tenant in the carbon context, since the consent store resolves the
+     * metadata for that tenant.
+     *
+     * @return Consent metadata of the tenant, or null if the tenant is not known.
+     */
+    private TenantConsentMetadata getTenantMetadata() {
+
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        if (tenantDomain == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        TenantConsentMetadata metadata = tenantMetadata.get(tenantDomain);
+        if (metadata != null && metadata.expiryTime > now) {
+            return metadata;
+        }
+        if (tenantMetadata.size() >= MAX_CACHED_TENANTS) {
+            tenantMetadata.clear();
+        }
+        TenantConsentMetadata newMetadata = new TenantConsentMetadata(now + METADATA_CACHE_TIMEOUT);
+        tenantMetadata.put(tenantDomain, newMetadata);
+        return newMetadata;
+    }
+
+    /**
+     * Find the PII categories of the claims from the pages of the PII category list, until all of them are found.
+     *
+     * @param claims        Claims mapped by claim URI.
+     * @param piiCategories PII categories mapped by claim URI, to which the found PII categories are added.
+     * @return True if the whole PII category list was read, so that the claims which are not found do not have a PII
+     * category yet.
+     * @throws SSOConsentServiceException If error occurs while listing the PII categories.
+     */
+    private boolean listPIICategories(Map<String, ClaimMetaData> claims, Map<String, PIICategory> piiCategories)
+            throws SSOConsentServiceException {
+
+        // Never reads more pages than the number of lookups by name which the list replaces.
+        int maxPages = Math.min(claims.size() - 1, MAX_PII_CATEGORY_PAGES);
+        int remaining = claims.size();
+        int offset = 0;
+        try {
+            for (int pageCount = 0; pageCount < maxPages && remaining > 0; pageCount++) {
+                List<PIICategory> page = getConsentManager().listPIICategories(PII_CATEGORY_PAGE_SIZE, offset);
+                if (page == null) {
+                    return true;
+                }
+                for (PIICategory piiCategory : page) {
+                    if (claims.containsKey(piiCategory.getName())
+                            && piiCategories.put(piiCategory.getName(), piiCategory) == null) {
+                        remaining--;
+                    }
+                }
+                if (page.size() < PII_CATEGORY_PAGE_SIZE) {
+                    return true;
+                }
+                offset += page.size();
+            }
+        } catch (ConsentManagementException e) {
+            throw new SSOConsentServiceException("Consent PII category error", "Error while listing PII " +
+                    "categories.", e);
+        }
+        return false;
+    }
+
+    private PIICategory getPIICategory(ClaimMetaData claim) throws SSOConsentServiceException {
+
+        try {
+            return getConsentManager().getPIICategoryByName(claim.getClaimUri());
+        } catch (ConsentManagementClientException e) {
+
+            if (isInvalidPIICategoryError(e)) {
+                return addPIICategoryForClaim(claim);
+            } else {
+                throw new SSOConsentServiceException("Consent PII category error", "Error while retrieving" +
+                        " PII category: " + DEFAULT_PURPOSE_CATEGORY, e);
+            }
+        } catch (ConsentManagementException e) {
+            throw new SSOConsentServiceException("Consent PII category error", "Error while retrieving " +
+                    "PII category: " + DEFAULT_PURPOSE_CATEGORY, e);
+        }
+    }
+
+    private PIICategory addPIICategoryForClaim(ClaimMetaData claim) throws SSOConsentServiceException {
+
+        PIICategory piiCategory;
+        PIICategory piiCategoryInput = new PIICategory(claim.getClaimUri(), claim.getDescription(), false, claim
+                .getDisplayName());
+        try {
+            piiCategory = getConsentManager().addPIICategory(piiCategoryInput);
+        } catch (ConsentManagementException e) {
+            throw new SSOConsentServiceException("Consent PII category error", "Error while adding" +
+                    " PII category:" + DEFAULT_PURPOSE_CATEGORY, e);
+        }
+        return piiCategory;
+    }
+
+    private boolean isInvalidPIICategoryError(ConsentManagementClientException e) {
+
+        return ERROR_CODE_PII_CAT_NAME_INVALID.getCode().equals(e.getErrorCode());
+    }
+
+    private PurposeCategory addDefaultPurposeCategory() throws SSOConsentServiceException {
+
+        PurposeCategory purposeCategory;
+        PurposeCategory defaultPurposeCategory = new PurposeCategory(DEFAULT_PURPOSE_CATEGORY,
+                "For core functionalities of the product");
+        try {
+            purposeCategory = getConsentManager().addPurposeCategory(defaultPurposeCategory);
+        } catch (ConsentManagementException e) {
+            throw new SSOConsentServiceException("Consent purpose category error", "Error while adding" +
+                    " purpose category: " + DEFAULT_PURPOSE_CATEGORY, e);
+        }
+        return purposeCategory;
+    }
+
+    private boolean isInvalidPurposeCategoryError(ConsentManagementClientException e) {
+
+        return ERROR_CODE_PURPOSE_CAT_NAME_INVALID.getCode().equals(e.getErrorCode());
+    }
+
+    private Purpose addDefaultPurpose() throws SSOConsentServiceException {
+
+        Purpose purpose;
+        Purpose defaultPurpose = new Purpose(DEFAULT_PURPOSE, "For core functionalities of the product",
+                                             DEFAULT_PURPOSE_GROUP, DEFAULT_PURPOSE_GROUP_TYPE);
+        try {
+            purpose = getConsentManager().addPurpose(defaultPurpose);
+        } catch (ConsentManagementException e) {
+            throw new SSOConsentServiceException("Consent purpose error",
+                    "Error while adding purpose: " + DEFAULT_PURPOSE, e);
+        }
+        return purpose;
+    }
+
+    private boolean isInvalidPurposeError(ConsentManagementClientException e) {
+
+        return ERROR_CODE_PURPOSE_NAME_INVALID.getCode().equals(e.getErrorCode());
+    }
+
+    private ConsentManager getConsentManager() {
+
+        return FrameworkServiceDataHolder.getInstance().getConsentManager();
+    }
+
+    /**
+     * Consent metadata cached for a tenant.
+     */
+    private static final class TenantConsentMetadata {
+
+        private final long expiryTime;
+        private final Map<String, PIICategory> piiCategories = new ConcurrentHashMap<>();
+        private volatile Purpose defaultPurpose;
+        private volatile PurposeCategory defaultPurposeCategory;
+
+        private TenantConsentMetadata(long expiryTime) {
+
+            this.expiryTime = expiryTime;
+        }
+    }
+}
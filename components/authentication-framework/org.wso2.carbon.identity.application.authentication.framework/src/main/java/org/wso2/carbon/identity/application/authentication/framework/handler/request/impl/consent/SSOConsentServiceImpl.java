@@ -24,7 +24,6 @@ import org.apache.commons.logging.LogFactory;
 import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.claim.mgt.ClaimManagementException;
 import org.wso2.carbon.consent.mgt.core.ConsentManager;
-import org.wso2.carbon.consent.mgt.core.exception.ConsentManagementClientException;
 import org.wso2.carbon.consent.mgt.core.exception.ConsentManagementException;
 import org.wso2.carbon.consent.mgt.core.model.AddReceiptResponse;
 import org.wso2.carbon.consent.mgt.core.model.ConsentPurpose;
@@ -86,9 +85,6 @@ import static org.apache.commons.lang.StringUtils.isBlank;
 import static org.apache.commons.lang.StringUtils.isEmpty;
 import static org.apache.commons.lang.StringUtils.isNotBlank;
 import static org.wso2.carbon.consent.mgt.core.constant.ConsentConstants.ACTIVE_STATE;
-import static org.wso2.carbon.consent.mgt.core.constant.ConsentConstants.ErrorMessages.ERROR_CODE_PII_CAT_NAME_INVALID;
-import static org.wso2.carbon.consent.mgt.core.constant.ConsentConstants.ErrorMessages.ERROR_CODE_PURPOSE_CAT_NAME_INVALID;
-import static org.wso2.carbon.consent.mgt.core.constant.ConsentConstants.ErrorMessages.ERROR_CODE_PURPOSE_NAME_INVALID;
 import static org.wso2.carbon.identity.application.authentication.framework.handler.request.impl.consent.constant.SSOConsentConstants.CONFIG_ELEM_CONSENT;
 import static org.wso2.carbon.identity.application.authentication.framework.handler.request.impl.consent.constant.SSOConsentConstants.CONFIG_ELEM_ENABLE_SSO_CONSENT_MANAGEMENT;
 import static org.wso2.carbon.identity.application.authentication.framework.handler.request.impl.consent.constant.SSOConsentConstants.CONFIG_PROMPT_SUBJECT_CLAIM_REQUESTED_CONSENT;
@@ -121,10 +117,7 @@ import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.IDENTITY_
 public class SSOConsentServiceImpl implements SSOConsentService {
 
     private static final Log log = LogFactory.getLog(SSOConsentServiceImpl.class);
-    private static final String DEFAULT_PURPOSE = "DEFAULT";
-    private static final String DEFAULT_PURPOSE_CATEGORY = "DEFAULT";
-    private static final String DEFAULT_PURPOSE_GROUP = "DEFAULT";
-    private static final String DEFAULT_PURPOSE_GROUP_TYPE = "SP";
+    private final ConsentMetadataResolver consentMetadataResolver = new ConsentMetadataResolver();
     private boolean ssoConsentEnabled = true;
 
     public SSOConsentServiceImpl() {
@@ -589,23 +582,47 @@ public class SSOConsentServiceImpl implements SSOConsentService {
                             String spTenantDomain, List<ClaimMetaData> claimsWithConsent,
                             List<ClaimMetaData> claimsDeniedConsent) throws SSOConsentServiceException {
 
+        // Tenant domain which the consent metadata of the receipt is resolved for.
+        String metadataTenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
         ReceiptInput receiptInput =
                 buildReceiptInput(subject, serviceProvider, spTenantDomain, claimsWithConsent, claimsDeniedConsent);
         AddReceiptResponse receiptResponse;
         try {
-            startTenantFlowWithUser(subject, subjectTenantDomain);
-            receiptResponse = getConsentManager().addConsent(receiptInput);
+            receiptResponse = addConsent(subject, subjectTenantDomain, receiptInput);
         } catch (ConsentManagementException e) {
-            throw new SSOConsentServiceException("Consent receipt error", "Error while adding the consent " +
-                    "receipt", e);
-        } finally {
-            PrivilegedCarbonContext.endTenantFlow();
+            // The receipt may refer to cached consent metadata which was removed, such as from another node. Hence
+            // resolving the metadata again and retrying once.
+            consentMetadataResolver.clearTenantMetadata(metadataTenantDomain);
+            if (isDebugEnabled()) {
+                logDebug("Error while adding the consent receipt. Retrying with the consent metadata resolved " +
+                        "again. " + e.getMessage());
+            }
+            receiptInput = buildReceiptInput(subject, serviceProvider, spTenantDomain, claimsWithConsent,
+                    claimsDeniedConsent);
+            try {
+                receiptResponse = addConsent(subject, subjectTenantDomain, receiptInput);
+            } catch (ConsentManagementException retryException) {
+                consentMetadataResolver.clearTenantMetadata(metadataTenantDomain);
+                throw new SSOConsentServiceException("Consent receipt error", "Error while adding the consent " +
+                        "receipt", retryException);
+            }
         }
         if (isDebugEnabled()) {
             logDebug("Successfully added consent receipt: " + receiptResponse.getConsentReceiptId());
         }
     }
 
+    private AddReceiptResponse addConsent(String subject, String subjectTenantDomain, ReceiptInput receiptInput)
+            throws ConsentManagementException {
+
+        try {
+            startTenantFlowWithUser(subject, subjectTenantDomain);
+            return getConsentManager().addConsent(receiptInput);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
     private ReceiptInput buildReceiptInput(String subject, ServiceProvider serviceProvider, String spTenantDomain,
                                            List<ClaimMetaData> claimsWithConsent,
                                            List<ClaimMetaData> claimsDeniedConsent)
@@ -619,8 +636,8 @@ public class SSOConsentServiceImpl implements SSOConsentService {
                 CONSENT_VALIDITY_TYPE_VALID_UNTIL_INDEFINITE;
         String policyUrl = "NONE";
 
-        Purpose purpose = getDefaultPurpose();
-        PurposeCategory purposeCategory = getDefaultPurposeCategory();
+        Purpose purpose = consentMetadataResolver.getDefaultPurpose();
+        PurposeCategory purposeCategory = consentMetadataResolver.getDefaultPurposeCategory();
         List<PIICategoryValidity> piiCategoryIds =
                 getPiiCategoryValidityForClaims(claimsWithConsent, claimsDeniedConsent, termination);
         List<ReceiptServiceInput> serviceInputs = new ArrayList<>();
@@ -696,19 +713,29 @@ public class SSOConsentServiceImpl implements SSOConsentService {
                                                                       String termination)
             throws SSOConsentServiceException {
 
+        List<ClaimMetaData> claims = new ArrayList<>();
+        if (isNotEmpty(claimsWithConsent)) {
+            claims.addAll(claimsWithConsent);
+        }
+        if (isNotEmpty(claimsDeniedConsent)) {
+            claims.addAll(claimsDeniedConsent);
+        }
+        // Resolves the PII categories of all the claims together, listing the uncached ones in pages.
+        Map<String, PIICategory> piiCategories = consentMetadataResolver.getPIICategories(claims);
+
         List<PIICategoryValidity> piiCategoryIds = new ArrayList<>();
         List<PIICategoryValidity> piiCategoryIdsForClaimsWithConsent =
-                getPiiCategoryValidityForRequestedClaims(claimsWithConsent, true, termination);
+                getPiiCategoryValidityForRequestedClaims(claimsWithConsent, true, termination, piiCategories);
         List<PIICategoryValidity> piiCategoryIdsForDeniedConsentClaims =
-                getPiiCategoryValidityForRequestedClaims(claimsDeniedConsent, false, termination);
+                getPiiCategoryValidityForRequestedClaims(claimsDeniedConsent, false, termination, piiCategories);
         piiCategoryIds.addAll(piiCategoryIdsForClaimsWithConsent);
         piiCategoryIds.addAll(piiCategoryIdsForDeniedConsentClaims);
         return piiCategoryIds;
     }
 
     private List<PIICategoryValidity> getPiiCategoryValidityForRequestedClaims(List<ClaimMetaData> requestedClaims,
-                                                                               boolean isConsented, String termination)
-            throws SSOConsentServiceException {
+                                                                               boolean isConsented, String termination,
+                                                                               Map<String, PIICategory> piiCategories) {
 
         List<PIICategoryValidity> piiCategoryIds = new ArrayList<>();
 
@@ -722,21 +749,7 @@ public class SSOConsentServiceImpl implements SSOConsentService {
                 continue;
             }
 
-            PIICategory piiCategory;
-            try {
-                piiCategory = getConsentManager().getPIICategoryByName(requestedClaim.getClaimUri());
-            } catch (ConsentManagementClientException e) {
-
-                if (isInvalidPIICategoryError(e)) {
-                    piiCategory = addPIICategoryForClaim(requestedClaim);
-                } else {
-                    throw new SSOConsentServiceException("Consent PII category error", "Error while retrieving" +
-                            " PII category: " + DEFAULT_PURPOSE_CATEGORY, e);
-                }
-            } catch (ConsentManagementException e) {
-                throw new SSOConsentServiceException("Consent PII category error", "Error while retrieving " +
-                        "PII category: " + DEFAULT_PURPOSE_CATEGORY, e);
-            }
+            PIICategory piiCategory = piiCategories.get(requestedClaim.getClaimUri());
             PIICategoryValidity piiCategoryValidity = new PIICategoryValidity(piiCategory.getId(), termination);
             piiCategoryValidity.setConsented(isConsented);
             piiCategoryIds.add(piiCategoryValidity);
@@ -744,105 +757,6 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         return piiCategoryIds;
     }
 
-    private PIICategory addPIICategoryForClaim(ClaimMetaData claim) throws SSOConsentServiceException {
-
-        PIICategory piiCategory;
-        PIICategory piiCategoryInput = new PIICategory(claim.getClaimUri(), claim.getDescription(), false, claim
-                .getDisplayName());
-        try {
-            piiCategory = getConsentManager().addPIICategory(piiCategoryInput);
-        } catch (ConsentManagementException e) {
-            throw new SSOConsentServiceException("Consent PII category error", "Error while adding" +
-                    " PII category:" + DEFAULT_PURPOSE_CATEGORY, e);
-        }
-        return piiCategory;
-    }
-
-    private boolean isInvalidPIICategoryError(ConsentManagementClientException e) {
-
-        return ERROR_CODE_PII_CAT_NAME_INVALID.getCode().equals(e.getErrorCode());
-    }
-
-    private PurposeCategory getDefaultPurposeCategory() throws SSOConsentServiceException {
-
-        PurposeCategory purposeCategory;
-        try {
-            purposeCategory = getConsentManager().getPurposeCategoryByName(DEFAULT_PURPOSE_CATEGORY);
-        } catch (ConsentManagementClientException e) {
-
-            if (isInvalidPurposeCategoryError(e)) {
-                purposeCategory = addDefaultPurposeCategory();
-            } else {
-                throw new SSOConsentServiceException("Consent purpose category error", "Error while retrieving" +
-                        " purpose category: " + DEFAULT_PURPOSE_CATEGORY, e);
-            }
-        } catch (ConsentManagementException e) {
-            throw new SSOConsentServiceException("Consent purpose category error", "Error while retrieving " +
-                    "purpose category: " + DEFAULT_PURPOSE_CATEGORY, e);
-        }
-        return purposeCategory;
-    }
-
-    private PurposeCategory addDefaultPurposeCategory() throws SSOConsentServiceException {
-
-        PurposeCategory purposeCategory;
-        PurposeCategory defaultPurposeCategory = new PurposeCategory(DEFAULT_PURPOSE_CATEGORY,
-                "For core functionalities of the product");
-        try {
-            purposeCategory = getConsentManager().addPurposeCategory(defaultPurposeCategory);
-        } catch (ConsentManagementException e) {
-            throw new SSOConsentServiceException("Consent purpose category error", "Error while adding" +
-                    " purpose category: " + DEFAULT_PURPOSE_CATEGORY, e);
-        }
-        return purposeCategory;
-    }
-
-    private boolean isInvalidPurposeCategoryError(ConsentManagementClientException e) {
-
-        return ERROR_CODE_PURPOSE_CAT_NAME_INVALID.getCode().equals(e.getErrorCode());
-    }
-
-    private Purpose getDefaultPurpose() throws SSOConsentServiceException {
-
-        Purpose purpose;
-
-        try {
-            purpose = getConsentManager().getPurposeByName(DEFAULT_PURPOSE, DEFAULT_PURPOSE_GROUP,
-                                                           DEFAULT_PURPOSE_GROUP_TYPE);
-        } catch (ConsentManagementClientException e) {
-
-            if (isInvalidPurposeError(e)) {
-                purpose = addDefaultPurpose();
-            } else {
-                throw new SSOConsentServiceException("Consent purpose error", "Error while retrieving purpose: " +
-                        DEFAULT_PURPOSE, e);
-            }
-        } catch (ConsentManagementException e) {
-            throw new SSOConsentServiceException("Consent purpose error", "Error while retrieving purpose: " +
-                    DEFAULT_PURPOSE, e);
-        }
-        return purpose;
-    }
-
-    private Purpose addDefaultPurpose() throws SSOConsentServiceException {
-
-        Purpose purpose;
-        Purpose defaultPurpose = new Purpose(DEFAULT_PURPOSE, "For core functionalities of the product",
-                                             DEFAULT_PURPOSE_GROUP, DEFAULT_PURPOSE_GROUP_TYPE);
-        try {
-            purpose = getConsentManager().addPurpose(defaultPurpose);
-        } catch (ConsentManagementException e) {
-            throw new SSOConsentServiceException("Consent purpose error",
-                    "Error while adding purpose: " + DEFAULT_PURPOSE, e);
-        }
-        return purpose;
-    }
-
-    private boolean isInvalidPurposeError(ConsentManagementClientException e) {
-
-        return ERROR_CODE_PURPOSE_NAME_INVALID.getCode().equals(e.getErrorCode());
-    }
-
     private UserConsent processUserConsent(List<Integer> consentApprovedClaimIds, ConsentClaimsData
             consentClaimsData) throws SSOConsentServiceException {
 
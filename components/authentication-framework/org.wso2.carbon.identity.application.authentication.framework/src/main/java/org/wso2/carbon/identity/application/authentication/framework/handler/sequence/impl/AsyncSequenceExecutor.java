@@ -131,8 +131,16 @@ public class AsyncSequenceExecutor {
                             .getContextIdentifier() + " found while trying to continue from long wait. ");
                     return;
                 }
-                longWaitStatus.setStatus(LongWaitStatus.Status.COMPLETED);
-                returnFunction.accept(authenticationContext, data, result);
+                if (!longWaitStatusStoreService.completeWait(authenticationContext.getContextIdentifier())) {
+                    // The wait is not in the status table of this node, hence completing the status from the DAO.
+                    longWaitStatus.setStatus(LongWaitStatus.Status.COMPLETED);
+                }
+                try {
+                    returnFunction.accept(authenticationContext, data, result);
+                } finally {
+                    // Status polls parked on the wait are answered once the outcome is set in the context.
+                    longWaitStatusStoreService.notifyCompletion(authenticationContext.getContextIdentifier());
+                }
             } catch (FrameworkException e) {
                 log.error("Error while resuming from the wait. ", e);
             } finally {
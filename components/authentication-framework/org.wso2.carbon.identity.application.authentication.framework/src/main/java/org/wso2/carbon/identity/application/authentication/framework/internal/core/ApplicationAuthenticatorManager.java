@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.application.authentication.framework.internal.c
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import org.wso2.carbon.identity.application.authentication.framework.ApplicationAuthenticator;
+import org.wso2.carbon.identity.application.authentication.framework.UserDefinedAuthenticatorService;
 import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
 import org.wso2.carbon.identity.application.common.ApplicationAuthenticatorService;
@@ -34,17 +35,31 @@ import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManager;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.LOCAL_IDP_NAME;
 
 /**
  * This class is used to manage the ApplicationAuthenticator instances.
+ * <p>
+ * System defined authenticators are indexed by name, and can be added and removed while the authenticators are
+ * looked up. User defined authenticators are resolved once per tenant and authenticator configuration, and reused
+ * until the configuration is updated. Since the configurations are served from the caches of the authenticator and
+ * identity provider management, an updated configuration is a different instance, which invalidates the resolved
+ * authenticator.
  */
 public class ApplicationAuthenticatorManager {
 
     private static final ApplicationAuthenticatorManager instance = new ApplicationAuthenticatorManager();
-    private final List<ApplicationAuthenticator> systemDefinedAuthenticators = new ArrayList<>();
+    private static final int MAX_CACHED_TENANTS = 1000;
+    private final List<ApplicationAuthenticator> systemDefinedAuthenticators = new CopyOnWriteArrayList<>();
+    private final Map<String, ApplicationAuthenticator> systemDefinedAuthenticatorsByName = new ConcurrentHashMap<>();
+    private final Map<String, TenantAuthenticators> userDefinedAuthenticators = new ConcurrentHashMap<>();
     private final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
 
     private static final String AUTHENTICATION_ACTION_ENABLED_PROP =
@@ -60,9 +75,11 @@ public class ApplicationAuthenticatorManager {
      *
      * @param authenticator Authenticator to be added.
      */
-    public void addSystemDefinedAuthenticator(ApplicationAuthenticator authenticator) {
+    public synchronized void addSystemDefinedAuthenticator(ApplicationAuthenticator authenticator) {
 
         systemDefinedAuthenticators.add(authenticator);
+        // The first added authenticator of a name is returned by the lookups, as with the list.
+        systemDefinedAuthenticatorsByName.putIfAbsent(authenticator.getName(), authenticator);
     }
 
     /**
@@ -70,19 +87,30 @@ public class ApplicationAuthenticatorManager {
      *
      * @param authenticator Authenticator to be removed.
      */
-    public void removeSystemDefinedAuthenticator(ApplicationAuthenticator authenticator) {
+    public synchronized void removeSystemDefinedAuthenticator(ApplicationAuthenticator authenticator) {
 
-        systemDefinedAuthenticators.remove(authenticator);
+        if (!systemDefinedAuthenticators.remove(authenticator)) {
+            return;
+        }
+        String authenticatorName = authenticator.getName();
+        for (ApplicationAuthenticator systemDefinedAuthenticator : systemDefinedAuthenticators) {
+            if (systemDefinedAuthenticator.getName().equals(authenticatorName)) {
+                systemDefinedAuthenticatorsByName.put(authenticatorName, systemDefinedAuthenticator);
+                return;
+            }
+        }
+        systemDefinedAuthenticatorsByName.remove(authenticatorName);
     }
 
     /**
-     * Get all the system defined authenticators.
+     * Get all the system defined authenticators. The returned list can not be modified, and can be iterated while
+     * authenticators are added or removed.
      *
      * @return List of system defined authenticators.
      */
     public List<ApplicationAuthenticator> getSystemDefinedAuthenticators() {
 
-        return systemDefinedAuthenticators;
+        return Collections.unmodifiableList(systemDefinedAuthenticators);
     }
 
     /**
@@ -93,12 +121,10 @@ public class ApplicationAuthenticatorManager {
      */
     public ApplicationAuthenticator getSystemDefinedAuthenticatorByName(String authenticatorName) {
 
-        for (ApplicationAuthenticator authenticator : systemDefinedAuthenticators) {
-            if (authenticator.getName().equals(authenticatorName)) {
-                return authenticator;
-            }
+        if (authenticatorName == null) {
+            return null;
         }
-        return null;
+        return systemDefinedAuthenticatorsByName.get(authenticatorName);
     }
 
     /**
@@ -117,16 +143,16 @@ public class ApplicationAuthenticatorManager {
         }
 
         try {
+            TenantAuthenticators tenantAuthenticators = getTenantAuthenticators(tenantDomain);
             for (UserDefinedLocalAuthenticatorConfig localConfig : ApplicationAuthenticatorService.getInstance()
                     .getAllUserDefinedLocalAuthenticators(tenantDomain)) {
-                allAuthenticators.add(FrameworkServiceDataHolder.getInstance().getUserDefinedAuthenticatorService()
-                        .getUserDefinedLocalAuthenticator(localConfig));
+                allAuthenticators.add(tenantAuthenticators.resolveLocalAuthenticator(localConfig));
             }
 
             for (FederatedAuthenticatorConfig fedConfig : FrameworkServiceDataHolder.getInstance()
                     .getIdentityProviderManager().getAllUserDefinedFederatedAuthenticators(tenantDomain)) {
-                allAuthenticators.add(FrameworkServiceDataHolder.getInstance().getUserDefinedAuthenticatorService()
-                            .getUserDefinedFederatedAuthenticator((UserDefinedFederatedAuthenticatorConfig) fedConfig));
+                allAuthenticators.add(tenantAuthenticators.resolveFederatedAuthenticator(
+                        (UserDefinedFederatedAuthenticatorConfig) fedConfig));
             }
 
             return allAuthenticators;
@@ -146,10 +172,9 @@ public class ApplicationAuthenticatorManager {
             throws FrameworkException {
 
         // Check whether the authenticator is in the system defined authenticator.
-        for (ApplicationAuthenticator authenticator : systemDefinedAuthenticators) {
-            if (authenticator.getName().equals(authenticatorName)) {
-                return authenticator;
-            }
+        ApplicationAuthenticator systemDefinedAuthenticator = getSystemDefinedAuthenticatorByName(authenticatorName);
+        if (systemDefinedAuthenticator != null) {
+            return systemDefinedAuthenticator;
         }
 
         if (!isAuthenticationActionEnabled() ||
@@ -159,28 +184,49 @@ public class ApplicationAuthenticatorManager {
 
         // Check whether the authenticator config is the user defined local authenticator config, if so resolve it.
         try {
+            TenantAuthenticators tenantAuthenticators = getTenantAuthenticators(tenantDomain);
             UserDefinedLocalAuthenticatorConfig localConfig = ApplicationAuthenticatorService.getInstance()
                     .getUserDefinedLocalAuthenticator(authenticatorName, tenantDomain);
             if (localConfig != null) {
-                return FrameworkServiceDataHolder.getInstance().getUserDefinedAuthenticatorService()
-                        .getUserDefinedLocalAuthenticator(localConfig);
+                return tenantAuthenticators.resolveLocalAuthenticator(localConfig);
             }
 
             // Check whether the authenticator config is the user defined fed authenticator config, if so resolve it.
-            List<FederatedAuthenticatorConfig> fedConfig = FrameworkServiceDataHolder.getInstance()
-                    .getIdentityProviderManager().getAllUserDefinedFederatedAuthenticators(tenantDomain);
-            for (FederatedAuthenticatorConfig fedAuth : fedConfig) {
-                if (fedAuth.getName().equals(authenticatorName)) {
-                    return FrameworkServiceDataHolder.getInstance().getUserDefinedAuthenticatorService()
-                            .getUserDefinedFederatedAuthenticator((UserDefinedFederatedAuthenticatorConfig) fedAuth);
-                }
+            UserDefinedFederatedAuthenticatorConfig fedConfig = tenantAuthenticators.getFederatedAuthenticatorConfig(
+                    FrameworkServiceDataHolder.getInstance().getIdentityProviderManager()
+                            .getAllUserDefinedFederatedAuthenticators(tenantDomain), authenticatorName);
+            if (fedConfig != null) {
+                return tenantAuthenticators.resolveFederatedAuthenticator(fedConfig);
             }
+            tenantAuthenticators.remove(authenticatorName);
             return null;
         } catch (AuthenticatorMgtException | IdentityProviderManagementException e) {
             throw new FrameworkException("Error while getting the authenticator for the name: " + authenticatorName, e);
         }
     }
 
+    /**
+     * Remove the resolved user defined authenticators of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void clearUserDefinedAuthenticators(String tenantDomain) {
+
+        userDefinedAuthenticators.remove(tenantDomain);
+    }
+
+    private TenantAuthenticators getTenantAuthenticators(String tenantDomain) {
+
+        TenantAuthenticators tenantAuthenticators = userDefinedAuthenticators.get(tenantDomain);
+        if (tenantAuthenticators != null) {
+            return tenantAuthenticators;
+        }
+        if (userDefinedAuthenticators.size() >= MAX_CACHED_TENANTS) {
+            userDefinedAuthenticators.clear();
+        }
+        return userDefinedAuthenticators.computeIfAbsent(tenantDomain, key -> new TenantAuthenticators());
+    }
+
     private boolean isAuthenticationActionEnabled() {
 
         return  Boolean.parseBoolean((String) IdentityConfigParser.getInstance()
@@ -217,4 +263,106 @@ public class ApplicationAuthenticatorManager {
 
         return gson.fromJson(gson.toJson(idp), IdentityProvider.class);
     }
+
+    /**
+     * User defined authenticators resolved for a tenant, along with the configurations they are resolved from.
+     */
+    private static final class TenantAuthenticators {
+
+        private final Map<String, ResolvedAuthenticator> authenticators = new ConcurrentHashMap<>();
+        private volatile FederatedConfigIndex federatedConfigIndex;
+
+        private ApplicationAuthenticator resolveLocalAuthenticator(UserDefinedLocalAuthenticatorConfig config) {
+
+            UserDefinedAuthenticatorService service =
+                    FrameworkServiceDataHolder.getInstance().getUserDefinedAuthenticatorService();
+            ResolvedAuthenticator resolved = config.getName() != null ? authenticators.get(config.getName()) : null;
+            if (resolved != null && resolved.config == config && resolved.service == service) {
+                return resolved.authenticator;
+            }
+            ApplicationAuthenticator authenticator = service.getUserDefinedLocalAuthenticator(config);
+            cache(config.getName(), config, service, authenticator);
+            return authenticator;
+        }
+
+        private ApplicationAuthenticator resolveFederatedAuthenticator(UserDefinedFederatedAuthenticatorConfig config) {
+
+            UserDefinedAuthenticatorService service =
+                    FrameworkServiceDataHolder.getInstance().getUserDefinedAuthenticatorService();
+            ResolvedAuthenticator resolved = config.getName() != null ? authenticators.get(config.getName()) : null;
+            if (resolved != null && resolved.config == config && resolved.service == service) {
+                return resolved.authenticator;
+            }
+            ApplicationAuthenticator authenticator = service.getUserDefinedFederatedAuthenticator(config);
+            cache(config.getName(), config, service, authenticator);
+            return authenticator;
+        }
+
+        private UserDefinedFederatedAuthenticatorConfig getFederatedAuthenticatorConfig(
+                List<FederatedAuthenticatorConfig> configs, String authenticatorName) {
+
+            if (configs == null) {
+                return null;
+            }
+            FederatedConfigIndex index = federatedConfigIndex;
+            if (index == null || index.configs != configs) {
+                index = new FederatedConfigIndex(configs);
+                federatedConfigIndex = index;
+            }
+            return index.configsByName.get(authenticatorName);
+        }
+
+        private void cache(String authenticatorName, Object config, UserDefinedAuthenticatorService service,
+                           ApplicationAuthenticator authenticator) {
+
+            if (authenticatorName != null && authenticator != null) {
+                authenticators.put(authenticatorName, new ResolvedAuthenticator(config, service, authenticator));
+            }
+        }
+
+        private void remove(String authenticatorName) {
+
+            if (authenticatorName != null) {
+                authenticators.remove(authenticatorName);
+            }
+        }
+    }
+
+    /**
+     * User defined federated authenticator configurations of a tenant, indexed by name.
+     */
+    private static final class FederatedConfigIndex {
+
+        private final List<FederatedAuthenticatorConfig> configs;
+        private final Map<String, UserDefinedFederatedAuthenticatorConfig> configsByName = new HashMap<>();
+
+        private FederatedConfigIndex(List<FederatedAuthenticatorConfig> configs) {
+
+            this.configs = configs;
+            for (FederatedAuthenticatorConfig config : configs) {
+                if (config instanceof UserDefinedFederatedAuthenticatorConfig && config.getName() != null) {
+                    // The first configuration of a name is returned by the lookups, as with the list.
+                    configsByName.putIfAbsent(config.getName(), (UserDefinedFederatedAuthenticatorConfig) config);
+                }
+            }
+        }
+    }
+
+    /**
+     * User defined authenticator, along with the configuration and the service it is resolved from.
+     */
+    private static final class ResolvedAuthenticator {
+
+        private final Object config;
+        private final UserDefinedAuthenticatorService service;
+        private final ApplicationAuthenticator authenticator;
+
+        private ResolvedAuthenticator(Object config, UserDefinedAuthenticatorService service,
+                                      ApplicationAuthenticator authenticator) {
+
+            this.config = config;
+            this.service = service;
+            this.authenticator = authenticator;
+        }
+    }
 }
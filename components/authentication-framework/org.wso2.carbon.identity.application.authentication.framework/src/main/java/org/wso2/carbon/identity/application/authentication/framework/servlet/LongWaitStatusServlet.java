@@ -19,6 +19,8 @@
 package org.wso2.carbon.identity.application.authentication.framework.servlet;
 
 import com.google.gson.Gson;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.osgi.service.component.annotations.Component;
 import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
@@ -28,18 +30,30 @@ import org.wso2.carbon.identity.application.authentication.framework.model.LongW
 import org.wso2.carbon.identity.application.authentication.framework.store.LongWaitStatusStoreService;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.Servlet;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_LONG_WAIT_STATUS_POLL_TIMEOUT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.LONG_WAIT_STATUS_POLL_TIMEOUT;
+
 /**
  * Servlet to get the status of long wait process.
+ * <p>
+ * A poll for a wait which is still waiting in this node is parked until the wait is completed or the poll timeout
+ * elapses, instead of being answered with the waiting status right away. Setting the poll timeout to zero disables
+ * parking.
  */
 @Component(
         service = Servlet.class,
@@ -53,7 +67,9 @@ import javax.servlet.http.HttpServletResponse;
 public class LongWaitStatusServlet extends HttpServlet {
 
     private static final long serialVersionUID = -3714283612680472526L;
+    private static final Log log = LogFactory.getLog(LongWaitStatusServlet.class);
     private static final String PROP_WAITING_ID = "waitingId";
+    private static final Gson GSON = new Gson();
 
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
@@ -73,21 +89,96 @@ public class LongWaitStatusServlet extends HttpServlet {
         if (id == null) {
             if (request.getContentType() != null && request.getContentType().startsWith
                     (FrameworkConstants.ContentTypes.TYPE_APPLICATION_JSON)) {
-                Gson gson = new Gson();
-                LongWaitStatusRequest longWaitStatusRequest = gson.fromJson(request.getReader(),
+                LongWaitStatusRequest longWaitStatusRequest = GSON.fromJson(request.getReader(),
                                                                             LongWaitStatusRequest.class);
                 id = longWaitStatusRequest.getWaitId();
             }
         }
 
+        LongWaitStatusStoreService longWaitStatusStoreService =
+                FrameworkServiceDataHolder.getInstance().getLongWaitStatusStoreService();
+        if (id != null && longWaitStatusStoreService != null && request.isAsyncSupported()
+                && longWaitStatusStoreService.isWaitingLocally(id)) {
+            int pollTimeout = IdentityUtil.getIntProperty(LONG_WAIT_STATUS_POLL_TIMEOUT,
+                    DEFAULT_LONG_WAIT_STATUS_POLL_TIMEOUT);
+            if (pollTimeout > 0) {
+                parkPoll(request, id, longWaitStatusStoreService, pollTimeout);
+                return;
+            }
+        }
+        writeResponse(response, getStatusResponse(id, longWaitStatusStoreService, response));
+    }
+
+    /**
+     * Park the poll until the completion of the wait is notified or the poll timeout elapses, and then respond with
+     * the status of the wait.
+     *
+     * @param request                    Poll request.
+     * @param id                         Wait key.
+     * @param longWaitStatusStoreService Long wait status store.
+     * @param pollTimeout                Poll timeout in milliseconds.
+     */
+    private void parkPoll(HttpServletRequest request, String id, LongWaitStatusStoreService longWaitStatusStoreService,
+                          int pollTimeout) {
+
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(pollTimeout);
+        AtomicBoolean responded = new AtomicBoolean();
+        Runnable completionListener = () -> respond(asyncContext, id, longWaitStatusStoreService, responded);
+        asyncContext.addListener(new AsyncListener() {
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+
+                longWaitStatusStoreService.removeCompletionListener(id, completionListener);
+                respond(asyncContext, id, longWaitStatusStoreService, responded);
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+
+                longWaitStatusStoreService.removeCompletionListener(id, completionListener);
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+
+            }
+        });
+        longWaitStatusStoreService.addCompletionListener(id, completionListener);
+    }
+
+    private void respond(AsyncContext asyncContext, String id, LongWaitStatusStoreService longWaitStatusStoreService,
+                         AtomicBoolean responded) {
+
+        // The poll is answered either by the completion of the wait or by the timeout, whichever comes first.
+        if (!responded.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+            writeResponse(response, getStatusResponse(id, longWaitStatusStoreService, response));
+        } catch (IOException | RuntimeException e) {
+            log.error("Error while responding to the status poll of the wait: " + id, e);
+        } finally {
+            asyncContext.complete();
+        }
+    }
+
+    private LongWaitStatusResponse getStatusResponse(String id, LongWaitStatusStoreService longWaitStatusStoreService,
+                                                     HttpServletResponse response) {
+
         LongWaitStatusResponse longWaitResponse = new LongWaitStatusResponse();
         longWaitResponse.setWaitId(id);
         if (id == null) {
             longWaitResponse.setStatus(LongWaitStatus.Status.UNKNOWN.name());
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
         } else {
-            LongWaitStatusStoreService longWaitStatusStoreService =
-                    FrameworkServiceDataHolder.getInstance().getLongWaitStatusStoreService();
             if (longWaitStatusStoreService == null) {
                 response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             } else {
@@ -112,9 +203,14 @@ public class LongWaitStatusServlet extends HttpServlet {
                 }
             }
         }
+        return longWaitResponse;
+    }
+
+    private void writeResponse(HttpServletResponse response, LongWaitStatusResponse longWaitResponse)
+            throws IOException {
 
         response.setContentType(FrameworkConstants.ContentTypes.TYPE_APPLICATION_JSON);
-        String json = new Gson().toJson(longWaitResponse);
+        String json = GSON.toJson(longWaitResponse);
         try (PrintWriter out = response.getWriter()) {
             out.print(json);
             out.flush();
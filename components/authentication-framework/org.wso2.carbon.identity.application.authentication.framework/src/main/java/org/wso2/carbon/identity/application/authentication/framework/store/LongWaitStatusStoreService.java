@@ -18,25 +18,63 @@
 
 package org.wso2.carbon.identity.application.authentication.framework.store;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.authentication.framework.dao.LongWaitStatusDAO;
 import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
 import org.wso2.carbon.identity.application.authentication.framework.model.LongWaitStatus;
 
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * The service holds long wait status.
+ * <p>
+ * The status of the waits started in this node is kept in an in-memory status table, so that the status polls and the
+ * completion of a wait do not go to the database. The DAO is still updated, and is used as the fallback for the waits
+ * which are not in the status table, such as the waits started in another node. Completion listeners can be
+ * registered for a wait in the status table, so that a status poll can be answered as soon as the wait is completed.
  */
 public class LongWaitStatusStoreService {
 
+    private static final Log log = LogFactory.getLog(LongWaitStatusStoreService.class);
+    private static final long DEFAULT_STATUS_RETENTION = TimeUnit.MINUTES.toMillis(15);
+
     private LongWaitStatusDAO statusDAO;
     private int connectionTimeout;
+    private final long statusRetention;
+    private final Map<String, StatusEntry> statusTable = new ConcurrentHashMap<>();
+    private final Map<String, Set<Runnable>> completionListeners = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeTime = new AtomicLong();
+    private final LongAdder completedWaitCount = new LongAdder();
+    private final LongAdder parkedPollCount = new LongAdder();
+    private final LongAdder resumedPollCount = new LongAdder();
+    private final LongAdder timedOutPollCount = new LongAdder();
+    private final LongAdder fallbackLookupCount = new LongAdder();
 
     public LongWaitStatusStoreService(LongWaitStatusDAO statusDAO, int connectionTimeout) {
 
+        this(statusDAO, connectionTimeout, DEFAULT_STATUS_RETENTION);
+    }
+
+    /**
+     * Create the service.
+     *
+     * @param statusDAO         DAO of the long wait status.
+     * @param connectionTimeout Connection timeout in milliseconds, used to compute the expiry time of a wait.
+     * @param statusRetention   Time in milliseconds a wait is kept in the status table, if it is never removed.
+     */
+    public LongWaitStatusStoreService(LongWaitStatusDAO statusDAO, int connectionTimeout, long statusRetention) {
+
         this.statusDAO = statusDAO;
         this.connectionTimeout = connectionTimeout;
+        this.statusRetention = statusRetention > 0 ? statusRetention : DEFAULT_STATUS_RETENTION;
     }
 
     public void addWait(int tenantId, String sessionId, LongWaitStatus longWaitStatus) throws FrameworkException {
@@ -45,15 +83,237 @@ public class LongWaitStatusStoreService {
         Timestamp createdTime = new Timestamp(now.getTime());
         Timestamp expireTime = new Timestamp(now.getTime() + connectionTimeout);
         statusDAO.addWaitStatus(tenantId, sessionId, longWaitStatus, createdTime, expireTime);
+        purgeExpiredEntries(now.getTime());
+        boolean waiting = longWaitStatus.getStatus() == LongWaitStatus.Status.WAITING;
+        statusTable.put(sessionId, new StatusEntry(longWaitStatus.getStatus(), now.getTime() + statusRetention,
+                !waiting));
+        if (!waiting) {
+            notifyCompletionListeners(sessionId);
+        }
     }
 
     public LongWaitStatus getWait(String sessionId) throws FrameworkException {
 
+        StatusEntry entry = statusTable.get(sessionId);
+        if (entry != null) {
+            LongWaitStatus longWaitStatus = new LongWaitStatus();
+            longWaitStatus.setStatus(entry.status);
+            return longWaitStatus;
+        }
+        fallbackLookupCount.increment();
         return statusDAO.getWaitStatus(sessionId);
     }
 
     public void removeWait(String sessionId) throws FrameworkException {
 
-        statusDAO.removeWaitStatus(sessionId);
+        statusTable.remove(sessionId);
+        try {
+            statusDAO.removeWaitStatus(sessionId);
+        } finally {
+            notifyCompletionListeners(sessionId);
+        }
+    }
+
+    /**
+     * Mark the wait as completed. The completion listeners of the wait are not run until
+     * {@link #notifyCompletion(String)} is called, so that the outcome of the wait can be set in between.
+     *
+     * @param sessionId Wait key.
+     * @return True if the wait was in the status table, false otherwise.
+     */
+    public boolean completeWait(String sessionId) {
+
+        StatusEntry completedEntry = statusTable.computeIfPresent(sessionId,
+                (key, entry) -> new StatusEntry(LongWaitStatus.Status.COMPLETED, entry.expiryTime, false));
+        if (completedEntry == null) {
+            return false;
+        }
+        completedWaitCount.increment();
+        return true;
+    }
+
+    /**
+     * Run the completion listeners of a completed wait.
+     *
+     * @param sessionId Wait key.
+     */
+    public void notifyCompletion(String sessionId) {
+
+        statusTable.computeIfPresent(sessionId,
+                (key, entry) -> new StatusEntry(entry.status, entry.expiryTime, true));
+        notifyCompletionListeners(sessionId);
+    }
+
+    /**
+     * Check whether the wait is in the status table, and its completion has not been notified yet.
+     *
+     * @param sessionId Wait key.
+     * @return True if the wait is waiting in this node, false otherwise.
+     */
+    public boolean isWaitingLocally(String sessionId) {
+
+        StatusEntry entry = statusTable.get(sessionId);
+        return entry != null && (entry.status == LongWaitStatus.Status.WAITING || !entry.notified);
+    }
+
+    /**
+     * Register a listener to be run once, when the completion of the wait is notified or the wait is removed. If the
+     * wait is no longer waiting in this node, the listener is run immediately in the calling thread.
+     *
+     * @param sessionId Wait key.
+     * @param listener  Completion listener.
+     */
+    public void addCompletionListener(String sessionId, Runnable listener) {
+
+        completionListeners.compute(sessionId, (key, listeners) -> {
+            Set<Runnable> updatedListeners = listeners != null ? listeners : ConcurrentHashMap.newKeySet();
+            updatedListeners.add(listener);
+            return updatedListeners;
+        });
+        parkedPollCount.increment();
+        // The wait may have been completed before the listener was added.
+        if (!isWaitingLocally(sessionId) && removeListener(sessionId, listener)) {
+            runCompletionListener(sessionId, listener);
+        }
+    }
+
+    /**
+     * Remove a completion listener which has not been run, such as when the status poll times out.
+     *
+     * @param sessionId Wait key.
+     * @param listener  Completion listener.
+     * @return True if the listener was removed before it was run, false otherwise.
+     */
+    public boolean removeCompletionListener(String sessionId, Runnable listener) {
+
+        if (removeListener(sessionId, listener)) {
+            timedOutPollCount.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the number of waits completed in this node.
+     *
+     * @return Number of completed waits.
+     */
+    public long getCompletedWaitCount() {
+
+        return completedWaitCount.sum();
+    }
+
+    /**
+     * Get the number of status polls parked until the wait is completed.
+     *
+     * @return Number of parked polls.
+     */
+    public long getParkedPollCount() {
+
+        return parkedPollCount.sum();
+    }
+
+    /**
+     * Get the number of parked status polls answered by the completion of the wait.
+     *
+     * @return Number of resumed polls.
+     */
+    public long getResumedPollCount() {
+
+        return resumedPollCount.sum();
+    }
+
+    /**
+     * Get the number of parked status polls which timed out before the wait was completed.
+     *
+     * @return Number of timed out polls.
+     */
+    public long getTimedOutPollCount() {
+
+        return timedOutPollCount.sum();
+    }
+
+    /**
+     * Get the number of status lookups which were not found in the status table and fell back to the DAO.
+     *
+     * @return Number of fallback lookups.
+     */
+    public long getFallbackLookupCount() {
+
+        return fallbackLookupCount.sum();
+    }
+
+    /**
+     * Get the number of waits in the status table.
+     *
+     * @return Size of the status table.
+     */
+    public int getStatusTableSize() {
+
+        return statusTable.size();
+    }
+
+    private void notifyCompletionListeners(String sessionId) {
+
+        Set<Runnable> listeners = completionListeners.remove(sessionId);
+        if (listeners == null) {
+            return;
+        }
+        for (Runnable listener : listeners) {
+            runCompletionListener(sessionId, listener);
+        }
+    }
+
+    private boolean removeListener(String sessionId, Runnable listener) {
+
+        boolean[] removed = new boolean[1];
+        completionListeners.computeIfPresent(sessionId, (key, listeners) -> {
+            removed[0] = listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+        return removed[0];
+    }
+
+    private void runCompletionListener(String sessionId, Runnable listener) {
+
+        resumedPollCount.increment();
+        try {
+            listener.run();
+        } catch (RuntimeException e) {
+            log.error("Error while notifying the completion of the wait: " + sessionId, e);
+        }
+    }
+
+    /**
+     * Remove the waits which were neither removed nor updated within the retention time. Runs at most once per
+     * retention time.
+     *
+     * @param now Current time in milliseconds.
+     */
+    private void purgeExpiredEntries(long now) {
+
+        long purgeTime = nextPurgeTime.get();
+        if (now < purgeTime || !nextPurgeTime.compareAndSet(purgeTime, now + statusRetention)) {
+            return;
+        }
+        statusTable.entrySet().removeIf(entry -> entry.getValue().expiryTime <= now);
+        completionListeners.keySet().removeIf(key -> !statusTable.containsKey(key));
+    }
+
+    /**
+     * Entry of the status table.
+     */
+    private static final class StatusEntry {
+
+        private final LongWaitStatus.Status status;
+        private final long expiryTime;
+        private final boolean notified;
+
+        private StatusEntry(LongWaitStatus.Status status, long expiryTime, boolean notified) {
+
+            this.status = status;
+            this.expiryTime = expiryTime;
+            this.notified = notified;
+        }
     }
 }
@@ -18,34 +18,79 @@
 
 package org.wso2.carbon.identity.application.authentication.framework.store;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.ToLongFunction;
 
 /**
  * Database cleanup. Timer task is running for pre-defined period to clear the
  * invalid sessions
+ * <p>
+ * The cleanup is split into partitions, such as the expired session data and the invalidated STORE operations. A
+ * partition is cleaned by the node which holds its database lease, so that the nodes of a cluster do not clean the
+ * same tables at the same time. The lease is kept until the next run, so that a partition is cleaned once per period
+ * across the cluster, and is taken over by another node if the node holding it stops. The cleanup can be paused, and
+ * throttled with an interval between the delete chunks, so that it does not compete with the login traffic.
  */
 public final class SessionCleanUpService {
 
     private static final int NUM_THREADS = 1;
     private static final Log log = LogFactory.getLog(SessionCleanUpService.class);
+    private static final String CLEANUP_LEASE_ENABLE =
+            "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.ClusterLease.Enable";
+    private static final String CHUNK_INTERVAL =
+            "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.ChunkInterval";
     private final ScheduledExecutorService scheduler;
     private final long initialDelay;
     private final long delayBetweenRuns;
+    private final SessionCleanupLease lease;
+    private final boolean leaseEnabled;
+    private volatile boolean paused;
+    private volatile long chunkInterval;
+    private volatile SessionCleanupRunMetrics lastRunMetrics;
+
+    /**
+     * Partitions of the cleanup, each of which is cleaned by one node at a time.
+     */
+    enum CleanupPartition {
+        USER_SESSION_RECORDS,
+        SESSION_DATA,
+        TEMP_SESSION_DATA,
+        STORE_OPERATIONS
+    }
 
     /**
      * @param initialDelay
      * @param delayBetweenRuns
      */
     public SessionCleanUpService(long initialDelay, long delayBetweenRuns) {
+        this(initialDelay, delayBetweenRuns, new SessionCleanupLease());
+    }
+
+    SessionCleanUpService(long initialDelay, long delayBetweenRuns, SessionCleanupLease lease) {
+
         this.initialDelay = initialDelay;
         this.delayBetweenRuns = delayBetweenRuns;
-        this.scheduler = Executors.newScheduledThreadPool(NUM_THREADS);
+        this.lease = lease;
+        this.scheduler = Executors.newScheduledThreadPool(NUM_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "SessionDataCleanUp");
+            thread.setDaemon(true);
+            return thread;
+        });
+        String leaseEnabledValue = IdentityUtil.getProperty(CLEANUP_LEASE_ENABLE);
+        this.leaseEnabled = StringUtils.isBlank(leaseEnabledValue) || Boolean.parseBoolean(leaseEnabledValue);
+        String chunkIntervalValue = IdentityUtil.getProperty(CHUNK_INTERVAL);
+        if (StringUtils.isNotBlank(chunkIntervalValue)) {
+            this.chunkInterval = Long.parseLong(chunkIntervalValue);
+        }
     }
 
     /**
@@ -59,22 +104,171 @@ public final class SessionCleanUpService {
     }
 
     /**
+     * Pause the cleanup. A run in progress stops after its current delete chunk, and hands its leases over to the
+     * other nodes.
+     */
+    public void pause() {
+
+        paused = true;
+    }
+
+    /**
+     * Resume the cleanup from the next scheduled run.
+     */
+    public void resume() {
+
+        paused = false;
+    }
+
+    public boolean isPaused() {
+
+        return paused;
+    }
+
+    /**
+     * Set the interval between the delete chunks of a run, to throttle the load of the cleanup on the database.
      *
+     * @param chunkInterval Interval between the delete chunks in milliseconds. The chunks are not throttled if the
+     *                      interval is not positive.
+     */
+    public void setChunkInterval(long chunkInterval) {
+
+        this.chunkInterval = chunkInterval;
+    }
+
+    public long getChunkInterval() {
+
+        return chunkInterval;
+    }
+
+    /**
+     * Get the metrics of the last completed run on this node.
      *
+     * @return Metrics of the last run, or null if the cleanup has not run yet.
      */
-    private static final class DatabaseCleanUpTask implements Runnable {
+    public SessionCleanupRunMetrics getLastRunMetrics() {
 
-        @Override
-        public void run() {
+        return lastRunMetrics;
+    }
+
+    /**
+     * Run the cleanup of the partitions this node can acquire the lease of.
+     */
+    void runCleanUp() {
 
-            log.debug("Start running the Session Data cleanup task.");
-            if (FrameworkServiceDataHolder.getInstance().isUserSessionMappingEnabled()) {
+        if (paused) {
+            log.debug("Session Data cleanup task is paused. Hence skipping the run.");
+            return;
+        }
+        log.debug("Start running the Session Data cleanup task.");
+        long startTime = System.nanoTime();
+        SessionCleanupRunMetrics metrics = new SessionCleanupRunMetrics();
+        SessionDataStore sessionDataStore = SessionDataStore.getInstance();
+        if (FrameworkServiceDataHolder.getInstance().isUserSessionMappingEnabled()) {
+            runPartition(CleanupPartition.USER_SESSION_RECORDS, metrics, continueCleanup -> {
                 UserSessionStore.getInstance().removeExpiredSessionRecords();
+                return -1;
+            });
+        }
+        if (sessionDataStore.isSessionDataCleanupEnabled()) {
+            runPartition(CleanupPartition.SESSION_DATA, metrics, sessionDataStore::removeExpiredSessionData);
+        }
+        if (sessionDataStore.isPeriodicTempDataCleanupEnabled()) {
+            runPartition(CleanupPartition.TEMP_SESSION_DATA, metrics, sessionDataStore::removeExpiredTempSessionData);
+        }
+        if (sessionDataStore.isOperationDataCleanupEnabled()) {
+            // The cursor of the partition is stored in its lease, so that the node taking it over resumes from it.
+            runPartition(CleanupPartition.STORE_OPERATIONS, metrics, continueCleanup ->
+                    sessionDataStore.removeInvalidatedStoreOperations(continueCleanup, leaseEnabled ? lease : null));
+        }
+        metrics.complete(System.nanoTime() - startTime);
+        lastRunMetrics = metrics;
+        log.debug("Stop running the Session Data cleanup task.");
+        log.info("Session Data cleanup task completed the run for removing expired Data. " + metrics);
+    }
+
+    private void runPartition(CleanupPartition partition, SessionCleanupRunMetrics metrics,
+                              ToLongFunction<BooleanSupplier> cleanup) {
+
+        if (paused) {
+            return;
+        }
+        long leaseDuration = TimeUnit.MINUTES.toMillis(delayBetweenRuns);
+        if (leaseEnabled && !lease.acquire(partition.name(), leaseDuration)) {
+            metrics.recordSkippedPartition(partition.name());
+            return;
+        }
+        long startTime = System.nanoTime();
+        PartitionControl control = new PartitionControl(partition, leaseDuration);
+        boolean completed = false;
+        try {
+            metrics.recordPartition(partition.name(), cleanup.applyAsLong(control), System.nanoTime() - startTime);
+            completed = !control.stopped;
+        } finally {
+            if (leaseEnabled && !completed) {
+                // Let another node take over the partition, instead of waiting for the lease to expire.
+                lease.release(partition.name());
             }
+        }
+    }
+
+    /**
+     * Decides whether a partition cleanup continues with its next delete chunk. The cleanup stops once paused, and the
+     * lease is extended before it expires, so that another node does not take over a partition still being cleaned.
+     */
+    private final class PartitionControl implements BooleanSupplier {
+
+        private final CleanupPartition partition;
+        private final long leaseDuration;
+        private long leaseTime = System.nanoTime();
+        private boolean stopped;
+
+        private PartitionControl(CleanupPartition partition, long leaseDuration) {
+
+            this.partition = partition;
+            this.leaseDuration = leaseDuration;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+
+            if (paused) {
+                stopped = true;
+                return false;
+            }
+            long interval = chunkInterval;
+            if (interval > 0) {
+                try {
+                    Thread.sleep(interval);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    stopped = true;
+                    return false;
+                }
+            }
+            if (leaseEnabled && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - leaseTime) > leaseDuration / 2) {
+                if (!lease.acquire(partition.name(), leaseDuration)) {
+                    log.warn("Session data cleanup lease of the partition: " + partition.name() + " is lost. " +
+                            "Hence stopping the cleanup of the partition.");
+                    stopped = true;
+                    return false;
+                }
+                leaseTime = System.nanoTime();
+            }
+            return true;
+        }
+    }
+
+    /**
+     *
+     *
+     */
+    private final class DatabaseCleanUpTask implements Runnable {
+
+        @Override
+        public void run() {
 
-            SessionDataStore.getInstance().removeExpiredSessionData();
-            log.debug("Stop running the Session Data cleanup task.");
-            log.info("Session Data cleanup task is running successfully for removing expired Data");
+            runCleanUp();
         }
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Size of the chunks deleted by the session data cleanup, adapted to the measured delete latency.
+ * <p>
+ * A chunk which takes longer than the target time shrinks the next chunk in proportion, so that a cleanup running
+ * against a busy database holds its locks for a shorter time. A full chunk which takes less than half of the target
+ * time doubles the next chunk, up to the configured delete chunk size. The chunk size is kept across cleanup runs.
+ */
+class SessionCleanupChunkSize {
+
+    static final int MIN_CHUNK_SIZE = 100;
+
+    private final int maxChunkSize;
+    private final int minChunkSize;
+    private final long targetTimeNanos;
+    private volatile int chunkSize;
+
+    /**
+     * @param maxChunkSize     Maximum chunk size, which is also the initial chunk size.
+     * @param targetTimeMillis Target time of a chunk delete in milliseconds. The chunk size is not adapted if the
+     *                         target time is not positive.
+     */
+    SessionCleanupChunkSize(int maxChunkSize, long targetTimeMillis) {
+
+        this.maxChunkSize = Math.max(1, maxChunkSize);
+        this.minChunkSize = Math.min(MIN_CHUNK_SIZE, this.maxChunkSize);
+        this.targetTimeNanos = TimeUnit.MILLISECONDS.toNanos(targetTimeMillis);
+        this.chunkSize = this.maxChunkSize;
+    }
+
+    int getChunkSize() {
+
+        return chunkSize;
+    }
+
+    /**
+     * Record a chunk delete, and adapt the size of the next chunk.
+     *
+     * @param deletedCount Number of rows deleted by the chunk.
+     * @param elapsedNanos Time taken by the chunk in nanoseconds.
+     */
+    void recordChunk(int deletedCount, long elapsedNanos) {
+
+        if (targetTimeNanos <= 0) {
+            return;
+        }
+        int currentChunkSize = chunkSize;
+        if (elapsedNanos > targetTimeNanos) {
+            long scaledChunkSize = currentChunkSize * targetTimeNanos / elapsedNanos;
+            chunkSize = (int) Math.max(minChunkSize, scaledChunkSize);
+        } else if (elapsedNanos < targetTimeNanos / 2 && deletedCount >= currentChunkSize) {
+            chunkSize = (int) Math.min(maxChunkSize, currentChunkSize * 2L);
+        }
+    }
+}
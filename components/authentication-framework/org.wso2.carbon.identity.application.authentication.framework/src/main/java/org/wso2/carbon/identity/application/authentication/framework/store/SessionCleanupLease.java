@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Database backed lease of the session data cleanup partitions, so that a partition is cleaned by one node of the
+ * cluster at a time.
+ * <p>
+ * A lease is held by a node until its expiry time, and can be taken over by another node once it has expired. If the
+ * lease table does not exist, such as in a database which is not migrated yet, every lease is granted so that the
+ * cleanup runs on every node as before. Any other error denies the lease for the run, and is retried on the next run.
+ * <p>
+ * The lease row of a partition also holds the cursor of the partition cleanup, if any, so that the node which takes
+ * over the partition resumes the cleanup where the previous holder stopped.
+ */
+class SessionCleanupLease {
+
+    private static final Log log = LogFactory.getLog(SessionCleanupLease.class);
+    private static final String SQL_UPDATE_LEASE =
+            "UPDATE IDN_AUTH_SESSION_CLEANUP_LEASE SET OWNER_ID = ?, EXPIRY_TIME = ? WHERE PARTITION_NAME = ? AND " +
+                    "(OWNER_ID = ? OR EXPIRY_TIME < ?)";
+    private static final String SQL_INSERT_LEASE =
+            "INSERT INTO IDN_AUTH_SESSION_CLEANUP_LEASE (PARTITION_NAME, OWNER_ID, EXPIRY_TIME) VALUES (?, ?, ?)";
+    private static final String LEASE_TABLE = "IDN_AUTH_SESSION_CLEANUP_LEASE";
+    private static final String SQL_RELEASE_LEASE =
+            "UPDATE IDN_AUTH_SESSION_CLEANUP_LEASE SET EXPIRY_TIME = 0 WHERE PARTITION_NAME = ? AND OWNER_ID = ?";
+    private static final String SQL_SELECT_CURSOR =
+            "SELECT CURSOR_TIME_CREATED, CURSOR_SESSION_ID FROM IDN_AUTH_SESSION_CLEANUP_LEASE WHERE " +
+                    "PARTITION_NAME = ?";
+    private static final String SQL_UPDATE_CURSOR =
+            "UPDATE IDN_AUTH_SESSION_CLEANUP_LEASE SET CURSOR_TIME_CREATED = ?, CURSOR_SESSION_ID = ? WHERE " +
+                    "PARTITION_NAME = ? AND OWNER_ID = ?";
+
+    private final String ownerId;
+    private volatile boolean leaseTableAvailable = true;
+
+    SessionCleanupLease() {
+
+        this(UUID.randomUUID().toString());
+    }
+
+    SessionCleanupLease(String ownerId) {
+
+        this.ownerId = ownerId;
+    }
+
+    /**
+     * Acquire the lease of the partition, or extend it if this node already holds it.
+     *
+     * @param partition Name of the partition.
+     * @param duration  Duration of the lease in milliseconds.
+     * @return True if this node holds the lease, false if another node holds it.
+     */
+    boolean acquire(String partition, long duration) {
+
+        if (!leaseTableAvailable) {
+            return true;
+        }
+        long currentTime = System.currentTimeMillis();
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
+            int updatedCount;
+            try (PreparedStatement statement = connection.prepareStatement(SQL_UPDATE_LEASE)) {
+                statement.setString(1, ownerId);
+                statement.setLong(2, currentTime + duration);
+                statement.setString(3, partition);
+                statement.setString(4, ownerId);
+                statement.setLong(5, currentTime);
+                updatedCount = statement.executeUpdate();
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                if (!isLeaseTableMissing(e)) {
+                    log.error("Error while acquiring the session data cleanup lease of the partition: " + partition +
+                            ". Hence skipping the partition until the next run.", e);
+                    return false;
+                }
+                leaseTableAvailable = false;
+                log.warn("Session data cleanup lease table is not available. Hence the cleanup is not coordinated " +
+                        "across the cluster nodes.", e);
+                return true;
+            }
+            if (updatedCount == 0) {
+                try (PreparedStatement statement = connection.prepareStatement(SQL_INSERT_LEASE)) {
+                    statement.setString(1, partition);
+                    statement.setString(2, ownerId);
+                    statement.setLong(3, currentTime + duration);
+                    statement.executeUpdate();
+                } catch (SQLException e) {
+                    // The lease row exists, and is held by another node.
+                    IdentityDatabaseUtil.rollbackTransaction(connection);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Session data cleanup lease of the partition: " + partition + " is held by " +
+                                "another node.");
+                    }
+                    return false;
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            return true;
+        } catch (SQLException | IdentityRuntimeException e) {
+            log.error("Error while acquiring the session data cleanup lease of the partition: " + partition, e);
+            return false;
+        }
+    }
+
+    /**
+     * Release the lease of the partition if this node holds it, so that another node can take it over.
+     *
+     * @param partition Name of the partition.
+     */
+    void release(String partition) {
+
+        if (!leaseTableAvailable) {
+            return;
+        }
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
+            try (PreparedStatement statement = connection.prepareStatement(SQL_RELEASE_LEASE)) {
+                statement.setString(1, partition);
+                statement.setString(2, ownerId);
+                statement.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                log.error("Error while releasing the session data cleanup lease of the partition: " + partition, e);
+            }
+        } catch (SQLException | IdentityRuntimeException e) {
+            log.error("Error while releasing the session data cleanup lease of the partition: " + partition, e);
+        }
+    }
+
+    /**
+     * Get the cursor of the partition cleanup stored in the lease row of the partition.
+     *
+     * @param partition Name of the partition.
+     * @return Cursor of the partition cleanup, or null if there is none or it could not be read.
+     */
+    Cursor getCursor(String partition) {
+
+        if (!leaseTableAvailable) {
+            return null;
+        }
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(false);
+             PreparedStatement statement = connection.prepareStatement(SQL_SELECT_CURSOR)) {
+            statement.setString(1, partition);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    long timeCreated = resultSet.getLong(1);
+                    String sessionId = resultSet.getString(2);
+                    if (!resultSet.wasNull() && sessionId != null) {
+                        return new Cursor(timeCreated, sessionId);
+                    }
+                }
+            }
+        } catch (SQLException | IdentityRuntimeException e) {
+            log.error("Error while reading the session data cleanup cursor of the partition: " + partition, e);
+        }
+        return null;
+    }
+
+    /**
+     * Store the cursor of the partition cleanup in the lease row of the partition, if this node holds the lease. The
+     * cursor is stored in the transaction of the given connection, so that it is committed with the cleanup it
+     * records.
+     *
+     * @param connection Session DB connection of the cleanup.
+     * @param partition  Name of the partition.
+     * @param cursor     Cursor of the partition cleanup.
+     * @throws SQLException If the cursor could not be stored.
+     */
+    void updateCursor(Connection connection, String partition, Cursor cursor) throws SQLException {
+
+        if (!leaseTableAvailable) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(SQL_UPDATE_CURSOR)) {
+            statement.setLong(1, cursor.getTimeCreated());
+            statement.setString(2, cursor.getSessionId());
+            statement.setString(3, partition);
+            statement.setString(4, ownerId);
+            if (statement.executeUpdate() == 0 && log.isDebugEnabled()) {
+                log.debug("Session data cleanup cursor of the partition: " + partition + " is not stored, since " +
+                        "the lease is held by another node.");
+            }
+        }
+    }
+
+    /**
+     * Check whether the error is due to the lease table not existing, by the SQL state of the databases, such as
+     * 42S02 of MySQL, MSSQL and H2, 42P01 of PostgreSQL and 42704 of DB2, the ORA-00942 error of Oracle, or else by
+     * the error message.
+     */
+    static boolean isLeaseTableMissing(SQLException e) {
+
+        String sqlState = e.getSQLState();
+        if ("42S02".equals(sqlState) || "42P01".equals(sqlState) || "42704".equals(sqlState) ||
+                ("42000".equals(sqlState) && e.getErrorCode() == 942)) {
+            return true;
+        }
+        String message = e.getMessage() != null ? e.getMessage().toUpperCase(Locale.ENGLISH) : "";
+        return message.contains(LEASE_TABLE) && (message.contains("NOT EXIST") || message.contains("NOT FOUND") ||
+                message.contains("DOESN'T EXIST") || message.contains("INVALID OBJECT NAME"));
+    }
+
+    String getOwnerId() {
+
+        return ownerId;
+    }
+
+    /**
+     * Position of a partition cleanup, as the creation time and the session id of the last processed row.
+     */
+    static final class Cursor {
+
+        private final long timeCreated;
+        private final String sessionId;
+
+        Cursor(long timeCreated, String sessionId) {
+
+            this.timeCreated = timeCreated;
+            this.sessionId = sessionId;
+        }
+
+        long getTimeCreated() {
+
+            return timeCreated;
+        }
+
+        String getSessionId() {
+
+            return sessionId;
+        }
+    }
+}
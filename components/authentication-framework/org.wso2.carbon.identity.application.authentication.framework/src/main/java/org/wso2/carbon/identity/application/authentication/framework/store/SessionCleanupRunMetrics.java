@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of a session data cleanup run: the rows purged and the time spent per partition, and the partitions which
+ * were skipped since another node held their lease.
+ */
+public class SessionCleanupRunMetrics {
+
+    private final long startTime = System.currentTimeMillis();
+    private final Map<String, Long> purgedCounts = new LinkedHashMap<>();
+    private final Map<String, Long> durations = new LinkedHashMap<>();
+    private final List<String> skippedPartitions = new ArrayList<>();
+    private long duration;
+
+    void recordPartition(String partition, long purgedCount, long elapsedNanos) {
+
+        purgedCounts.put(partition, purgedCount);
+        durations.put(partition, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    void recordSkippedPartition(String partition) {
+
+        skippedPartitions.add(partition);
+    }
+
+    void complete(long elapsedNanos) {
+
+        duration = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * @return Start time of the run in milliseconds.
+     */
+    public long getStartTime() {
+
+        return startTime;
+    }
+
+    /**
+     * @return Time spent on the run in milliseconds.
+     */
+    public long getDuration() {
+
+        return duration;
+    }
+
+    /**
+     * @return Number of rows purged per partition. A negative count means the partition does not report its count.
+     */
+    public Map<String, Long> getPurgedCounts() {
+
+        return Collections.unmodifiableMap(purgedCounts);
+    }
+
+    /**
+     * @return Time spent per partition in milliseconds.
+     */
+    public Map<String, Long> getDurations() {
+
+        return Collections.unmodifiableMap(durations);
+    }
+
+    /**
+     * @return Partitions skipped since their lease was held by another node.
+     */
+    public List<String> getSkippedPartitions() {
+
+        return Collections.unmodifiableList(skippedPartitions);
+    }
+
+    /**
+     * @return Total number of rows purged in the run.
+     */
+    public long getTotalPurgedCount() {
+
+        long totalPurgedCount = 0;
+        for (long purgedCount : purgedCounts.values()) {
+            if (purgedCount > 0) {
+                totalPurgedCount += purgedCount;
+            }
+        }
+        return totalPurgedCount;
+    }
+
+    @Override
+    public String toString() {
+
+        return "duration: " + duration + " ms, purged rows: " + purgedCounts + ", partition durations (ms): " +
+                durations + ", skipped partitions: " + skippedPartitions;
+    }
+}
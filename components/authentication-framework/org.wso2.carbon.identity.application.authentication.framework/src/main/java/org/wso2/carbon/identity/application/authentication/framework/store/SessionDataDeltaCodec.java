@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encodes and applies binary deltas between two serialized session objects.
+ * <p>
+ * A delta records the time created of the row it was computed against, followed by a sequence of COPY (a range of
+ * the base object) and INSERT (literal bytes) instructions that rebuild the new serialized object. Since the
+ * session serializer is pluggable, deltas are computed on the serialized form rather than on individual fields of
+ * the session object, which keeps unchanged sections such as completed step results out of the persisted delta.
+ */
+public final class SessionDataDeltaCodec {
+
+    private static final byte VERSION = 1;
+    private static final byte OP_COPY = 0;
+    private static final byte OP_INSERT = 1;
+    private static final int BLOCK_SIZE = 16;
+    private static final int HASH_BASE = 31;
+    private static final int HASH_HIGHEST_POWER = highestPower();
+
+    private SessionDataDeltaCodec() {
+
+    }
+
+    /**
+     * Compute the delta which transforms the base object to the target object.
+     *
+     * @param baseTimeCreated Time created of the persisted row which holds the base object.
+     * @param base            Serialized base object.
+     * @param target          Serialized target object.
+     * @return Encoded delta.
+     */
+    public static byte[] encode(long baseTimeCreated, byte[] base, byte[] target) {
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(byteArrayOutputStream)) {
+            out.writeByte(VERSION);
+            out.writeLong(baseTimeCreated);
+            out.writeInt(target.length);
+
+            Map<Integer, Integer> blockIndex = buildBlockIndex(base);
+            int literalStart = 0;
+            int position = 0;
+            int hash = target.length >= BLOCK_SIZE ? hash(target, 0) : 0;
+            while (position + BLOCK_SIZE <= target.length) {
+                Integer baseOffset = blockIndex.get(hash);
+                if (baseOffset != null && rangeEquals(base, baseOffset, target, position)) {
+                    int matchStart = position;
+                    int baseStart = baseOffset;
+                    while (matchStart > literalStart && baseStart > 0 &&
+                            base[baseStart - 1] == target[matchStart - 1]) {
+                        matchStart--;
+                        baseStart--;
+                    }
+                    int matchEnd = position + BLOCK_SIZE;
+                    int baseEnd = baseOffset + BLOCK_SIZE;
+                    while (matchEnd < target.length && baseEnd < base.length && base[baseEnd] == target[matchEnd]) {
+                        matchEnd++;
+                        baseEnd++;
+                    }
+                    writeInsert(out, target, literalStart, matchStart);
+                    out.writeByte(OP_COPY);
+                    out.writeInt(baseStart);
+                    out.writeInt(matchEnd - matchStart);
+                    position = matchEnd;
+                    literalStart = matchEnd;
+                    if (position + BLOCK_SIZE <= target.length) {
+                        hash = hash(target, position);
+                    }
+                    continue;
+                }
+                if (position + BLOCK_SIZE < target.length) {
+                    hash = roll(hash, target[position], target[position + BLOCK_SIZE]);
+                }
+                position++;
+            }
+            writeInsert(out, target, literalStart, target.length);
+        } catch (IOException e) {
+            // Writing to an in-memory stream does not throw IOExceptions.
+            throw new IllegalStateException("Error while encoding the session data delta.", e);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * Get the time created of the row which the given delta was computed against.
+     *
+     * @param delta Encoded delta.
+     * @return Time created of the base row.
+     * @throws IOException If the delta is malformed.
+     */
+    public static long getBaseTimeCreated(byte[] delta) throws IOException {
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta))) {
+            readVersion(in);
+            return in.readLong();
+        }
+    }
+
+    /**
+     * Apply the given delta on the base object.
+     *
+     * @param base  Serialized base object.
+     * @param delta Encoded delta.
+     * @return Serialized target object.
+     * @throws IOException If the delta is malformed or does not match the base object.
+     */
+    public static byte[] apply(byte[] base, byte[] delta) throws IOException {
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta))) {
+            readVersion(in);
+            in.readLong();
+            byte[] target = new byte[in.readInt()];
+            int position = 0;
+            while (position < target.length) {
+                byte operation = in.readByte();
+                int length;
+                if (operation == OP_COPY) {
+                    int offset = in.readInt();
+                    length = in.readInt();
+                    if (offset < 0 || length < 0 || offset + length > base.length ||
+                            position + length > target.length) {
+                        throw new IOException("Session data delta does not match the base object.");
+                    }
+                    System.arraycopy(base, offset, target, position, length);
+                } else if (operation == OP_INSERT) {
+                    length = in.readInt();
+                    if (length < 0 || position + length > target.length) {
+                        throw new IOException("Malformed session data delta.");
+                    }
+                    in.readFully(target, position, length);
+                } else {
+                    throw new IOException("Unknown session data delta operation: " + operation);
+                }
+                position += length;
+            }
+            return target;
+        } catch (EOFException e) {
+            throw new IOException("Truncated session data delta.", e);
+        }
+    }
+
+    private static void readVersion(DataInputStream in) throws IOException {
+
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported session data delta version: " + version);
+        }
+    }
+
+    private static Map<Integer, Integer> buildBlockIndex(byte[] base) {
+
+        Map<Integer, Integer> blockIndex = new HashMap<>();
+        for (int offset = 0; offset + BLOCK_SIZE <= base.length; offset += BLOCK_SIZE) {
+            blockIndex.putIfAbsent(hash(base, offset), offset);
+        }
+        return blockIndex;
+    }
+
+    private static void writeInsert(DataOutputStream out, byte[] target, int start, int end) throws IOException {
+
+        if (end > start) {
+            out.writeByte(OP_INSERT);
+            out.writeInt(end - start);
+            out.write(target, start, end - start);
+        }
+    }
+
+    private static boolean rangeEquals(byte[] base, int baseOffset, byte[] target, int targetOffset) {
+
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            if (base[baseOffset + i] != target[targetOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(byte[] bytes, int offset) {
+
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = hash * HASH_BASE + (bytes[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static int roll(int hash, byte outgoing, byte incoming) {
+
+        return (hash - (outgoing & 0xFF) * HASH_HIGHEST_POWER) * HASH_BASE + (incoming & 0xFF);
+    }
+
+    private static int highestPower() {
+
+        int highestPower = 1;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            highestPower *= HASH_BASE;
+        }
+        return highestPower;
+    }
+}
@@ -35,6 +35,8 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInput;
@@ -42,53 +44,67 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 
 /**
  * Data will be persisted or stored date will be removed from the store. These two events are considered as STORE
  * operation and DELETE operations.
  * And these events are stored with unique sessionId, operation type and operation initiated timestamp.
- * Expired DELETE operations and related STORE operations will be deleted by a OperationCleanUpService task.
- * All expired operations will be deleted by SessionCleanUpService task.
+ * STORE operations invalidated by DELETE operations and all expired operations will be deleted by the
+ * SessionCleanUpService task.
+ * When delta persistence is enabled, consecutive STORE events of the same session are persisted as DELTA operations
+ * which only hold the changes against the row last persisted by this node for that session, and a full STORE
+ * snapshot is written once the configured number of deltas is reached. A delta carries the creation time of the row
+ * it is based on, and reads skip the rows of other writers interleaved with its chain, so a delta resolves to the
+ * same session data as a full STORE snapshot written at its time would.
  */
 public class SessionDataStore {
     private static final Log log = LogFactory.getLog(SessionDataStore.class);
 
     private static final String OPERATION_DELETE = "DELETE";
     private static final String OPERATION_STORE = "STORE";
+    private static final String OPERATION_DELTA = "DELTA";
     private static final String SQL_INSERT_STORE_OPERATION =
             "INSERT INTO IDN_AUTH_SESSION_STORE(SESSION_ID, SESSION_TYPE, OPERATION, SESSION_OBJECT, TIME_CREATED, " +
                     "EXPIRY_TIME, TENANT_ID) VALUES (?,?,?,?,?,?,?)";
     private static final String SQL_INSERT_DELETE_OPERATION =
             "INSERT INTO IDN_AUTH_SESSION_STORE(SESSION_ID, SESSION_TYPE,OPERATION, TIME_CREATED, EXPIRY_TIME) " +
                     "VALUES (?,?,?,?,?)";
-    private static final String SQL_DELETE_STORE_OPERATIONS_TASK =
-            "DELETE FROM IDN_AUTH_SESSION_STORE WHERE OPERATION = '" + OPERATION_STORE +
-                    "' AND EXISTS (" +
-                        "SELECT 1 FROM IDN_AUTH_SESSION_STORE DELETE_OP " +
-                        "WHERE DELETE_OP.OPERATION = '" + OPERATION_DELETE + "' " +
-                        "AND IDN_AUTH_SESSION_STORE.SESSION_ID = DELETE_OP.SESSION_ID " +
-                        "AND IDN_AUTH_SESSION_STORE.TIME_CREATED < DELETE_OP.TIME_CREATED)";
+    private static final String SQL_SELECT_DELETE_OPERATIONS_TASK =
+            "SELECT SESSION_ID, TIME_CREATED FROM IDN_AUTH_SESSION_STORE WHERE OPERATION = '" + OPERATION_DELETE +
+                    "' AND TIME_CREATED >= ? AND (TIME_CREATED > ? OR SESSION_ID > ?) ORDER BY TIME_CREATED, " +
+                    "SESSION_ID";
+    private static final String SQL_DELETE_INVALIDATED_STORE_OPERATION =
+            "DELETE FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ? AND OPERATION = '" + OPERATION_STORE +
+                    "' AND TIME_CREATED < ?";
 
     private static final String SQL_DELETE_TEMP_STORE_OPERATIONS_TASK =
             "DELETE FROM IDN_AUTH_TEMP_SESSION_STORE WHERE EXPIRY_TIME < ?";
-    private static final String SQL_DELETE_STORE_OPERATIONS_TASK_MYSQL =
-            "DELETE FROM IDN_AUTH_SESSION_STORE STORE_OP WHERE OPERATION = '" + OPERATION_STORE + "'" +
-                    "AND SESSION_ID IN (" +
-                        "SELECT STORE_OP.SESSION_ID FROM (" +
-                            "SELECT SESSION_ID FROM IDN_AUTH_SESSION_STORE DELETE_OP " +
-                            "WHERE OPERATION = '" + OPERATION_DELETE + "' " +
-                            "AND STORE_OP.SESSION_ID = SESSION_ID " +
-                            "AND STORE_OP.TIME_CREATED < DELETE_OP.TIME_CREATED" +
-                        ") AS STORE_OP" +
-                    ");";
     private static final String SQL_DELETE_DELETE_OPERATIONS_TASK =
             "DELETE FROM IDN_AUTH_SESSION_STORE WHERE OPERATION = '" + OPERATION_DELETE + "' AND  EXPIRY_TIME < ?";
+    private static final String SQL_SELECT_SESSION_DATA_CHAIN =
+            "SELECT OPERATION, SESSION_OBJECT, TIME_CREATED FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID =? AND" +
+                    " SESSION_TYPE=? ORDER BY TIME_CREATED DESC";
+    private static final String SQL_SELECT_NEWER_DELTA_OPERATION =
+            "SELECT TIME_CREATED FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ? AND OPERATION = '" +
+                    OPERATION_DELTA + "' AND TIME_CREATED > ?";
+    private static final String SQL_DELETE_INVALIDATED_STORE_AND_DELTA_OPERATIONS =
+            "DELETE FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ? AND OPERATION IN ('" + OPERATION_STORE + "', '" +
+                    OPERATION_DELTA + "') AND TIME_CREATED < ?";
     private static final String SQL_DELETE_TEMP_RECORDS =
             "DELETE FROM IDN_AUTH_TEMP_SESSION_STORE WHERE SESSION_ID = ? AND  SESSION_TYPE = ?";
 
@@ -177,6 +193,14 @@ public class SessionDataStore {
     private static final String INFORMIX_DATABASE = "Informix";
 
     private static final int DEFAULT_DELETE_LIMIT = 50000;
+    private static final long DEFAULT_DELETE_CHUNK_TARGET_TIME = 1000L;
+    // DELETE operations created this long before the last processed one are processed again, to cover the ones
+    // committed late or created by a node with a lagging clock.
+    private static final long DELETE_OPERATION_CURSOR_MARGIN = TimeUnit.MINUTES.toNanos(10);
+    private static final int DEFAULT_MAX_DELTAS_PER_SNAPSHOT = 8;
+    private static final int DEFAULT_DELTA_TRACKED_SESSION_COUNT = 1000;
+    // Maximum time during which deltas are appended to a snapshot, which is kept this much longer than its validity.
+    private static final long MAX_DELTA_CHAIN_WINDOW = TimeUnit.MINUTES.toNanos(15);
     public static final String DEFAULT_SESSION_STORE_TABLE_NAME = "IDN_AUTH_SESSION_STORE";
     private static final String CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
     public static final String DEFAULT_TEMP_SESSION_STORE_TABLE_NAME = "IDN_AUTH_TEMP_SESSION_STORE";
@@ -196,12 +220,25 @@ public class SessionDataStore {
     private String sqlDeleteExpiredDataTask;
     private String sqlGetLastOperation;
     private int deleteChunkSize = DEFAULT_DELETE_LIMIT;
+    private SessionCleanupChunkSize sessionDataChunkSize;
+    private SessionCleanupChunkSize tempDataChunkSize;
+    private SessionCleanupChunkSize operationDataChunkSize;
+    // Cursor of the last processed DELETE operation, used when the cursor is not stored in the cleanup lease.
+    private volatile SessionCleanupLease.Cursor lastProcessedDeleteOperation;
+    private SessionCleanUpService sessionCleanUpService;
     private boolean sessionDataCleanupEnabled = true;
     private boolean operationDataCleanupEnabled = false;
     private static boolean tempDataCleanupEnabled = false;
     private static boolean periodicTempDataCleanupEnabled = true;
     private static boolean sessionAndTempDataSeparationEnabled = false;
     private static boolean checkExistingEntryForDeleteOperationInsert = false;
+    private boolean deltaPersistenceEnabled = false;
+    private int maxDeltasPerSnapshot = DEFAULT_MAX_DELTAS_PER_SNAPSHOT;
+    private Map<String, DeltaChainState> deltaChainStates;
+    private final AtomicLong snapshotCount = new AtomicLong();
+    private final AtomicLong snapshotBytes = new AtomicLong();
+    private final AtomicLong deltaCount = new AtomicLong();
+    private final AtomicLong deltaBytes = new AtomicLong();
 
     static {
         try {
@@ -313,8 +350,19 @@ public class SessionDataStore {
             deleteChunkSize = Integer.parseInt(deleteChunkSizeString);
         }
 
+        long deleteChunkTargetTime = DEFAULT_DELETE_CHUNK_TARGET_TIME;
+        String deleteChunkTargetTimeString = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist" +
+                ".SessionDataCleanUp.DeleteChunkTargetTime");
+        if (StringUtils.isNotBlank(deleteChunkTargetTimeString)) {
+            deleteChunkTargetTime = Long.parseLong(deleteChunkTargetTimeString);
+        }
+        sessionDataChunkSize = new SessionCleanupChunkSize(deleteChunkSize, deleteChunkTargetTime);
+        tempDataChunkSize = new SessionCleanupChunkSize(deleteChunkSize, deleteChunkTargetTime);
+        operationDataChunkSize = new SessionCleanupChunkSize(deleteChunkSize, deleteChunkTargetTime);
+
         if (StringUtils.isNotBlank(deleteExpiredDataTaskSQL)) {
-            sqlDeleteExpiredDataTask = String.format(deleteExpiredDataTaskSQL, deleteChunkSize);
+            // Formatted with the chunk size of each delete.
+            sqlDeleteExpiredDataTask = deleteExpiredDataTaskSQL;
         }
 
         if (!enablePersist) {
@@ -341,8 +389,7 @@ public class SessionDataStore {
                 log.debug(String.format("Session clean up task enabled to run in %d minutes intervals",
                         sessionCleanupPeriod));
             }
-            SessionCleanUpService sessionCleanUpService = new SessionCleanUpService(sessionCleanupPeriod / 4,
-                    sessionCleanupPeriod);
+            sessionCleanUpService = new SessionCleanUpService(sessionCleanupPeriod / 4, sessionCleanupPeriod);
             sessionCleanUpService.activateCleanUp();
         }
 
@@ -352,6 +399,41 @@ public class SessionDataStore {
             checkExistingEntryForDeleteOperationInsert = Boolean.parseBoolean(
                     checkExistingEntryForDeleteOperationInsertProperty);
         }
+        initDeltaPersistence();
+    }
+
+    private void initDeltaPersistence() {
+
+        deltaPersistenceEnabled = Boolean.parseBoolean(
+                IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.DeltaPersistence.Enable"));
+        if (!deltaPersistenceEnabled) {
+            return;
+        }
+        int trackedSessionCount = DEFAULT_DELTA_TRACKED_SESSION_COUNT;
+        try {
+            String maxDeltasPerSnapshotValue = IdentityUtil.getProperty(
+                    "JDBCPersistenceManager.SessionDataPersist.DeltaPersistence.MaxDeltasPerSnapshot");
+            if (StringUtils.isNotBlank(maxDeltasPerSnapshotValue)) {
+                maxDeltasPerSnapshot = Integer.parseInt(maxDeltasPerSnapshotValue);
+            }
+            String trackedSessionCountValue = IdentityUtil.getProperty(
+                    "JDBCPersistenceManager.SessionDataPersist.DeltaPersistence.TrackedSessionCount");
+            if (StringUtils.isNotBlank(trackedSessionCountValue)) {
+                trackedSessionCount = Integer.parseInt(trackedSessionCountValue);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Invalid delta persistence configuration for session data. Default values would be used.");
+        }
+        final int maxTrackedSessions = trackedSessionCount;
+        deltaChainStates = Collections.synchronizedMap(new LinkedHashMap<String, DeltaChainState>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DeltaChainState> eldest) {
+
+                return size() > maxTrackedSessions;
+            }
+        });
+        log.info("Delta persistence of session data is enabled with a full snapshot for every " +
+                maxDeltasPerSnapshot + " deltas.");
     }
 
     public static SessionDataStore getInstance() {
@@ -431,6 +513,9 @@ public class SessionDataStore {
                 if (StringUtils.equalsIgnoreCase(OPERATION_STORE, operation)) {
                     return new SessionContextDO(key, type, getBlobObject(resultSet.getBinaryStream(2)), nanoTime);
                 }
+                if (StringUtils.equalsIgnoreCase(OPERATION_DELTA, operation)) {
+                    return resolveStoredSessionContextData(connection, key, type);
+                }
             }
         } catch (ClassNotFoundException | IOException | SQLException | SessionSerializerException |
                  IdentityApplicationManagementException e) {
@@ -462,6 +547,10 @@ public class SessionDataStore {
         }
 
         try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(false)) {
+            if (deltaPersistenceEnabled && StringUtils.equalsIgnoreCase(OPERATION_STORE, operation)) {
+                // The latest STORE snapshot may have newer DELTA operations, which have to be applied to it.
+                return resolveStoredSessionContextData(connection, key, type);
+            }
             if (StringUtils.isBlank(sqlOperationSelect)) {
                 String driverName = connection.getMetaData().getDriverName();
                 if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)
@@ -537,6 +626,11 @@ public class SessionDataStore {
                 if (StringUtils.equalsIgnoreCase(requiredOperation, operation)) {
                     return true;
                 }
+                // A DELTA operation stores the session data as a STORE operation does.
+                if (StringUtils.equalsIgnoreCase(OPERATION_STORE, requiredOperation) &&
+                        StringUtils.equalsIgnoreCase(OPERATION_DELTA, operation)) {
+                    return true;
+                }
             }
         } catch (SQLException e) {
             if (log.isDebugEnabled()) {
@@ -548,6 +642,66 @@ public class SessionDataStore {
         return false;
     }
 
+    /**
+     * Rebuild the latest stored session data of a session, by applying every DELTA operation of the chain of the
+     * latest STORE or DELTA operation, in order, to the full STORE snapshot which the chain is based on. DELETE
+     * operations are skipped.
+     *
+     * @param connection Session DB connection.
+     * @param key        Session data key.
+     * @param type       Session data type.
+     * @return Latest stored session data, or null if there is none or the delta chain could not be resolved.
+     */
+    private SessionContextDO resolveStoredSessionContextData(Connection connection, String key, String type)
+            throws SQLException, IOException, ClassNotFoundException, SessionSerializerException,
+            IdentityApplicationManagementException {
+
+        Deque<byte[]> deltas = new ArrayDeque<>();
+        long latestTimeCreated = -1L;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                getSessionStoreDBQuery(SQL_SELECT_SESSION_DATA_CHAIN, type))) {
+            preparedStatement.setString(1, key);
+            preparedStatement.setString(2, type);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                Long expectedTimeCreated = null;
+                while (resultSet.next()) {
+                    String operation = resultSet.getString(1);
+                    long timeCreated = resultSet.getLong(3);
+                    if (StringUtils.equalsIgnoreCase(OPERATION_DELETE, operation)) {
+                        continue;
+                    }
+                    if (expectedTimeCreated == null) {
+                        latestTimeCreated = timeCreated;
+                    } else if (timeCreated > expectedTimeCreated) {
+                        // Rows written after the base row by other writers are not part of this chain.
+                        continue;
+                    } else if (timeCreated < expectedTimeCreated) {
+                        break;
+                    }
+                    if (StringUtils.equalsIgnoreCase(OPERATION_STORE, operation)) {
+                        byte[] sessionObject = readBytes(resultSet.getBinaryStream(2));
+                        while (!deltas.isEmpty()) {
+                            sessionObject = SessionDataDeltaCodec.apply(sessionObject, deltas.pop());
+                        }
+                        return new SessionContextDO(key, type,
+                                getBlobObject(new ByteArrayInputStream(sessionObject)), latestTimeCreated);
+                    }
+                    if (!StringUtils.equalsIgnoreCase(OPERATION_DELTA, operation)) {
+                        break;
+                    }
+                    byte[] delta = readBytes(resultSet.getBinaryStream(2));
+                    deltas.push(delta);
+                    expectedTimeCreated = SessionDataDeltaCodec.getBaseTimeCreated(delta);
+                }
+            }
+        }
+        if (log.isDebugEnabled() && latestTimeCreated != -1L) {
+            log.debug("Unable to resolve the base snapshot of the session data delta chain. key : " + key +
+                    " type : " + type);
+        }
+        return null;
+    }
+
     private String getSqlGetLastOperation(Connection connection) throws SQLException {
 
         String sqlGetLastOperationQuery;
@@ -611,7 +765,8 @@ public class SessionDataStore {
 
     /**
      * Gets the DB specific query for the session data removal, this may be overridden by the configuration
-     * "JDBCPersistenceManager.SessionDataPersist.SQL.DeleteExpiredDataTask"
+     * "JDBCPersistenceManager.SessionDataPersist.SQL.DeleteExpiredDataTask". The query is formatted with the chunk
+     * size of each delete.
      *
      * @return
      * @throws IdentityApplicationManagementException
@@ -639,7 +794,7 @@ public class SessionDataStore {
                 nonFormattedQuery = SQL_DELETE_EXPIRED_DATA_TASK_ORACLE;
             }
             IdentityDatabaseUtil.commitTransaction(connection);
-            return String.format(nonFormattedQuery, deleteChunkSize);
+            return nonFormattedQuery;
         } catch (SQLException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
             throw new IdentityApplicationManagementException("Error while retrieving DB connection meta-data", e);
@@ -649,28 +804,48 @@ public class SessionDataStore {
     }
 
     /**
-     * Removes the records related to expired sessions from DB.
+     * Removes the records related to expired sessions from DB, in chunks sized by the measured delete latency.
+     *
+     * @param sqlQuery        Delete query, formatted with the chunk size.
+     * @param chunkSize       Chunk size of the deletes.
+     * @param continueCleanup Checked between the chunks, to stop the removal once it returns false.
+     * @return Number of removed records.
      */
-    private void removeExpiredSessionData(String sqlQuery) {
+    private long removeExpiredSessionData(String sqlQuery, SessionCleanupChunkSize chunkSize,
+                                          BooleanSupplier continueCleanup) {
 
+        if (StringUtils.isBlank(sqlQuery)) {
+            return 0;
+        }
         if (log.isDebugEnabled()) {
             log.debug("DB query for removing expired data: " + sqlQuery);
         }
         long currentTime = FrameworkUtils.getCurrentStandardNano();
+        long totalDeletedEntries = 0;
         try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
             boolean deleteCompleted = false;
-            int totalDeletedEntries = 0;
             while (!deleteCompleted) {
-                try (PreparedStatement statement = connection.prepareStatement(sqlQuery)) {
+                int currentChunkSize = chunkSize.getChunkSize();
+                long chunkStartTime = System.nanoTime();
+                try (PreparedStatement statement = connection.prepareStatement(
+                        String.format(sqlQuery, currentChunkSize))) {
                     statement.setLong(1, currentTime);
                     int noOfDeletedRecords = statement.executeUpdate();
-                    deleteCompleted = noOfDeletedRecords < deleteChunkSize;
+                    deleteCompleted = noOfDeletedRecords < currentChunkSize;
                     totalDeletedEntries += noOfDeletedRecords;
                     // Commit the chunk deletion.
                     IdentityDatabaseUtil.commitTransaction(connection);
+                    chunkSize.recordChunk(noOfDeletedRecords, System.nanoTime() - chunkStartTime);
+                    if (log.isDebugEnabled()) {
+                        log.debug(String.format("Removed %d expired session records in a chunk of %d.",
+                                noOfDeletedRecords, currentChunkSize));
+                    }
+                }
+                if (!deleteCompleted && !continueCleanup.getAsBoolean()) {
                     if (log.isDebugEnabled()) {
-                        log.debug(String.format("Removed %d expired session records.", noOfDeletedRecords));
+                        log.debug("Expired session data removal is stopped before completion.");
                     }
+                    break;
                 }
             }
             if (log.isDebugEnabled()) {
@@ -679,6 +854,7 @@ public class SessionDataStore {
         } catch (SQLException | IdentityRuntimeException e) {
             log.error("Error while removing session data from the database for nano time: " + currentTime, e);
         }
+        return totalDeletedEntries;
     }
 
     /**
@@ -686,6 +862,46 @@ public class SessionDataStore {
      */
     public void removeExpiredSessionData() {
 
+        BooleanSupplier continueCleanup = () -> true;
+        if (sessionDataCleanupEnabled) {
+            removeExpiredSessionData(continueCleanup);
+        }
+        if (isPeriodicTempDataCleanupEnabled()) {
+            removeExpiredTempSessionData(continueCleanup);
+        }
+        if (operationDataCleanupEnabled) {
+            removeInvalidatedStoreOperations(continueCleanup);
+        }
+    }
+
+    /**
+     * Removes the expired session data from the DB.
+     *
+     * @param continueCleanup Checked between the delete chunks, to stop the removal once it returns false.
+     * @return Number of removed records.
+     */
+    public long removeExpiredSessionData(BooleanSupplier continueCleanup) {
+
+        return removeExpiredSessionData(getExpiredDataRemovalQuery(), sessionDataChunkSize, continueCleanup);
+    }
+
+    /**
+     * Removes the expired temporary session data from the DB.
+     *
+     * @param continueCleanup Checked between the delete chunks, to stop the removal once it returns false.
+     * @return Number of removed records.
+     */
+    public long removeExpiredTempSessionData(BooleanSupplier continueCleanup) {
+
+        String sqlQuery = getExpiredDataRemovalQuery();
+        if (StringUtils.isBlank(sqlQuery)) {
+            return 0;
+        }
+        return removeExpiredSessionData(replaceTableName(sqlQuery), tempDataChunkSize, continueCleanup);
+    }
+
+    private String getExpiredDataRemovalQuery() {
+
         if (StringUtils.isBlank(sqlDeleteExpiredDataTask)) {
             try {
                 sqlDeleteExpiredDataTask = getDBSpecificSessionDataRemovalQuery();
@@ -693,15 +909,7 @@ public class SessionDataStore {
                 log.error("Error when initializing the db specific cleanup query.", e);
             }
         }
-        if (sessionDataCleanupEnabled) {
-            removeExpiredSessionData(sqlDeleteExpiredDataTask);
-        }
-        if (tempDataCleanupEnabled && periodicTempDataCleanupEnabled) {
-            removeExpiredSessionData(replaceTableName(sqlDeleteExpiredDataTask));
-        }
-        if (operationDataCleanupEnabled) {
-            removeInvalidatedSTOREOperations();
-        }
+        return sqlDeleteExpiredDataTask;
     }
 
     /**
@@ -717,6 +925,10 @@ public class SessionDataStore {
         if (!enablePersist) {
             return;
         }
+        if (deltaPersistenceEnabled && entry != null) {
+            persistSessionDataAsDelta(key, type, entry, nanoTime, tenantId);
+            return;
+        }
         Connection connection = null;
         try {
             connection = IdentityDatabaseUtil.getSessionDBConnection(true);
@@ -725,15 +937,7 @@ public class SessionDataStore {
             return;
         }
 
-        long validityPeriodNano = 0L;
-
-        if (entry instanceof CacheEntry) {
-            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
-        }
-
-        if (validityPeriodNano == 0L) {
-            validityPeriodNano = getCleanupTimeout(type, tenantId);
-        }
+        long validityPeriodNano = getValidityPeriod(type, entry, tenantId);
 
         PreparedStatement preparedStatement = null;
         try {
@@ -760,6 +964,94 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Persist the session data as a DELTA operation against the last row persisted by this node for the session. The
+     * chain is tracked in memory, so no extra query is needed to persist a delta. The session data is persisted as a
+     * full STORE snapshot when this node has no chain for the session, the chain has reached its maximum length or
+     * window, or the delta is not considerably smaller than the session object itself.
+     * <p>
+     * Rows written by other nodes since the last row of the chain do not break the delta, since it is resolved against
+     * the row it is based on, and the cleanup keeps the rows older than a DELETE operation which a newer delta depends
+     * on.
+     * <p>
+     * All the rows of a delta chain share the expiry time of its snapshot, which is extended by the chain window, so
+     * that persisting a delta does not have to update the rows it depends on.
+     */
+    private void persistSessionDataAsDelta(String key, String type, Object entry, long nanoTime, int tenantId) {
+
+        byte[] sessionObject;
+        try {
+            sessionObject = readBytes(FrameworkServiceDataHolder.getInstance().getSessionSerializer()
+                    .serializeSessionObject(entry));
+        } catch (IOException | SessionSerializerException e) {
+            log.error("Error while storing session data", e);
+            return;
+        }
+        long validityPeriodNano = getValidityPeriod(type, entry, tenantId);
+        DeltaChainState chainState = deltaChainStates.computeIfAbsent(getDeltaChainKey(key, type),
+                chainKey -> new DeltaChainState());
+
+        synchronized (chainState) {
+            Connection connection;
+            try {
+                connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+            } catch (IdentityRuntimeException e) {
+                log.error(e.getMessage(), e);
+                return;
+            }
+            String operation = OPERATION_STORE;
+            byte[] persistedObject = sessionObject;
+            long expiryTime = nanoTime + validityPeriodNano + Math.min(validityPeriodNano, MAX_DELTA_CHAIN_WINDOW);
+            try {
+                if (chainState.canAppend(nanoTime, nanoTime + validityPeriodNano, maxDeltasPerSnapshot)) {
+                    byte[] delta = SessionDataDeltaCodec.encode(chainState.lastTimeCreated,
+                            chainState.lastSessionObject, sessionObject);
+                    if (delta.length < sessionObject.length / 2) {
+                        operation = OPERATION_DELTA;
+                        persistedObject = delta;
+                        expiryTime = chainState.expiryTime;
+                    }
+                }
+                try (PreparedStatement preparedStatement = connection.prepareStatement(
+                        getSessionStoreDBQuery(sqlInsertSTORE, type))) {
+                    preparedStatement.setString(1, key);
+                    preparedStatement.setString(2, type);
+                    preparedStatement.setString(3, operation);
+                    preparedStatement.setBinaryStream(4, new ByteArrayInputStream(persistedObject),
+                            persistedObject.length);
+                    preparedStatement.setLong(5, nanoTime);
+                    preparedStatement.setLong(6, expiryTime);
+                    preparedStatement.setInt(7, tenantId);
+                    preparedStatement.executeUpdate();
+                }
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                chainState.reset();
+                log.error("Error while storing session data", e);
+                return;
+            } finally {
+                IdentityDatabaseUtil.closeConnection(connection);
+            }
+
+            if (OPERATION_DELTA.equals(operation)) {
+                chainState.appendDelta(sessionObject, nanoTime);
+                deltaCount.incrementAndGet();
+                deltaBytes.addAndGet(persistedObject.length);
+            } else {
+                if (nanoTime > chainState.lastTimeCreated) {
+                    chainState.startChain(sessionObject, nanoTime, expiryTime, tenantId);
+                }
+                snapshotCount.incrementAndGet();
+                snapshotBytes.addAndGet(persistedObject.length);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Persisted SessionContextData to DB as " + operation + " operation of " +
+                        persistedObject.length + " bytes. key : " + key + " type : " + type);
+            }
+        }
+    }
+
     public void removeSessionData(String key, String type, long nanoTime) {
         if (!enablePersist) {
             return;
@@ -799,6 +1091,9 @@ public class SessionDataStore {
         } finally {
             IdentityDatabaseUtil.closeAllConnections(connection, null, preparedStatement);
         }
+        if (deltaPersistenceEnabled) {
+            endDeltaChain(key, type, nanoTime);
+        }
 
         if (log.isDebugEnabled()) {
             log.debug("Removed SessionContextData from DB. key : " + key + " type : " + type);
@@ -836,6 +1131,98 @@ public class SessionDataStore {
         } finally {
             IdentityDatabaseUtil.closeAllConnections(connection, null, preparedStatement);
         }
+        if (deltaPersistenceEnabled) {
+            deltaChainStates.remove(getDeltaChainKey(key, type));
+        }
+    }
+
+    /**
+     * Stop tracking the delta chain of a session once a DELETE operation is recorded for it. If a newer STORE
+     * operation of the session has already been chained over the DELETE operation by another persist task, the
+     * latest session object is re-written as a full snapshot, since the operation data cleanup removes the STORE
+     * rows older than a DELETE operation, which the chain depends on.
+     */
+    private void endDeltaChain(String key, String type, long deleteTimeCreated) {
+
+        DeltaChainState chainState = deltaChainStates.remove(getDeltaChainKey(key, type));
+        if (chainState == null) {
+            return;
+        }
+        synchronized (chainState) {
+            if (chainState.deltasSinceSnapshot == 0 || chainState.lastTimeCreated <= deleteTimeCreated ||
+                    chainState.snapshotTimeCreated > deleteTimeCreated) {
+                return;
+            }
+            Connection connection;
+            try {
+                connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+            } catch (IdentityRuntimeException e) {
+                log.error(e.getMessage(), e);
+                return;
+            }
+            byte[] sessionObject = chainState.lastSessionObject;
+            try (PreparedStatement preparedStatement = connection.prepareStatement(
+                    getSessionStoreDBQuery(sqlInsertSTORE, type))) {
+                long timeCreated = chainState.lastTimeCreated + 1;
+                preparedStatement.setString(1, key);
+                preparedStatement.setString(2, type);
+                preparedStatement.setString(3, OPERATION_STORE);
+                preparedStatement.setBinaryStream(4, new ByteArrayInputStream(sessionObject), sessionObject.length);
+                preparedStatement.setLong(5, timeCreated);
+                preparedStatement.setLong(6, chainState.expiryTime);
+                preparedStatement.setInt(7, chainState.tenantId);
+                preparedStatement.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+                snapshotCount.incrementAndGet();
+                snapshotBytes.addAndGet(sessionObject.length);
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                log.error("Error while storing session data snapshot of the delta chain", e);
+            } finally {
+                IdentityDatabaseUtil.closeConnection(connection);
+            }
+        }
+    }
+
+    /**
+     * Get the number of full session data snapshots persisted by this node while delta persistence is enabled.
+     *
+     * @return Number of persisted snapshots.
+     */
+    public long getPersistedSnapshotCount() {
+
+        return snapshotCount.get();
+    }
+
+    /**
+     * Get the total size of the full session data snapshots persisted by this node while delta persistence is
+     * enabled.
+     *
+     * @return Persisted snapshot size in bytes.
+     */
+    public long getPersistedSnapshotBytes() {
+
+        return snapshotBytes.get();
+    }
+
+    /**
+     * Get the number of session data deltas persisted by this node.
+     *
+     * @return Number of persisted deltas.
+     */
+    public long getPersistedDeltaCount() {
+
+        return deltaCount.get();
+    }
+
+    /**
+     * Get the total size of the session data deltas persisted by this node.
+     *
+     * @return Persisted delta size in bytes.
+     */
+    public long getPersistedDeltaBytes() {
+
+        return deltaBytes.get();
     }
 
     public boolean isSessionDataCleanupEnabled() {
@@ -843,6 +1230,26 @@ public class SessionDataStore {
         return sessionDataCleanupEnabled;
     }
 
+    public boolean isOperationDataCleanupEnabled() {
+
+        return operationDataCleanupEnabled;
+    }
+
+    public boolean isPeriodicTempDataCleanupEnabled() {
+
+        return tempDataCleanupEnabled && periodicTempDataCleanupEnabled;
+    }
+
+    /**
+     * Get the service which periodically cleans up the session data.
+     *
+     * @return Session data cleanup service, or null if the cleanup is not enabled.
+     */
+    public SessionCleanUpService getSessionCleanUpService() {
+
+        return sessionCleanUpService;
+    }
+
     private void setBlobObject(PreparedStatement prepStmt, Object value, int index)
             throws SQLException, IOException, SessionSerializerException {
         if (value != null) {
@@ -875,39 +1282,196 @@ public class SessionDataStore {
     }
 
     /**
-     * Removes STORE records related to DELETE records in IDN_AUTH_SESSION_STORE table
+     * Removes STORE records related to DELETE records in IDN_AUTH_SESSION_STORE table.
+     * <p>
+     * The DELETE records are read in chunks in the order of their creation, and the STORE records created before
+     * each of them are removed by session id, so that a chunk only locks the rows of its own sessions. Since the STORE
+     * records of a session are created before its DELETE record, a DELETE record is only processed once, and the next
+     * run resumes from the last processed one. The DELETE records are paged by their creation time and session id, so
+     * that the records created at the same time are not skipped at the boundary of a chunk.
+     *
+     * @param continueCleanup Checked between the chunks, to stop the removal once it returns false.
+     * @return Number of removed records.
      */
-    private void removeInvalidatedSTOREOperations() {
-        Connection connection = null;
-        PreparedStatement statement = null;
-        try {
-            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
-        } catch (IdentityRuntimeException e) {
-            log.error(e.getMessage(), e);
-            return;
-        }
+    public long removeInvalidatedStoreOperations(BooleanSupplier continueCleanup) {
 
-        try {
-            if (StringUtils.isBlank(sqlDeleteSTORETask)) {
-                String driverName = connection.getMetaData().getDriverName();
-                if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE)) {
-                    sqlDeleteSTORETask = SQL_DELETE_STORE_OPERATIONS_TASK_MYSQL;
-                } else {
-                    sqlDeleteSTORETask = SQL_DELETE_STORE_OPERATIONS_TASK;
+        return removeInvalidatedStoreOperations(continueCleanup, null);
+    }
+
+    /**
+     * Removes the STORE records related to DELETE records, resuming from the cursor stored in the given cleanup lease.
+     *
+     * @param continueCleanup Checked between the chunks, to stop the removal once it returns false.
+     * @param lease           Lease of the partition held by this node, which stores the cursor, or null to keep the
+     *                        cursor in memory.
+     * @return Number of removed records.
+     */
+    long removeInvalidatedStoreOperations(BooleanSupplier continueCleanup, SessionCleanupLease lease) {
+
+        if (StringUtils.isNotBlank(sqlDeleteSTORETask)) {
+            return removeInvalidatedStoreOperations(sqlDeleteSTORETask);
+        }
+        String partition = SessionCleanUpService.CleanupPartition.STORE_OPERATIONS.name();
+        SessionCleanupLease.Cursor storedCursor = lease != null ? lease.getCursor(partition) : null;
+        if (storedCursor == null) {
+            storedCursor = lastProcessedDeleteOperation;
+        }
+        // A run starts from the margin before the stored cursor, and the rows at the start time are included.
+        long startTime = storedCursor != null ? storedCursor.getTimeCreated() - DELETE_OPERATION_CURSOR_MARGIN :
+                Long.MIN_VALUE;
+        SessionCleanupLease.Cursor cursor = null;
+        long totalDeletedEntries = 0;
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
+            boolean deleteCompleted = false;
+            while (!deleteCompleted) {
+                int currentChunkSize = operationDataChunkSize.getChunkSize();
+                long chunkStartTime = System.nanoTime();
+                int deleteOperationCount = 0;
+                int noOfDeletedRecords = 0;
+                try (PreparedStatement selectStatement = connection.prepareStatement(
+                        SQL_SELECT_DELETE_OPERATIONS_TASK);
+                     PreparedStatement deleteStatement = connection.prepareStatement(deltaPersistenceEnabled ?
+                             SQL_DELETE_INVALIDATED_STORE_AND_DELTA_OPERATIONS :
+                             SQL_DELETE_INVALIDATED_STORE_OPERATION)) {
+                    selectStatement.setMaxRows(currentChunkSize);
+                    if (cursor != null) {
+                        selectStatement.setLong(1, cursor.getTimeCreated());
+                        selectStatement.setLong(2, cursor.getTimeCreated());
+                        selectStatement.setString(3, cursor.getSessionId());
+                    } else {
+                        selectStatement.setLong(1, startTime);
+                        selectStatement.setLong(2, startTime == Long.MIN_VALUE ? startTime : startTime - 1);
+                        selectStatement.setString(3, StringUtils.EMPTY);
+                    }
+                    List<SessionContextDO> deleteOperations = new ArrayList<>();
+                    try (ResultSet resultSet = selectStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            deleteOperations.add(new SessionContextDO(resultSet.getString(1), null, null,
+                                    resultSet.getLong(2)));
+                        }
+                    }
+                    for (SessionContextDO deleteOperation : deleteOperations) {
+                        cursor = new SessionCleanupLease.Cursor(deleteOperation.getNanoTime(),
+                                deleteOperation.getKey());
+                        deleteOperationCount++;
+                        // A DELTA operation written after the DELETE operation may depend on the older rows.
+                        if (deltaPersistenceEnabled && hasNewerDeltaOperation(connection, deleteOperation.getKey(),
+                                deleteOperation.getNanoTime())) {
+                            continue;
+                        }
+                        deleteStatement.setString(1, deleteOperation.getKey());
+                        deleteStatement.setLong(2, deleteOperation.getNanoTime());
+                        deleteStatement.addBatch();
+                    }
+                    if (deleteOperationCount > 0) {
+                        for (int updateCount : deleteStatement.executeBatch()) {
+                            if (updateCount > 0) {
+                                noOfDeletedRecords += updateCount;
+                            }
+                        }
+                        if (lease != null) {
+                            lease.updateCursor(connection, partition, cursor);
+                        }
+                    }
+                    IdentityDatabaseUtil.commitTransaction(connection);
+                } catch (SQLException e) {
+                    IdentityDatabaseUtil.rollbackTransaction(connection);
+                    throw e;
+                }
+                totalDeletedEntries += noOfDeletedRecords;
+                if (cursor != null) {
+                    updateLastProcessedDeleteOperation(cursor);
+                }
+                operationDataChunkSize.recordChunk(deleteOperationCount, System.nanoTime() - chunkStartTime);
+                deleteCompleted = deleteOperationCount < currentChunkSize;
+                if (!deleteCompleted && !continueCleanup.getAsBoolean()) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("STORE operation data removal is stopped before completion.");
+                    }
+                    break;
                 }
             }
-            statement = connection.prepareStatement(sqlDeleteSTORETask);
-            statement.execute();
-            IdentityDatabaseUtil.commitTransaction(connection);
-            return;
-        } catch (SQLException e) {
-            IdentityDatabaseUtil.rollbackTransaction(connection);
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Deleted total of %d invalidated STORE operations", totalDeletedEntries));
+            }
+        } catch (SQLException | IdentityRuntimeException e) {
             log.error("Error while removing STORE operation data from the database. ", e);
-        } finally {
-            IdentityDatabaseUtil.closeAllConnections(connection, null, statement);
+        }
+        return totalDeletedEntries;
+    }
+
+    private void updateLastProcessedDeleteOperation(SessionCleanupLease.Cursor cursor) {
+
+        SessionCleanupLease.Cursor lastProcessed = lastProcessedDeleteOperation;
+        if (lastProcessed == null || cursor.getTimeCreated() > lastProcessed.getTimeCreated()) {
+            lastProcessedDeleteOperation = cursor;
+        }
+    }
+
+    private boolean hasNewerDeltaOperation(Connection connection, String key, long timeCreated)
+            throws SQLException {
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_SELECT_NEWER_DELTA_OPERATION)) {
+            preparedStatement.setMaxRows(1);
+            preparedStatement.setString(1, key);
+            preparedStatement.setLong(2, timeCreated);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    /**
+     * Removes STORE records related to DELETE records with the configured query.
+     */
+    private long removeInvalidatedStoreOperations(String sqlQuery) {
+
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
+            try (PreparedStatement statement = connection.prepareStatement(sqlQuery)) {
+                int noOfDeletedRecords = statement.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return noOfDeletedRecords;
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                log.error("Error while removing STORE operation data from the database. ", e);
+            }
+        } catch (SQLException | IdentityRuntimeException e) {
+            log.error("Error while removing STORE operation data from the database. ", e);
+        }
+        return 0;
+    }
+
+    private long getValidityPeriod(String type, Object entry, int tenantId) {
 
+        long validityPeriodNano = 0L;
+        if (entry instanceof CacheEntry) {
+            validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
+        }
+        if (validityPeriodNano == 0L) {
+            validityPeriodNano = getCleanupTimeout(type, tenantId);
+        }
+        return validityPeriodNano;
+    }
+
+    private byte[] readBytes(InputStream inputStream) throws IOException {
+
+        if (inputStream == null) {
+            return new byte[0];
+        }
+        try (InputStream in = inputStream) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
         }
+    }
+
+    private String getDeltaChainKey(String key, String type) {
 
+        return type + ":" + key;
     }
 
     private boolean isTempCache(String type) {
@@ -951,4 +1515,47 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Node local state of the last persisted row of a session, which the next delta of the session is computed
+     * against.
+     */
+    private static class DeltaChainState {
+
+        private byte[] lastSessionObject;
+        private long lastTimeCreated = -1L;
+        private long snapshotTimeCreated = -1L;
+        private long expiryTime;
+        private int tenantId;
+        private int deltasSinceSnapshot;
+
+        private boolean canAppend(long timeCreated, long validUntil, int maxDeltasPerSnapshot) {
+
+            return lastSessionObject != null && timeCreated > lastTimeCreated && validUntil <= expiryTime &&
+                    deltasSinceSnapshot < maxDeltasPerSnapshot;
+        }
+
+        private void startChain(byte[] sessionObject, long timeCreated, long expiryTime, int tenantId) {
+
+            this.lastSessionObject = sessionObject;
+            this.lastTimeCreated = timeCreated;
+            this.snapshotTimeCreated = timeCreated;
+            this.expiryTime = expiryTime;
+            this.tenantId = tenantId;
+            this.deltasSinceSnapshot = 0;
+        }
+
+        private void appendDelta(byte[] sessionObject, long timeCreated) {
+
+            this.lastSessionObject = sessionObject;
+            this.lastTimeCreated = timeCreated;
+            this.deltasSinceSnapshot++;
+        }
+
+        private void reset() {
+
+            this.lastSessionObject = null;
+            this.deltasSinceSnapshot = 0;
+        }
+    }
+
 }
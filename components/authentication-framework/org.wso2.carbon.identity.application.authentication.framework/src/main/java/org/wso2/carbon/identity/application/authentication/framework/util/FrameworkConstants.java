@@ -156,6 +156,8 @@ public abstract class FrameworkConstants {
     public static final String ENABLE_CONFIGURED_IDP_SUB_FOR_FEDERATED_USER_ASSOCIATION
             = "JITProvisioning.EnableConfiguredIdpSubForFederatedUserAssociation";
     public static final String ALLOW_NON_STANDARD_CLAIM_URI = "JITProvisioning.AllowNonStandardClaimURI";
+    public static final String JIT_UNCHANGED_SYNC_SKIP_TIMEOUT = "JITProvisioning.UnchangedSyncSkipTimeout";
+    public static final int DEFAULT_JIT_UNCHANGED_SYNC_SKIP_TIMEOUT = 0;
 
     // Error details sent from authenticators
     public static final String AUTH_ERROR_CODE = "AuthErrorCode";
@@ -720,6 +722,8 @@ public abstract class FrameworkConstants {
     public static class AdaptiveAuthentication {
 
         public static final String ADAPTIVE_AUTH_LONG_WAIT_TIMEOUT = "AdaptiveAuth.LongWaitTimeout";
+        public static final String LONG_WAIT_STATUS_POLL_TIMEOUT = "AdaptiveAuth.LongWaitStatusPollTimeout";
+        public static final int DEFAULT_LONG_WAIT_STATUS_POLL_TIMEOUT = 5000;
         public static final String CONF_EXECUTION_SUPERVISOR_ENABLE =
                 "AdaptiveAuth.ExecutionSupervisor.Enable";
         public static final String CONF_EXECUTION_SUPERVISOR_THREAD_COUNT =
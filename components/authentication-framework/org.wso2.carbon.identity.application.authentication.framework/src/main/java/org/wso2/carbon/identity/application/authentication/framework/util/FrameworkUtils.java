@@ -398,15 +398,7 @@ public class FrameworkUtils {
     @Deprecated
     public static ApplicationAuthenticator getAppAuthenticatorByName(String name) {
 
-        for (ApplicationAuthenticator authenticator : ApplicationAuthenticatorManager.getInstance()
-                .getSystemDefinedAuthenticators()) {
-
-            if (name.equals(authenticator.getName())) {
-                return authenticator;
-            }
-        }
-
-        return null;
+        return ApplicationAuthenticatorManager.getInstance().getSystemDefinedAuthenticatorByName(name);
     }
 
     /**
@@ -53,6 +53,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -861,6 +862,51 @@ public class DefaultProvisioningHandlerTest {
         }
     }
 
+    @Test
+    public void testHandleWithV2RolesSkipsUnchangedSync() throws Exception {
+
+        String subject = "testUser";
+        String userId = "user-id-123";
+        String tenantDomain = "carbon.super";
+        String idp = "testIdp";
+        String associatedId = "assocId1";
+        String existingRole = "existingRole";
+        List<String> idpRoles = new ArrayList<>(Collections.singletonList(existingRole));
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(FrameworkConstants.IDP_ID, idp);
+        attributes.put(FrameworkConstants.ASSOCIATED_ID, associatedId);
+
+        setupHappyPathMocks(subject, userId, tenantDomain);
+        when(mockRoleManagementService.getRoleIdListOfUser(userId, tenantDomain))
+                .thenReturn(new ArrayList<>(Collections.singletonList(existingRole)));
+        when(mockFederatedAssociationManager.getUserForFederatedAssociation(tenantDomain, idp, associatedId))
+                .thenReturn(subject);
+
+        try (MockedStatic<FrameworkUtils> frameworkUtils = mockStatic(FrameworkUtils.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            setupFrameworkUtilsMocks(frameworkUtils, subject, userId);
+            // Enable skipping the unchanged syncs, which is disabled by default.
+            identityUtil.when(() -> IdentityUtil.getIntProperty(
+                    eq(FrameworkConstants.JIT_UNCHANGED_SYNC_SKIP_TIMEOUT), anyInt())).thenReturn(300);
+
+            // Each login provides its own attribute map, which the handler modifies.
+            provisioningHandler.handleWithV2Roles(idpRoles, subject, new HashMap<>(attributes), "PRIMARY",
+                    tenantDomain);
+            provisioningHandler.handleWithV2Roles(idpRoles, subject, new HashMap<>(attributes), "PRIMARY",
+                    tenantDomain);
+
+            // The roles are synced only on the first call, since the input has not changed since then.
+            verify(mockRoleManagementService, times(1)).getRoleIdListOfUser(userId, tenantDomain);
+
+            // A changed input is synced again.
+            List<String> changedIdpRoles = new ArrayList<>(Arrays.asList(existingRole, "newRole"));
+            provisioningHandler.handleWithV2Roles(changedIdpRoles, subject, new HashMap<>(attributes), "PRIMARY",
+                    tenantDomain);
+            verify(mockRoleManagementService, times(2)).getRoleIdListOfUser(userId, tenantDomain);
+        }
+    }
+
     @Test
     public void testHandleWithV2RolesPreserveExisting_VsOverrideAll_DifferentBehavior() throws Exception {
 
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.handler.provisioning.impl;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ProvisioningSyncFingerprintStore}.
+ */
+public class ProvisioningSyncFingerprintStoreTest {
+
+    private static final String EMAIL_CLAIM = "http://wso2.org/claims/emailaddress";
+    private static final String COUNTRY_CLAIM = "http://wso2.org/claims/country";
+
+    @Test
+    public void testFingerprintDoesNotDependOnOrder() {
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(EMAIL_CLAIM, "john@example.com");
+        attributes.put(COUNTRY_CLAIM, "Sri Lanka");
+        Map<String, String> reorderedAttributes = new LinkedHashMap<>();
+        reorderedAttributes.put(COUNTRY_CLAIM, "Sri Lanka");
+        reorderedAttributes.put(EMAIL_CLAIM, "john@example.com");
+
+        assertEquals(ProvisioningSyncFingerprintStore.computeFingerprint("john", "PRIMARY", attributes,
+                        Arrays.asList("role1", "role2"), "V2"),
+                ProvisioningSyncFingerprintStore.computeFingerprint("john", "PRIMARY", reorderedAttributes,
+                        Arrays.asList("role2", "role1"), "V2"));
+    }
+
+    @Test
+    public void testFingerprintChangesWithInput() {
+
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put(EMAIL_CLAIM, "john@example.com");
+        Map<String, String> changedAttributes = new HashMap<>();
+        changedAttributes.put(EMAIL_CLAIM, "john@example.org");
+        String fingerprint = ProvisioningSyncFingerprintStore.computeFingerprint("john", "PRIMARY", attributes,
+                Arrays.asList("role1"), "V2");
+
+        assertNotEquals(ProvisioningSyncFingerprintStore.computeFingerprint("john", "PRIMARY", changedAttributes,
+                Arrays.asList("role1"), "V2"), fingerprint);
+        assertNotEquals(ProvisioningSyncFingerprintStore.computeFingerprint("john", "PRIMARY", attributes,
+                Arrays.asList("role1", "role2"), "V2"), fingerprint);
+        assertNotEquals(ProvisioningSyncFingerprintStore.computeFingerprint("john", "PRIMARY", attributes,
+                Arrays.asList("role1"), "V1"), fingerprint);
+        // Values are length prefixed, so that moving characters between adjacent values changes the fingerprint.
+        assertNotEquals(ProvisioningSyncFingerprintStore.computeFingerprint("joh", "nPRIMARY", attributes,
+                Arrays.asList("role1"), "V2"), fingerprint);
+    }
+
+    @Test
+    public void testBuildKey() {
+
+        assertNull(ProvisioningSyncFingerprintStore.buildKey("carbon.super", null, "subject"));
+        assertNull(ProvisioningSyncFingerprintStore.buildKey("carbon.super", "idp", " "));
+        assertNotEquals(ProvisioningSyncFingerprintStore.buildKey("carbon.super", "idp", "subject"),
+                ProvisioningSyncFingerprintStore.buildKey("tenant", "idp", "subject"));
+    }
+
+    @Test
+    public void testIsUnchanged() {
+
+        ProvisioningSyncFingerprintStore store = new ProvisioningSyncFingerprintStore();
+        assertFalse(store.isUnchanged("key", "fingerprint"));
+
+        store.put("key", "fingerprint", 60000L);
+        assertTrue(store.isUnchanged("key", "fingerprint"));
+        assertFalse(store.isUnchanged("key", "otherFingerprint"));
+
+        store.remove("key");
+        assertFalse(store.isUnchanged("key", "fingerprint"));
+    }
+
+    @Test
+    public void testExpiredFingerprintIsRemoved() {
+
+        ProvisioningSyncFingerprintStore store = new ProvisioningSyncFingerprintStore();
+        store.put("key", "fingerprint", 0L);
+
+        assertFalse(store.isUnchanged("key", "fingerprint"));
+        assertEquals(store.size(), 0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedFingerprintIsEvicted() {
+
+        ProvisioningSyncFingerprintStore store = new ProvisioningSyncFingerprintStore(2);
+        store.put("key1", "fingerprint1", 60000L);
+        store.put("key2", "fingerprint2", 60000L);
+        assertTrue(store.isUnchanged("key1", "fingerprint1"));
+        store.put("key3", "fingerprint3", 60000L);
+
+        assertEquals(store.size(), 2);
+        assertTrue(store.isUnchanged("key1", "fingerprint1"));
+        assertFalse(store.isUnchanged("key2", "fingerprint2"));
+        assertTrue(store.isUnchanged("key3", "fingerprint3"));
+    }
+}
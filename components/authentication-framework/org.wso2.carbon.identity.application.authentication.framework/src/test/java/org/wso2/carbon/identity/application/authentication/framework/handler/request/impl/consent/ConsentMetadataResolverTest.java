@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.handler.request.impl.consent;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.consent.mgt.core.ConsentManager;
+import org.wso2.carbon.consent.mgt.core.model.PIICategory;
+import org.wso2.carbon.consent.mgt.core.model.Purpose;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Unit tests for {@link ConsentMetadataResolver}.
+ */
+public class ConsentMetadataResolverTest {
+
+    private static final String COUNTRY_CLAIM = "http://wso2.org/claims/country";
+    private static final String EMAIL_CLAIM = "http://wso2.org/claims/emailaddress";
+    private static final String MOBILE_CLAIM = "http://wso2.org/claims/mobile";
+
+    private MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder;
+    private MockedStatic<PrivilegedCarbonContext> privilegedCarbonContext;
+    private ConsentManager consentManager;
+    private ConsentMetadataResolver consentMetadataResolver;
+
+    @BeforeMethod
+    public void setUp() {
+
+        consentManager = mock(ConsentManager.class);
+        FrameworkServiceDataHolder dataHolder = mock(FrameworkServiceDataHolder.class);
+        when(dataHolder.getConsentManager()).thenReturn(consentManager);
+        frameworkServiceDataHolder = mockStatic(FrameworkServiceDataHolder.class);
+        frameworkServiceDataHolder.when(FrameworkServiceDataHolder::getInstance).thenReturn(dataHolder);
+
+        PrivilegedCarbonContext carbonContext = mock(PrivilegedCarbonContext.class);
+        when(carbonContext.getTenantDomain()).thenReturn(SUPER_TENANT_DOMAIN_NAME);
+        privilegedCarbonContext = mockStatic(PrivilegedCarbonContext.class);
+        privilegedCarbonContext.when(PrivilegedCarbonContext::getThreadLocalCarbonContext).thenReturn(carbonContext);
+
+        consentMetadataResolver = new ConsentMetadataResolver();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        frameworkServiceDataHolder.close();
+        privilegedCarbonContext.close();
+    }
+
+    @Test
+    public void testGetPIICategoriesListsUncachedClaimsTogether() throws Exception {
+
+        PIICategory country = createPIICategory(1, COUNTRY_CLAIM);
+        PIICategory email = createPIICategory(2, EMAIL_CLAIM);
+        PIICategory mobile = createPIICategory(3, MOBILE_CLAIM);
+        when(consentManager.listPIICategories(anyInt(), anyInt())).thenReturn(Arrays.asList(country, email));
+        when(consentManager.addPIICategory(any(PIICategory.class))).thenReturn(mobile);
+
+        Map<String, PIICategory> piiCategories = consentMetadataResolver.getPIICategories(Arrays.asList(
+                createClaim(COUNTRY_CLAIM), createClaim(EMAIL_CLAIM), createClaim(EMAIL_CLAIM),
+                createClaim(MOBILE_CLAIM)));
+
+        assertEquals(piiCategories.size(), 3);
+        assertSame(piiCategories.get(COUNTRY_CLAIM), country);
+        assertSame(piiCategories.get(EMAIL_CLAIM), email);
+        assertSame(piiCategories.get(MOBILE_CLAIM), mobile);
+        verify(consentManager, times(1)).listPIICategories(anyInt(), anyInt());
+        // The whole list was read, hence the missing PII category is added without retrieving it by name.
+        verify(consentManager, never()).getPIICategoryByName(anyString());
+        verify(consentManager, times(1)).addPIICategory(any(PIICategory.class));
+
+        // The PII categories are cached.
+        piiCategories = consentMetadataResolver.getPIICategories(Arrays.asList(createClaim(EMAIL_CLAIM),
+                createClaim(MOBILE_CLAIM)));
+        assertSame(piiCategories.get(MOBILE_CLAIM), mobile);
+        verify(consentManager, times(1)).listPIICategories(anyInt(), anyInt());
+    }
+
+    @Test
+    public void testGetPIICategoryOfSingleUncachedClaimByName() throws Exception {
+
+        PIICategory country = createPIICategory(1, COUNTRY_CLAIM);
+        when(consentManager.getPIICategoryByName(COUNTRY_CLAIM)).thenReturn(country);
+
+        Map<String, PIICategory> piiCategories = consentMetadataResolver.getPIICategories(
+                Arrays.asList(createClaim(COUNTRY_CLAIM), createClaim(COUNTRY_CLAIM)));
+
+        assertSame(piiCategories.get(COUNTRY_CLAIM), country);
+        verify(consentManager, times(1)).getPIICategoryByName(COUNTRY_CLAIM);
+        verify(consentManager, never()).listPIICategories(anyInt(), anyInt());
+    }
+
+    @Test
+    public void testDefaultPurposeIsCachedPerTenant() throws Exception {
+
+        Purpose purpose = mock(Purpose.class);
+        when(consentManager.getPurposeByName(anyString(), anyString(), anyString())).thenReturn(purpose);
+
+        assertSame(consentMetadataResolver.getDefaultPurpose(), purpose);
+        assertSame(consentMetadataResolver.getDefaultPurpose(), purpose);
+        verify(consentManager, times(1)).getPurposeByName(anyString(), anyString(), anyString());
+
+        consentMetadataResolver.clearTenantMetadata(SUPER_TENANT_DOMAIN_NAME);
+        consentMetadataResolver.getDefaultPurpose();
+        verify(consentManager, times(2)).getPurposeByName(anyString(), anyString(), anyString());
+    }
+
+    private PIICategory createPIICategory(int id, String name) {
+
+        PIICategory piiCategory = mock(PIICategory.class);
+        when(piiCategory.getId()).thenReturn(id);
+        when(piiCategory.getName()).thenReturn(name);
+        return piiCategory;
+    }
+
+    private ClaimMetaData createClaim(String claimUri) {
+
+        ClaimMetaData claimMetaData = new ClaimMetaData();
+        claimMetaData.setClaimUri(claimUri);
+        return claimMetaData;
+    }
+}
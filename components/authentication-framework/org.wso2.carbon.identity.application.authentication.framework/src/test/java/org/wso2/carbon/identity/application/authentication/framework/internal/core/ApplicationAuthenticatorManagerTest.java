@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -53,6 +53,8 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Listeners(MockitoTestNGListener.class)
@@ -196,6 +198,57 @@ public class ApplicationAuthenticatorManagerTest extends AbstractFrameworkTest {
                 instanceof UserDefinedFederatedAuthenticatorConfig);
     }
 
+    @Test
+    public void testGetSystemDefinedAuthenticatorByNameWithDuplicateNames() {
+
+        String authenticatorName = "DuplicateMockAuthenticator";
+        ApplicationAuthenticator firstAuthenticator = new MockAuthenticator(authenticatorName);
+        ApplicationAuthenticator secondAuthenticator = new MockAuthenticator(authenticatorName);
+        applicationAuthenticatorService.addSystemDefinedAuthenticator(firstAuthenticator);
+        applicationAuthenticatorService.addSystemDefinedAuthenticator(secondAuthenticator);
+
+        Assert.assertSame(applicationAuthenticatorService.getSystemDefinedAuthenticatorByName(authenticatorName),
+                firstAuthenticator);
+        applicationAuthenticatorService.removeSystemDefinedAuthenticator(firstAuthenticator);
+        Assert.assertSame(applicationAuthenticatorService.getSystemDefinedAuthenticatorByName(authenticatorName),
+                secondAuthenticator);
+        applicationAuthenticatorService.removeSystemDefinedAuthenticator(secondAuthenticator);
+        Assert.assertNull(applicationAuthenticatorService.getSystemDefinedAuthenticatorByName(authenticatorName));
+        Assert.assertNull(applicationAuthenticatorService.getSystemDefinedAuthenticatorByName(null));
+    }
+
+    @Test
+    public void testUserDefinedAuthenticatorIsReusedUntilConfigIsUpdated() throws Exception {
+
+        String tenantDomain = "reuse.com";
+        String authenticatorName = "CustomLocalMockAuthenticator";
+        UserDefinedLocalAuthenticatorConfig config = new UserDefinedLocalAuthenticatorConfig(
+                AuthenticatorPropertyConstants.AuthenticationType.IDENTIFICATION);
+        config.setName(authenticatorName);
+        UserDefinedLocalAuthenticatorConfig updatedConfig = new UserDefinedLocalAuthenticatorConfig(
+                AuthenticatorPropertyConstants.AuthenticationType.IDENTIFICATION);
+        updatedConfig.setName(authenticatorName);
+        when(authenticatorService.getUserDefinedLocalAuthenticator(authenticatorName, tenantDomain))
+                .thenReturn(config, config, updatedConfig);
+
+        UserDefinedAuthenticatorService authenticatorResolver = mock(UserDefinedAuthenticatorService.class);
+        when(authenticatorResolver.getUserDefinedLocalAuthenticator(any())).thenAnswer(
+                invocation -> new MockAuthenticator.MockLocalAuthenticator(authenticatorName));
+        setAuthenticatorActionEnableStatus(true);
+        FrameworkServiceDataHolder.getInstance().setUserDefinedAuthenticatorService(authenticatorResolver);
+
+        ApplicationAuthenticator authenticator = applicationAuthenticatorService.getApplicationAuthenticatorByName(
+                authenticatorName, tenantDomain);
+        Assert.assertSame(applicationAuthenticatorService.getApplicationAuthenticatorByName(
+                authenticatorName, tenantDomain), authenticator);
+        ApplicationAuthenticator updatedAuthenticator = applicationAuthenticatorService
+                .getApplicationAuthenticatorByName(authenticatorName, tenantDomain);
+        Assert.assertNotNull(updatedAuthenticator);
+        Assert.assertNotSame(updatedAuthenticator, authenticator);
+        verify(authenticatorResolver, times(2)).getUserDefinedLocalAuthenticator(any());
+        applicationAuthenticatorService.clearUserDefinedAuthenticators(tenantDomain);
+    }
+
     private void setAuthenticatorActionEnableStatus(boolean isEnabled) {
 
         Map<String, Object> configMap = new HashMap<>();
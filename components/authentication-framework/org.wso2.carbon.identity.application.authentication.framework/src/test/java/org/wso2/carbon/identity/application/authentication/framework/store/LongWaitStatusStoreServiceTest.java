@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.dao.LongWaitStatusDAO;
+import org.wso2.carbon.identity.application.authentication.framework.model.LongWaitStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link LongWaitStatusStoreService}.
+ */
+public class LongWaitStatusStoreServiceTest {
+
+    private static final String WAIT_KEY = "wait-key";
+    private static final int TENANT_ID = -1234;
+
+    private LongWaitStatusDAO statusDAO;
+    private LongWaitStatusStoreService storeService;
+
+    @BeforeMethod
+    public void setUp() {
+
+        statusDAO = mock(LongWaitStatusDAO.class);
+        storeService = new LongWaitStatusStoreService(statusDAO, 5000);
+    }
+
+    @Test
+    public void testGetWaitFromStatusTable() throws Exception {
+
+        storeService.addWait(TENANT_ID, WAIT_KEY, createStatus(LongWaitStatus.Status.WAITING));
+
+        assertEquals(storeService.getWait(WAIT_KEY).getStatus(), LongWaitStatus.Status.WAITING);
+        assertTrue(storeService.isWaitingLocally(WAIT_KEY));
+        verify(statusDAO, never()).getWaitStatus(anyString());
+        assertEquals(storeService.getFallbackLookupCount(), 0L);
+    }
+
+    @Test
+    public void testGetWaitFallsBackToDAO() throws Exception {
+
+        LongWaitStatus status = createStatus(LongWaitStatus.Status.WAITING);
+        when(statusDAO.getWaitStatus(WAIT_KEY)).thenReturn(status);
+
+        assertEquals(storeService.getWait(WAIT_KEY), status);
+        assertFalse(storeService.isWaitingLocally(WAIT_KEY));
+        assertEquals(storeService.getFallbackLookupCount(), 1L);
+    }
+
+    @Test
+    public void testCompletionListenerRunsOnNotification() throws Exception {
+
+        AtomicInteger runCount = new AtomicInteger();
+        storeService.addWait(TENANT_ID, WAIT_KEY, createStatus(LongWaitStatus.Status.WAITING));
+        storeService.addCompletionListener(WAIT_KEY, runCount::incrementAndGet);
+
+        assertTrue(storeService.completeWait(WAIT_KEY));
+        assertEquals(storeService.getWait(WAIT_KEY).getStatus(), LongWaitStatus.Status.COMPLETED);
+        // Listeners are not run until the completion is notified.
+        assertTrue(storeService.isWaitingLocally(WAIT_KEY));
+        assertEquals(runCount.get(), 0);
+
+        storeService.notifyCompletion(WAIT_KEY);
+        storeService.notifyCompletion(WAIT_KEY);
+
+        assertEquals(runCount.get(), 1);
+        assertFalse(storeService.isWaitingLocally(WAIT_KEY));
+        assertEquals(storeService.getParkedPollCount(), 1L);
+        assertEquals(storeService.getResumedPollCount(), 1L);
+        assertEquals(storeService.getCompletedWaitCount(), 1L);
+    }
+
+    @Test
+    public void testCompletionListenerRunsImmediatelyIfNotWaiting() throws Exception {
+
+        AtomicInteger runCount = new AtomicInteger();
+        storeService.addWait(TENANT_ID, WAIT_KEY, createStatus(LongWaitStatus.Status.COMPLETED));
+        storeService.addCompletionListener(WAIT_KEY, runCount::incrementAndGet);
+
+        assertEquals(runCount.get(), 1);
+    }
+
+    @Test
+    public void testCompletionListenerRunsOnRemoveWait() throws Exception {
+
+        AtomicInteger runCount = new AtomicInteger();
+        storeService.addWait(TENANT_ID, WAIT_KEY, createStatus(LongWaitStatus.Status.WAITING));
+        storeService.addCompletionListener(WAIT_KEY, runCount::incrementAndGet);
+
+        storeService.removeWait(WAIT_KEY);
+
+        assertEquals(runCount.get(), 1);
+        assertEquals(storeService.getStatusTableSize(), 0);
+        verify(statusDAO).removeWaitStatus(WAIT_KEY);
+        assertNull(storeService.getWait(WAIT_KEY));
+    }
+
+    @Test
+    public void testRemoveCompletionListener() throws Exception {
+
+        AtomicInteger runCount = new AtomicInteger();
+        Runnable listener = runCount::incrementAndGet;
+        storeService.addWait(TENANT_ID, WAIT_KEY, createStatus(LongWaitStatus.Status.WAITING));
+        storeService.addCompletionListener(WAIT_KEY, listener);
+
+        assertTrue(storeService.removeCompletionListener(WAIT_KEY, listener));
+        assertFalse(storeService.removeCompletionListener(WAIT_KEY, listener));
+        storeService.completeWait(WAIT_KEY);
+        storeService.notifyCompletion(WAIT_KEY);
+
+        assertEquals(runCount.get(), 0);
+        assertEquals(storeService.getTimedOutPollCount(), 1L);
+    }
+
+    @Test
+    public void testCompleteUnknownWait() {
+
+        assertFalse(storeService.completeWait(WAIT_KEY));
+        assertEquals(storeService.getCompletedWaitCount(), 0L);
+    }
+
+    private LongWaitStatus createStatus(LongWaitStatus.Status status) {
+
+        LongWaitStatus longWaitStatus = new LongWaitStatus();
+        longWaitStatus.setStatus(status);
+        return longWaitStatus;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Collections;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for {@link SessionCleanUpService}.
+ */
+public class SessionCleanUpServiceTest {
+
+    private static final String SESSION_DATA = SessionCleanUpService.CleanupPartition.SESSION_DATA.name();
+    private static final String STORE_OPERATIONS = SessionCleanUpService.CleanupPartition.STORE_OPERATIONS.name();
+
+    private MockedStatic<IdentityUtil> identityUtil;
+    private MockedStatic<SessionDataStore> sessionDataStoreStatic;
+    private MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder;
+    private SessionDataStore sessionDataStore;
+    private SessionCleanupLease lease;
+    private SessionCleanUpService sessionCleanUpService;
+
+    @BeforeMethod
+    public void setUp() {
+
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.getProperty(anyString())).thenReturn(null);
+
+        FrameworkServiceDataHolder dataHolder = mock(FrameworkServiceDataHolder.class);
+        when(dataHolder.isUserSessionMappingEnabled()).thenReturn(false);
+        frameworkServiceDataHolder = mockStatic(FrameworkServiceDataHolder.class);
+        frameworkServiceDataHolder.when(FrameworkServiceDataHolder::getInstance).thenReturn(dataHolder);
+
+        sessionDataStore = mock(SessionDataStore.class);
+        when(sessionDataStore.isSessionDataCleanupEnabled()).thenReturn(true);
+        when(sessionDataStore.isOperationDataCleanupEnabled()).thenReturn(true);
+        sessionDataStoreStatic = mockStatic(SessionDataStore.class);
+        sessionDataStoreStatic.when(SessionDataStore::getInstance).thenReturn(sessionDataStore);
+
+        lease = mock(SessionCleanupLease.class);
+        when(lease.acquire(anyString(), anyLong())).thenReturn(true);
+        sessionCleanUpService = new SessionCleanUpService(0, 1, lease);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityUtil.close();
+        sessionDataStoreStatic.close();
+        frameworkServiceDataHolder.close();
+    }
+
+    @Test
+    public void testPausedCleanupSkipsRunUntilResumed() {
+
+        sessionCleanUpService.pause();
+        assertTrue(sessionCleanUpService.isPaused());
+        sessionCleanUpService.runCleanUp();
+
+        verify(lease, never()).acquire(anyString(), anyLong());
+        verify(sessionDataStore, never()).removeExpiredSessionData(any(BooleanSupplier.class));
+        assertNull(sessionCleanUpService.getLastRunMetrics());
+
+        sessionCleanUpService.resume();
+        assertFalse(sessionCleanUpService.isPaused());
+        sessionCleanUpService.runCleanUp();
+
+        verify(sessionDataStore, times(1)).removeExpiredSessionData(any(BooleanSupplier.class));
+        verify(sessionDataStore, times(1)).removeInvalidatedStoreOperations(any(BooleanSupplier.class), eq(lease));
+        assertNotNull(sessionCleanUpService.getLastRunMetrics());
+    }
+
+    @Test
+    public void testPartitionLeasedByAnotherNodeIsSkipped() {
+
+        when(lease.acquire(eq(SESSION_DATA), anyLong())).thenReturn(false);
+        when(sessionDataStore.removeInvalidatedStoreOperations(any(BooleanSupplier.class), eq(lease))).thenReturn(5L);
+
+        sessionCleanUpService.runCleanUp();
+
+        verify(sessionDataStore, never()).removeExpiredSessionData(any(BooleanSupplier.class));
+        verify(sessionDataStore, times(1)).removeInvalidatedStoreOperations(any(BooleanSupplier.class), eq(lease));
+        SessionCleanupRunMetrics metrics = sessionCleanUpService.getLastRunMetrics();
+        assertEquals(metrics.getSkippedPartitions(), Collections.singletonList(SESSION_DATA));
+        assertEquals(metrics.getPurgedCounts().get(STORE_OPERATIONS), Long.valueOf(5L));
+        // The lease of a completed partition is kept until the next run.
+        verify(lease, never()).release(anyString());
+    }
+
+    @Test
+    public void testLeaseIsReleasedWhenRunIsPaused() {
+
+        when(sessionDataStore.removeExpiredSessionData(any(BooleanSupplier.class))).thenAnswer(invocation -> {
+            sessionCleanUpService.pause();
+            BooleanSupplier continueCleanup = invocation.getArgument(0);
+            assertFalse(continueCleanup.getAsBoolean());
+            return 10L;
+        });
+
+        sessionCleanUpService.runCleanUp();
+
+        verify(lease, times(1)).release(SESSION_DATA);
+        // The partitions after the pause are not cleaned.
+        verify(sessionDataStore, never()).removeInvalidatedStoreOperations(any(BooleanSupplier.class), any());
+        verify(lease, never()).acquire(eq(STORE_OPERATIONS), anyLong());
+    }
+
+    @Test
+    public void testLeaseIsReleasedWhenCleanupFails() {
+
+        when(sessionDataStore.removeExpiredSessionData(any(BooleanSupplier.class)))
+                .thenThrow(new RuntimeException("Cleanup failed"));
+
+        try {
+            sessionCleanUpService.runCleanUp();
+            fail("The cleanup error is expected to be thrown.");
+        } catch (RuntimeException e) {
+            assertEquals(e.getMessage(), "Cleanup failed");
+        }
+
+        verify(lease, times(1)).release(SESSION_DATA);
+    }
+}
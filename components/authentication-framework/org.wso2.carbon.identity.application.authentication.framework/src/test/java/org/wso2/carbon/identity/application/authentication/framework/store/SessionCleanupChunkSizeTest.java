@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link SessionCleanupChunkSize}.
+ */
+public class SessionCleanupChunkSizeTest {
+
+    private static final long TARGET_TIME = 1000L;
+
+    @Test
+    public void testSlowChunkShrinksChunkSize() {
+
+        SessionCleanupChunkSize chunkSize = new SessionCleanupChunkSize(10000, TARGET_TIME);
+
+        chunkSize.recordChunk(10000, TimeUnit.MILLISECONDS.toNanos(4000));
+
+        assertEquals(chunkSize.getChunkSize(), 2500);
+    }
+
+    @Test
+    public void testChunkSizeDoesNotShrinkBelowMinimum() {
+
+        SessionCleanupChunkSize chunkSize = new SessionCleanupChunkSize(10000, TARGET_TIME);
+
+        chunkSize.recordChunk(10000, TimeUnit.SECONDS.toNanos(1000));
+
+        assertEquals(chunkSize.getChunkSize(), SessionCleanupChunkSize.MIN_CHUNK_SIZE);
+    }
+
+    @Test
+    public void testFastFullChunkGrowsChunkSizeUpToMaximum() {
+
+        SessionCleanupChunkSize chunkSize = new SessionCleanupChunkSize(10000, TARGET_TIME);
+        chunkSize.recordChunk(10000, TimeUnit.MILLISECONDS.toNanos(3000));
+        assertEquals(chunkSize.getChunkSize(), 3333);
+
+        chunkSize.recordChunk(3333, TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(chunkSize.getChunkSize(), 6666);
+
+        chunkSize.recordChunk(6666, TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(chunkSize.getChunkSize(), 10000);
+    }
+
+    @Test
+    public void testFastPartialChunkKeepsChunkSize() {
+
+        SessionCleanupChunkSize chunkSize = new SessionCleanupChunkSize(10000, TARGET_TIME);
+        chunkSize.recordChunk(10000, TimeUnit.MILLISECONDS.toNanos(2000));
+
+        chunkSize.recordChunk(10, TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertEquals(chunkSize.getChunkSize(), 5000);
+    }
+
+    @Test
+    public void testChunkSizeIsNotAdaptedWithoutTargetTime() {
+
+        SessionCleanupChunkSize chunkSize = new SessionCleanupChunkSize(10000, 0);
+
+        chunkSize.recordChunk(10000, TimeUnit.SECONDS.toNanos(60));
+
+        assertEquals(chunkSize.getChunkSize(), 10000);
+    }
+}
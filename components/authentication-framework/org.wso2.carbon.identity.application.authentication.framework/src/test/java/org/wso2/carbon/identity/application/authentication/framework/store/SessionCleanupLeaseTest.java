@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SessionCleanupLease}.
+ */
+public class SessionCleanupLeaseTest extends DataStoreBaseTest {
+
+    private static final String DB_NAME = "SESSION_CLEANUP_LEASE";
+    private static final long LEASE_DURATION = 60000L;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+
+        initH2DB(DB_NAME, getDatabaseScriptFilePath("session_data_store_h2.sql"));
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+
+        closeH2DB(DB_NAME);
+    }
+
+    @Test
+    public void testLeaseIsHeldByOneNode() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            mockSessionDBConnection(identityDatabaseUtil);
+            SessionCleanupLease node1Lease = new SessionCleanupLease("node1");
+            SessionCleanupLease node2Lease = new SessionCleanupLease("node2");
+
+            assertTrue(node1Lease.acquire("SESSION_DATA", LEASE_DURATION));
+            assertFalse(node2Lease.acquire("SESSION_DATA", LEASE_DURATION));
+            // The holder extends its own lease.
+            assertTrue(node1Lease.acquire("SESSION_DATA", LEASE_DURATION));
+            // Partitions are leased independently.
+            assertTrue(node2Lease.acquire("STORE_OPERATIONS", LEASE_DURATION));
+        }
+    }
+
+    @Test
+    public void testReleasedLeaseIsTakenOver() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            mockSessionDBConnection(identityDatabaseUtil);
+            SessionCleanupLease node1Lease = new SessionCleanupLease("node1");
+            SessionCleanupLease node2Lease = new SessionCleanupLease("node2");
+
+            assertTrue(node1Lease.acquire("TEMP_SESSION_DATA", LEASE_DURATION));
+            node2Lease.release("TEMP_SESSION_DATA");
+            assertFalse(node2Lease.acquire("TEMP_SESSION_DATA", LEASE_DURATION));
+
+            node1Lease.release("TEMP_SESSION_DATA");
+            assertTrue(node2Lease.acquire("TEMP_SESSION_DATA", LEASE_DURATION));
+        }
+    }
+
+    @Test
+    public void testExpiredLeaseIsTakenOver() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            mockSessionDBConnection(identityDatabaseUtil);
+            SessionCleanupLease node1Lease = new SessionCleanupLease("node1");
+            SessionCleanupLease node2Lease = new SessionCleanupLease("node2");
+
+            assertTrue(node1Lease.acquire("USER_SESSION_RECORDS", -1));
+            assertTrue(node2Lease.acquire("USER_SESSION_RECORDS", LEASE_DURATION));
+            assertFalse(node1Lease.acquire("USER_SESSION_RECORDS", LEASE_DURATION));
+        }
+    }
+
+    @Test
+    public void testLeaseIsGrantedWhenLeaseTableIsMissing() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = mockFailingConnection(new SQLException(
+                    "Table \"IDN_AUTH_SESSION_CLEANUP_LEASE\" not found", "42S02"));
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getSessionDBConnection(true)).thenReturn(connection);
+            SessionCleanupLease lease = new SessionCleanupLease("node1");
+
+            assertTrue(lease.acquire("SESSION_DATA", LEASE_DURATION));
+            // The lease table is not looked up again.
+            assertTrue(lease.acquire("SESSION_DATA", LEASE_DURATION));
+            identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.getSessionDBConnection(true), times(1));
+        }
+    }
+
+    @Test
+    public void testLeaseIsRetriedAfterTransientError() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = mockFailingConnection(new SQLException("Connection reset", "08S01"));
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getSessionDBConnection(true))
+                    .thenReturn(connection)
+                    .thenAnswer(invocation -> getConnection(DB_NAME));
+            SessionCleanupLease lease = new SessionCleanupLease("node1");
+
+            assertFalse(lease.acquire("RETRIED_PARTITION", LEASE_DURATION));
+            assertTrue(lease.acquire("RETRIED_PARTITION", LEASE_DURATION));
+        }
+    }
+
+    @Test
+    public void testCursorIsStoredByLeaseHolderAndResumedByNextHolder() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getSessionDBConnection(anyBoolean()))
+                    .thenAnswer(invocation -> getConnection(DB_NAME));
+            SessionCleanupLease node1Lease = new SessionCleanupLease("node1");
+            SessionCleanupLease node2Lease = new SessionCleanupLease("node2");
+
+            assertTrue(node1Lease.acquire("CURSOR_PARTITION", LEASE_DURATION));
+            assertNull(node1Lease.getCursor("CURSOR_PARTITION"));
+            try (Connection connection = getConnection(DB_NAME)) {
+                node1Lease.updateCursor(connection, "CURSOR_PARTITION",
+                        new SessionCleanupLease.Cursor(200L, "00000002"));
+                // A node which does not hold the lease does not move the cursor.
+                node2Lease.updateCursor(connection, "CURSOR_PARTITION",
+                        new SessionCleanupLease.Cursor(300L, "00000003"));
+            }
+
+            node1Lease.release("CURSOR_PARTITION");
+            assertTrue(node2Lease.acquire("CURSOR_PARTITION", LEASE_DURATION));
+            SessionCleanupLease.Cursor cursor = node2Lease.getCursor("CURSOR_PARTITION");
+            assertEquals(cursor.getTimeCreated(), 200L);
+            assertEquals(cursor.getSessionId(), "00000002");
+        }
+    }
+
+    @Test
+    public void testIsLeaseTableMissing() {
+
+        assertTrue(SessionCleanupLease.isLeaseTableMissing(new SQLException("Table not found", "42S02")));
+        assertTrue(SessionCleanupLease.isLeaseTableMissing(new SQLException("relation does not exist", "42P01")));
+        assertTrue(SessionCleanupLease.isLeaseTableMissing(new SQLException("undefined name", "42704")));
+        assertTrue(SessionCleanupLease.isLeaseTableMissing(new SQLException(
+                "ORA-00942: table or view does not exist", "42000", 942)));
+        assertTrue(SessionCleanupLease.isLeaseTableMissing(new SQLException(
+                "Invalid object name 'IDN_AUTH_SESSION_CLEANUP_LEASE'.")));
+        assertFalse(SessionCleanupLease.isLeaseTableMissing(new SQLException("Connection reset", "08S01")));
+        assertFalse(SessionCleanupLease.isLeaseTableMissing(new SQLException("Lock wait timeout exceeded", "40001")));
+    }
+
+    private Connection mockFailingConnection(SQLException error) throws Exception {
+
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenThrow(error);
+        return connection;
+    }
+
+    private void mockSessionDBConnection(MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil) throws Exception {
+
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getSessionDBConnection(true))
+                .thenAnswer(invocation -> getConnection(DB_NAME));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SessionDataDeltaCodec}.
+ */
+public class SessionDataDeltaCodecTest {
+
+    @Test
+    public void testEncodeAndApply() throws Exception {
+
+        byte[] base = "The quick brown fox jumps over the lazy dog. The quick brown fox jumps again."
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] target = "The quick brown fox leaps over the lazy dog. The quick brown fox jumps again!"
+                .getBytes(StandardCharsets.UTF_8);
+
+        byte[] delta = SessionDataDeltaCodec.encode(1000L, base, target);
+
+        assertEquals(SessionDataDeltaCodec.getBaseTimeCreated(delta), 1000L);
+        assertEquals(SessionDataDeltaCodec.apply(base, delta), target);
+    }
+
+    @Test
+    public void testEncodeWithEmptyBase() throws Exception {
+
+        byte[] target = "session".getBytes(StandardCharsets.UTF_8);
+
+        byte[] delta = SessionDataDeltaCodec.encode(1L, new byte[0], target);
+
+        assertEquals(SessionDataDeltaCodec.apply(new byte[0], delta), target);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testApplyOnMismatchingBase() throws Exception {
+
+        byte[] base = new byte[256];
+        byte[] delta = SessionDataDeltaCodec.encode(1L, base, base);
+
+        SessionDataDeltaCodec.apply(new byte[16], delta);
+    }
+
+    @Test
+    public void testBytesWrittenForMultiStepLogin() throws Exception {
+
+        Map<String, String> context = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            context.put("property" + i, "value of the authentication context property " + i);
+        }
+        byte[] previous = serialize(context);
+        long fullBytes = previous.length;
+        long deltaBytes = previous.length;
+        for (int step = 1; step <= 4; step++) {
+            context.put("step" + step, "authenticated by the authenticator of step " + step);
+            context.put("currentStep", String.valueOf(step));
+            byte[] current = serialize(context);
+            byte[] delta = SessionDataDeltaCodec.encode(step, previous, current);
+            assertEquals(SessionDataDeltaCodec.apply(previous, delta), current);
+            fullBytes += current.length;
+            deltaBytes += delta.length;
+            previous = current;
+        }
+        assertTrue(deltaBytes * 2 < fullBytes, "Delta persistence wrote " + deltaBytes +
+                " bytes while full persistence wrote " + fullBytes + " bytes.");
+    }
+
+    private byte[] serialize(Object object) throws IOException {
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(byteArrayOutputStream)) {
+            out.writeObject(object);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests of the delta persistence of the Session Data Store, with several nodes writing the same session.
+ */
+@WithCarbonHome
+public class SessionDataStoreDeltaPersistenceTest extends DataStoreBaseTest {
+
+    private static final String DB_NAME = "SESSION_DATA_DELTA_STORE";
+    private static final String TYPE = "sessionType";
+    private static final String OPERATION_STORE = "STORE";
+    private static final String OPERATION_DELTA = "DELTA";
+    private static final String OPERATION_DELETE = "DELETE";
+    private static final String LARGE_VALUE = new String(new char[4096]).replace('\0', 'x');
+
+    private Connection connection;
+    private MockedStatic<IdentityUtil> identityUtil;
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+    private MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder;
+    private SessionDataStore nodeA;
+    private SessionDataStore nodeB;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+
+        initH2DB(DB_NAME, getDatabaseScriptFilePath("session_data_store_h2.sql"));
+        connection = spy(getConnection(DB_NAME));
+        doNothing().when(connection).close();
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put("JDBCPersistenceManager.SessionDataPersist.DeltaPersistence.Enable", "true");
+        properties.put("JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.Enable", "false");
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.getProperty(anyString()))
+                .thenAnswer(invocation -> properties.get(invocation.<String>getArgument(0)));
+        identityUtil.when(IdentityUtil::getCleanUpTimeout).thenReturn(20L);
+        identityUtil.when(() -> IdentityUtil.getIdentityCacheConfig(anyString(), anyString())).thenReturn(null);
+
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getSessionDBConnection(anyBoolean()))
+                .thenReturn(connection);
+
+        FrameworkServiceDataHolder dataHolder = mock(FrameworkServiceDataHolder.class);
+        when(dataHolder.getSessionSerializer()).thenReturn(new JavaSessionSerializer());
+        frameworkServiceDataHolder = mockStatic(FrameworkServiceDataHolder.class);
+        frameworkServiceDataHolder.when(FrameworkServiceDataHolder::getInstance).thenReturn(dataHolder);
+
+        nodeA = createNode();
+        nodeB = createNode();
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+
+        frameworkServiceDataHolder.close();
+        identityDatabaseUtil.close();
+        identityUtil.close();
+        closeH2DB(DB_NAME);
+    }
+
+    @Test
+    public void testDeltasWrittenByOneNodeAreReadByAnother() throws Exception {
+
+        String key = "00000101";
+        nodeA.persistSessionData(key, TYPE, sessionObject(1), 1000L, MultitenantConstants.INVALID_TENANT_ID);
+        nodeA.persistSessionData(key, TYPE, sessionObject(2), 2000L, MultitenantConstants.INVALID_TENANT_ID);
+        nodeA.persistSessionData(key, TYPE, sessionObject(3), 3000L, MultitenantConstants.INVALID_TENANT_ID);
+
+        assertEquals(countOperations(key, OPERATION_STORE), 1);
+        assertEquals(countOperations(key, OPERATION_DELTA), 2);
+        assertEquals(nodeB.getSessionData(key, TYPE), sessionObject(3));
+        assertEquals(nodeB.getSessionData(key, TYPE, OPERATION_STORE), sessionObject(3));
+        assertTrue(nodeB.validateLastOperationOnSessionData(key, TYPE, OPERATION_STORE));
+    }
+
+    @Test
+    public void testDeltaOverAnotherNodesWriteResolvesToLatestWrite() throws Exception {
+
+        String key = "00000102";
+        nodeA.persistSessionData(key, TYPE, sessionObject(1), 1000L, MultitenantConstants.INVALID_TENANT_ID);
+        nodeB.persistSessionData(key, TYPE, sessionObject(2), 2000L, MultitenantConstants.INVALID_TENANT_ID);
+        nodeA.persistSessionData(key, TYPE, sessionObject(3), 3000L, MultitenantConstants.INVALID_TENANT_ID);
+
+        // Node A chains v3 over its own v1, skipping v2 of node B, as a full snapshot of v3 would.
+        assertEquals(countOperations(key, OPERATION_STORE), 2);
+        assertEquals(countOperations(key, OPERATION_DELTA), 1);
+        assertEquals(nodeB.getSessionData(key, TYPE), sessionObject(3));
+        assertEquals(nodeB.getSessionData(key, TYPE, OPERATION_STORE), sessionObject(3));
+
+        nodeB.persistSessionData(key, TYPE, sessionObject(4), 4000L, MultitenantConstants.INVALID_TENANT_ID);
+
+        assertEquals(countOperations(key, OPERATION_DELTA), 2);
+        assertEquals(nodeA.getSessionData(key, TYPE), sessionObject(4));
+        assertEquals(nodeA.getSessionData(key, TYPE, OPERATION_STORE), sessionObject(4));
+    }
+
+    @Test
+    public void testDeltaOverAnotherNodesDeleteKeepsItsChain() throws Exception {
+
+        String key = "00000105";
+        nodeA.persistSessionData(key, TYPE, sessionObject(1), 1000L, MultitenantConstants.INVALID_TENANT_ID);
+        insertOperation(key, OPERATION_DELETE, null, 1500L);
+        nodeA.persistSessionData(key, TYPE, sessionObject(2), 2000L, MultitenantConstants.INVALID_TENANT_ID);
+
+        assertEquals(countOperations(key, OPERATION_DELTA), 1);
+        nodeB.removeInvalidatedStoreOperations(() -> true);
+
+        assertEquals(countOperations(key, OPERATION_STORE), 1);
+        assertEquals(nodeB.getSessionData(key, TYPE), sessionObject(2));
+    }
+
+    @Test
+    public void testCompactionKeepsRowsOfNewerDeltaChain() throws Exception {
+
+        String key = "00000103";
+        byte[] base = serialize(sessionObject(1));
+        insertOperation(key, OPERATION_STORE, base, 100L);
+        insertOperation(key, OPERATION_DELETE, null, 150L);
+        insertOperation(key, OPERATION_DELTA, SessionDataDeltaCodec.encode(100L, base, serialize(sessionObject(2))),
+                200L);
+        String deletedKey = "00000104";
+        insertOperation(deletedKey, OPERATION_STORE, base, 100L);
+        insertOperation(deletedKey, OPERATION_DELETE, null, 150L);
+
+        nodeA.removeInvalidatedStoreOperations(() -> true);
+
+        assertEquals(countOperations(key, OPERATION_STORE), 1);
+        assertEquals(nodeB.getSessionData(key, TYPE), sessionObject(2));
+        assertEquals(countOperations(deletedKey, OPERATION_STORE), 0);
+    }
+
+    private SessionDataStore createNode() throws Exception {
+
+        Constructor<SessionDataStore> constructor = SessionDataStore.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+
+    private HashMap<String, String> sessionObject(int version) {
+
+        HashMap<String, String> sessionObject = new HashMap<>();
+        sessionObject.put("attribute", LARGE_VALUE);
+        sessionObject.put("version", String.valueOf(version));
+        return sessionObject;
+    }
+
+    private byte[] serialize(Object sessionObject) throws Exception {
+
+        try (InputStream inputStream = new JavaSessionSerializer().serializeSessionObject(sessionObject);
+             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            byte[] buffer = new byte[4096];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    private void insertOperation(String sessionId, String operation, byte[] sessionObject, long timeCreated)
+            throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO IDN_AUTH_SESSION_STORE " +
+                "(SESSION_ID, SESSION_TYPE, OPERATION, SESSION_OBJECT, TIME_CREATED, EXPIRY_TIME) " +
+                "VALUES (?, ?, ?, ?, ?, ?)")) {
+            statement.setString(1, sessionId);
+            statement.setString(2, TYPE);
+            statement.setString(3, operation);
+            if (sessionObject != null) {
+                statement.setBinaryStream(4, new ByteArrayInputStream(sessionObject), sessionObject.length);
+            } else {
+                statement.setNull(4, Types.BLOB);
+            }
+            statement.setLong(5, timeCreated);
+            statement.setLong(6, Long.MAX_VALUE);
+            statement.executeUpdate();
+        }
+    }
+
+    private int countOperations(String sessionId, String operation) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM " +
+                "IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ? AND OPERATION = ?")) {
+            statement.setString(1, sessionId);
+            statement.setString(2, operation);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+}
@@ -55,6 +55,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test class that includes unit tests of Session Data Store.
@@ -231,6 +232,92 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
         }
     }
 
+    @Test(dependsOnMethods = "testRemoveExpiredSessionData")
+    public void testRemoveInvalidatedStoreOperations() throws Exception {
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            long expiryTime = Long.MAX_VALUE;
+            insertOperation(connection, "00000010", OPERATION_STORE, 100L, expiryTime);
+            insertOperation(connection, "00000010", OPERATION_DELETE, 200L, expiryTime);
+            insertOperation(connection, "00000010", OPERATION_STORE, 300L, expiryTime);
+            insertOperation(connection, "00000011", OPERATION_STORE, 100L, expiryTime);
+
+            long removedCount = SessionDataStore.getInstance().removeInvalidatedStoreOperations(() -> true);
+
+            assertTrue(removedCount >= 1L);
+            assertEquals(countOperations(connection, "00000010", OPERATION_STORE), 1);
+            assertEquals(countOperations(connection, "00000011", OPERATION_STORE), 1);
+        }
+    }
+
+    @Test(dependsOnMethods = "testRemoveInvalidatedStoreOperations")
+    public void testRemoveInvalidatedStoreOperationsStoresCursorInLease() throws Exception {
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getSessionDBConnection(false))
+                    .thenAnswer(invocation -> getConnection(DB_NAME));
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            String partition = SessionCleanUpService.CleanupPartition.STORE_OPERATIONS.name();
+            SessionCleanupLease lease = new SessionCleanupLease("node1");
+            assertTrue(lease.acquire(partition, TimeUnit.MINUTES.toMillis(1)));
+            long expiryTime = Long.MAX_VALUE;
+            // DELETE operations of different sessions created at the same time.
+            insertOperation(connection, "00000012", OPERATION_STORE, 400L, expiryTime);
+            insertOperation(connection, "00000012", OPERATION_DELETE, 500L, expiryTime);
+            insertOperation(connection, "00000013", OPERATION_STORE, 400L, expiryTime);
+            insertOperation(connection, "00000013", OPERATION_DELETE, 500L, expiryTime);
+
+            SessionDataStore.getInstance().removeInvalidatedStoreOperations(() -> true, lease);
+
+            assertEquals(countOperations(connection, "00000012", OPERATION_STORE), 0);
+            assertEquals(countOperations(connection, "00000013", OPERATION_STORE), 0);
+            SessionCleanupLease.Cursor cursor = lease.getCursor(partition);
+            assertTrue(cursor != null && cursor.getTimeCreated() >= 500L);
+        }
+    }
+
+    private void insertOperation(Connection connection, String sessionId, String operation, long timeCreated,
+                                 long expiryTime) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO IDN_AUTH_SESSION_STORE " +
+                "(SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED, EXPIRY_TIME) VALUES (?, ?, ?, ?, ?)")) {
+            statement.setString(1, sessionId);
+            statement.setString(2, "sessionType");
+            statement.setString(3, operation);
+            statement.setLong(4, timeCreated);
+            statement.setLong(5, expiryTime);
+            statement.executeUpdate();
+        }
+    }
+
+    private int countOperations(Connection connection, String sessionId, String operation) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM " +
+                "IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ? AND OPERATION = ?")) {
+            statement.setString(1, sessionId);
+            statement.setString(2, operation);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
     private void mockCarbonContext(MockedStatic<CarbonContext> carbonContext) {
 
         CarbonContext mockCarbonContext = mock(CarbonContext.class);
@@ -19,3 +19,12 @@ CREATE TABLE IDN_AUTH_TEMP_SESSION_STORE (
             EXPIRY_TIME BIGINT,
             PRIMARY KEY (SESSION_ID, SESSION_TYPE, TIME_CREATED, OPERATION)
 );
+
+CREATE TABLE IDN_AUTH_SESSION_CLEANUP_LEASE (
+            PARTITION_NAME VARCHAR(100) NOT NULL,
+            OWNER_ID VARCHAR(255) NOT NULL,
+            EXPIRY_TIME BIGINT NOT NULL,
+            CURSOR_TIME_CREATED BIGINT,
+            CURSOR_SESSION_ID VARCHAR(100),
+            PRIMARY KEY (PARTITION_NAME)
+);
@@ -15,19 +15,17 @@
  */
 package org.wso2.carbon.identity.thrift.authentication.dao;
 
+import org.wso2.carbon.identity.thrift.authentication.internal.util.ThriftSessionStore;
 import org.wso2.carbon.utils.ThriftSession;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 /**
  * Class to manipulate thrift session info in memory.
  */
 public class InMemoryThriftSessionDAO implements ThriftSessionDAO {
 
-    private ConcurrentMap<String, ThriftSession> thriftSessionMap = new ConcurrentHashMap<String, ThriftSession>();
+    private final ThriftSessionStore thriftSessionStore = new ThriftSessionStore();
 
     public InMemoryThriftSessionDAO() {
 
@@ -36,28 +34,28 @@ public class InMemoryThriftSessionDAO implements ThriftSessionDAO {
 
     @Override
     public List<ThriftSession> getAllSessions() {
-        return new ArrayList<ThriftSession>(thriftSessionMap.values());
+        return thriftSessionStore.getAll();
     }
 
     @Override
     public boolean isSessionExisting(String sessionId) {
-        return thriftSessionMap.containsKey(sessionId);
+        return thriftSessionStore.contains(sessionId);
     }
 
     @Override
     public void addSession(ThriftSession session) {
-        thriftSessionMap.put(session.getSessionId(), session);
+        thriftSessionStore.put(session);
     }
 
     @Override
     public void removeSession(String sessionId) {
-        thriftSessionMap.remove(sessionId);
+        thriftSessionStore.remove(sessionId);
 
     }
 
     @Override
     public void updateLastAccessTime(String sessionId, long lastAccessTime) {
-        ThriftSession thriftSession = thriftSessionMap.get(sessionId);
+        ThriftSession thriftSession = thriftSessionStore.get(sessionId);
         if (thriftSession != null) {
             thriftSession.setLastAccess(lastAccessTime);
         }
@@ -65,11 +63,48 @@ public class InMemoryThriftSessionDAO implements ThriftSessionDAO {
 
     @Override
     public ThriftSession getSession(String sessionId) {
-        return thriftSessionMap.get(sessionId);
+        return thriftSessionStore.get(sessionId);
     }
 
     @Override
     public ThriftSessionDAO getInstance() {
         return this;
     }
+
+    /**
+     * Set the maximum number of sessions kept, beyond which the least recently used sessions are evicted.
+     *
+     * @param maxSessions Maximum number of sessions.
+     */
+    public void setMaxSessions(int maxSessions) {
+        thriftSessionStore.setMaxSessions(maxSessions);
+    }
+
+    /**
+     * Remove the sessions which have not been accessed within the session timeout.
+     *
+     * @param sessionTimeout Session timeout in milliseconds.
+     * @return Number of sessions removed.
+     */
+    public int removeExpiredSessions(long sessionTimeout) {
+        return thriftSessionStore.removeExpiredSessions(sessionTimeout);
+    }
+
+    /**
+     * Get the number of sessions kept.
+     *
+     * @return Number of sessions.
+     */
+    public int getSessionCount() {
+        return thriftSessionStore.size();
+    }
+
+    /**
+     * Get the number of sessions evicted since the maximum number of sessions was reached.
+     *
+     * @return Number of evicted sessions.
+     */
+    public long getEvictedSessionCount() {
+        return thriftSessionStore.getEvictedCount();
+    }
 }
@@ -35,6 +35,7 @@ import org.wso2.carbon.identity.thrift.authentication.internal.generatedCode.Aut
 import org.wso2.carbon.identity.thrift.authentication.internal.util.HostAddressFinder;
 import org.wso2.carbon.identity.thrift.authentication.internal.util.ThriftAuthenticationConfigParser;
 import org.wso2.carbon.identity.thrift.authentication.internal.util.ThriftAuthenticationConstants;
+import org.wso2.carbon.identity.thrift.authentication.internal.util.ThriftSessionStore;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.utils.CarbonUtils;
 import org.wso2.carbon.utils.ConfigurationContextService;
@@ -66,6 +67,8 @@ public class ThriftAuthenticationServiceComponent {
 
     private TCPThriftAuthenticationService TCPThriftAuthenticationService;
 
+    private ThriftAuthenticatorServiceImpl thriftAuthenticatorServiceImpl;
+
     public static int readPortOffset() {
         return CarbonUtils.getPortFromServerConfig(ThriftAuthenticationConstants.CARBON_CONFIG_PORT_OFFSET_NODE) + 1;
     }
@@ -91,8 +94,33 @@ public class ThriftAuthenticationServiceComponent {
                 log.error("Error in loading ThriftSessionTimeout hence using the default: 30min, ", throwable);
                 thriftSessionTimeout = 60000L * 30;
             }
+            // configure the maximum number of thrift sessions kept in memory
+            int thriftSessionMaxCount = ThriftSessionStore.DEFAULT_MAX_SESSIONS;
+            OMElement thriftSessionMaxCountElement = ThriftAuthenticationConfigParser.getInstance()
+                    .getConfigElement(ThriftAuthenticationConstants.THRIFT_SESSION_MAX_COUNT);
+            if (thriftSessionMaxCountElement != null) {
+                try {
+                    thriftSessionMaxCount = Integer.parseInt(thriftSessionMaxCountElement.getText().trim());
+                } catch (NumberFormatException e) {
+                    log.error("Error in loading ThriftSessionMaxCount hence using the default: " +
+                            thriftSessionMaxCount, e);
+                }
+            }
+            // configure the interval between removals of the expired thrift sessions in ms
+            long thriftSessionCleanupInterval = ThriftAuthenticationConstants.DEFAULT_THRIFT_SESSION_CLEANUP_INTERVAL;
+            OMElement thriftSessionCleanupIntervalElement = ThriftAuthenticationConfigParser.getInstance()
+                    .getConfigElement(ThriftAuthenticationConstants.THRIFT_SESSION_CLEANUP_INTERVAL);
+            if (thriftSessionCleanupIntervalElement != null) {
+                try {
+                    thriftSessionCleanupInterval = Long.parseLong(thriftSessionCleanupIntervalElement.getText().trim());
+                } catch (NumberFormatException e) {
+                    log.error("Error in loading ThriftSessionCleanupInterval hence using the default: " +
+                            thriftSessionCleanupInterval + "ms", e);
+                }
+            }
             // get an instance of this to register as an osgi service
-            ThriftAuthenticatorServiceImpl thriftAuthenticatorServiceImpl = new ThriftAuthenticatorServiceImpl(getRealmServiceInstance(), thriftSessionDAO, thriftSessionTimeout);
+            thriftAuthenticatorServiceImpl = new ThriftAuthenticatorServiceImpl(getRealmServiceInstance(),
+                    thriftSessionDAO, thriftSessionTimeout, thriftSessionMaxCount, thriftSessionCleanupInterval);
             // register as an osgi service
             thriftAuthenticationService = compCtx.getBundleContext().registerService(ThriftAuthenticatorService.class.getName(), thriftAuthenticatorServiceImpl, null);
             // register AuthenticatorServiceImpl as a thrift service.
@@ -110,6 +138,9 @@ public class ThriftAuthenticationServiceComponent {
         if (TCPThriftAuthenticationService != null) {
             TCPThriftAuthenticationService.stop();
         }
+        if (thriftAuthenticatorServiceImpl != null) {
+            thriftAuthenticatorServiceImpl.shutdown();
+        }
         compCtx.getBundleContext().ungetService(thriftAuthenticationService.getReference());
     }
 
@@ -25,8 +25,11 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.core.services.util.CarbonAuthenticationUtil;
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.thrift.authentication.ThriftAuthenticatorService;
+import org.wso2.carbon.identity.thrift.authentication.dao.InMemoryThriftSessionDAO;
 import org.wso2.carbon.identity.thrift.authentication.dao.ThriftSessionDAO;
 import org.wso2.carbon.identity.thrift.authentication.internal.generatedCode.AuthenticationException;
+import org.wso2.carbon.identity.thrift.authentication.internal.util.ThriftAuthenticationConstants;
+import org.wso2.carbon.identity.thrift.authentication.internal.util.ThriftSessionStore;
 import org.wso2.carbon.user.api.UserRealm;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.service.RealmService;
@@ -35,9 +38,10 @@ import org.wso2.carbon.utils.ThriftSession;
 import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is a utility class that performs authentication related functionality
@@ -49,19 +53,52 @@ public class ThriftAuthenticatorServiceImpl implements ThriftAuthenticatorServic
     //session timeout in milli seconds
     private static long thriftSessionTimeOut;
     private RealmService realmService;
-    private Map<String, ThriftSession> authenticatedSessions =
-            new ConcurrentHashMap<String, ThriftSession>();
+    private final ThriftSessionStore authenticatedSessions;
     private ThriftSessionDAO thriftSessionDAO;
+    private final ScheduledExecutorService sessionCleanupExecutor;
 
     public ThriftAuthenticatorServiceImpl(RealmService realmService, ThriftSessionDAO thriftSessionDAO, long thriftSessionTimeOut) {
+        this(realmService, thriftSessionDAO, thriftSessionTimeOut, ThriftSessionStore.DEFAULT_MAX_SESSIONS,
+                ThriftAuthenticationConstants.DEFAULT_THRIFT_SESSION_CLEANUP_INTERVAL);
+    }
+
+    /**
+     * Create the thrift authenticator service with a bounded session cache, from which the expired sessions are
+     * removed periodically.
+     *
+     * @param realmService           Realm service.
+     * @param thriftSessionDAO       Thrift session DAO.
+     * @param thriftSessionTimeOut   Session timeout in milli seconds.
+     * @param maxSessions            Maximum number of sessions kept in memory.
+     * @param sessionCleanupInterval Interval between removals of the expired sessions in milli seconds.
+     */
+    public ThriftAuthenticatorServiceImpl(RealmService realmService, ThriftSessionDAO thriftSessionDAO,
+                                          long thriftSessionTimeOut, int maxSessions, long sessionCleanupInterval) {
         this.realmService = realmService;
         setThriftSessionTimeOut(thriftSessionTimeOut);
         this.thriftSessionDAO = thriftSessionDAO.getInstance();
+        if (maxSessions <= 0) {
+            maxSessions = ThriftSessionStore.DEFAULT_MAX_SESSIONS;
+        }
+        if (sessionCleanupInterval <= 0) {
+            sessionCleanupInterval = ThriftAuthenticationConstants.DEFAULT_THRIFT_SESSION_CLEANUP_INTERVAL;
+        }
+        this.authenticatedSessions = new ThriftSessionStore(maxSessions);
+        if (this.thriftSessionDAO instanceof InMemoryThriftSessionDAO) {
+            ((InMemoryThriftSessionDAO) this.thriftSessionDAO).setMaxSessions(maxSessions);
+        }
+        this.sessionCleanupExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "thrift-session-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sessionCleanupExecutor.scheduleWithFixedDelay(this::removeExpiredSessions, sessionCleanupInterval,
+                sessionCleanupInterval, TimeUnit.MILLISECONDS);
     }
 
     private void addThriftSession(ThriftSession thriftSession) throws IdentityException {
         //add to cache
-        authenticatedSessions.put(thriftSession.getSessionId(), thriftSession);
+        authenticatedSessions.put(thriftSession);
         //add to database
         ThriftSessionDAO sessionDAO = this.thriftSessionDAO.getInstance();
         sessionDAO.addSession(thriftSession);
@@ -182,17 +219,17 @@ public class ThriftAuthenticatorServiceImpl implements ThriftAuthenticatorServic
         //if cache not empty, check if session id existing and valid, if so, update last access time and return it.
         if (!authenticatedSessions.isEmpty()) {
             ThriftSessionDAO sessionDAO = this.thriftSessionDAO.getInstance();
-            if (authenticatedSessions.containsKey(sessionId)) {
-                ThriftSession thriftSessionInCache = authenticatedSessions.get(sessionId);
+            ThriftSession thriftSessionInCache = authenticatedSessions.get(sessionId);
+            if (thriftSessionInCache != null) {
                 if (isSessionValid(thriftSessionInCache)) {
                     //update the last access time in cache and d
                     long lastAccessTime = System.currentTimeMillis();
-                    (authenticatedSessions.get(sessionId)).setLastAccess(lastAccessTime);
+                    thriftSessionInCache.setLastAccess(lastAccessTime);
                     try {
                         //if carbon context in the thrift session is not initialized, should do that now.
                         onSuccessLogin(thriftSessionInCache);
                         //put the thrift session filled with carbon context info
-                        authenticatedSessions.put(sessionId, thriftSessionInCache);
+                        authenticatedSessions.put(thriftSessionInCache);
                         sessionDAO.updateLastAccessTime(sessionId, lastAccessTime);
                     } catch (IdentityException e) {
                         String error = "Error while updating last access time in DB";
@@ -210,7 +247,7 @@ public class ThriftAuthenticatorServiceImpl implements ThriftAuthenticatorServic
                             //update cache and return true
                             thriftSession.setLastAccess(System.currentTimeMillis());
                             onSuccessLogin(thriftSession);
-                            authenticatedSessions.put(thriftSession.getSessionId(), thriftSession);
+                            authenticatedSessions.put(thriftSession);
                             sessionDAO.updateLastAccessTime(sessionId, thriftSession.getLastAccess());
                             return true;
                         } else {
@@ -234,7 +271,7 @@ public class ThriftAuthenticatorServiceImpl implements ThriftAuthenticatorServic
                         if (isSessionValid(thriftSession)) {
                             thriftSession.setLastAccess(System.currentTimeMillis());
                             onSuccessLogin(thriftSession);
-                            authenticatedSessions.put(thriftSession.getSessionId(), thriftSession);
+                            authenticatedSessions.put(thriftSession);
                             sessionDAO.updateLastAccessTime(sessionId, thriftSession.getLastAccess());
                             return true;
                         } else {
@@ -280,7 +317,9 @@ public class ThriftAuthenticatorServiceImpl implements ThriftAuthenticatorServic
         //add to cache
         if (CollectionUtils.isNotEmpty(thriftSessions)) {
             for (ThriftSession thriftSession : thriftSessions) {
-                authenticatedSessions.put(thriftSession.getSessionId(), thriftSession);
+                if (isSessionValid(thriftSession)) {
+                    authenticatedSessions.put(thriftSession);
+                }
             }
         }
     }
@@ -308,6 +347,57 @@ public class ThriftAuthenticatorServiceImpl implements ThriftAuthenticatorServic
         }
     }
 
+    /**
+     * Stop removing the expired sessions periodically.
+     */
+    public void shutdown() {
+        sessionCleanupExecutor.shutdownNow();
+    }
+
+    /**
+     * Get the number of sessions kept in memory.
+     *
+     * @return Number of sessions.
+     */
+    public int getSessionCount() {
+        return authenticatedSessions.size();
+    }
+
+    /**
+     * Get the number of sessions evicted from memory since the maximum number of sessions was reached.
+     *
+     * @return Number of evicted sessions.
+     */
+    public long getEvictedSessionCount() {
+        return authenticatedSessions.getEvictedCount();
+    }
+
+    /**
+     * Get the number of expired sessions removed from memory.
+     *
+     * @return Number of expired sessions.
+     */
+    public long getExpiredSessionCount() {
+        return authenticatedSessions.getExpiredCount();
+    }
+
+    private void removeExpiredSessions() {
+        try {
+            int removedCount = authenticatedSessions.removeExpiredSessions(getThriftSessionTimeOut());
+            if (thriftSessionDAO instanceof InMemoryThriftSessionDAO) {
+                ((InMemoryThriftSessionDAO) thriftSessionDAO).removeExpiredSessions(getThriftSessionTimeOut());
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Removed " + removedCount + " expired thrift sessions. Active sessions: " +
+                        authenticatedSessions.size() + ", evicted sessions: " +
+                        authenticatedSessions.getEvictedCount() + ", expired sessions: " +
+                        authenticatedSessions.getExpiredCount());
+            }
+        } catch (Throwable e) {
+            log.error("Error while removing the expired thrift sessions.", e);
+        }
+    }
+
     public static long getThriftSessionTimeOut() {
         return thriftSessionTimeOut;
     }
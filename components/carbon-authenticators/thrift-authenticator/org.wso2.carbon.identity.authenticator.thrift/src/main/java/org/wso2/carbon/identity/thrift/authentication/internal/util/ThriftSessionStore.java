@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.thrift.authentication.internal.util;
+
+import org.wso2.carbon.utils.ThriftSession;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded in-memory store of thrift sessions.
+ * <p>
+ * Once the store holds the maximum number of sessions, the least recently used session is evicted to make room for a
+ * new one. Expired sessions are removed by {@link #removeExpiredSessions(long)}, which is expected to be called
+ * periodically, so that sessions of clients which never come back do not stay in memory.
+ */
+public class ThriftSessionStore {
+
+    public static final int DEFAULT_MAX_SESSIONS = 10000;
+
+    private final Map<String, ThriftSession> sessions;
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+    private volatile int maxSessions;
+
+    public ThriftSessionStore() {
+
+        this(DEFAULT_MAX_SESSIONS);
+    }
+
+    public ThriftSessionStore(int maxSessions) {
+
+        this.maxSessions = maxSessions;
+        this.sessions = new LinkedHashMap<String, ThriftSession>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ThriftSession> eldest) {
+
+                if (size() > ThriftSessionStore.this.maxSessions) {
+                    evictedCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Set the maximum number of sessions. If the store holds more sessions, the least recently used sessions are
+     * evicted as new sessions are added.
+     *
+     * @param maxSessions Maximum number of sessions.
+     */
+    public void setMaxSessions(int maxSessions) {
+
+        this.maxSessions = maxSessions;
+    }
+
+    public synchronized ThriftSession get(String sessionId) {
+
+        return sessions.get(sessionId);
+    }
+
+    public synchronized boolean contains(String sessionId) {
+
+        return sessions.containsKey(sessionId);
+    }
+
+    public synchronized void put(ThriftSession session) {
+
+        sessions.put(session.getSessionId(), session);
+    }
+
+    public synchronized void remove(String sessionId) {
+
+        sessions.remove(sessionId);
+    }
+
+    public synchronized List<ThriftSession> getAll() {
+
+        return new ArrayList<>(sessions.values());
+    }
+
+    public synchronized boolean isEmpty() {
+
+        return sessions.isEmpty();
+    }
+
+    public synchronized int size() {
+
+        return sessions.size();
+    }
+
+    public synchronized void clear() {
+
+        sessions.clear();
+    }
+
+    /**
+     * Remove the sessions which have not been accessed within the session timeout.
+     *
+     * @param sessionTimeout Session timeout in milliseconds.
+     * @return Number of sessions removed.
+     */
+    public synchronized int removeExpiredSessions(long sessionTimeout) {
+
+        long now = System.currentTimeMillis();
+        int removedCount = 0;
+        Iterator<ThriftSession> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().getLastAccess() >= sessionTimeout) {
+                iterator.remove();
+                removedCount++;
+            }
+        }
+        expiredCount.addAndGet(removedCount);
+        return removedCount;
+    }
+
+    /**
+     * Get the number of sessions evicted since the store was full.
+     *
+     * @return Number of evicted sessions.
+     */
+    public long getEvictedCount() {
+
+        return evictedCount.get();
+    }
+
+    /**
+     * Get the number of expired sessions removed from the store.
+     *
+     * @return Number of expired sessions.
+     */
+    public long getExpiredCount() {
+
+        return expiredCount.get();
+    }
+}
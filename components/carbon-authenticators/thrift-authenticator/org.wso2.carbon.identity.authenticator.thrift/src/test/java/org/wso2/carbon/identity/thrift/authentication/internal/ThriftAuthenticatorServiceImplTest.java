@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.thrift.authentication.internal;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.thrift.authentication.dao.InMemoryThriftSessionDAO;
+import org.wso2.carbon.utils.ThriftSession;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for the removal of the expired sessions by {@link ThriftAuthenticatorServiceImpl}.
+ */
+public class ThriftAuthenticatorServiceImplTest {
+
+    private static final long SESSION_TIMEOUT = 5000;
+    private static final long CLEANUP_INTERVAL = 20;
+
+    private InMemoryThriftSessionDAO sessionDAO;
+    private ThriftAuthenticatorServiceImpl authenticatorService;
+
+    @BeforeMethod
+    public void setUp() {
+
+        sessionDAO = new InMemoryThriftSessionDAO();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (authenticatorService != null) {
+            authenticatorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testExpiredSessionsAreRemovedBySweeper() throws Exception {
+
+        long now = System.currentTimeMillis();
+        sessionDAO.addSession(createSession("expired", now - 2 * SESSION_TIMEOUT));
+        sessionDAO.addSession(createSession("active", now));
+
+        authenticatorService = new ThriftAuthenticatorServiceImpl(null, sessionDAO, SESSION_TIMEOUT, 10,
+                CLEANUP_INTERVAL);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (sessionDAO.isSessionExisting("expired") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(CLEANUP_INTERVAL);
+        }
+        assertFalse(sessionDAO.isSessionExisting("expired"));
+        assertTrue(sessionDAO.isSessionExisting("active"));
+    }
+
+    @Test
+    public void testSweeperStopsOnShutdown() throws Exception {
+
+        authenticatorService = new ThriftAuthenticatorServiceImpl(null, sessionDAO, SESSION_TIMEOUT, 10,
+                CLEANUP_INTERVAL);
+        authenticatorService.shutdown();
+        // Let a sweep that may have started before the shutdown complete.
+        Thread.sleep(2 * CLEANUP_INTERVAL);
+
+        sessionDAO.addSession(createSession("expired", System.currentTimeMillis() - 2 * SESSION_TIMEOUT));
+        Thread.sleep(5 * CLEANUP_INTERVAL);
+        assertTrue(sessionDAO.isSessionExisting("expired"));
+    }
+
+    private ThriftSession createSession(String sessionId, long lastAccess) {
+
+        ThriftSession session = new ThriftSession();
+        session.setSessionId(sessionId);
+        session.setCreatedAt(lastAccess);
+        session.setLastAccess(lastAccess);
+        return session;
+    }
+}
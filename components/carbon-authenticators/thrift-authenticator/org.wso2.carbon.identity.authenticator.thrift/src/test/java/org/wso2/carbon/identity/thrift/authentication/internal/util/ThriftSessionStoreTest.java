@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.thrift.authentication.internal.util;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.utils.ThriftSession;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ThriftSessionStore}.
+ */
+public class ThriftSessionStoreTest {
+
+    @Test
+    public void testPutAndGet() {
+
+        ThriftSessionStore store = new ThriftSessionStore();
+        ThriftSession session = createSession("session-1", System.currentTimeMillis());
+        store.put(session);
+
+        assertSame(store.get("session-1"), session);
+        assertTrue(store.contains("session-1"));
+        assertEquals(store.size(), 1);
+        assertNull(store.get("session-2"));
+    }
+
+    @Test
+    public void testRemove() {
+
+        ThriftSessionStore store = new ThriftSessionStore();
+        store.put(createSession("session-1", System.currentTimeMillis()));
+        store.remove("session-1");
+
+        assertFalse(store.contains("session-1"));
+        assertTrue(store.isEmpty());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSessionIsEvictedWhenFull() {
+
+        ThriftSessionStore store = new ThriftSessionStore(2);
+        long now = System.currentTimeMillis();
+        store.put(createSession("session-1", now));
+        store.put(createSession("session-2", now));
+        // Access the first session so that the second one becomes the least recently used.
+        store.get("session-1");
+        store.put(createSession("session-3", now));
+
+        assertEquals(store.size(), 2);
+        assertTrue(store.contains("session-1"));
+        assertFalse(store.contains("session-2"));
+        assertTrue(store.contains("session-3"));
+        assertEquals(store.getEvictedCount(), 1);
+    }
+
+    @Test
+    public void testRemoveExpiredSessions() {
+
+        ThriftSessionStore store = new ThriftSessionStore();
+        long now = System.currentTimeMillis();
+        store.put(createSession("expired", now - 10000));
+        store.put(createSession("active", now));
+
+        assertEquals(store.removeExpiredSessions(5000), 1);
+        assertFalse(store.contains("expired"));
+        assertTrue(store.contains("active"));
+        assertEquals(store.getExpiredCount(), 1);
+    }
+
+    private ThriftSession createSession(String sessionId, long lastAccess) {
+
+        ThriftSession session = new ThriftSession();
+        session.setSessionId(sessionId);
+        session.setCreatedAt(lastAccess);
+        session.setLastAccess(lastAccess);
+        return session;
+    }
+}
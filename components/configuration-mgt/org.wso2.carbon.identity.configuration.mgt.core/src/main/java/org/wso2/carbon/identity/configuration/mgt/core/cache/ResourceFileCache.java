@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.DEFAULT_MAX_CACHED_FILES_TOTAL_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.MAX_CACHED_FILES_TOTAL_SIZE;
+
+/**
+ * Represents the cache that holds the content of the configuration resource files by id. Only the files which do
+ * not exceed the configured size are cached.
+ * <p>
+ * The total size of the content cached by this node is bounded by the configured budget. The sizes of the added
+ * entries are tracked in the order they were added, and the oldest entries are removed when an addition exceeds the
+ * budget. Entries which expire or are evicted by the underlying cache are still counted until they are removed from
+ * the tracked entries, so the tracked size never falls below the size actually cached.
+ */
+public class ResourceFileCache extends BaseCache<ResourceFileCacheKey, ResourceFileCacheEntry> {
+
+    private static final String CACHE_NAME = "ConfigurationResourceFileCache";
+    // Accounts for the key and the entry of a cached file, so that empty files also count towards the budget.
+    private static final int ENTRY_OVERHEAD_SIZE = 256;
+    private static volatile ResourceFileCache instance;
+
+    private final Map<ResourceFileCacheKey, Integer> cachedFileSizes = new LinkedHashMap<>();
+    private long cachedFilesTotalSize;
+
+    private ResourceFileCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static ResourceFileCache getInstance() {
+
+        if (instance == null) {
+            synchronized (ResourceFileCache.class) {
+                if (instance == null) {
+                    instance = new ResourceFileCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    @Override
+    public void addToCache(ResourceFileCacheKey key, ResourceFileCacheEntry entry) {
+
+        int maxTotalSize = IdentityUtil.getIntProperty(MAX_CACHED_FILES_TOTAL_SIZE,
+                DEFAULT_MAX_CACHED_FILES_TOTAL_SIZE);
+        if (maxTotalSize <= 0) {
+            super.addToCache(key, entry);
+            return;
+        }
+        int size = entry.getContent().length + ENTRY_OVERHEAD_SIZE;
+        if (size > maxTotalSize) {
+            return;
+        }
+        List<ResourceFileCacheKey> evictedKeys = new ArrayList<>();
+        synchronized (cachedFileSizes) {
+            untrack(key);
+            Iterator<Map.Entry<ResourceFileCacheKey, Integer>> iterator = cachedFileSizes.entrySet().iterator();
+            while (cachedFilesTotalSize + size > maxTotalSize && iterator.hasNext()) {
+                Map.Entry<ResourceFileCacheKey, Integer> oldest = iterator.next();
+                cachedFilesTotalSize -= oldest.getValue();
+                evictedKeys.add(oldest.getKey());
+                iterator.remove();
+            }
+            cachedFileSizes.put(key, size);
+            cachedFilesTotalSize += size;
+        }
+        for (ResourceFileCacheKey evictedKey : evictedKeys) {
+            super.clearCacheEntry(evictedKey);
+        }
+        super.addToCache(key, entry);
+    }
+
+    @Override
+    public void clearCacheEntry(ResourceFileCacheKey key) {
+
+        synchronized (cachedFileSizes) {
+            untrack(key);
+        }
+        super.clearCacheEntry(key);
+    }
+
+    @Override
+    public void clear() {
+
+        synchronized (cachedFileSizes) {
+            cachedFileSizes.clear();
+            cachedFilesTotalSize = 0;
+        }
+        super.clear();
+    }
+
+    private void untrack(ResourceFileCacheKey key) {
+
+        Integer size = cachedFileSizes.remove(key);
+        if (size != null) {
+            cachedFilesTotalSize -= size;
+        }
+    }
+}
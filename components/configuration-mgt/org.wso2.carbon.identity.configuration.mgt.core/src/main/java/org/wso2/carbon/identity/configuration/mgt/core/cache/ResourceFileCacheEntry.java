@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.application.common.cache.CacheEntry;
+
+/**
+ * Represents a cache entry for the content of a configuration resource file.
+ */
+public class ResourceFileCacheEntry extends CacheEntry {
+
+    private final String resourceTypeName;
+    private final String resourceName;
+    private final byte[] content;
+
+    public ResourceFileCacheEntry(String resourceTypeName, String resourceName, byte[] content) {
+
+        this.resourceTypeName = resourceTypeName;
+        this.resourceName = resourceName;
+        this.content = content;
+    }
+
+    /**
+     * Check whether the file belongs to the given resource.
+     *
+     * @param resourceTypeName Name of the resource type.
+     * @param resourceName     Name of the resource.
+     * @return True if the file belongs to the resource.
+     */
+    public boolean isFileOf(String resourceTypeName, String resourceName) {
+
+        return StringUtils.equals(this.resourceTypeName, resourceTypeName) &&
+                StringUtils.equals(this.resourceName, resourceName);
+    }
+
+    public byte[] getContent() {
+
+        return content;
+    }
+}
@@ -73,6 +73,10 @@ public class ConfigurationConstants {
     public static final String TENANT_NAME_FROM_CONTEXT = "TenantNameFromContext";
     public static final String PATH_SEPARATOR = "/";
     public static final String CORRELATION_ID_MDC = "Correlation-ID";
+    public static final String MAX_CACHED_FILE_SIZE = "ConfigurationStore.MaxCachedFileSizeInBytes";
+    public static final int DEFAULT_MAX_CACHED_FILE_SIZE = 65536;
+    public static final String MAX_CACHED_FILES_TOTAL_SIZE = "ConfigurationStore.MaxCachedFilesTotalSizeInBytes";
+    public static final int DEFAULT_MAX_CACHED_FILES_TOTAL_SIZE = 16777216;
 
     // An enum representing the types of resources that can be inherited.
     public enum InheritedResourceType {
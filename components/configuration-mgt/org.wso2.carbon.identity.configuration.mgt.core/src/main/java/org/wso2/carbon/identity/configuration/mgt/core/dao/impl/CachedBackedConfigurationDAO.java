@@ -16,6 +16,7 @@
 
 package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
@@ -24,6 +25,20 @@ import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCache
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCacheKey;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceCacheEntry;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileCacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileListCacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFilesByTypeCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFilesByTypeCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceListCacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByIdCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByIdCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByNameCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByNameCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeCacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourcesByTypeCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourcesByTypeCacheKey;
 import org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
@@ -34,16 +49,37 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
 import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
+import org.wso2.carbon.identity.configuration.mgt.core.search.PrimitiveCondition;
+import org.wso2.carbon.identity.configuration.mgt.core.search.constant.ConditionType;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.DEFAULT_MAX_CACHED_FILE_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages.ERROR_CODE_GET_FILE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.MAX_CACHED_FILE_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.RESOURCE_SEARCH_BEAN_FIELD_RESOURCE_TYPE_NAME;
 import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.handleClientException;
+import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.handleServerException;
 
 /**
  * This is a wrapper data access object to the default data access object to provide caching functionalities.
+ * <p>
+ * Resources are cached by their name and id, resource types by their name and id, and the resources and resource
+ * files of a resource type per tenant. The content of the resource files which do not exceed the configured size is
+ * cached by the file id. Every update through this data access object removes only the entries of the affected
+ * tenant, resource type and resource from the caches, resolving the resource from the database if it is not cached.
+ * Tenant resource searches are not cached, since the search conditions are arbitrary.
  */
 public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
@@ -51,12 +87,22 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     private final ConfigurationDAO configurationDAO;
     private final ResourceByIdCache resourceByIdCache;
     private final ResourceByNameCache resourceByNameCache;
+    private final ResourceTypeByIdCache resourceTypeByIdCache;
+    private final ResourceTypeByNameCache resourceTypeByNameCache;
+    private final ResourcesByTypeCache resourcesByTypeCache;
+    private final ResourceFilesByTypeCache resourceFilesByTypeCache;
+    private final ResourceFileCache resourceFileCache;
 
     public CachedBackedConfigurationDAO(ConfigurationDAO configurationDAO) {
     
         this.configurationDAO = configurationDAO;
         this.resourceByIdCache = ResourceByIdCache.getInstance();
         this.resourceByNameCache = ResourceByNameCache.getInstance();
+        this.resourceTypeByIdCache = ResourceTypeByIdCache.getInstance();
+        this.resourceTypeByNameCache = ResourceTypeByNameCache.getInstance();
+        this.resourcesByTypeCache = ResourcesByTypeCache.getInstance();
+        this.resourceFilesByTypeCache = ResourceFilesByTypeCache.getInstance();
+        this.resourceFileCache = ResourceFileCache.getInstance();
     }
 
     @Override
@@ -125,23 +171,44 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     @Override
     public void deleteResourceById(int tenantId, String resourceId) throws ConfigurationManagementException {
 
+        // Resolved before the deletion, to find the files and the resource type of the resource.
+        Resource resource = resolveResourceById(resourceId, tenantId);
         configurationDAO.deleteResourceById(tenantId, resourceId);
-        deleteCacheByResourceId(resourceId, tenantId);
+        deleteResolvedResourceFromCache(resource, resourceId, getTenantDomain(tenantId), true);
     }
 
     @Override
     public void replaceResourceWithFiles(Resource resource) throws ConfigurationManagementException {
 
+        // The existing files of the resource are replaced only if the resource has files.
+        boolean replacesFiles = resource.getFiles() != null && !resource.getFiles().isEmpty();
+        if (replacesFiles) {
+            // Resolved before the replacement, to find the replaced files of the resource.
+            deleteResourceFilesFromCache(resolveResourceById(resource.getResourceId(), getCurrentTenantId()));
+        }
         configurationDAO.replaceResourceWithFiles(resource);
-        deleteResourceFromCache(resource);
+        deleteResourceFilesFromCache(resource);
+        deleteResourceAndListsFromCache(resource);
     }
 
     @Override
     public void deleteResourceByName(int tenantId, String resourceTypeId, String name)
             throws ConfigurationManagementException {
 
+        // Resolved before the deletion, to find the id and the files of the resource.
+        String tenantDomain = getTenantDomain(tenantId);
+        Resource resource = getResourceFromCacheByName(name, tenantDomain);
+        if (resource == null) {
+            resource = configurationDAO.getResourceByName(tenantId, resourceTypeId, name);
+        }
         configurationDAO.deleteResourceByName(tenantId, resourceTypeId, name);
-        deleteCacheByResourceByName(name, tenantId);
+        if (resource != null) {
+            deleteResourceFilesFromCache(resource);
+            deleteResourceFromCache(resource);
+        } else {
+            resourceByNameCache.clearCacheEntry(new ResourceByNameCacheKey(name, tenantDomain));
+        }
+        deleteResourceListsFromCache(resourceTypeId, tenantDomain);
     }
 
     @Override
@@ -149,13 +216,14 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         configurationDAO.addResource(resource);
         addResourceToCache(resource);
+        deleteResourceListsFromCache(resource);
     }
 
     @Override
     public void replaceResource(Resource resource) throws ConfigurationManagementException {
 
         configurationDAO.replaceResource(resource);
-        deleteResourceFromCache(resource);
+        deleteResourceAndListsFromCache(resource);
     }
 
     @Override
@@ -168,24 +236,71 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     public void replaceResourceType(ResourceType resourceType) throws ConfigurationManagementException {
 
         configurationDAO.replaceResourceType(resourceType);
+        deleteResourceTypeFromCache(resourceType.getName(), resourceType.getId());
     }
 
     @Override
     public ResourceType getResourceTypeByName(String resourceTypeName) throws ConfigurationManagementException {
 
-        return configurationDAO.getResourceTypeByName(resourceTypeName);
+        ResourceTypeCacheEntry resourceTypeCacheEntry =
+                resourceTypeByNameCache.getValueFromCache(new ResourceTypeByNameCacheKey(resourceTypeName));
+        if (resourceTypeCacheEntry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for resource type by it's name. Resource type name: " + resourceTypeName);
+            }
+            return resourceTypeCacheEntry.getResourceType();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for resource type by it's name. Resource type name: " + resourceTypeName);
+        }
+        ResourceType resourceType = configurationDAO.getResourceTypeByName(resourceTypeName);
+        addResourceTypeToCache(resourceType);
+        return resourceType;
     }
 
     @Override
     public ResourceType getResourceTypeById(String resourceTypeId) throws ConfigurationManagementException {
 
-        return configurationDAO.getResourceTypeById(resourceTypeId);
+        ResourceTypeCacheEntry resourceTypeCacheEntry =
+                resourceTypeByIdCache.getValueFromCache(new ResourceTypeByIdCacheKey(resourceTypeId));
+        if (resourceTypeCacheEntry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for resource type by it's id. Resource type id: " + resourceTypeId);
+            }
+            return resourceTypeCacheEntry.getResourceType();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for resource type by it's id. Resource type id: " + resourceTypeId);
+        }
+        ResourceType resourceType = configurationDAO.getResourceTypeById(resourceTypeId);
+        addResourceTypeToCache(resourceType);
+        return resourceType;
     }
 
     @Override
     public void deleteResourceTypeByName(String resourceTypeName) throws ConfigurationManagementException {
 
+        ResourceType resourceType = configurationDAO.getResourceTypeByName(resourceTypeName);
+        // The resources of the resource type in all the tenants are deleted along with the resource type.
+        Resources resources = configurationDAO.getTenantResources(new PrimitiveCondition(
+                RESOURCE_SEARCH_BEAN_FIELD_RESOURCE_TYPE_NAME, ConditionType.PrimitiveOperator.EQUALS,
+                resourceTypeName));
         configurationDAO.deleteResourceTypeByName(resourceTypeName);
+        deleteResourceTypeFromCache(resourceTypeName, resourceType != null ? resourceType.getId() : null);
+        if (resources == null || resources.getResources() == null) {
+            return;
+        }
+        Set<String> tenantDomains = new HashSet<>();
+        for (Resource resource : resources.getResources()) {
+            deleteResourceFromCache(resource);
+            deleteResourceFilesFromCache(resource);
+            tenantDomains.add(resource.getTenantDomain());
+        }
+        if (resourceType != null) {
+            for (String tenantDomain : tenantDomains) {
+                deleteResourceListsFromCache(resourceType.getId(), tenantDomain);
+            }
+        }
     }
 
     @Override
@@ -199,6 +314,8 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.updateAttribute(attributeId, resourceId, attribute);
+        deleteResolvedResourceFromCache(resolveResourceById(resourceId, getCurrentTenantId()), resourceId,
+                getCurrentTenantDomain(), false);
     }
 
     @Override
@@ -206,6 +323,8 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.addAttribute(attributeId, resourceId, attribute);
+        deleteResolvedResourceFromCache(resolveResourceById(resourceId, getCurrentTenantId()), resourceId,
+                getCurrentTenantDomain(), false);
     }
 
     @Override
@@ -213,6 +332,8 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.replaceAttribute(attributeId, resourceId, attribute);
+        deleteResolvedResourceFromCache(resolveResourceById(resourceId, getCurrentTenantId()), resourceId,
+                getCurrentTenantDomain(), false);
     }
 
     @Override
@@ -220,6 +341,8 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.deleteAttribute(attributeId, resourceId, attributeKey);
+        deleteResolvedResourceFromCache(resolveResourceById(resourceId, getCurrentTenantId()), resourceId,
+                getCurrentTenantDomain(), false);
     }
 
     @Override
@@ -227,13 +350,31 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.addFile(fileId, resourceId, fileName, fileStream);
+        resourceFileCache.clearCacheEntry(new ResourceFileCacheKey(fileId));
+        deleteResolvedResourceFromCache(resolveResourceById(resourceId, getCurrentTenantId()), resourceId,
+                getCurrentTenantDomain(), false);
     }
 
     @Override
     public InputStream getFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException {
 
-        return configurationDAO.getFileById(resourceType, resourceName, fileId);
+        ResourceFileCacheEntry resourceFileCacheEntry =
+                resourceFileCache.getValueFromCache(new ResourceFileCacheKey(fileId));
+        if (resourceFileCacheEntry != null && resourceFileCacheEntry.isFileOf(resourceType, resourceName)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for resource file by it's id. File id: " + fileId);
+            }
+            return new ByteArrayInputStream(resourceFileCacheEntry.getContent());
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for resource file by it's id. File id: " + fileId);
+        }
+        InputStream fileStream = configurationDAO.getFileById(resourceType, resourceName, fileId);
+        if (fileStream == null) {
+            return null;
+        }
+        return addFileToCache(fileId, resourceType, resourceName, fileStream);
     }
 
     @Override
@@ -247,7 +388,27 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     public List<ResourceFile> getFilesByResourceType(String resourceTypeId, int tenantId)
             throws ConfigurationManagementException {
 
-        return configurationDAO.getFilesByResourceType(resourceTypeId, tenantId);
+        ResourceFilesByTypeCacheKey resourceFilesByTypeCacheKey =
+                new ResourceFilesByTypeCacheKey(resourceTypeId, getTenantDomain(tenantId));
+        ResourceFileListCacheEntry resourceFileListCacheEntry =
+                resourceFilesByTypeCache.getValueFromCache(resourceFilesByTypeCacheKey);
+        if (resourceFileListCacheEntry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Cache hit for resource files by resource type. Resource type id: %s, " +
+                        "Tenant id: %d", resourceTypeId, tenantId));
+            }
+            return new ArrayList<>(resourceFileListCacheEntry.getResourceFiles());
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Cache miss for resource files by resource type. Resource type id: %s, " +
+                    "Tenant id: %d", resourceTypeId, tenantId));
+        }
+        List<ResourceFile> resourceFiles = configurationDAO.getFilesByResourceType(resourceTypeId, tenantId);
+        if (resourceFiles != null) {
+            resourceFilesByTypeCache.addToCache(resourceFilesByTypeCacheKey,
+                    new ResourceFileListCacheEntry(new ArrayList<>(resourceFiles)));
+        }
+        return resourceFiles;
     }
 
     @Override
@@ -255,18 +416,53 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.deleteFileById(resourceType, resourceName, fileId);
+        resourceFileCache.clearCacheEntry(new ResourceFileCacheKey(fileId));
+        String tenantDomain = getCurrentTenantDomain();
+        Resource resource = getResourceFromCacheByName(resourceName, tenantDomain);
+        if (resource == null || !StringUtils.equals(resourceType, resource.getResourceType())) {
+            // Not cached, or a cached resource of another resource type with the same name.
+            ResourceType type = getResourceTypeByName(resourceType);
+            resource = type != null ?
+                    configurationDAO.getResourceByName(getCurrentTenantId(), type.getId(), resourceName) : null;
+        }
+        if (resource != null) {
+            deleteResourceAndListsFromCache(resource);
+        }
     }
 
     @Override
     public void deleteFiles(String resourceId) throws ConfigurationManagementException {
 
+        // Resolved before the deletion, to find the files of the resource.
+        Resource resource = resolveResourceById(resourceId, getCurrentTenantId());
         configurationDAO.deleteFiles(resourceId);
+        deleteResolvedResourceFromCache(resource, resourceId, getCurrentTenantDomain(), true);
     }
 
     @Override
     public List getResourcesByType(int tenantId, String resourceTypeId) throws ConfigurationManagementException {
 
-        return configurationDAO.getResourcesByType(tenantId, resourceTypeId);
+        ResourcesByTypeCacheKey resourcesByTypeCacheKey =
+                new ResourcesByTypeCacheKey(resourceTypeId, getTenantDomain(tenantId));
+        ResourceListCacheEntry resourceListCacheEntry = resourcesByTypeCache.getValueFromCache(resourcesByTypeCacheKey);
+        if (resourceListCacheEntry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Cache hit for resources by resource type. Resource type id: %s, " +
+                        "Tenant id: %d", resourceTypeId, tenantId));
+            }
+            // Callers may modify the returned list.
+            return new ArrayList<>(resourceListCacheEntry.getResources());
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Cache miss for resources by resource type. Resource type id: %s, " +
+                    "Tenant id: %d", resourceTypeId, tenantId));
+        }
+        List<Resource> resources = configurationDAO.getResourcesByType(tenantId, resourceTypeId);
+        if (resources != null) {
+            resourcesByTypeCache.addToCache(resourcesByTypeCacheKey,
+                    new ResourceListCacheEntry(new ArrayList<>(resources)));
+        }
+        return resources;
     }
 
     @Override
@@ -288,33 +484,60 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         configurationDAO.deleteResourcesByType(tenantId, resourceTypeId);
         for (Resource resource : resourceList) {
             deleteResourceFromCache(resource);
+            deleteResourceFilesFromCache(resource);
         }
+        deleteResourceListsFromCache(resourceTypeId, getTenantDomain(tenantId));
     }
 
-    private Resource getResourceFromCacheById(String resourceId, int tenantId)
-            throws ConfigurationManagementException {
+    private String getTenantDomain(int tenantId) throws ConfigurationManagementException {
 
         try {
-            String tenantDomain = ConfigurationManagerComponentDataHolder.getInstance().getRealmService()
-                    .getTenantManager().getDomain(tenantId);
-            return getResourceFromCacheById(resourceId, tenantDomain);
+            return ConfigurationManagerComponentDataHolder.getInstance().getRealmService().getTenantManager()
+                    .getDomain(tenantId);
         } catch (UserStoreException e) {
             throw new ConfigurationManagementException("Error when setting tenant domain. ",
                     ConfigurationConstants.ErrorMessages.ERROR_CODE_UNEXPECTED.getCode(), e);
         }
     }
 
+    private String getCurrentTenantDomain() {
+
+        return PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+    }
+
+    private Resource getResourceFromCacheById(String resourceId, int tenantId)
+            throws ConfigurationManagementException {
+
+        return getResourceFromCacheById(resourceId, getTenantDomain(tenantId));
+    }
+
     private Resource getResourceFromCacheByName(String resourceName, int tenantId)
             throws ConfigurationManagementException {
 
-        try {
-            String tenantDomain = ConfigurationManagerComponentDataHolder.getInstance().getRealmService()
-                    .getTenantManager().getDomain(tenantId);
-            return getResourceFromCacheByName(resourceName, tenantDomain);
-        } catch (UserStoreException e) {
-            throw new ConfigurationManagementException("Error when setting tenant domain. ",
-                    ConfigurationConstants.ErrorMessages.ERROR_CODE_UNEXPECTED.getCode(), e);
+        return getResourceFromCacheByName(resourceName, getTenantDomain(tenantId));
+    }
+
+    private int getCurrentTenantId() {
+
+        return PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+    }
+
+    /**
+     * Resolve the resource from the caches, or from the database if it is not cached, to find the cache entries of
+     * the resource which are affected by an update.
+     *
+     * @param resourceId Id of the resource.
+     * @param tenantId   Tenant id of the resource.
+     * @return Resolved resource, or null if the resource does not exist.
+     * @throws ConfigurationManagementException If an error occurs while resolving the resource.
+     */
+    private Resource resolveResourceById(String resourceId, int tenantId) throws ConfigurationManagementException {
+
+        Resource resource = getResourceFromCacheById(resourceId, tenantId);
+        if (resource == null) {
+            resource = configurationDAO.getTenantResourceById(tenantId, resourceId);
         }
+        return resource;
     }
 
     private Resource getResourceFromCacheById(String resourceId, String tenantDomain)
@@ -390,21 +613,145 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         resourceByNameCache.clearCacheEntry(resourceByNameCacheKey);
     }
 
-    private void deleteCacheByResourceId(String resourceId, int tenantId) throws ConfigurationManagementException {
+    private void deleteResourceAndListsFromCache(Resource resource) throws ConfigurationManagementException {
+
+        deleteResourceFromCache(resource);
+        deleteResourceListsFromCache(resource);
+    }
+
+    /**
+     * Remove the resource which was resolved for an update, along with the resource lists of its type, and the
+     * content of its files if they are updated. If the resource does not exist, only the entry of the resource id in
+     * the tenant is removed.
+     *
+     * @param resource     Resolved resource, or null if the resource does not exist.
+     * @param resourceId   Id of the resource.
+     * @param tenantDomain Tenant domain of the resource.
+     * @param withFiles    Whether the files of the resource are updated.
+     * @throws ConfigurationManagementException If an error occurs while resolving the resource type.
+     */
+    private void deleteResolvedResourceFromCache(Resource resource, String resourceId, String tenantDomain,
+                                                 boolean withFiles) throws ConfigurationManagementException {
 
-        Resource resource = getResourceFromCacheById(resourceId, tenantId);
         if (resource == null) {
+            resourceByIdCache.clearCacheEntry(new ResourceByIdCacheKey(resourceId, tenantDomain));
             return;
         }
-        deleteResourceFromCache(resource);
+        if (withFiles) {
+            deleteResourceFilesFromCache(resource);
+        }
+        deleteResourceAndListsFromCache(resource);
     }
 
-    private void deleteCacheByResourceByName(String resourceName, int tenantId) throws ConfigurationManagementException {
+    private void deleteResourceListsFromCache(Resource resource) throws ConfigurationManagementException {
 
-        Resource resource = getResourceFromCacheByName(resourceName, tenantId);
-        if (resource == null) {
+        if (resource == null || StringUtils.isEmpty(resource.getResourceType())) {
             return;
         }
-        deleteResourceFromCache(resource);
+        ResourceType resourceType = getResourceTypeByName(resource.getResourceType());
+        if (resourceType != null) {
+            deleteResourceListsFromCache(resourceType.getId(), resource.getTenantDomain());
+        }
+    }
+
+    private void deleteResourceListsFromCache(String resourceTypeId, String tenantDomain) {
+
+        if (log.isDebugEnabled()) {
+            String message = String.format("Resources by type and resource files by type cache entries deleted. " +
+                    "Resource type id: %s, Tenant domain: %s", resourceTypeId, tenantDomain);
+            log.debug(message);
+        }
+        resourcesByTypeCache.clearCacheEntry(new ResourcesByTypeCacheKey(resourceTypeId, tenantDomain));
+        resourceFilesByTypeCache.clearCacheEntry(new ResourceFilesByTypeCacheKey(resourceTypeId, tenantDomain));
+    }
+
+    private void deleteResourceFilesFromCache(Resource resource) {
+
+        if (resource == null || resource.getFiles() == null) {
+            return;
+        }
+        for (ResourceFile resourceFile : resource.getFiles()) {
+            if (resourceFile != null && resourceFile.getId() != null) {
+                resourceFileCache.clearCacheEntry(new ResourceFileCacheKey(resourceFile.getId()));
+            }
+        }
+    }
+
+    private void addResourceTypeToCache(ResourceType resourceType) {
+
+        if (resourceType == null) {
+            return;
+        }
+        ResourceTypeCacheEntry resourceTypeCacheEntry = new ResourceTypeCacheEntry(resourceType);
+        resourceTypeByNameCache.addToCache(new ResourceTypeByNameCacheKey(resourceType.getName()),
+                resourceTypeCacheEntry);
+        resourceTypeByIdCache.addToCache(new ResourceTypeByIdCacheKey(resourceType.getId()), resourceTypeCacheEntry);
+    }
+
+    private void deleteResourceTypeFromCache(String resourceTypeName, String resourceTypeId) {
+
+        ResourceTypeByNameCacheKey resourceTypeByNameCacheKey = new ResourceTypeByNameCacheKey(resourceTypeName);
+        ResourceTypeCacheEntry resourceTypeCacheEntry =
+                resourceTypeByNameCache.getValueFromCache(resourceTypeByNameCacheKey);
+        if (resourceTypeCacheEntry != null && resourceTypeCacheEntry.getResourceType() != null) {
+            resourceTypeByIdCache.clearCacheEntry(
+                    new ResourceTypeByIdCacheKey(resourceTypeCacheEntry.getResourceType().getId()));
+        }
+        resourceTypeByNameCache.clearCacheEntry(resourceTypeByNameCacheKey);
+        if (resourceTypeId != null) {
+            resourceTypeByIdCache.clearCacheEntry(new ResourceTypeByIdCacheKey(resourceTypeId));
+        }
+    }
+
+    /**
+     * Cache the content of the file if it does not exceed the maximum cached file size.
+     *
+     * @param fileId       Id of the file.
+     * @param resourceType Name of the resource type of the file.
+     * @param resourceName Name of the resource of the file.
+     * @param fileStream   File content.
+     * @return Stream of the file content.
+     * @throws ConfigurationManagementException If an error occurs while reading the file content.
+     */
+    private InputStream addFileToCache(String fileId, String resourceType, String resourceName,
+                                       InputStream fileStream)
+            throws ConfigurationManagementException {
+
+        int maxCachedFileSize = IdentityUtil.getIntProperty(MAX_CACHED_FILE_SIZE, DEFAULT_MAX_CACHED_FILE_SIZE);
+        if (maxCachedFileSize <= 0) {
+            return fileStream;
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[Math.min(maxCachedFileSize + 1, 8192)];
+        try {
+            int read;
+            while ((read = fileStream.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+                if (content.size() > maxCachedFileSize) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Resource file is not cached since it exceeds the maximum cached file size: " +
+                                maxCachedFileSize + " bytes.");
+                    }
+                    return new SequenceInputStream(new ByteArrayInputStream(content.toByteArray()), fileStream);
+                }
+            }
+            fileStream.close();
+        } catch (IOException e) {
+            closeFileStream(fileStream);
+            throw handleServerException(ERROR_CODE_GET_FILE, fileId, e);
+        }
+        byte[] fileContent = content.toByteArray();
+        resourceFileCache.addToCache(new ResourceFileCacheKey(fileId),
+                new ResourceFileCacheEntry(resourceType, resourceName, fileContent));
+        return new ByteArrayInputStream(fileContent);
+    }
+
+    private void closeFileStream(InputStream fileStream) {
+
+        try {
+            fileStream.close();
+        } catch (IOException e) {
+            log.error("Error while closing the resource file stream.", e);
+        }
     }
 }
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceCacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFileCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFilesByTypeCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceFilesByTypeCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceListCacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourcesByTypeCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourcesByTypeCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
+import org.wso2.carbon.identity.configuration.mgt.core.internal.ConfigurationManagerComponentDataHolder;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
+import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
+import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
+import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.DEFAULT_MAX_CACHED_FILES_TOTAL_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.DEFAULT_MAX_CACHED_FILE_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.MAX_CACHED_FILES_TOTAL_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.MAX_CACHED_FILE_SIZE;
+
+/**
+ * Test class for CachedBackedConfigurationDAO.
+ */
+@WithCarbonHome
+public class CachedBackedConfigurationDAOTest {
+
+    private static final String RESOURCE_TYPE_ID = "test-resource-type-id";
+    private static final String RESOURCE_TYPE_NAME = "test-resource-type-name";
+    private static final String RESOURCE_ID = "test-resource-id";
+    private static final String RESOURCE_NAME = "test-resource-name";
+    private static final String FILE_ID = "test-file-id";
+    private static final String FILE_CONTENT = "This is a test file content.";
+    private static final String ATTRIBUTE_ID = "test-attribute-id";
+    private static final String TENANT_DOMAIN = "test-tenant-domain";
+    private static final int TENANT_ID = 1;
+    private static final String OTHER_TENANT_DOMAIN = "other-tenant-domain";
+
+    private ConfigurationDAO configurationDAO;
+    private CachedBackedConfigurationDAO cachedBackedConfigurationDAO;
+    private Resource resource;
+    private MockedStatic<IdentityUtil> identityUtil;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.getIntProperty(MAX_CACHED_FILE_SIZE, DEFAULT_MAX_CACHED_FILE_SIZE))
+                .thenReturn(DEFAULT_MAX_CACHED_FILE_SIZE);
+        identityUtil.when(() -> IdentityUtil.getIntProperty(MAX_CACHED_FILES_TOTAL_SIZE,
+                DEFAULT_MAX_CACHED_FILES_TOTAL_SIZE)).thenReturn(DEFAULT_MAX_CACHED_FILES_TOTAL_SIZE);
+
+        RealmService realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getDomain(TENANT_ID)).thenReturn(TENANT_DOMAIN);
+        ConfigurationManagerComponentDataHolder.getInstance().setRealmService(realmService);
+
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(TENANT_DOMAIN);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(TENANT_ID);
+
+        resource = new Resource(RESOURCE_NAME, RESOURCE_TYPE_NAME);
+        resource.setResourceId(RESOURCE_ID);
+        resource.setTenantDomain(TENANT_DOMAIN);
+        resource.setFiles(new ArrayList<>(Collections.singletonList(new ResourceFile(FILE_ID, "test-file-name"))));
+
+        configurationDAO = mock(ConfigurationDAO.class);
+        when(configurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME)).thenReturn(
+                new ResourceType(RESOURCE_TYPE_NAME, RESOURCE_TYPE_ID, "test-resource-type-description"));
+        when(configurationDAO.getResourceByName(TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME)).thenReturn(resource);
+        when(configurationDAO.getTenantResourceById(TENANT_ID, RESOURCE_ID)).thenReturn(resource);
+        when(configurationDAO.getResourcesByType(TENANT_ID, RESOURCE_TYPE_ID))
+                .thenReturn(new ArrayList<>(Collections.singletonList(resource)));
+        when(configurationDAO.getFilesByResourceType(RESOURCE_TYPE_ID, TENANT_ID))
+                .thenReturn(new ArrayList<>(resource.getFiles()));
+        when(configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID)).thenAnswer(
+                invocation -> new ByteArrayInputStream(FILE_CONTENT.getBytes(StandardCharsets.UTF_8)));
+        cachedBackedConfigurationDAO = new CachedBackedConfigurationDAO(configurationDAO);
+        clearCaches();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        clearCaches();
+        PrivilegedCarbonContext.endTenantFlow();
+        identityUtil.close();
+    }
+
+    @DataProvider(name = "resourceWrites")
+    public Object[][] resourceWrites() {
+
+        Resource replacedResource = new Resource(RESOURCE_NAME, RESOURCE_TYPE_NAME);
+        replacedResource.setResourceId(RESOURCE_ID);
+        replacedResource.setTenantDomain(TENANT_DOMAIN);
+        ResourceFile replacedFile = new ResourceFile("replaced-file-id", "replaced-file-name");
+        replacedFile.setInputStream(new ByteArrayInputStream(FILE_CONTENT.getBytes(StandardCharsets.UTF_8)));
+        Resource replacedResourceWithFiles = new Resource(RESOURCE_NAME, RESOURCE_TYPE_NAME);
+        replacedResourceWithFiles.setResourceId(RESOURCE_ID);
+        replacedResourceWithFiles.setTenantDomain(TENANT_DOMAIN);
+        replacedResourceWithFiles.setFiles(new ArrayList<>(Collections.singletonList(replacedFile)));
+        Attribute attribute = new Attribute("test-attribute-key", "test-attribute-value");
+
+        return new Object[][]{
+                {"replaceResource", (ResourceWrite) dao -> dao.replaceResource(replacedResource), false},
+                {"replaceResourceWithFiles",
+                        (ResourceWrite) dao -> dao.replaceResourceWithFiles(replacedResourceWithFiles), true},
+                {"deleteResourceById", (ResourceWrite) dao -> dao.deleteResourceById(TENANT_ID, RESOURCE_ID), true},
+                {"deleteResourceByName", (ResourceWrite) dao -> dao.deleteResourceByName(TENANT_ID,
+                        RESOURCE_TYPE_ID, RESOURCE_NAME), true},
+                {"addAttribute", (ResourceWrite) dao -> dao.addAttribute(ATTRIBUTE_ID, RESOURCE_ID, attribute), false},
+                {"updateAttribute",
+                        (ResourceWrite) dao -> dao.updateAttribute(ATTRIBUTE_ID, RESOURCE_ID, attribute), false},
+                {"replaceAttribute",
+                        (ResourceWrite) dao -> dao.replaceAttribute(ATTRIBUTE_ID, RESOURCE_ID, attribute), false},
+                {"deleteAttribute", (ResourceWrite) dao -> dao.deleteAttribute(ATTRIBUTE_ID, RESOURCE_ID,
+                        attribute.getKey()), false},
+                {"addFile", (ResourceWrite) dao -> dao.addFile("new-file-id", RESOURCE_ID, "new-file-name",
+                        new ByteArrayInputStream(FILE_CONTENT.getBytes(StandardCharsets.UTF_8))), false},
+                {"deleteFileById",
+                        (ResourceWrite) dao -> dao.deleteFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID), true},
+                {"deleteFiles", (ResourceWrite) dao -> dao.deleteFiles(RESOURCE_ID), true}
+        };
+    }
+
+    @Test(dataProvider = "resourceWrites")
+    public void testWriteEvictsCachedResource(String operation, ResourceWrite write, boolean updatesFiles)
+            throws Exception {
+
+        populateCaches();
+
+        write.apply(cachedBackedConfigurationDAO);
+
+        assertResourceEvicted(updatesFiles);
+        assertOtherTenantNotEvicted();
+        verify(configurationDAO, never()).getResourceById(anyString());
+        verify(configurationDAO, never()).getTenantResourceById(TENANT_ID, RESOURCE_ID);
+    }
+
+    @Test(dataProvider = "resourceWrites")
+    public void testWriteEvictsUncachedResource(String operation, ResourceWrite write, boolean updatesFiles)
+            throws Exception {
+
+        populateCaches();
+        // Leave only the resource lists and the file content of the resource in the caches.
+        ResourceByIdCache.getInstance().clearCacheEntry(new ResourceByIdCacheKey(RESOURCE_ID, TENANT_DOMAIN));
+        ResourceByNameCache.getInstance().clearCacheEntry(new ResourceByNameCacheKey(RESOURCE_NAME, TENANT_DOMAIN));
+
+        write.apply(cachedBackedConfigurationDAO);
+
+        // The resource is resolved from the database to find its entries, instead of clearing the caches.
+        assertResourceEvicted(updatesFiles);
+        assertOtherTenantNotEvicted();
+        verify(configurationDAO, never()).getResourceById(anyString());
+    }
+
+    @Test
+    public void testDeleteResourceTypeEvictsResourcesOfType() throws Exception {
+
+        populateCaches();
+        when(configurationDAO.getTenantResources(any(Condition.class)))
+                .thenReturn(new Resources(new ArrayList<>(Collections.singletonList(resource))));
+
+        cachedBackedConfigurationDAO.deleteResourceTypeByName(RESOURCE_TYPE_NAME);
+
+        assertResourceEvicted(true);
+        assertOtherTenantNotEvicted();
+        verify(configurationDAO).deleteResourceTypeByName(RESOURCE_TYPE_NAME);
+    }
+
+    @Test
+    public void testFileCacheEvictsOldestFilesBeyondTotalSize() throws Exception {
+
+        byte[] content = FILE_CONTENT.getBytes(StandardCharsets.UTF_8);
+        // Room for the content of a single file along with the overhead of its entry.
+        identityUtil.when(() -> IdentityUtil.getIntProperty(MAX_CACHED_FILES_TOTAL_SIZE,
+                DEFAULT_MAX_CACHED_FILES_TOTAL_SIZE)).thenReturn(content.length + 256);
+        when(configurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, "second-file-id")).thenAnswer(
+                invocation -> new ByteArrayInputStream(content));
+
+        cachedBackedConfigurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID).close();
+        assertNotNull(ResourceFileCache.getInstance().getValueFromCache(new ResourceFileCacheKey(FILE_ID)));
+        cachedBackedConfigurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, "second-file-id").close();
+
+        assertNull(ResourceFileCache.getInstance().getValueFromCache(new ResourceFileCacheKey(FILE_ID)));
+        assertNotNull(ResourceFileCache.getInstance().getValueFromCache(new ResourceFileCacheKey("second-file-id")));
+    }
+
+    private void populateCaches() throws Exception {
+
+        cachedBackedConfigurationDAO.getResourceByName(TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME);
+        cachedBackedConfigurationDAO.getResourcesByType(TENANT_ID, RESOURCE_TYPE_ID);
+        cachedBackedConfigurationDAO.getFilesByResourceType(RESOURCE_TYPE_ID, TENANT_ID);
+        cachedBackedConfigurationDAO.getFileById(RESOURCE_TYPE_NAME, RESOURCE_NAME, FILE_ID).close();
+
+        assertNotNull(ResourceByIdCache.getInstance().getValueFromCache(
+                new ResourceByIdCacheKey(RESOURCE_ID, TENANT_DOMAIN)));
+        assertNotNull(ResourceByNameCache.getInstance().getValueFromCache(
+                new ResourceByNameCacheKey(RESOURCE_NAME, TENANT_DOMAIN)));
+        assertNotNull(ResourcesByTypeCache.getInstance().getValueFromCache(
+                new ResourcesByTypeCacheKey(RESOURCE_TYPE_ID, TENANT_DOMAIN)));
+        assertNotNull(ResourceFilesByTypeCache.getInstance().getValueFromCache(
+                new ResourceFilesByTypeCacheKey(RESOURCE_TYPE_ID, TENANT_DOMAIN)));
+        assertNotNull(ResourceFileCache.getInstance().getValueFromCache(new ResourceFileCacheKey(FILE_ID)));
+
+        // Entries of a resource with the same id and name in another tenant.
+        Resource otherTenantResource = new Resource(RESOURCE_NAME, RESOURCE_TYPE_NAME);
+        otherTenantResource.setResourceId(RESOURCE_ID);
+        otherTenantResource.setTenantDomain(OTHER_TENANT_DOMAIN);
+        ResourceByIdCache.getInstance().addToCache(new ResourceByIdCacheKey(RESOURCE_ID, OTHER_TENANT_DOMAIN),
+                new ResourceCacheEntry(otherTenantResource));
+        ResourceByNameCache.getInstance().addToCache(new ResourceByNameCacheKey(RESOURCE_NAME, OTHER_TENANT_DOMAIN),
+                new ResourceCacheEntry(otherTenantResource));
+        ResourcesByTypeCache.getInstance().addToCache(
+                new ResourcesByTypeCacheKey(RESOURCE_TYPE_ID, OTHER_TENANT_DOMAIN),
+                new ResourceListCacheEntry(new ArrayList<>(Collections.singletonList(otherTenantResource))));
+    }
+
+    private void assertOtherTenantNotEvicted() {
+
+        assertNotNull(ResourceByIdCache.getInstance().getValueFromCache(
+                new ResourceByIdCacheKey(RESOURCE_ID, OTHER_TENANT_DOMAIN)));
+        assertNotNull(ResourceByNameCache.getInstance().getValueFromCache(
+                new ResourceByNameCacheKey(RESOURCE_NAME, OTHER_TENANT_DOMAIN)));
+        assertNotNull(ResourcesByTypeCache.getInstance().getValueFromCache(
+                new ResourcesByTypeCacheKey(RESOURCE_TYPE_ID, OTHER_TENANT_DOMAIN)));
+    }
+
+    private void assertResourceEvicted(boolean updatesFiles) {
+
+        assertNull(ResourceByIdCache.getInstance().getValueFromCache(
+                new ResourceByIdCacheKey(RESOURCE_ID, TENANT_DOMAIN)));
+        assertNull(ResourceByNameCache.getInstance().getValueFromCache(
+                new ResourceByNameCacheKey(RESOURCE_NAME, TENANT_DOMAIN)));
+        assertNull(ResourcesByTypeCache.getInstance().getValueFromCache(
+                new ResourcesByTypeCacheKey(RESOURCE_TYPE_ID, TENANT_DOMAIN)));
+        assertNull(ResourceFilesByTypeCache.getInstance().getValueFromCache(
+                new ResourceFilesByTypeCacheKey(RESOURCE_TYPE_ID, TENANT_DOMAIN)));
+        if (updatesFiles) {
+            assertNull(ResourceFileCache.getInstance().getValueFromCache(new ResourceFileCacheKey(FILE_ID)));
+        } else {
+            // The content of the existing files does not change.
+            assertNotNull(ResourceFileCache.getInstance().getValueFromCache(new ResourceFileCacheKey(FILE_ID)));
+        }
+    }
+
+    private void clearCaches() {
+
+        ResourceByIdCache.getInstance().clear();
+        ResourceByNameCache.getInstance().clear();
+        ResourcesByTypeCache.getInstance().clear();
+        ResourceFilesByTypeCache.getInstance().clear();
+        ResourceFileCache.getInstance().clear();
+    }
+
+    /**
+     * A write to a resource through the data access object.
+     */
+    @FunctionalInterface
+    private interface ResourceWrite {
+
+        void apply(ConfigurationDAO configurationDAO) throws Exception;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.external.api.client.api.model;
+
+/**
+ * Model class for a snapshot of the usage of a shared API client connection pool.
+ */
+public class APIClientPoolMetrics {
+
+    private final String poolKey;
+    private final int leased;
+    private final int pending;
+    private final int available;
+    private final int max;
+    private final int clientCount;
+
+    public APIClientPoolMetrics(String poolKey, int leased, int pending, int available, int max, int clientCount) {
+
+        this.poolKey = poolKey;
+        this.leased = leased;
+        this.pending = pending;
+        this.available = available;
+        this.max = max;
+        this.clientCount = clientCount;
+    }
+
+    /**
+     * Get the key of the pool, derived from the effective client configuration.
+     *
+     * @return pool key.
+     */
+    public String getPoolKey() {
+
+        return poolKey;
+    }
+
+    /**
+     * Get the number of connections currently in use.
+     *
+     * @return leased connection count.
+     */
+    public int getLeased() {
+
+        return leased;
+    }
+
+    /**
+     * Get the number of requests waiting for a connection.
+     *
+     * @return pending request count.
+     */
+    public int getPending() {
+
+        return pending;
+    }
+
+    /**
+     * Get the number of idle connections kept alive in the pool.
+     *
+     * @return available connection count.
+     */
+    public int getAvailable() {
+
+        return available;
+    }
+
+    /**
+     * Get the maximum number of connections of the pool.
+     *
+     * @return maximum connection count.
+     */
+    public int getMax() {
+
+        return max;
+    }
+
+    /**
+     * Get the number of API clients sharing the pool.
+     *
+     * @return API client count.
+     */
+    public int getClientCount() {
+
+        return clientCount;
+    }
+}
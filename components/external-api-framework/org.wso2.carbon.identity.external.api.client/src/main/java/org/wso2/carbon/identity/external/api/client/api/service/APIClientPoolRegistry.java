@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.external.api.client.api.service;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.wso2.carbon.identity.external.api.client.api.model.APIClientConfig;
+import org.wso2.carbon.identity.external.api.client.api.model.APIClientPoolMetrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of the HTTP clients used by the API clients. API clients having the same effective connection
+ * configuration share a single HTTP client and connection pool, instead of each keeping a pool of its own.
+ */
+public class APIClientPoolRegistry {
+
+    private static final Log LOG = LogFactory.getLog(APIClientPoolRegistry.class);
+    private static final APIClientPoolRegistry INSTANCE = new APIClientPoolRegistry();
+
+    private final Map<String, SharedPool> pools = new ConcurrentHashMap<>();
+
+    private APIClientPoolRegistry() {
+
+    }
+
+    /**
+     * Get the registry instance.
+     *
+     * @return APIClientPoolRegistry instance.
+     */
+    public static APIClientPoolRegistry getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the shared HTTP client for the given configuration, creating it if this is the first client having the
+     * configuration.
+     *
+     * @param apiClientConfig API client configuration.
+     * @return Shared HTTP client.
+     */
+    public CloseableHttpClient getHttpClient(APIClientConfig apiClientConfig) {
+
+        SharedPool sharedPool = pools.compute(getPoolKey(apiClientConfig), (poolKey, existingPool) -> {
+            SharedPool pool = existingPool != null ? existingPool : createPool(poolKey, apiClientConfig);
+            pool.clientCount.incrementAndGet();
+            return pool;
+        });
+        return sharedPool.httpClient;
+    }
+
+    /**
+     * Release the shared HTTP client obtained for the given configuration. The HTTP client and its connection pool
+     * are closed once the last client having the configuration releases it.
+     *
+     * @param apiClientConfig API client configuration.
+     */
+    public void release(APIClientConfig apiClientConfig) {
+
+        pools.computeIfPresent(getPoolKey(apiClientConfig), (poolKey, pool) -> {
+            if (pool.clientCount.decrementAndGet() > 0) {
+                return pool;
+            }
+            closePool(poolKey, pool);
+            return null;
+        });
+    }
+
+    /**
+     * Close all the shared HTTP clients and their connection pools.
+     */
+    public void closeAll() {
+
+        for (String poolKey : pools.keySet()) {
+            pools.computeIfPresent(poolKey, (key, pool) -> {
+                closePool(key, pool);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Get the current usage of each of the shared connection pools.
+     *
+     * @return Metrics of the connection pools.
+     */
+    public List<APIClientPoolMetrics> getPoolMetrics() {
+
+        List<APIClientPoolMetrics> poolMetrics = new ArrayList<>();
+        for (Map.Entry<String, SharedPool> pool : pools.entrySet()) {
+            PoolStats poolStats = pool.getValue().connectionManager.getTotalStats();
+            poolMetrics.add(new APIClientPoolMetrics(pool.getKey(), poolStats.getLeased(), poolStats.getPending(),
+                    poolStats.getAvailable(), poolStats.getMax(), pool.getValue().clientCount.get()));
+        }
+        return poolMetrics;
+    }
+
+    private SharedPool createPool(String poolKey, APIClientConfig apiClientConfig) {
+
+        RequestConfig config = RequestConfig.custom()
+                .setConnectTimeout(apiClientConfig.getHttpConnectionTimeoutInMillis())
+                .setConnectionRequestTimeout(apiClientConfig.getHttpConnectionRequestTimeoutInMillis())
+                .setSocketTimeout(apiClientConfig.getHttpReadTimeoutInMillis())
+                .setRedirectsEnabled(false)
+                .setRelativeRedirectsAllowed(false)
+                .build();
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(apiClientConfig.getPoolSizeToBeSet());
+        connectionManager.setDefaultMaxPerRoute(apiClientConfig.getMaxPerRoute());
+        CloseableHttpClient httpClient = HttpClientBuilder.create().setDefaultRequestConfig(config)
+                .setConnectionManager(connectionManager).build();
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Created shared HTTP client connection pool: %s", poolKey));
+        }
+        return new SharedPool(httpClient, connectionManager);
+    }
+
+    private static void closePool(String poolKey, SharedPool pool) {
+
+        try {
+            pool.httpClient.close();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Closed shared HTTP client connection pool: %s", poolKey));
+            }
+        } catch (IOException e) {
+            LOG.error("Error while closing the shared HTTP client connection pool: " + poolKey, e);
+        }
+    }
+
+    private static String getPoolKey(APIClientConfig apiClientConfig) {
+
+        return String.format("readTimeout=%d,connectionRequestTimeout=%d,connectionTimeout=%d,poolSize=%d," +
+                        "maxPerRoute=%d",
+                apiClientConfig.getHttpReadTimeoutInMillis(),
+                apiClientConfig.getHttpConnectionRequestTimeoutInMillis(),
+                apiClientConfig.getHttpConnectionTimeoutInMillis(),
+                apiClientConfig.getPoolSizeToBeSet(),
+                apiClientConfig.getMaxPerRoute());
+    }
+
+    /**
+     * HTTP client and connection pool shared by the API clients having the same configuration.
+     */
+    private static class SharedPool {
+
+        private final CloseableHttpClient httpClient;
+        private final PoolingHttpClientConnectionManager connectionManager;
+        private final AtomicInteger clientCount = new AtomicInteger();
+
+        private SharedPool(CloseableHttpClient httpClient, PoolingHttpClientConnectionManager connectionManager) {
+
+            this.httpClient = httpClient;
+            this.connectionManager = connectionManager;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -30,7 +30,7 @@ import org.wso2.carbon.identity.external.api.client.internal.service.APIClient;
 /**
  * Abstract class for API Client Manager implementations which responsible for handling API calls and responses.
  */
-public abstract class AbstractAPIClientManager {
+public abstract class AbstractAPIClientManager implements AutoCloseable {
 
     private static final Log LOG = LogFactory.getLog(AbstractAPIClientManager.class);
 
@@ -67,4 +67,13 @@ public abstract class AbstractAPIClientManager {
 
         return apiClient.callAPI(requestContext, apiInvocationConfig);
     }
+
+    /**
+     * Release the shared HTTP client used by the API client of this manager.
+     */
+    @Override
+    public void close() {
+
+        apiClient.close();
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.external.api.client.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.wso2.carbon.identity.external.api.client.api.service.APIClientPoolRegistry;
+
+/**
+ * OSGi service component of the external API client.
+ */
+@Component(
+        name = "identity.external.api.client.component",
+        immediate = true
+)
+public class APIClientServiceComponent {
+
+    private static final Log LOG = LogFactory.getLog(APIClientServiceComponent.class);
+
+    @Activate
+    protected void activate(ComponentContext context) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("External API client bundle is activated.");
+        }
+    }
+
+    @Deactivate
+    protected void deactivate(ComponentContext context) {
+
+        APIClientPoolRegistry.getInstance().closeAll();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("External API client bundle is deactivated.");
+        }
+    }
+}
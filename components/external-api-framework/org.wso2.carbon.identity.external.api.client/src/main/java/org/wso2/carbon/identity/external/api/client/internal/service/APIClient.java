@@ -23,21 +23,19 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
-import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.wso2.carbon.identity.external.api.client.api.constant.ErrorMessageConstant.ErrorMessage;
 import org.wso2.carbon.identity.external.api.client.api.exception.APIClientInvocationException;
 import org.wso2.carbon.identity.external.api.client.api.model.APIClientConfig;
 import org.wso2.carbon.identity.external.api.client.api.model.APIInvocationConfig;
 import org.wso2.carbon.identity.external.api.client.api.model.APIRequestContext;
 import org.wso2.carbon.identity.external.api.client.api.model.APIResponse;
+import org.wso2.carbon.identity.external.api.client.api.service.APIClientPoolRegistry;
 import org.wso2.carbon.identity.external.api.client.internal.util.APIRequestBuildingUtils;
 
 import java.io.ByteArrayOutputStream;
@@ -45,6 +43,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * This class is responsible for making API calls to the external endpoints.
@@ -54,8 +53,10 @@ public class APIClient {
     private static final Log LOG = LogFactory.getLog(APIClient.class);
     private static final int READ_CHUNK_SIZE = 8192;
 
+    private final APIClientConfig apiClientConfig;
     private final CloseableHttpClient httpClient;
     private final long defaultResponseLimitInBytes;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
 
     /**
      * Constructor to initialize the APIClient with the given configuration.
@@ -64,22 +65,8 @@ public class APIClient {
      */
     public APIClient(APIClientConfig apiClientConfig) {
 
-        int readTimeout = apiClientConfig.getHttpReadTimeoutInMillis();
-        int connectionRequestTimeout = apiClientConfig.getHttpConnectionRequestTimeoutInMillis();
-        int connectionTimeout = apiClientConfig.getHttpConnectionTimeoutInMillis();
-
-        RequestConfig config = RequestConfig.custom()
-                .setConnectTimeout(connectionTimeout)
-                .setConnectionRequestTimeout(connectionRequestTimeout)
-                .setSocketTimeout(readTimeout)
-                .setRedirectsEnabled(false)
-                .setRelativeRedirectsAllowed(false)
-                .build();
-        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
-        connectionManager.setMaxTotal(apiClientConfig.getPoolSizeToBeSet());
-        connectionManager.setDefaultMaxPerRoute(apiClientConfig.getMaxPerRoute());
-        httpClient = HttpClientBuilder.create().setDefaultRequestConfig(config).setConnectionManager(connectionManager)
-                .build();
+        this.apiClientConfig = apiClientConfig;
+        httpClient = APIClientPoolRegistry.getInstance().getHttpClient(apiClientConfig);
         defaultResponseLimitInBytes = apiClientConfig.getResponseLimitInBytes();
 
         if (LOG.isDebugEnabled()) {
@@ -142,6 +129,16 @@ public class APIClient {
         }
     }
 
+    /**
+     * Release the shared HTTP client used by this API client. The API client should not be used after closing it.
+     */
+    public void close() {
+
+        if (closed.compareAndSet(false, true)) {
+            APIClientPoolRegistry.getInstance().release(apiClientConfig);
+        }
+    }
+
     private void setRequestHeaders(HttpRequestBase httpRequestBase, APIRequestContext requestContext) {
 
         Header authHeader = APIRequestBuildingUtils.buildAuthenticationHeader(requestContext.getApiAuthentication());
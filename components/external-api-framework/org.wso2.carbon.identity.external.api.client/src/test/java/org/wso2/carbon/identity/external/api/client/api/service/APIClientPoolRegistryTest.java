@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.external.api.client.api.service;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.external.api.client.api.model.APIClientConfig;
+import org.wso2.carbon.identity.core.util.IdentityConfigParser;
+import org.wso2.carbon.identity.external.api.client.api.model.APIClientPoolMetrics;
+
+import java.io.File;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for APIClientPoolRegistry class.
+ */
+public class APIClientPoolRegistryTest {
+
+    private final APIClientPoolRegistry registry = APIClientPoolRegistry.getInstance();
+
+    @BeforeClass
+    public void setUpClass() {
+
+        String testResourcesPath = new File(
+                "src/test/resources/repository/conf/identity/identity.xml").getAbsolutePath();
+        System.setProperty("carbon.home", testResourcesPath);
+        IdentityConfigParser.getInstance(testResourcesPath);
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        registry.closeAll();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        registry.closeAll();
+    }
+
+    @Test
+    public void testSameConfigurationSharesHttpClient() throws Exception {
+
+        CloseableHttpClient firstClient = registry.getHttpClient(buildConfig(1000));
+        CloseableHttpClient secondClient = registry.getHttpClient(buildConfig(1000));
+
+        assertSame(secondClient, firstClient);
+        List<APIClientPoolMetrics> poolMetrics = registry.getPoolMetrics();
+        assertEquals(poolMetrics.size(), 1);
+        assertEquals(poolMetrics.get(0).getClientCount(), 2);
+    }
+
+    @Test
+    public void testDifferentConfigurationUsesSeparateHttpClient() throws Exception {
+
+        CloseableHttpClient firstClient = registry.getHttpClient(buildConfig(1000));
+        CloseableHttpClient secondClient = registry.getHttpClient(buildConfig(2000));
+
+        assertNotSame(secondClient, firstClient);
+        assertEquals(registry.getPoolMetrics().size(), 2);
+    }
+
+    @Test
+    public void testReleaseClosesPoolWhenLastClientReleases() throws Exception {
+
+        APIClientConfig config = buildConfig(1000);
+        CloseableHttpClient firstClient = registry.getHttpClient(config);
+        registry.getHttpClient(config);
+
+        registry.release(config);
+        assertEquals(registry.getPoolMetrics().size(), 1);
+        assertEquals(registry.getPoolMetrics().get(0).getClientCount(), 1);
+
+        registry.release(config);
+        assertTrue(registry.getPoolMetrics().isEmpty());
+
+        // A client obtained after the pool is closed gets a new HTTP client.
+        assertNotSame(registry.getHttpClient(config), firstClient);
+    }
+
+    @Test
+    public void testReleaseOfUnknownConfigurationIsIgnored() throws Exception {
+
+        registry.getHttpClient(buildConfig(1000));
+        registry.release(buildConfig(2000));
+
+        assertEquals(registry.getPoolMetrics().size(), 1);
+        assertEquals(registry.getPoolMetrics().get(0).getClientCount(), 1);
+    }
+
+    @Test
+    public void testCloseAllClosesEveryPool() throws Exception {
+
+        registry.getHttpClient(buildConfig(1000));
+        registry.getHttpClient(buildConfig(2000));
+
+        registry.closeAll();
+        assertTrue(registry.getPoolMetrics().isEmpty());
+    }
+
+    private static APIClientConfig buildConfig(int readTimeoutInMillis) throws Exception {
+
+        return new APIClientConfig.Builder().httpReadTimeoutInMillis(readTimeoutInMillis).build();
+    }
+}
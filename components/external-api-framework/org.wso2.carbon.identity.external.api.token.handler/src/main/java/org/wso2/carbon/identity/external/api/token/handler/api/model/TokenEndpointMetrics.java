@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.external.api.token.handler.api.model;
+
+/**
+ * Model class for a snapshot of the cached token usage of a token endpoint.
+ */
+public class TokenEndpointMetrics {
+
+    private final String tokenEndpointUrl;
+    private final long cacheHitCount;
+    private final long cacheMissCount;
+    private final long fetchCount;
+    private final long fetchFailureCount;
+    private final long totalFetchTimeInMillis;
+
+    public TokenEndpointMetrics(String tokenEndpointUrl, long cacheHitCount, long cacheMissCount, long fetchCount,
+                                long fetchFailureCount, long totalFetchTimeInMillis) {
+
+        this.tokenEndpointUrl = tokenEndpointUrl;
+        this.cacheHitCount = cacheHitCount;
+        this.cacheMissCount = cacheMissCount;
+        this.fetchCount = fetchCount;
+        this.fetchFailureCount = fetchFailureCount;
+        this.totalFetchTimeInMillis = totalFetchTimeInMillis;
+    }
+
+    /**
+     * Get Token Endpoint URL.
+     *
+     * @return Token Endpoint URL.
+     */
+    public String getTokenEndpointUrl() {
+
+        return tokenEndpointUrl;
+    }
+
+    /**
+     * Get the number of token requests served from the cache.
+     *
+     * @return Cache hit count.
+     */
+    public long getCacheHitCount() {
+
+        return cacheHitCount;
+    }
+
+    /**
+     * Get the number of token requests which had to wait for a token to be fetched.
+     *
+     * @return Cache miss count.
+     */
+    public long getCacheMissCount() {
+
+        return cacheMissCount;
+    }
+
+    /**
+     * Get the number of token fetches made to the token endpoint, including the proactive refreshes.
+     *
+     * @return Fetch count.
+     */
+    public long getFetchCount() {
+
+        return fetchCount;
+    }
+
+    /**
+     * Get the number of failed token fetches.
+     *
+     * @return Fetch failure count.
+     */
+    public long getFetchFailureCount() {
+
+        return fetchFailureCount;
+    }
+
+    /**
+     * Get the total time spent on token fetches in milliseconds.
+     *
+     * @return Total fetch time in milliseconds.
+     */
+    public long getTotalFetchTimeInMillis() {
+
+        return totalFetchTimeInMillis;
+    }
+}
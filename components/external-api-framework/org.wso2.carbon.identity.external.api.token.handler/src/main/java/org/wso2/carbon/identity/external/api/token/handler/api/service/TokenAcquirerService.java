@@ -30,10 +30,14 @@ import org.wso2.carbon.identity.external.api.client.api.model.APIResponse;
 import org.wso2.carbon.identity.external.api.client.api.service.AbstractAPIClientManager;
 import org.wso2.carbon.identity.external.api.token.handler.api.constant.ErrorMessageConstant.ErrorMessage;
 import org.wso2.carbon.identity.external.api.token.handler.api.exception.TokenHandlerException;
+import org.wso2.carbon.identity.external.api.token.handler.api.model.TokenEndpointMetrics;
 import org.wso2.carbon.identity.external.api.token.handler.api.model.TokenInvocationResult;
 import org.wso2.carbon.identity.external.api.token.handler.api.model.TokenRequestContext;
+import org.wso2.carbon.identity.external.api.token.handler.internal.cache.TokenCache;
 import org.wso2.carbon.identity.external.api.token.handler.internal.util.TokenRequestBuilderUtils;
 
+import java.util.List;
+
 /**
  * Service class for acquiring tokens using different grant types.
  */
@@ -74,6 +78,46 @@ public class TokenAcquirerService extends AbstractAPIClientManager {
         this.tokenRequestContext = tokenRequestContext;
     }
 
+    /**
+     * Get an access token for the token request context. A cached token is returned while it is valid and is
+     * refreshed in the background before it expires. A new token is fetched only if there is no valid cached token.
+     *
+     * @return Token response.
+     * @throws TokenHandlerException TokenHandlerException.
+     */
+    public TokenInvocationResult getAccessToken() throws TokenHandlerException {
+
+        if (tokenRequestContext == null) {
+            throw new TokenHandlerException(ErrorMessage.ERROR_CODE_UNINITIALIZED_TOKEN_REQUEST, null);
+        }
+
+        TokenRequestContext requestContext = tokenRequestContext;
+        APIInvocationConfig invocationConfig = apiInvocationConfig;
+        return TokenCache.getInstance().getToken(requestContext,
+                () -> requestAccessToken(requestContext, invocationConfig));
+    }
+
+    /**
+     * Remove the cached access token of the token request context, e.g. once the token is rejected by the external
+     * API, so that the next {@link #getAccessToken()} fetches a new token.
+     */
+    public void invalidateCachedAccessToken() {
+
+        if (tokenRequestContext != null) {
+            TokenCache.getInstance().invalidate(tokenRequestContext);
+        }
+    }
+
+    /**
+     * Get the cached token usage of each token endpoint.
+     *
+     * @return Metrics of the token endpoints.
+     */
+    public static List<TokenEndpointMetrics> getTokenEndpointMetrics() {
+
+        return TokenCache.getInstance().getEndpointMetrics();
+    }
+
     /**
      * Get a new access token using the token request context.
      *
@@ -90,14 +134,7 @@ public class TokenAcquirerService extends AbstractAPIClientManager {
             throw new TokenHandlerException(ErrorMessage.ERROR_CODE_UNINITIALIZED_TOKEN_REQUEST, null);
         }
 
-        try {
-            APIRequestContext apiRequestContext = TokenRequestBuilderUtils.buildAPIRequestContext(tokenRequestContext);
-            APIResponse apiResponse = callAPI(apiRequestContext, apiInvocationConfig);
-            return handleResponse(apiResponse);
-        } catch (APIClientException e) {
-            throw new TokenHandlerException(ErrorMessage.ERROR_CODE_GETTING_ACCESS_TOKEN,
-                    tokenRequestContext.getGrantContext().getGrantType().name(), e);
-        }
+        return requestAccessToken(tokenRequestContext, apiInvocationConfig);
     }
 
     /**
@@ -151,6 +188,20 @@ public class TokenAcquirerService extends AbstractAPIClientManager {
         }
     }
 
+    private TokenInvocationResult requestAccessToken(TokenRequestContext requestContext,
+                                                     APIInvocationConfig invocationConfig)
+            throws TokenHandlerException {
+
+        try {
+            APIRequestContext apiRequestContext = TokenRequestBuilderUtils.buildAPIRequestContext(requestContext);
+            APIResponse apiResponse = callAPI(apiRequestContext, invocationConfig);
+            return handleResponse(apiResponse);
+        } catch (APIClientException e) {
+            throw new TokenHandlerException(ErrorMessage.ERROR_CODE_GETTING_ACCESS_TOKEN,
+                    requestContext.getGrantContext().getGrantType().name(), e);
+        }
+    }
+
     private TokenInvocationResult handleResponse(APIResponse response) throws TokenHandlerException {
 
         if (response == null) {
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.external.api.token.handler.internal.cache;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.external.api.token.handler.api.constant.ErrorMessageConstant.ErrorMessage;
+import org.wso2.carbon.identity.external.api.token.handler.api.exception.TokenHandlerException;
+import org.wso2.carbon.identity.external.api.token.handler.api.model.GrantContext;
+import org.wso2.carbon.identity.external.api.token.handler.api.model.TokenEndpointMetrics;
+import org.wso2.carbon.identity.external.api.token.handler.api.model.TokenInvocationResult;
+import org.wso2.carbon.identity.external.api.token.handler.api.model.TokenRequestContext;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the access tokens acquired from the token endpoints.
+ * <p>
+ * Tokens are cached until shortly before they expire, as given by the expires_in attribute of the token response.
+ * Once a token enters its refresh window, a new token is fetched in the background while the current token is still
+ * served. Concurrent requests for the same token share a single in-flight fetch.
+ */
+public class TokenCache {
+
+    private static final Log LOG = LogFactory.getLog(TokenCache.class);
+    private static final TokenCache INSTANCE = new TokenCache();
+
+    private static final String EXPIRES_IN = "expires_in";
+    private static final long EXPIRY_SKEW_IN_MILLIS = 5000L;
+    private static final long MAX_REFRESH_WINDOW_IN_MILLIS = 60000L;
+    private static final int REFRESH_THREAD_COUNT = 4;
+    private static final int REFRESH_QUEUE_SIZE = 100;
+
+    private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<TokenInvocationResult>> inFlightFetches = new ConcurrentHashMap<>();
+    private final Map<String, EndpointCounters> endpointCounters = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor refreshExecutor;
+
+    private TokenCache() {
+
+        refreshExecutor = new ThreadPoolExecutor(REFRESH_THREAD_COUNT, REFRESH_THREAD_COUNT, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(REFRESH_QUEUE_SIZE), runnable -> {
+                    Thread thread = new Thread(runnable, "external-api-token-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        refreshExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Get the token cache instance.
+     *
+     * @return TokenCache instance.
+     */
+    public static TokenCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the cached token for the given token request, fetching a new token with the given loader if there is no
+     * valid cached token.
+     *
+     * @param tokenRequestContext Token request context.
+     * @param tokenLoader         Loader which fetches a new token from the token endpoint.
+     * @return Token invocation result.
+     * @throws TokenHandlerException If an error occurs while fetching the token.
+     */
+    public TokenInvocationResult getToken(TokenRequestContext tokenRequestContext, TokenLoader tokenLoader)
+            throws TokenHandlerException {
+
+        String cacheKey = getCacheKey(tokenRequestContext);
+        EndpointCounters counters = getEndpointCounters(tokenRequestContext.getTokenEndpointUrl());
+        CachedToken cachedToken = tokens.get(cacheKey);
+        long now = System.currentTimeMillis();
+        if (cachedToken != null && now < cachedToken.expiryTime) {
+            counters.hitCount.increment();
+            if (now >= cachedToken.refreshTime) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Cached access token is about to expire. Refreshing the token in the background.");
+                }
+                fetch(cacheKey, counters, tokenLoader, true);
+            }
+            return cachedToken.result;
+        }
+        if (cachedToken != null) {
+            // Expired tokens are removed, so that tokens of request contexts which are no longer used do not pile up.
+            tokens.remove(cacheKey, cachedToken);
+        }
+
+        counters.missCount.increment();
+        try {
+            return fetch(cacheKey, counters, tokenLoader, false).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TokenHandlerException(ErrorMessage.ERROR_CODE_GETTING_ACCESS_TOKEN,
+                    getGrantTypeName(tokenRequestContext), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TokenHandlerException) {
+                throw (TokenHandlerException) e.getCause();
+            }
+            throw new TokenHandlerException(ErrorMessage.ERROR_CODE_GETTING_ACCESS_TOKEN,
+                    getGrantTypeName(tokenRequestContext), e.getCause());
+        }
+    }
+
+    /**
+     * Remove the cached token of the given token request, e.g. once the token is rejected by the external API.
+     *
+     * @param tokenRequestContext Token request context.
+     */
+    public void invalidate(TokenRequestContext tokenRequestContext) {
+
+        tokens.remove(getCacheKey(tokenRequestContext));
+    }
+
+    /**
+     * Get the token usage of each token endpoint.
+     *
+     * @return Metrics of the token endpoints.
+     */
+    public List<TokenEndpointMetrics> getEndpointMetrics() {
+
+        List<TokenEndpointMetrics> endpointMetrics = new ArrayList<>();
+        for (Map.Entry<String, EndpointCounters> entry : endpointCounters.entrySet()) {
+            EndpointCounters counters = entry.getValue();
+            endpointMetrics.add(new TokenEndpointMetrics(entry.getKey(), counters.hitCount.sum(),
+                    counters.missCount.sum(), counters.fetchCount.sum(), counters.failureCount.sum(),
+                    counters.fetchTimeInMillis.sum()));
+        }
+        return endpointMetrics;
+    }
+
+    private CompletableFuture<TokenInvocationResult> fetch(String cacheKey, EndpointCounters counters,
+                                                           TokenLoader tokenLoader, boolean background) {
+
+        CompletableFuture<TokenInvocationResult> fetchFuture = new CompletableFuture<>();
+        CompletableFuture<TokenInvocationResult> inFlightFetch = inFlightFetches.putIfAbsent(cacheKey, fetchFuture);
+        if (inFlightFetch != null) {
+            return inFlightFetch;
+        }
+
+        Runnable fetchTask = () -> {
+            long startTime = System.currentTimeMillis();
+            try {
+                counters.fetchCount.increment();
+                TokenInvocationResult result = tokenLoader.load();
+                cache(cacheKey, result, startTime);
+                fetchFuture.complete(result);
+            } catch (Throwable e) {
+                counters.failureCount.increment();
+                fetchFuture.completeExceptionally(e);
+            } finally {
+                counters.fetchTimeInMillis.add(System.currentTimeMillis() - startTime);
+                inFlightFetches.remove(cacheKey, fetchFuture);
+            }
+        };
+        if (!background) {
+            fetchTask.run();
+            return fetchFuture;
+        }
+        try {
+            refreshExecutor.execute(fetchTask);
+        } catch (RejectedExecutionException e) {
+            // Other requests may already be waiting on this fetch, hence it is completed in the calling thread.
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Token refresh queue is full. Refreshing the token in the calling thread.");
+            }
+            fetchTask.run();
+        }
+        return fetchFuture;
+    }
+
+    private void cache(String cacheKey, TokenInvocationResult result, long fetchTime) {
+
+        if (result == null || result.getStatus() != TokenInvocationResult.Status.SUCCESS) {
+            return;
+        }
+        long expiresInMillis = getExpiresInMillis(result.getTokenResponse().getResponseBody());
+        if (expiresInMillis <= EXPIRY_SKEW_IN_MILLIS) {
+            // Tokens without a known lifetime are not cached, since it cannot be decided when they expire.
+            return;
+        }
+        long expiryTime = fetchTime + expiresInMillis - EXPIRY_SKEW_IN_MILLIS;
+        long refreshWindow = Math.min(MAX_REFRESH_WINDOW_IN_MILLIS, expiresInMillis / 4);
+        tokens.put(cacheKey, new CachedToken(result, expiryTime, expiryTime - refreshWindow));
+    }
+
+    private long getExpiresInMillis(String responseBody) {
+
+        if (responseBody == null) {
+            return -1L;
+        }
+        try {
+            JsonElement element = JsonParser.parseString(responseBody);
+            if (element.isJsonObject()) {
+                JsonObject jsonObject = element.getAsJsonObject();
+                if (jsonObject.has(EXPIRES_IN) && !jsonObject.get(EXPIRES_IN).isJsonNull()) {
+                    return TimeUnit.SECONDS.toMillis(jsonObject.get(EXPIRES_IN).getAsLong());
+                }
+            }
+        } catch (JsonSyntaxException | NumberFormatException | UnsupportedOperationException e) {
+            LOG.debug("Unable to read the expires_in attribute of the token response.", e);
+        }
+        return -1L;
+    }
+
+    private EndpointCounters getEndpointCounters(String tokenEndpointUrl) {
+
+        return endpointCounters.computeIfAbsent(tokenEndpointUrl, url -> new EndpointCounters());
+    }
+
+    private static String getCacheKey(TokenRequestContext tokenRequestContext) {
+
+        GrantContext grantContext = tokenRequestContext.getGrantContext();
+        StringBuilder cacheKey = new StringBuilder(tokenRequestContext.getTokenEndpointUrl())
+                .append('|').append(getGrantTypeName(tokenRequestContext));
+        for (GrantContext.Property property : GrantContext.Property.values()) {
+            String value = grantContext.getProperty(property.getName());
+            if (property == GrantContext.Property.CLIENT_SECRET && value != null) {
+                // Keep the secret out of the cache key while still separating tokens of rotated secrets.
+                value = hash(value);
+            }
+            cacheKey.append('|').append(value);
+        }
+        return cacheKey.toString();
+    }
+
+    private static String getGrantTypeName(TokenRequestContext tokenRequestContext) {
+
+        return tokenRequestContext.getGrantContext().getGrantType().name();
+    }
+
+    private static String hash(String value) {
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available.", e);
+        }
+    }
+
+    /**
+     * Fetches a new token from the token endpoint.
+     */
+    @FunctionalInterface
+    public interface TokenLoader {
+
+        TokenInvocationResult load() throws TokenHandlerException;
+    }
+
+    private static class CachedToken {
+
+        private final TokenInvocationResult result;
+        private final long expiryTime;
+        private final long refreshTime;
+
+        private CachedToken(TokenInvocationResult result, long expiryTime, long refreshTime) {
+
+            this.result = result;
+            this.expiryTime = expiryTime;
+            this.refreshTime = refreshTime;
+        }
+    }
+
+    private static class EndpointCounters {
+
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+        private final LongAdder fetchCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder fetchTimeInMillis = new LongAdder();
+    }
+}
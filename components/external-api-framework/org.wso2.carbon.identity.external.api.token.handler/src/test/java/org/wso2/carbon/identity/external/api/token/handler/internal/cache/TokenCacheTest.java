@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.external.api.token.handler.internal.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.external.api.client.api.model.APIResponse;
+import org.wso2.carbon.identity.external.api.token.handler.api.constant.ErrorMessageConstant.ErrorMessage;
+import org.wso2.carbon.identity.external.api.token.handler.api.exception.TokenHandlerException;
+import org.wso2.carbon.identity.external.api.token.handler.api.model.GrantContext;
+import org.wso2.carbon.identity.external.api.token.handler.api.model.TokenEndpointMetrics;
+import org.wso2.carbon.identity.external.api.token.handler.api.model.TokenInvocationResult;
+import org.wso2.carbon.identity.external.api.token.handler.api.model.TokenRequestContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for TokenCache class.
+ */
+public class TokenCacheTest {
+
+    private static final String TOKEN_RESPONSE = "{\"access_token\":\"%s\",\"expires_in\":%d}";
+
+    @Test
+    public void testCachedTokenIsReturnedUntilExpiry() throws Exception {
+
+        TokenRequestContext tokenRequestContext = buildTokenRequestContext("secret");
+        AtomicInteger fetchCount = new AtomicInteger();
+        TokenCache.TokenLoader tokenLoader = () -> buildResult("token-" + fetchCount.incrementAndGet(), 3600);
+
+        TokenInvocationResult first = TokenCache.getInstance().getToken(tokenRequestContext, tokenLoader);
+        TokenInvocationResult second = TokenCache.getInstance().getToken(tokenRequestContext, tokenLoader);
+
+        assertEquals(fetchCount.get(), 1);
+        assertEquals(second.getTokenResponse().getAccessToken(), first.getTokenResponse().getAccessToken());
+
+        TokenEndpointMetrics metrics = getMetrics(tokenRequestContext.getTokenEndpointUrl());
+        assertEquals(metrics.getCacheMissCount(), 1);
+        assertEquals(metrics.getCacheHitCount(), 1);
+        assertEquals(metrics.getFetchCount(), 1);
+    }
+
+    @Test
+    public void testTokenWithoutLifetimeIsNotCached() throws Exception {
+
+        TokenRequestContext tokenRequestContext = buildTokenRequestContext("secret");
+        AtomicInteger fetchCount = new AtomicInteger();
+        TokenCache.TokenLoader tokenLoader = () -> new TokenInvocationResult.Builder()
+                .apiResponse(new APIResponse(200, "{\"access_token\":\"token-" + fetchCount.incrementAndGet()
+                        + "\"}")).build();
+
+        TokenCache.getInstance().getToken(tokenRequestContext, tokenLoader);
+        TokenCache.getInstance().getToken(tokenRequestContext, tokenLoader);
+
+        assertEquals(fetchCount.get(), 2);
+    }
+
+    @Test
+    public void testInvalidateRemovesCachedToken() throws Exception {
+
+        TokenRequestContext tokenRequestContext = buildTokenRequestContext("secret");
+        AtomicInteger fetchCount = new AtomicInteger();
+        TokenCache.TokenLoader tokenLoader = () -> buildResult("token-" + fetchCount.incrementAndGet(), 3600);
+
+        TokenCache.getInstance().getToken(tokenRequestContext, tokenLoader);
+        TokenCache.getInstance().invalidate(tokenRequestContext);
+        TokenInvocationResult result = TokenCache.getInstance().getToken(tokenRequestContext, tokenLoader);
+
+        assertEquals(fetchCount.get(), 2);
+        assertEquals(result.getTokenResponse().getAccessToken(), "token-2");
+    }
+
+    @Test
+    public void testDifferentSecretsDoNotShareTokens() throws Exception {
+
+        String endpointUrl = buildEndpointUrl();
+        AtomicInteger fetchCount = new AtomicInteger();
+        TokenCache.TokenLoader tokenLoader = () -> buildResult("token-" + fetchCount.incrementAndGet(), 3600);
+
+        TokenCache.getInstance().getToken(buildTokenRequestContext(endpointUrl, "secret-1"), tokenLoader);
+        TokenCache.getInstance().getToken(buildTokenRequestContext(endpointUrl, "secret-2"), tokenLoader);
+
+        assertEquals(fetchCount.get(), 2);
+    }
+
+    @Test
+    public void testConcurrentRequestsShareSingleFetch() throws Exception {
+
+        TokenRequestContext tokenRequestContext = buildTokenRequestContext("secret");
+        AtomicInteger fetchCount = new AtomicInteger();
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        TokenCache.TokenLoader tokenLoader = () -> {
+            fetchCount.incrementAndGet();
+            fetchStarted.countDown();
+            try {
+                releaseFetch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return buildResult("token", 3600);
+        };
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<TokenInvocationResult>> results = new ArrayList<>();
+            results.add(executorService.submit(() -> TokenCache.getInstance().getToken(tokenRequestContext,
+                    tokenLoader)));
+            assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executorService.submit(() -> TokenCache.getInstance().getToken(tokenRequestContext,
+                        tokenLoader)));
+            }
+            Thread.sleep(100);
+            releaseFetch.countDown();
+            for (Future<TokenInvocationResult> result : results) {
+                assertEquals(result.get(5, TimeUnit.SECONDS).getTokenResponse().getAccessToken(), "token");
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(fetchCount.get(), 1);
+    }
+
+    @Test
+    public void testTokenInRefreshWindowIsRefreshedInBackground() throws Exception {
+
+        TokenRequestContext tokenRequestContext = buildTokenRequestContext("secret");
+        AtomicInteger fetchCount = new AtomicInteger();
+        CountDownLatch refreshed = new CountDownLatch(2);
+        // A lifetime of 8 seconds is cached for 3 seconds and enters the refresh window after 1 second.
+        TokenCache.TokenLoader tokenLoader = () -> {
+            TokenInvocationResult result = buildResult("token-" + fetchCount.incrementAndGet(), 8);
+            refreshed.countDown();
+            return result;
+        };
+
+        TokenCache.getInstance().getToken(tokenRequestContext, tokenLoader);
+        Thread.sleep(2500);
+        TokenInvocationResult result = TokenCache.getInstance().getToken(tokenRequestContext, tokenLoader);
+
+        // The current token is served while the refresh happens in the background.
+        assertEquals(result.getTokenResponse().getAccessToken(), "token-1");
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        assertEquals(fetchCount.get(), 2);
+    }
+
+    @Test
+    public void testFetchFailureIsPropagated() throws Exception {
+
+        TokenRequestContext tokenRequestContext = buildTokenRequestContext("secret");
+        TokenCache.TokenLoader tokenLoader = () -> {
+            throw new TokenHandlerException(ErrorMessage.ERROR_CODE_GETTING_ACCESS_TOKEN, "test");
+        };
+
+        try {
+            TokenCache.getInstance().getToken(tokenRequestContext, tokenLoader);
+            fail("Expected TokenHandlerException.");
+        } catch (TokenHandlerException e) {
+            assertEquals(e.getErrorCode(), ErrorMessage.ERROR_CODE_GETTING_ACCESS_TOKEN.getCode());
+        }
+        assertEquals(getMetrics(tokenRequestContext.getTokenEndpointUrl()).getFetchFailureCount(), 1);
+    }
+
+    private TokenInvocationResult buildResult(String accessToken, long expiresIn) {
+
+        return new TokenInvocationResult.Builder()
+                .apiResponse(new APIResponse(200, String.format(TOKEN_RESPONSE, accessToken, expiresIn)))
+                .build();
+    }
+
+    private TokenEndpointMetrics getMetrics(String tokenEndpointUrl) {
+
+        for (TokenEndpointMetrics metrics : TokenCache.getInstance().getEndpointMetrics()) {
+            if (metrics.getTokenEndpointUrl().equals(tokenEndpointUrl)) {
+                return metrics;
+            }
+        }
+        fail("Metrics not found for the token endpoint: " + tokenEndpointUrl);
+        return null;
+    }
+
+    private TokenRequestContext buildTokenRequestContext(String clientSecret) throws Exception {
+
+        return buildTokenRequestContext(buildEndpointUrl(), clientSecret);
+    }
+
+    private TokenRequestContext buildTokenRequestContext(String endpointUrl, String clientSecret) throws Exception {
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put("client_id", "test-client-id");
+        properties.put("client_secret", clientSecret);
+        properties.put("scope", "test-scope");
+        GrantContext grantContext = new GrantContext.Builder()
+                .grantType(GrantContext.GrantType.CLIENT_CREDENTIAL)
+                .properties(properties)
+                .build();
+        TokenRequestContext tokenRequestContext = new TokenRequestContext.Builder()
+                .grantContext(grantContext)
+                .endpointUrl(endpointUrl)
+                .build();
+        assertNotNull(tokenRequestContext);
+        return tokenRequestContext;
+    }
+
+    private String buildEndpointUrl() {
+
+        // Each test uses its own endpoint, since the token cache is shared.
+        return "https://example.com/" + UUID.randomUUID() + "/token";
+    }
+}
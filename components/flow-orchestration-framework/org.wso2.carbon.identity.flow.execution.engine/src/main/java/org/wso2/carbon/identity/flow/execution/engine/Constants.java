@@ -281,8 +281,8 @@ public class Constants {
 
         public static final String INSERT_CONTEXT_SQL = "INSERT INTO IDN_FLOW_CONTEXT_STORE " +
                 "(ID, TENANT_ID, FLOW_TYPE, CREATED_AT, EXPIRES_AT, FLOW_STATE_JSON) VALUES (?, ?, ?, ?, ?, ?)";
-        public static final String UPDATE_CONTEXT_SQL = "UPDATE IDN_FLOW_CONTEXT_STORE SET FLOW_STATE_JSON = ? WHERE" +
-                " ID = ? AND TENANT_ID = ?";
+        public static final String UPDATE_CONTEXT_SQL = "UPDATE IDN_FLOW_CONTEXT_STORE SET FLOW_STATE_JSON = ?, " +
+                "EXPIRES_AT = ? WHERE ID = ? AND TENANT_ID = ?";
         public static final String SELECT_CONTEXT_SQL = "SELECT FLOW_STATE_JSON FROM IDN_FLOW_CONTEXT_STORE WHERE ID = ?" +
                 " AND TENANT_ID = ? AND EXPIRES_AT > ?";
         public static final String DELETE_CONTEXT_SQL = "DELETE FROM IDN_FLOW_CONTEXT_STORE WHERE ID = ?";
@@ -299,5 +299,9 @@ public class Constants {
         public static final String FLOW_TYPE_TTL_CONFIG_KEY_PREFIX = "FlowTypeTTLs";
         public static final String FLOW_TYPE_TTL_CONFIG_KEY = "FlowTypeTTL";
         public static final String FLOW_TYPE_ATTRIBUTE = "type";
+        public static final String CONTEXT_STORE_WRITE_BEHIND_ENABLE_PROPERTY =
+                "FlowExecution.ContextStore.WriteBehind.Enable";
+        public static final String CONTEXT_STORE_WRITE_BEHIND_POOL_SIZE_PROPERTY =
+                "FlowExecution.ContextStore.WriteBehind.PoolSize";
     }
 }
@@ -69,6 +69,24 @@ public class FlowExecCtxCache extends BaseCache<FlowExecCtxCacheKey, FlowExecCtx
         }
     }
 
+    /**
+     * Replace the FlowExecCtxCacheEntry of the given key in the cache and update the stored context in place,
+     * instead of deleting and re-inserting the stored context.
+     *
+     * @param key   Flow execution context cache key.
+     * @param entry Flow execution context cache entry.
+     */
+    public void replaceInCache(FlowExecCtxCacheKey key, FlowExecCtxCacheEntry entry) throws FlowEngineException {
+
+        String tenantName = FlowExecutionEngineUtils.resolveTenantDomain();
+        if (tenantName != null) {
+            super.clearCacheEntry(key, tenantName);
+            super.addToCache(key, entry, tenantName);
+            FlowContextStore.getInstance().storeContext(key.getContextId(), entry.getContext());
+            LOG.debug("Replaced FlowExecutionContext in cache for key: " + key);
+        }
+    }
+
     /**
      * Get the FlowExecCtxCacheEntry from the cache for the given key.
      *
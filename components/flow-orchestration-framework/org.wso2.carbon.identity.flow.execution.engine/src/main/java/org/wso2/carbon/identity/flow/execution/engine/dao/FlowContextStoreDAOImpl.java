@@ -66,8 +66,9 @@ public class FlowContextStoreDAOImpl implements FlowContextStoreDAO {
                     UPDATE_CONTEXT_SQL,
                     preparedStatement -> {
                         preparedStatement.setString(1, serializedContext);
-                        preparedStatement.setString(2, contextIdentifier);
-                        preparedStatement.setInt(3, IdentityTenantUtil.getTenantId(context.getTenantDomain()));
+                        preparedStatement.setTimestamp(2, expiresAt);
+                        preparedStatement.setString(3, contextIdentifier);
+                        preparedStatement.setInt(4, IdentityTenantUtil.getTenantId(context.getTenantDomain()));
                     });
 
             if (affectedRows == 0) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -24,34 +24,74 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.core.util.IdentityConfigParser;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.flow.execution.engine.Constants;
 import org.wso2.carbon.identity.flow.execution.engine.Constants.FlowExecutionConfigs;
 import org.wso2.carbon.identity.flow.execution.engine.dao.FlowContextStoreDAO;
 import org.wso2.carbon.identity.flow.execution.engine.dao.FlowContextStoreDAOImpl;
 import org.wso2.carbon.identity.flow.execution.engine.exception.FlowEngineException;
 import org.wso2.carbon.identity.flow.execution.engine.model.FlowExecutionContext;
+import org.wso2.carbon.identity.flow.execution.engine.util.FlowExecutionEngineUtils;
 
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.namespace.QName;
 
 /**
- * Service to manage storing and fetching FlowExecutionContext objects.
+ * Service to manage storing and fetching FlowExecutionContext objects. Contexts are served from FlowExecCtxCache in
+ * front of this store, and can optionally be persisted to the flow context store table asynchronously, where
+ * consecutive writes of the same context are coalesced into a single write. Like the flow context store table, a
+ * pending write is only returned to a retrieval in the tenant of the context. All asynchronous writes and deletes of
+ * a given context run on the same thread to keep them ordered. A failed asynchronous write is retried, and if it
+ * still fails, the failure is thrown by the next retrieval of the context.
  */
 public class FlowContextStore {
 
     private static final Log LOG = LogFactory.getLog(FlowContextStore.class);
     private static final FlowContextStoreDAO flowContextStoreDAO = new FlowContextStoreDAOImpl();
     private static final long DEFAULT_TTL_FALLBACK_MINUTES = 30L;
+    private static final int DEFAULT_WRITE_BEHIND_POOL_SIZE = 4;
+    private static final int WRITE_BEHIND_MAX_ATTEMPTS = 3;
+    private static final long WRITE_BEHIND_RETRY_INTERVAL_MILLIS = 100L;
+    private static final long WRITE_BEHIND_SHUTDOWN_TIMEOUT_SECONDS = 10L;
+    private static final int MAX_FAILED_WRITES = 1000;
 
     private static final Map<String, Long> FLOW_TYPE_TTL_MAP = loadFlowTypeTTLMap();
     private static final long DEFAULT_TTL_MINUTES = loadDefaultTTL();
     private static final FlowContextStore INSTANCE = new FlowContextStore();
 
+    private final ExecutorService[] writeBehindExecutors;
+    private final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+    private final Map<String, FailedWrite> failedWrites = new ConcurrentHashMap<>();
+
     private FlowContextStore() {
 
+        if (Boolean.parseBoolean(IdentityUtil.getProperty(
+                FlowExecutionConfigs.CONTEXT_STORE_WRITE_BEHIND_ENABLE_PROPERTY))) {
+            int poolSize = loadIntProperty(FlowExecutionConfigs.CONTEXT_STORE_WRITE_BEHIND_POOL_SIZE_PROPERTY,
+                    DEFAULT_WRITE_BEHIND_POOL_SIZE);
+            writeBehindExecutors = new ExecutorService[Math.max(poolSize, 1)];
+            AtomicInteger threadCount = new AtomicInteger();
+            for (int i = 0; i < writeBehindExecutors.length; i++) {
+                writeBehindExecutors[i] = Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "FlowContextWriteBehind-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            LOG.debug("Flow context write behind persistence is enabled with pool size: " + poolSize);
+        } else {
+            writeBehindExecutors = null;
+        }
     }
 
     public static FlowContextStore getInstance() {
@@ -73,18 +113,154 @@ public class FlowContextStore {
             LOG.debug("Storing context: " + contextIdentifier + " with TTL: " + ttlSecs + " secs");
         }
 
-        flowContextStoreDAO.storeContext(contextIdentifier, context, ttlSecs);
+        if (writeBehindExecutors == null) {
+            flowContextStoreDAO.storeContext(contextIdentifier, context, ttlSecs);
+            return;
+        }
+        // Only the latest state of a context is persisted if it is updated again before the pending write runs.
+        if (pendingWrites.put(contextIdentifier, new PendingWrite(context, ttlSecs)) == null) {
+            try {
+                getWriteBehindExecutor(contextIdentifier).execute(() -> flushPendingWrite(contextIdentifier));
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Write behind of the flow context was rejected. Persisting the context: " +
+                        contextIdentifier + " synchronously.");
+                pendingWrites.remove(contextIdentifier);
+                flowContextStoreDAO.storeContext(contextIdentifier, context, ttlSecs);
+            }
+        }
     }
 
     public Optional<FlowExecutionContext> getContext(String contextId) throws FlowEngineException {
 
+        FailedWrite failedWrite = failedWrites.remove(contextId);
+        if (failedWrite != null) {
+            throw FlowExecutionEngineUtils.handleServerException(
+                    Constants.ErrorMessages.ERROR_CODE_FLOW_CONTEXT_STORE_FAILURE, failedWrite.cause, contextId);
+        }
+        PendingWrite pendingWrite = pendingWrites.get(contextId);
+        if (pendingWrite != null) {
+            if (StringUtils.equals(pendingWrite.context.getTenantDomain(),
+                    FlowExecutionEngineUtils.resolveTenantDomain())) {
+                return Optional.of(pendingWrite.context);
+            }
+            return Optional.empty();
+        }
         return Optional.ofNullable(flowContextStoreDAO.getContext(contextId));
     }
 
     public void deleteContext(String contextId) throws FlowEngineException {
 
         LOG.debug("Deleting context: " + contextId);
-        flowContextStoreDAO.deleteContext(contextId);
+        pendingWrites.remove(contextId);
+        failedWrites.remove(contextId);
+        if (writeBehindExecutors == null) {
+            flowContextStoreDAO.deleteContext(contextId);
+            return;
+        }
+        // Run the delete after any write of the context which is already in progress.
+        try {
+            getWriteBehindExecutor(contextId).submit(() -> {
+                flowContextStoreDAO.deleteContext(contextId);
+                return null;
+            }).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FlowEngineException) {
+                throw (FlowEngineException) e.getCause();
+            }
+            throw FlowExecutionEngineUtils.handleServerException(
+                    Constants.ErrorMessages.ERROR_CODE_FLOW_CONTEXT_DELETION_FAILURE, e.getCause(), contextId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flowContextStoreDAO.deleteContext(contextId);
+        } catch (RejectedExecutionException e) {
+            flowContextStoreDAO.deleteContext(contextId);
+        }
+    }
+
+    private ExecutorService getWriteBehindExecutor(String contextId) {
+
+        return writeBehindExecutors[Math.floorMod(contextId.hashCode(), writeBehindExecutors.length)];
+    }
+
+    /**
+     * Persist the pending asynchronous writes and stop the write behind threads. Contexts stored afterwards are
+     * persisted synchronously.
+     */
+    public void shutdown() {
+
+        if (writeBehindExecutors == null) {
+            return;
+        }
+        for (ExecutorService executor : writeBehindExecutors) {
+            executor.shutdown();
+        }
+        try {
+            for (ExecutorService executor : writeBehindExecutors) {
+                if (!executor.awaitTermination(WRITE_BEHIND_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    LOG.warn("Timed out while waiting for the pending flow context writes to be persisted.");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!pendingWrites.isEmpty()) {
+            LOG.warn(pendingWrites.size() + " pending flow context writes were not persisted before shutting down.");
+        }
+    }
+
+    private void flushPendingWrite(String contextIdentifier) {
+
+        // The pending write stays visible to the context retrievals until it is persisted. If the context is updated
+        // meanwhile, the newer pending write is persisted next.
+        PendingWrite pendingWrite = pendingWrites.get(contextIdentifier);
+        while (pendingWrite != null) {
+            FlowEngineException error = persist(contextIdentifier, pendingWrite);
+            if (pendingWrites.remove(contextIdentifier, pendingWrite)) {
+                if (error != null) {
+                    recordFailedWrite(contextIdentifier, pendingWrite, error);
+                }
+                return;
+            }
+            pendingWrite = pendingWrites.get(contextIdentifier);
+        }
+    }
+
+    private FlowEngineException persist(String contextIdentifier, PendingWrite pendingWrite) {
+
+        FlowEngineException error = null;
+        for (int attempt = 1; attempt <= WRITE_BEHIND_MAX_ATTEMPTS; attempt++) {
+            try {
+                flowContextStoreDAO.storeContext(contextIdentifier, pendingWrite.context, pendingWrite.ttlSeconds);
+                return null;
+            } catch (FlowEngineException e) {
+                error = e;
+                LOG.warn("Attempt " + attempt + " of persisting the flow context: " + contextIdentifier +
+                        " failed.", e);
+            }
+            if (attempt < WRITE_BEHIND_MAX_ATTEMPTS) {
+                try {
+                    Thread.sleep(WRITE_BEHIND_RETRY_INTERVAL_MILLIS * attempt);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return error;
+    }
+
+    private void recordFailedWrite(String contextIdentifier, PendingWrite pendingWrite, FlowEngineException error) {
+
+        LOG.error("Error while persisting the flow context: " + contextIdentifier, error);
+        if (failedWrites.size() >= MAX_FAILED_WRITES) {
+            // Drop the failures of the contexts which have already expired, since they are not retrieved anymore.
+            long currentTime = System.currentTimeMillis();
+            failedWrites.values().removeIf(failedWrite -> failedWrite.expiryTime < currentTime);
+        }
+        if (failedWrites.size() < MAX_FAILED_WRITES) {
+            failedWrites.put(contextIdentifier, new FailedWrite(error,
+                    System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(pendingWrite.ttlSeconds)));
+        }
     }
 
     private long resolveTTL(String flowType) {
@@ -110,6 +286,19 @@ public class FlowContextStore {
         return DEFAULT_TTL_FALLBACK_MINUTES;
     }
 
+    private static int loadIntProperty(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid value for " + property + ": " + value + ". Using default: " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
     private static Map<String, Long> loadFlowTypeTTLMap() {
 
         Map<String, Long> flowTypeTTLMap = new HashMap<>();
@@ -148,4 +337,28 @@ public class FlowContextStore {
 
         return flowTypeTTLMap;
     }
+
+    private static class FailedWrite {
+
+        private final FlowEngineException cause;
+        private final long expiryTime;
+
+        private FailedWrite(FlowEngineException cause, long expiryTime) {
+
+            this.cause = cause;
+            this.expiryTime = expiryTime;
+        }
+    }
+
+    private static class PendingWrite {
+
+        private final FlowExecutionContext context;
+        private final long ttlSeconds;
+
+        private PendingWrite(FlowExecutionContext context, long ttlSeconds) {
+
+            this.context = context;
+            this.ttlSeconds = ttlSeconds;
+        }
+    }
 }
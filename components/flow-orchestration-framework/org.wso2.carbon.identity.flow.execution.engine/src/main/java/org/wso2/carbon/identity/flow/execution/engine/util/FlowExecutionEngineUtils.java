@@ -116,8 +116,7 @@ public class FlowExecutionEngineUtils {
         optimizeContext(context);
         FlowExecCtxCacheEntry cacheEntry = new FlowExecCtxCacheEntry(context);
         FlowExecCtxCacheKey cacheKey = new FlowExecCtxCacheKey(cacheKeyIdentifier);
-        FlowExecCtxCache.getInstance().clearCacheEntry(cacheKey);
-        FlowExecCtxCache.getInstance().addToCache(cacheKey, cacheEntry);
+        FlowExecCtxCache.getInstance().replaceInCache(cacheKey, cacheEntry);
         if (LOG.isDebugEnabled()) {
             LOG.debug("Flow context added to cache for context id: " + cacheKeyIdentifier);
         }
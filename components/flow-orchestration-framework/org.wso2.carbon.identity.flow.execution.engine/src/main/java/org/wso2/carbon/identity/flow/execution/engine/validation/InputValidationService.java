@@ -43,8 +43,7 @@ import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationM
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtException;
 import org.wso2.carbon.identity.input.validation.mgt.model.RulesConfiguration;
 import org.wso2.carbon.identity.input.validation.mgt.model.ValidationConfiguration;
-import org.wso2.carbon.identity.input.validation.mgt.model.ValidationContext;
-import org.wso2.carbon.identity.input.validation.mgt.model.Validator;
+import org.wso2.carbon.identity.input.validation.mgt.utils.ValidationPatternRegistry;
 import org.wso2.carbon.user.api.UserStoreException;
 
 import java.util.ArrayList;
@@ -297,7 +296,8 @@ public class InputValidationService {
                         .getOrDefault(ClaimConstants.DISPLAY_NAME_PROPERTY, claimUri);
                 String regexPattern = claimProperties.get(ClaimConstants.REGULAR_EXPRESSION_PROPERTY);
                 if (StringUtils.isNotBlank(regexPattern) && StringUtils.isNotBlank(claimValue)) {
-                    if (!claimValue.matches(regexPattern)) {
+                    if (!ValidationPatternRegistry.matches(
+                            ValidationPatternRegistry.getPattern(tenantDomain, regexPattern), claimValue)) {
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Claim regex validation failed for claim: " + claimUri);
                         }
@@ -404,7 +404,7 @@ public class InputValidationService {
 
     /**
      * Executes the input validation rules for a given field using InputValidationManagementService.
-     * Iterates both regex and rule-based configurations and invokes each configured validator.
+     * Validates the value against the rules of the field in the validation plan of the tenant.
      * Returns without validation if InputValidationManagementService is unavailable.
      *
      * @param tenantDomain Tenant domain.
@@ -423,32 +423,8 @@ public class InputValidationService {
             }
             return;
         }
-        List<ValidationConfiguration> configurations = FlowExecutionEngineDataHolder.getInstance()
-                .getInputValidationManagementService().getInputValidationConfiguration(tenantDomain);
-        Map<String, Validator> validators = FlowExecutionEngineDataHolder.getInstance()
-                .getInputValidationManagementService().getValidators(tenantDomain);
-
-        for (ValidationConfiguration config : configurations) {
-            if (!field.equals(config.getField())) {
-                continue;
-            }
-            List<RulesConfiguration> rules = config.getRegEx() != null ? config.getRegEx() : config.getRules();
-            if (rules == null) {
-                continue;
-            }
-            for (RulesConfiguration rule : rules) {
-                Validator validator = validators.get(rule.getValidatorName());
-                if (validator == null) {
-                    continue;
-                }
-                ValidationContext validationContext = new ValidationContext();
-                validationContext.setField(field);
-                validationContext.setValue(value);
-                validationContext.setTenantDomain(tenantDomain);
-                validationContext.setProperties(rule.getProperties());
-                validator.validate(validationContext);
-            }
-        }
+        FlowExecutionEngineDataHolder.getInstance().getInputValidationManagementService()
+                .getValidationPlan(tenantDomain).validate(field, value);
     }
 
     /**
@@ -667,14 +643,9 @@ public class InputValidationService {
         Map<String, ValidationDTO> validationDTOs = new HashMap<>();
 
         try {
-            List<ValidationConfiguration> validationConfigurations = FlowExecutionEngineDataHolder.getInstance()
-                    .getInputValidationManagementService().getInputValidationConfiguration(tenantDomain);
-
-            for (ValidationConfiguration config : validationConfigurations) {
-                if (!key.equals(config.getField())) {
-                    continue;
-                }
-
+            ValidationConfiguration config = FlowExecutionEngineDataHolder.getInstance()
+                    .getInputValidationManagementService().getValidationPlan(tenantDomain).getConfiguration(key);
+            if (config != null) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Validation configuration found for field: " + key);
                 }
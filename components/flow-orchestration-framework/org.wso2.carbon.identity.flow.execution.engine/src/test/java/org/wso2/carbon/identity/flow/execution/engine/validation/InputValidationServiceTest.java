@@ -223,6 +223,7 @@ public class InputValidationServiceTest {
 
         // Mock the InputValidationManagementService.
         InputValidationManagementService mockValidationService = mock(InputValidationManagementService.class);
+        when(mockValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockValidationService);
 
         // Create a form with username input.
@@ -284,6 +285,7 @@ public class InputValidationServiceTest {
 
         // Mock the InputValidationManagementService.
         InputValidationManagementService mockValidationService = mock(InputValidationManagementService.class);
+        when(mockValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockValidationService);
 
         // Create mock validation configurations for username.
@@ -370,6 +372,7 @@ public class InputValidationServiceTest {
 
         // Mock the InputValidationManagementService.
         InputValidationManagementService mockValidationService = mock(InputValidationManagementService.class);
+        when(mockValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockValidationService);
 
         // Create mock validation configurations for password.
@@ -1128,6 +1131,7 @@ public class InputValidationServiceTest {
         when(mockClaimService.getLocalClaim(anyString(), anyString())).thenReturn(Optional.of(mockLocalClaim));
 
         InputValidationManagementService mockInputValidationService = mock(InputValidationManagementService.class);
+        when(mockInputValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockInputValidationService);
 
         Validator mockValidator = mock(Validator.class);
@@ -1173,6 +1177,7 @@ public class InputValidationServiceTest {
         when(mockClaimService.getLocalClaim(anyString(), anyString())).thenReturn(Optional.of(mockLocalClaim));
 
         InputValidationManagementService mockInputValidationService = mock(InputValidationManagementService.class);
+        when(mockInputValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockInputValidationService);
 
         Validator mockValidator = mock(Validator.class);
@@ -1224,6 +1229,7 @@ public class InputValidationServiceTest {
         when(mockClaimService.getLocalClaim(anyString(), anyString())).thenReturn(Optional.of(mockLocalClaim));
 
         InputValidationManagementService mockInputValidationService = mock(InputValidationManagementService.class);
+        when(mockInputValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockInputValidationService);
 
         Validator mockValidator = mock(Validator.class);
@@ -1299,6 +1305,7 @@ public class InputValidationServiceTest {
         FlowExecutionContext.getUserInputData().putAll(userInputData);
 
         InputValidationManagementService mockInputValidationService = mock(InputValidationManagementService.class);
+        when(mockInputValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockInputValidationService);
 
         Validator mockValidator = mock(Validator.class);
@@ -1330,6 +1337,7 @@ public class InputValidationServiceTest {
         FlowExecutionContext.getUserInputData().putAll(userInputData);
 
         InputValidationManagementService mockInputValidationService = mock(InputValidationManagementService.class);
+        when(mockInputValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockInputValidationService);
 
         Validator mockValidator = mock(Validator.class);
@@ -1367,6 +1375,7 @@ public class InputValidationServiceTest {
         FlowExecutionContext.getUserInputData().putAll(userInputData);
 
         InputValidationManagementService mockInputValidationService = mock(InputValidationManagementService.class);
+        when(mockInputValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockInputValidationService);
 
         Validator mockValidator = mock(Validator.class);
@@ -1419,6 +1428,7 @@ public class InputValidationServiceTest {
         FlowExecutionContext.getUserInputData().putAll(userInputData);
 
         InputValidationManagementService mockInputValidationService = mock(InputValidationManagementService.class);
+        when(mockInputValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockInputValidationService);
 
         when(mockInputValidationService.getInputValidationConfiguration(anyString()))
@@ -1442,6 +1452,7 @@ public class InputValidationServiceTest {
         FlowExecutionContext.getUserInputData().putAll(userInputData);
 
         InputValidationManagementService mockInputValidationService = mock(InputValidationManagementService.class);
+        when(mockInputValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockInputValidationService);
 
         ValidationConfiguration usernameConfig = new ValidationConfiguration();
@@ -1463,6 +1474,7 @@ public class InputValidationServiceTest {
         FlowExecutionContext.getUserInputData().putAll(userInputData);
 
         InputValidationManagementService mockInputValidationService = mock(InputValidationManagementService.class);
+        when(mockInputValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockInputValidationService);
 
         ValidationConfiguration passwordConfig = new ValidationConfiguration();
@@ -1489,6 +1501,7 @@ public class InputValidationServiceTest {
         FlowExecutionContext.getUserInputData().putAll(userInputData);
 
         InputValidationManagementService mockInputValidationService = mock(InputValidationManagementService.class);
+        when(mockInputValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockInputValidationService);
 
         ValidationConfiguration passwordConfig = new ValidationConfiguration();
@@ -1511,6 +1524,7 @@ public class InputValidationServiceTest {
         FlowExecutionContext.getUserInputData().putAll(userInputData);
 
         InputValidationManagementService mockInputValidationService = mock(InputValidationManagementService.class);
+        when(mockInputValidationService.getValidationPlan(anyString())).thenCallRealMethod();
         FlowExecutionEngineDataHolder.getInstance().setInputValidationManagementService(mockInputValidationService);
 
         Validator mockValidator = mock(Validator.class);
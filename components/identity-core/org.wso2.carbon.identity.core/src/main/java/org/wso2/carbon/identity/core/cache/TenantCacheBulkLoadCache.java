@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+/**
+ * Cache which marks the loads of {@link TenantCacheBulkLoader} which are in progress on this node. Removing an entry
+ * removes it from the cache of every node of the cluster, which stops the loads of the tenant on all the nodes.
+ * Cache entry: <name of the loader, id of the load in progress>
+ */
+public class TenantCacheBulkLoadCache extends BaseCache<String, String> {
+
+    private static final String CACHE_NAME = "TenantCacheBulkLoadCache";
+    private static final TenantCacheBulkLoadCache instance = new TenantCacheBulkLoadCache();
+
+    private TenantCacheBulkLoadCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static TenantCacheBulkLoadCache getInstance() {
+
+        return instance;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the entries of a tenant into caches in the background, at most once within a given interval per tenant.
+ * <p>
+ * Loads run one at a time on a daemon thread, within the tenant flow of the tenant, and at most
+ * {@value #MAX_QUEUED_LOADS} loads are queued. The caller does not wait for a load, and resolves its own lookup as
+ * usual. A tenant is invalidated when its entries are modified, which allows the next lookup to reload the tenant
+ * and tells a load of the tenant which is in progress to stop adding entries, since they may be stale.
+ * <p>
+ * A load adds its entries through {@link Load#addIfCurrent}, under the lock under which the tenant is invalidated
+ * on this node. A writer invalidates the tenant after its update is committed and removes the affected entries
+ * afterwards, so an entry added by a load is either removed by the writer or not added at all. Each load marks
+ * itself in the {@link TenantCacheBulkLoadCache}, and invalidating a tenant removes the mark from every node of the
+ * cluster, which stops the loads of the tenant on the other nodes as well.
+ */
+public class TenantCacheBulkLoader {
+
+    private static final Log log = LogFactory.getLog(TenantCacheBulkLoader.class);
+    private static final int MAX_QUEUED_LOADS = 100;
+
+    private final String name;
+    private final Map<String, Long> lastLoadTimes = new ConcurrentHashMap<>();
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    /**
+     * @param name Name of the loader, used to name its thread.
+     */
+    public TenantCacheBulkLoader(String name) {
+
+        this.name = name;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(MAX_QUEUED_LOADS), runnable -> {
+                    Thread thread = new Thread(runnable, name + "-BulkLoader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Schedule a load of the entries of the tenant, unless the tenant was loaded within the given interval.
+     *
+     * @param tenantDomain        Tenant domain.
+     * @param minIntervalInMillis Minimum interval between two loads of the tenant.
+     * @param loader              Loads the entries of the tenant into the caches.
+     * @return True if a load of the tenant is scheduled.
+     */
+    public boolean load(String tenantDomain, long minIntervalInMillis, Loader loader) {
+
+        long currentTime = System.currentTimeMillis();
+        Long lastLoadTime = lastLoadTimes.get(tenantDomain);
+        if (lastLoadTime != null && currentTime - lastLoadTime < minIntervalInMillis) {
+            return false;
+        }
+        // Only the thread which updates the load time schedules the load.
+        boolean claimed = lastLoadTime == null ? lastLoadTimes.putIfAbsent(tenantDomain, currentTime) == null :
+                lastLoadTimes.replace(tenantDomain, lastLoadTime, currentTime);
+        if (!claimed) {
+            return false;
+        }
+        long generation = getGeneration(tenantDomain);
+        try {
+            executor.execute(() -> runLoad(tenantDomain, generation, loader));
+            return true;
+        } catch (RejectedExecutionException e) {
+            lastLoadTimes.remove(tenantDomain, currentTime);
+            if (log.isDebugEnabled()) {
+                log.debug("Skipping the " + name + " cache load of tenant: " + tenantDomain +
+                        " since the load queue is full.");
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Invalidate the loads of the tenant on all the nodes. A load of the tenant which is in progress stops adding
+     * entries, and the next load request of the tenant is not limited by the interval. Writers invalidate the tenant
+     * after their update is committed, and remove the affected cache entries after the invalidation.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidate(String tenantDomain) {
+
+        if (tenantDomain == null) {
+            return;
+        }
+        synchronized (getLock(tenantDomain)) {
+            generations.merge(tenantDomain, 1L, Long::sum);
+        }
+        lastLoadTimes.remove(tenantDomain);
+        TenantCacheBulkLoadCache.getInstance().clearCacheEntry(name, tenantDomain);
+    }
+
+    /**
+     * Stop the loads which are queued or in progress.
+     */
+    public void shutdown() {
+
+        executor.shutdownNow();
+    }
+
+    private void runLoad(String tenantDomain, long generation, Loader loader) {
+
+        Load load = new Load(tenantDomain, generation, UUID.randomUUID().toString());
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            /*
+             The mark is added before the entries are read, so that an invalidation from another node after the read
+             always removes it. Replacing the mark of an earlier load may also stop a load of the tenant on another
+             node, which only leaves the rest of its entries to be loaded on demand.
+             */
+            TenantCacheBulkLoadCache.getInstance().addToCache(name, load.id, tenantDomain);
+            if (!load.isCurrent()) {
+                return;
+            }
+            loader.load(load);
+        } catch (RuntimeException e) {
+            log.warn("Error while loading the " + name + " cache entries of tenant: " + tenantDomain, e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    private long getGeneration(String tenantDomain) {
+
+        return generations.getOrDefault(tenantDomain, 0L);
+    }
+
+    private Object getLock(String tenantDomain) {
+
+        return locks.computeIfAbsent(tenantDomain, key -> new Object());
+    }
+
+    /**
+     * A load of the entries of a tenant.
+     */
+    public final class Load {
+
+        private final String tenantDomain;
+        private final long generation;
+        private final String id;
+
+        private Load(String tenantDomain, long generation, String id) {
+
+            this.tenantDomain = tenantDomain;
+            this.generation = generation;
+            this.id = id;
+        }
+
+        /**
+         * Check whether the tenant is not invalidated on any node since the load was scheduled.
+         *
+         * @return False once the tenant is invalidated, after which entries must not be added.
+         */
+        public boolean isCurrent() {
+
+            if (Thread.currentThread().isInterrupted() || getGeneration(tenantDomain) != generation) {
+                return false;
+            }
+            TenantCacheBulkLoadCache loadCache = TenantCacheBulkLoadCache.getInstance();
+            return !loadCache.isEnabled() || id.equals(loadCache.getValueFromCache(name, tenantDomain));
+        }
+
+        /**
+         * Add entries to the caches if the tenant is not invalidated. The entries are added under the lock under
+         * which the tenant is invalidated on this node. They are removed again if the tenant is invalidated by
+         * another node while they are added, since the entries removed by that node may have been removed before
+         * they were added.
+         *
+         * @param add    Adds the entries to the caches.
+         * @param remove Removes the same entries from the caches.
+         * @return True if the entries are added.
+         */
+        public boolean addIfCurrent(Runnable add, Runnable remove) {
+
+            synchronized (getLock(tenantDomain)) {
+                if (!isCurrent()) {
+                    return false;
+                }
+                add.run();
+            }
+            if (!isCurrent()) {
+                remove.run();
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Loads the entries of a tenant into caches.
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * Load the entries of the tenant of the current tenant flow into the caches. The entries must be read from
+         * the database without modifying it, and added through {@link Load#addIfCurrent}.
+         *
+         * @param load Load of the tenant.
+         */
+        void load(Load load);
+    }
+}
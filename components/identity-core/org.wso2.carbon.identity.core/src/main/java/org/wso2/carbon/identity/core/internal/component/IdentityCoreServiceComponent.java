@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2014-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -54,6 +54,7 @@ import org.wso2.carbon.identity.organization.management.service.OrganizationMana
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.registry.core.service.TenantRegistryLoader;
+import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.utils.ConfigurationContextService;
 
@@ -185,6 +186,10 @@ public class IdentityCoreServiceComponent {
             defaultKeystoreManagerServiceRef = ctxt.getBundleContext().registerService(KeyProviderService.class,
                     defaultKeyProviderService, null);
 
+            // Register the listener which keeps the tenant domain and tenant ID resolution cache current.
+            ctxt.getBundleContext().registerService(TenantMgtListener.class.getName(),
+                    new TenantResolutionCacheListener(), null);
+
             IdentityCoreServiceDataHolder.getInstance()
                     .setTenantQualifiedUrlsEnabled(Boolean.parseBoolean(IdentityUtil.getProperty(
                             IdentityCoreConstants.ENABLE_TENANT_QUALIFIED_URLS)));
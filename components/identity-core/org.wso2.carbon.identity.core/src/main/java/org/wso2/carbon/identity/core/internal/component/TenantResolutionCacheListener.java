@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.internal.component;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.AbstractIdentityTenantMgtListener;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.stratos.common.beans.TenantInfoBean;
+
+/**
+ * Tenant management listener which removes the cached tenant domain and tenant ID mappings of a tenant from
+ * {@link IdentityTenantUtil} when the tenant is created, activated, deactivated, renamed or deleted.
+ */
+public class TenantResolutionCacheListener extends AbstractIdentityTenantMgtListener {
+
+    private static final Log log = LogFactory.getLog(TenantResolutionCacheListener.class);
+
+    // Executed before the other listeners, so that they do not see a tenant domain cached as invalid.
+    private static final int EXEC_ORDER = 0;
+
+    @Override
+    public void onPreTenantCreate(TenantInfoBean tenantInfoBean) {
+
+        clearTenantDomain(tenantInfoBean);
+    }
+
+    @Override
+    public void onTenantCreate(TenantInfoBean tenantInfoBean) {
+
+        clearTenantDomain(tenantInfoBean);
+    }
+
+    @Override
+    public void onTenantUpdate(TenantInfoBean tenantInfoBean) {
+
+        if (tenantInfoBean != null) {
+            clearTenantDomain(tenantInfoBean);
+            clearTenant(tenantInfoBean.getTenantId());
+        }
+    }
+
+    @Override
+    public void onTenantRename(int tenantId, String oldDomainName, String newDomainName) {
+
+        IdentityTenantUtil.clearTenantResolutionCache(oldDomainName);
+        IdentityTenantUtil.clearTenantResolutionCache(newDomainName);
+        clearTenant(tenantId);
+    }
+
+    @Override
+    public void onTenantActivation(int tenantId) {
+
+        clearTenant(tenantId);
+    }
+
+    @Override
+    public void onTenantDeactivation(int tenantId) {
+
+        clearTenant(tenantId);
+    }
+
+    @Override
+    public void onTenantDelete(int tenantId) {
+
+        clearTenant(tenantId);
+    }
+
+    @Override
+    public void onPostDelete(int tenantId, String tenantUuid, String userUuid) {
+
+        clearTenant(tenantId);
+    }
+
+    @Override
+    public int getListenerOrder() {
+
+        return EXEC_ORDER;
+    }
+
+    private void clearTenantDomain(TenantInfoBean tenantInfoBean) {
+
+        if (tenantInfoBean != null) {
+            IdentityTenantUtil.clearTenantResolutionCache(tenantInfoBean.getTenantDomain());
+        }
+    }
+
+    private void clearTenant(int tenantId) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Clearing the cached tenant domain of the tenant: " + tenantId);
+        }
+        IdentityTenantUtil.clearTenantResolutionCache(tenantId);
+    }
+}
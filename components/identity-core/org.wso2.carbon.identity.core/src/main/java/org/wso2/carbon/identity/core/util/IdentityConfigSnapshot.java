@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolved view of a parsed identity.xml configuration.
+ * <p>
+ * Property values are resolved and parsed on the first read and memoized for the lifetime of the snapshot, so that
+ * repeated reads of static settings do not repeat the placeholder replacement and the parsing. Values which contain
+ * placeholders are resolved on every read, since the values of the placeholders, such as the transport ports, may
+ * only become available after the server has started. A snapshot is replaced as a whole when the configuration is
+ * reloaded.
+ */
+final class IdentityConfigSnapshot {
+
+    private static final Log log = LogFactory.getLog(IdentityConfigSnapshot.class);
+
+    // Marks properties which are not configured, or configured with a value which cannot be parsed.
+    private static final Object ABSENT = new Object();
+    private static final String PLACEHOLDER_PREFIX = "$";
+
+    private final Map<String, Object> configuration;
+    private final Map<String, Object> resolvedValues = new ConcurrentHashMap<>();
+    private final Map<String, Object> booleanValues = new ConcurrentHashMap<>();
+    private final Map<String, Object> longValues = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> listValues = new ConcurrentHashMap<>();
+
+    IdentityConfigSnapshot(Map<String, Object> configuration) {
+
+        this.configuration = configuration;
+    }
+
+    /**
+     * Check whether this snapshot is built from the given configuration.
+     *
+     * @param configuration Parsed configuration.
+     * @return True if the snapshot is built from the given configuration instance.
+     */
+    boolean isSnapshotOf(Map<String, Object> configuration) {
+
+        return this.configuration == configuration;
+    }
+
+    /**
+     * Get the configured value of the property, without resolving the placeholders.
+     *
+     * @param key Property name.
+     * @return First configured value of the property, or null if the property is not configured.
+     */
+    String getRawValue(String key) {
+
+        Object value = configuration.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof List) {
+            value = ((List) value).get(0);
+        }
+        if (value instanceof String) {
+            return (String) value;
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Get the value of the property with the placeholders replaced.
+     *
+     * @param key Property name.
+     * @return Resolved value of the property, or null if the property is not configured.
+     */
+    String getResolvedValue(String key) {
+
+        if (key == null) {
+            return IdentityUtil.fillURLPlaceholders(getRawValue(null));
+        }
+        Object resolvedValue = resolvedValues.get(key);
+        if (resolvedValue != null) {
+            return resolvedValue == ABSENT ? null : (String) resolvedValue;
+        }
+        String rawValue = getRawValue(key);
+        if (rawValue == null) {
+            resolvedValues.put(key, ABSENT);
+            return null;
+        }
+        if (rawValue.contains(PLACEHOLDER_PREFIX)) {
+            return IdentityUtil.fillURLPlaceholders(rawValue);
+        }
+        resolvedValues.put(key, rawValue);
+        return rawValue;
+    }
+
+    /**
+     * Get the value of the property as a boolean.
+     *
+     * @param key          Property name.
+     * @param defaultValue Value to return if the property is not configured.
+     * @return Boolean value of the property.
+     */
+    boolean getBoolean(String key, boolean defaultValue) {
+
+        String value = getResolvedValue(key);
+        if (key == null || (value != null && value.contains(PLACEHOLDER_PREFIX))) {
+            return StringUtils.isBlank(value) ? defaultValue : Boolean.parseBoolean(value.trim());
+        }
+        Object booleanValue = booleanValues.computeIfAbsent(key, k ->
+                StringUtils.isBlank(value) ? ABSENT : Boolean.parseBoolean(value.trim()));
+        return booleanValue == ABSENT ? defaultValue : (Boolean) booleanValue;
+    }
+
+    /**
+     * Get the value of the property as a long.
+     *
+     * @param key          Property name.
+     * @param defaultValue Value to return if the property is not configured or is not a valid number.
+     * @return Long value of the property.
+     */
+    long getLong(String key, long defaultValue) {
+
+        String value = getResolvedValue(key);
+        if (key == null || (value != null && value.contains(PLACEHOLDER_PREFIX))) {
+            Object longValue = parseLong(key, value);
+            return longValue == ABSENT ? defaultValue : (Long) longValue;
+        }
+        Object longValue = longValues.computeIfAbsent(key, k -> parseLong(k, value));
+        return longValue == ABSENT ? defaultValue : (Long) longValue;
+    }
+
+    /**
+     * Get all the configured values of the property.
+     *
+     * @param key Property name.
+     * @return Unmodifiable list of the values of the property.
+     */
+    List<String> getList(String key) {
+
+        if (key == null) {
+            return Collections.emptyList();
+        }
+        return listValues.computeIfAbsent(key, k -> {
+            Object value = configuration.get(k);
+            if (value == null) {
+                return Collections.emptyList();
+            }
+            List<String> values = new ArrayList<>();
+            if (value instanceof List) {
+                for (Object rawValue : (List) value) {
+                    values.add(rawValue instanceof String ? (String) rawValue : String.valueOf(rawValue));
+                }
+            } else {
+                values.add(value instanceof String ? (String) value : String.valueOf(value));
+            }
+            return Collections.unmodifiableList(values);
+        });
+    }
+
+    private static Object parseLong(String key, String value) {
+
+        if (StringUtils.isBlank(value)) {
+            return ABSENT;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " configured for: " + key + ". Using the default value.");
+            return ABSENT;
+        }
+    }
+}
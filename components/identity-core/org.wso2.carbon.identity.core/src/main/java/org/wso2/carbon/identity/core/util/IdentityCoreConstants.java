@@ -146,6 +146,16 @@ public class IdentityCoreConstants {
     public static final String WORKFLOW_ENGINE_MAX_APPROVER_NOTIFICATIONS = "WorkflowEngine.MaxApproverNotifications";
     public static final int DEFAULT_WORKFLOW_ENGINE_MAX_APPROVER_NOTIFICATIONS = 15;
 
+    // Tenant domain and tenant ID resolution cache constants.
+    public static final String TENANT_RESOLUTION_CACHE_ENABLE = "TenantResolutionCache.Enable";
+    public static final String TENANT_RESOLUTION_CACHE_MAX_ENTRIES = "TenantResolutionCache.MaxEntries";
+    public static final String TENANT_RESOLUTION_CACHE_EXPIRY_TIME = "TenantResolutionCache.ExpiryTimeInSeconds";
+    public static final String TENANT_RESOLUTION_CACHE_NEGATIVE_EXPIRY_TIME =
+            "TenantResolutionCache.InvalidDomainExpiryTimeInSeconds";
+    public static final int DEFAULT_TENANT_RESOLUTION_CACHE_MAX_ENTRIES = 10000;
+    public static final int DEFAULT_TENANT_RESOLUTION_CACHE_EXPIRY_TIME = 900;
+    public static final int DEFAULT_TENANT_RESOLUTION_CACHE_NEGATIVE_EXPIRY_TIME = 5;
+
     public static class Filter {
 
         public static final String AND = "and";
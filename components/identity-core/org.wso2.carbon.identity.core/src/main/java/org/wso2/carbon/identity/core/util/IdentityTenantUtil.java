@@ -58,6 +58,7 @@ public class IdentityTenantUtil {
     private static TenantRegistryLoader tenantRegistryLoader;
     private static BundleContext bundleContext;
     protected static ConcurrentHashMap<Integer,Boolean> tenantIdMap = new ConcurrentHashMap<Integer,Boolean>();
+    private static final TenantResolutionCache TENANT_RESOLUTION_CACHE = new TenantResolutionCache();
 
     public static TenantRegistryLoader getTenantRegistryLoader() {
         return tenantRegistryLoader;
@@ -201,6 +202,40 @@ public class IdentityTenantUtil {
     @Deprecated
     public static void setRealmService(RealmService realmService) {
         IdentityTenantUtil.realmService = realmService;
+        TENANT_RESOLUTION_CACHE.clear();
+    }
+
+    /**
+     * Remove the cached tenant domain and tenant ID mappings of the tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public static void clearTenantResolutionCache(int tenantId) {
+
+        TENANT_RESOLUTION_CACHE.remove(tenantId);
+    }
+
+    /**
+     * Remove the cached tenant domain and tenant ID mappings of the tenant domain, including the record of the
+     * tenant domain being invalid.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clearTenantResolutionCache(String tenantDomain) {
+
+        if (tenantDomain != null) {
+            TENANT_RESOLUTION_CACHE.remove(tenantDomain);
+        }
+    }
+
+    /**
+     * Get the usage statistics of the tenant domain and tenant ID resolution cache.
+     *
+     * @return Usage statistics of the cache.
+     */
+    public static TenantResolutionCacheStatistics getTenantResolutionCacheStatistics() {
+
+        return TENANT_RESOLUTION_CACHE.getStatistics();
     }
 
     /**
@@ -259,10 +294,27 @@ public class IdentityTenantUtil {
 
     public static int getTenantId(String tenantDomain) throws IdentityRuntimeException {
 
+        boolean cacheEnabled = tenantDomain != null && TENANT_RESOLUTION_CACHE.isEnabled();
+        if (cacheEnabled) {
+            Integer cachedTenantId = TENANT_RESOLUTION_CACHE.getTenantId(tenantDomain);
+            if (cachedTenantId != null) {
+                if (cachedTenantId == MultitenantConstants.INVALID_TENANT_ID) {
+                    throw IdentityRuntimeException.error("Invalid tenant domain " + tenantDomain);
+                }
+                return cachedTenantId;
+            }
+        }
         int tenantId = MultitenantConstants.INVALID_TENANT_ID;
         try {
             if (realmService != null) {
                 tenantId = realmService.getTenantManager().getTenantId(tenantDomain);
+                if (cacheEnabled) {
+                    if (tenantId == MultitenantConstants.INVALID_TENANT_ID) {
+                        TENANT_RESOLUTION_CACHE.putInvalidDomain(tenantDomain);
+                    } else {
+                        TENANT_RESOLUTION_CACHE.put(tenantDomain, tenantId);
+                    }
+                }
             }
         } catch (UserStoreException e) {
             // Ideally user.core should be throwing an unchecked exception, in which case no need to wrap at this
@@ -282,9 +334,19 @@ public class IdentityTenantUtil {
 
     public static String getTenantDomain(int tenantId) throws IdentityRuntimeException {
 
+        boolean cacheEnabled = TENANT_RESOLUTION_CACHE.isEnabled();
+        if (cacheEnabled) {
+            String cachedTenantDomain = TENANT_RESOLUTION_CACHE.getTenantDomain(tenantId);
+            if (cachedTenantDomain != null) {
+                return cachedTenantDomain;
+            }
+        }
         String tenantDomain = null;
         try {
             tenantDomain = realmService.getTenantManager().getDomain(tenantId);
+            if (cacheEnabled && tenantDomain != null) {
+                TENANT_RESOLUTION_CACHE.put(tenantDomain, tenantId);
+            }
         } catch (UserStoreException e) {
             // Ideally user.core should be throwing an unchecked exception, in which case no need to wrap at this
             // level once more without adding any valuable contextual information. Because we don't have exception
@@ -98,6 +98,7 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.text.ParseException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
@@ -109,6 +110,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -162,6 +164,7 @@ public class IdentityUtil {
     private static final String DISABLE_EMAIL_USERNAME_VALIDATION = "DisableEmailUserNameValidation";
     private static Log log = LogFactory.getLog(IdentityUtil.class);
     private static Map<String, Object> configuration = new HashMap<>();
+    private static volatile IdentityConfigSnapshot configSnapshot = new IdentityConfigSnapshot(configuration);
     private static Map<IdentityEventListenerConfigKey, IdentityEventListenerConfig> eventListenerConfiguration = new
             HashMap<>();
     private static Map<IdentityCacheConfigKey, IdentityCacheConfig> identityCacheConfigurationHolder = new HashMap<>();
@@ -222,9 +225,82 @@ public class IdentityUtil {
      */
     public static String getProperty(String key) {
 
-        String strValue = getPropertyValue(key);
-        strValue = fillURLPlaceholders(strValue);
-        return strValue;
+        return getConfigSnapshot().getResolvedValue(key);
+    }
+
+    /**
+     * Read a boolean configuration element from the identity.xml. The parsed value is memoized until the
+     * configuration is reloaded.
+     *
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value to return if the element is not configured.
+     * @return Boolean value of the element.
+     */
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+
+        return getConfigSnapshot().getBoolean(key, defaultValue);
+    }
+
+    /**
+     * Read an integer configuration element from the identity.xml. The parsed value is memoized until the
+     * configuration is reloaded.
+     *
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value to return if the element is not configured or is not a valid integer.
+     * @return Integer value of the element.
+     */
+    public static int getIntProperty(String key, int defaultValue) {
+
+        long value = getConfigSnapshot().getLong(key, defaultValue);
+        if (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE) {
+            log.warn("Value: " + value + " configured for: " + key + " is out of the integer range. Using the " +
+                    "default value: " + defaultValue);
+            return defaultValue;
+        }
+        return (int) value;
+    }
+
+    /**
+     * Read a long configuration element from the identity.xml. The parsed value is memoized until the
+     * configuration is reloaded.
+     *
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value to return if the element is not configured or is not a valid number.
+     * @return Long value of the element.
+     */
+    public static long getLongProperty(String key, long defaultValue) {
+
+        return getConfigSnapshot().getLong(key, defaultValue);
+    }
+
+    /**
+     * Read a duration configuration element from the identity.xml, which is configured as a number of the given
+     * time unit. The parsed value is memoized until the configuration is reloaded.
+     *
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param unit         Time unit of the configured value.
+     * @param defaultValue Value to return if the element is not configured or is not a valid number.
+     * @return Duration configured by the element.
+     */
+    public static Duration getDurationProperty(String key, TimeUnit unit, Duration defaultValue) {
+
+        long value = getConfigSnapshot().getLong(key, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE) {
+            return defaultValue;
+        }
+        return Duration.ofMillis(unit.toMillis(value));
+    }
+
+    private static IdentityConfigSnapshot getConfigSnapshot() {
+
+        IdentityConfigSnapshot snapshot = configSnapshot;
+        Map<String, Object> currentConfiguration = configuration;
+        if (!snapshot.isSnapshotOf(currentConfiguration)) {
+            // The configuration has been replaced without repopulating the properties.
+            snapshot = new IdentityConfigSnapshot(currentConfiguration);
+            configSnapshot = snapshot;
+        }
+        return snapshot;
     }
 
     /**
@@ -255,21 +331,7 @@ public class IdentityUtil {
      */
     private static String getPropertyValue(String key) {
 
-        Object value = configuration.get(key);
-        String strValue;
-
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof List) {
-            value = ((List) value).get(0);
-        }
-        if (value instanceof String) {
-            strValue = (String) value;
-        } else {
-            strValue = String.valueOf(value);
-        }
-        return strValue;
+        return getConfigSnapshot().getRawValue(key);
     }
 
     public static IdentityEventListenerConfig readEventListenerProperty(String type, String name) {
@@ -382,6 +444,8 @@ public class IdentityUtil {
 
     public static void populateProperties() {
         configuration = IdentityConfigParser.getInstance().getConfiguration();
+        // Swap the snapshot so that the values of the loaded configuration are resolved afresh.
+        configSnapshot = new IdentityConfigSnapshot(configuration);
         eventListenerConfiguration = IdentityConfigParser.getInstance().getEventListenerConfiguration();
         identityCacheConfigurationHolder = IdentityConfigParser.getInstance().getIdentityCacheConfigurationHolder();
         identityCookiesConfigurationHolder = IdentityConfigParser.getIdentityCookieConfigurationHolder();
@@ -400,7 +464,7 @@ public class IdentityUtil {
         byte[] rawPpid = Base64.getDecoder().decode(value);
 
         String algorithm;
-        if (Boolean.parseBoolean(IdentityUtil.getProperty(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256))) {
+        if (getBooleanProperty(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256, false)) {
             algorithm = SHA256_ALGORITHM;
         } else {
             algorithm = SHA1_ALGORITHM;
@@ -436,7 +500,7 @@ public class IdentityUtil {
     public static String getHMAC(String secretKey, String baseString) throws SignatureException {
         try {
             String algorithm;
-            if (Boolean.parseBoolean(IdentityUtil.getProperty(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256))) {
+            if (getBooleanProperty(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256, false)) {
                 algorithm = HMAC_SHA256_ALGORITHM;
             } else {
                 algorithm = HMAC_SHA1_ALGORITHM;
@@ -488,7 +552,7 @@ public class IdentityUtil {
             String baseString = UUIDGenerator.generateUUID();
 
             String algorithm;
-            if (Boolean.parseBoolean(IdentityUtil.getProperty(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256))) {
+            if (getBooleanProperty(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256, false)) {
                 algorithm = HMAC_SHA256_ALGORITHM;
             } else {
                 algorithm = HMAC_SHA1_ALGORITHM;
@@ -1928,7 +1992,7 @@ public class IdentityUtil {
      */
     public static String getClaimUriLocale() {
 
-        if (Boolean.parseBoolean(IdentityUtil.getProperty("UseLegacyLocalizationClaim"))) {
+        if (getBooleanProperty("UseLegacyLocalizationClaim", false)) {
             return "http://wso2.org/claims/locality";
         } else {
             return "http://wso2.org/claims/local";
@@ -2038,27 +2102,7 @@ public class IdentityUtil {
      */
     public static List<String> getPropertyAsList(String key) {
 
-        List<String> propertyList = new ArrayList<>();
-        Object value = configuration.get(key);
-
-        if (value == null) {
-            return propertyList;
-        }
-        if (value instanceof List) {
-            List rawProps = (List) value;
-            for (Object rawProp: rawProps ) {
-                if (rawProp instanceof String) {
-                    propertyList.add((String) rawProp);
-                } else {
-                    propertyList.add(String.valueOf(rawProp));
-                }
-            }
-        } else if (value instanceof String) {
-            propertyList.add((String) value);
-        } else {
-            propertyList.add(String.valueOf(value));
-        }
-        return propertyList;
+        return new ArrayList<>(getConfigSnapshot().getList(key));
     }
 
     /**
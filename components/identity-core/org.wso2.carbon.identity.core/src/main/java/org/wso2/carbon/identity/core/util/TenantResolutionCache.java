@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Node local cache of the tenant domain to tenant ID mappings, maintained in both directions.
+ * <p>
+ * Tenant domains which the tenant manager reports as invalid are remembered for a few seconds, so that bursts of
+ * requests carrying unknown tenant domains do not reach the tenant manager on every call. The number of entries of
+ * each map is bounded, and once a map is full new mappings are not cached until the expired entries are purged.
+ * Entries of a tenant are removed when the tenant is created, activated, deactivated, renamed or deleted through this
+ * node, while changes made through the other nodes of a cluster are only picked up once the entries expire. Hence the
+ * cache is disabled by default, and is meant to be enabled with an expiry time which the deployment can tolerate
+ * for tenant changes to be seen across the cluster.
+ * <p>
+ * A cluster invalidated cache is not used here, since such caches resolve the tenant of the current thread, which
+ * would make tenant resolution depend on itself.
+ */
+final class TenantResolutionCache {
+
+    private final Map<String, Entry<Integer>> tenantIdByDomain = new ConcurrentHashMap<>();
+    private final Map<Integer, Entry<String>> tenantDomainById = new ConcurrentHashMap<>();
+    private final Map<String, Long> invalidDomains = new ConcurrentHashMap<>();
+
+    private final LongAdder tenantIdHits = new LongAdder();
+    private final LongAdder tenantIdMisses = new LongAdder();
+    private final LongAdder tenantDomainHits = new LongAdder();
+    private final LongAdder tenantDomainMisses = new LongAdder();
+    private final LongAdder invalidDomainHits = new LongAdder();
+
+    /**
+     * Check whether the cache is enabled.
+     *
+     * @return True if the cache is enabled.
+     */
+    boolean isEnabled() {
+
+        return IdentityUtil.getBooleanProperty(IdentityCoreConstants.TENANT_RESOLUTION_CACHE_ENABLE, false);
+    }
+
+    /**
+     * Get the cached tenant ID of the tenant domain.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Tenant ID, {@link MultitenantConstants#INVALID_TENANT_ID} if the tenant domain is known to be invalid,
+     * or null if the tenant domain is not cached.
+     */
+    Integer getTenantId(String tenantDomain) {
+
+        long now = System.currentTimeMillis();
+        Entry<Integer> entry = tenantIdByDomain.get(tenantDomain);
+        if (entry != null) {
+            if (entry.expiryTime > now) {
+                tenantIdHits.increment();
+                return entry.value;
+            }
+            tenantIdByDomain.remove(tenantDomain, entry);
+        }
+        Long invalidExpiryTime = invalidDomains.get(tenantDomain);
+        if (invalidExpiryTime != null) {
+            if (invalidExpiryTime > now) {
+                invalidDomainHits.increment();
+                return MultitenantConstants.INVALID_TENANT_ID;
+            }
+            invalidDomains.remove(tenantDomain, invalidExpiryTime);
+        }
+        tenantIdMisses.increment();
+        return null;
+    }
+
+    /**
+     * Get the cached tenant domain of the tenant ID.
+     *
+     * @param tenantId Tenant ID.
+     * @return Tenant domain, or null if the tenant ID is not cached.
+     */
+    String getTenantDomain(int tenantId) {
+
+        Entry<String> entry = tenantDomainById.get(tenantId);
+        if (entry != null) {
+            if (entry.expiryTime > System.currentTimeMillis()) {
+                tenantDomainHits.increment();
+                return entry.value;
+            }
+            tenantDomainById.remove(tenantId, entry);
+        }
+        tenantDomainMisses.increment();
+        return null;
+    }
+
+    /**
+     * Cache the mapping between the tenant domain and the tenant ID.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param tenantId     Tenant ID.
+     */
+    void put(String tenantDomain, int tenantId) {
+
+        int maxEntries = getMaxEntries();
+        long expiryTime = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(IdentityUtil.getIntProperty(
+                IdentityCoreConstants.TENANT_RESOLUTION_CACHE_EXPIRY_TIME,
+                IdentityCoreConstants.DEFAULT_TENANT_RESOLUTION_CACHE_EXPIRY_TIME));
+        invalidDomains.remove(tenantDomain);
+        if (hasCapacity(tenantIdByDomain, maxEntries)) {
+            tenantIdByDomain.put(tenantDomain, new Entry<>(tenantId, expiryTime));
+        }
+        if (hasCapacity(tenantDomainById, maxEntries)) {
+            tenantDomainById.put(tenantId, new Entry<>(tenantDomain, expiryTime));
+        }
+    }
+
+    /**
+     * Remember that the tenant domain is invalid.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    void putInvalidDomain(String tenantDomain) {
+
+        if (!hasCapacity(invalidDomains, getMaxEntries())) {
+            return;
+        }
+        invalidDomains.put(tenantDomain, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(
+                IdentityUtil.getIntProperty(IdentityCoreConstants.TENANT_RESOLUTION_CACHE_NEGATIVE_EXPIRY_TIME,
+                        IdentityCoreConstants.DEFAULT_TENANT_RESOLUTION_CACHE_NEGATIVE_EXPIRY_TIME)));
+    }
+
+    /**
+     * Remove the cached mappings of the tenant ID.
+     *
+     * @param tenantId Tenant ID.
+     */
+    void remove(int tenantId) {
+
+        Entry<String> entry = tenantDomainById.remove(tenantId);
+        if (entry != null) {
+            tenantIdByDomain.remove(entry.value);
+        }
+        tenantIdByDomain.values().removeIf(idEntry -> idEntry.value == tenantId);
+    }
+
+    /**
+     * Remove the cached mappings of the tenant domain, including the record of the tenant domain being invalid.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    void remove(String tenantDomain) {
+
+        invalidDomains.remove(tenantDomain);
+        Entry<Integer> entry = tenantIdByDomain.remove(tenantDomain);
+        if (entry != null) {
+            tenantDomainById.remove(entry.value);
+        }
+    }
+
+    /**
+     * Remove all the cached mappings.
+     */
+    void clear() {
+
+        tenantIdByDomain.clear();
+        tenantDomainById.clear();
+        invalidDomains.clear();
+    }
+
+    /**
+     * Get the usage statistics of the cache.
+     *
+     * @return Usage statistics.
+     */
+    TenantResolutionCacheStatistics getStatistics() {
+
+        return new TenantResolutionCacheStatistics(tenantIdHits.sum(), tenantIdMisses.sum(), tenantDomainHits.sum(),
+                tenantDomainMisses.sum(), invalidDomainHits.sum(), tenantIdByDomain.size(), invalidDomains.size());
+    }
+
+    private static int getMaxEntries() {
+
+        return IdentityUtil.getIntProperty(IdentityCoreConstants.TENANT_RESOLUTION_CACHE_MAX_ENTRIES,
+                IdentityCoreConstants.DEFAULT_TENANT_RESOLUTION_CACHE_MAX_ENTRIES);
+    }
+
+    private static boolean hasCapacity(Map<?, ?> map, int maxEntries) {
+
+        if (map.size() < maxEntries) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        map.values().removeIf(value -> (value instanceof Entry ? ((Entry<?>) value).expiryTime : (Long) value) <= now);
+        return map.size() < maxEntries;
+    }
+
+    /**
+     * Cached value along with its expiry time.
+     *
+     * @param <T> Type of the cached value.
+     */
+    private static final class Entry<T> {
+
+        private final T value;
+        private final long expiryTime;
+
+        private Entry(T value, long expiryTime) {
+
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+/**
+ * Usage statistics of the tenant domain and tenant ID resolution cache of {@link IdentityTenantUtil}.
+ */
+public final class TenantResolutionCacheStatistics {
+
+    private final long tenantIdHits;
+    private final long tenantIdMisses;
+    private final long tenantDomainHits;
+    private final long tenantDomainMisses;
+    private final long invalidDomainHits;
+    private final int tenantCount;
+    private final int invalidDomainCount;
+
+    TenantResolutionCacheStatistics(long tenantIdHits, long tenantIdMisses, long tenantDomainHits,
+                                    long tenantDomainMisses, long invalidDomainHits, int tenantCount,
+                                    int invalidDomainCount) {
+
+        this.tenantIdHits = tenantIdHits;
+        this.tenantIdMisses = tenantIdMisses;
+        this.tenantDomainHits = tenantDomainHits;
+        this.tenantDomainMisses = tenantDomainMisses;
+        this.invalidDomainHits = invalidDomainHits;
+        this.tenantCount = tenantCount;
+        this.invalidDomainCount = invalidDomainCount;
+    }
+
+    /**
+     * Get the number of tenant ID lookups served from the cache, excluding the lookups of invalid tenant domains.
+     *
+     * @return Number of tenant ID lookups served from the cache.
+     */
+    public long getTenantIdHits() {
+
+        return tenantIdHits;
+    }
+
+    /**
+     * Get the number of tenant ID lookups which were resolved through the tenant manager.
+     *
+     * @return Number of tenant ID lookups missed in the cache.
+     */
+    public long getTenantIdMisses() {
+
+        return tenantIdMisses;
+    }
+
+    /**
+     * Get the number of tenant domain lookups served from the cache.
+     *
+     * @return Number of tenant domain lookups served from the cache.
+     */
+    public long getTenantDomainHits() {
+
+        return tenantDomainHits;
+    }
+
+    /**
+     * Get the number of tenant domain lookups which were resolved through the tenant manager.
+     *
+     * @return Number of tenant domain lookups missed in the cache.
+     */
+    public long getTenantDomainMisses() {
+
+        return tenantDomainMisses;
+    }
+
+    /**
+     * Get the number of tenant ID lookups rejected from the cache since the tenant domain is known to be invalid.
+     *
+     * @return Number of invalid tenant domain lookups served from the cache.
+     */
+    public long getInvalidDomainHits() {
+
+        return invalidDomainHits;
+    }
+
+    /**
+     * Get the number of tenant domains cached.
+     *
+     * @return Number of tenant domains cached.
+     */
+    public int getTenantCount() {
+
+        return tenantCount;
+    }
+
+    /**
+     * Get the number of invalid tenant domains cached.
+     *
+     * @return Number of invalid tenant domains cached.
+     */
+    public int getInvalidDomainCount() {
+
+        return invalidDomainCount;
+    }
+
+    /**
+     * Get the ratio of the lookups, in both directions, which were served from the cache.
+     *
+     * @return Hit ratio between 0 and 1, or 0 if there are no lookups yet.
+     */
+    public double getHitRatio() {
+
+        long hits = tenantIdHits + tenantDomainHits + invalidDomainHits;
+        long lookups = hits + tenantIdMisses + tenantDomainMisses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+
+        return "TenantResolutionCacheStatistics{tenantIdHits=" + tenantIdHits + ", tenantIdMisses=" + tenantIdMisses +
+                ", tenantDomainHits=" + tenantDomainHits + ", tenantDomainMisses=" + tenantDomainMisses +
+                ", invalidDomainHits=" + invalidDomainHits + ", tenantCount=" + tenantCount +
+                ", invalidDomainCount=" + invalidDomainCount + "}";
+    }
+}
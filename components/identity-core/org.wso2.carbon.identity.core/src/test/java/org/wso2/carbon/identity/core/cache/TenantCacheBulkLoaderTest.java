@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+
+import java.io.File;
+import java.net.URL;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests of {@link TenantCacheBulkLoader}.
+ */
+public class TenantCacheBulkLoaderTest {
+
+    private static final String TENANT_DOMAIN = "foo.com";
+    private static final long TIMEOUT_IN_SECONDS = 10;
+
+    private TenantCacheBulkLoader bulkLoader;
+
+    @BeforeMethod
+    public void setUp() {
+
+        URL root = this.getClass().getClassLoader().getResource(".");
+        System.setProperty("carbon.home", new File(root.getPath()).getAbsolutePath());
+        bulkLoader = new TenantCacheBulkLoader("Test");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        bulkLoader.shutdown();
+    }
+
+    @Test
+    public void testLoadRunsOnceWithinInterval() throws Exception {
+
+        AtomicInteger loadCount = new AtomicInteger();
+        AtomicReference<String> loadedTenantDomain = new AtomicReference<>();
+        CountDownLatch loaded = new CountDownLatch(1);
+
+        assertTrue(bulkLoader.load(TENANT_DOMAIN, TimeUnit.MINUTES.toMillis(5), load -> {
+            loadedTenantDomain.set(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+            loadCount.incrementAndGet();
+            loaded.countDown();
+        }));
+        assertFalse(bulkLoader.load(TENANT_DOMAIN, TimeUnit.MINUTES.toMillis(5),
+                load -> loadCount.incrementAndGet()));
+
+        assertTrue(loaded.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        assertEquals(loadedTenantDomain.get(), TENANT_DOMAIN);
+        assertEquals(loadCount.get(), 1);
+    }
+
+    @Test
+    public void testInvalidateStopsLoadInProgressAndAllowsReload() throws Exception {
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean currentAfterInvalidation = new AtomicBoolean(true);
+
+        assertTrue(bulkLoader.load(TENANT_DOMAIN, TimeUnit.MINUTES.toMillis(5), load -> {
+            started.countDown();
+            try {
+                invalidated.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            currentAfterInvalidation.set(load.isCurrent());
+            finished.countDown();
+        }));
+        assertTrue(started.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        bulkLoader.invalidate(TENANT_DOMAIN);
+        invalidated.countDown();
+
+        assertTrue(finished.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        assertFalse(currentAfterInvalidation.get());
+        assertTrue(bulkLoader.load(TENANT_DOMAIN, TimeUnit.MINUTES.toMillis(5), load -> { }));
+    }
+
+    @Test
+    public void testAddIfCurrentSkipsEntriesAfterInvalidation() throws Exception {
+
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+        AtomicBoolean addedBeforeInvalidation = new AtomicBoolean();
+        AtomicBoolean addedAfterInvalidation = new AtomicBoolean(true);
+        CountDownLatch finished = new CountDownLatch(1);
+
+        assertTrue(bulkLoader.load(TENANT_DOMAIN, TimeUnit.MINUTES.toMillis(5), load -> {
+            addedBeforeInvalidation.set(load.addIfCurrent(added::incrementAndGet, removed::incrementAndGet));
+            bulkLoader.invalidate(TENANT_DOMAIN);
+            addedAfterInvalidation.set(load.addIfCurrent(added::incrementAndGet, removed::incrementAndGet));
+            finished.countDown();
+        }));
+
+        assertTrue(finished.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        assertTrue(addedBeforeInvalidation.get());
+        assertFalse(addedAfterInvalidation.get());
+        assertEquals(added.get(), 1);
+        assertEquals(removed.get(), 0);
+    }
+
+    @Test
+    public void testRemovingLoadMarkStopsLoadAndRemovesAddedEntries() throws Exception {
+
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+        AtomicBoolean addedWhileMarkRemoved = new AtomicBoolean(true);
+        CountDownLatch finished = new CountDownLatch(1);
+
+        // Removing the mark of the load is what an invalidation of the tenant on another node does on this node.
+        assertTrue(bulkLoader.load(TENANT_DOMAIN, TimeUnit.MINUTES.toMillis(5), load -> {
+            addedWhileMarkRemoved.set(load.addIfCurrent(() -> {
+                added.incrementAndGet();
+                TenantCacheBulkLoadCache.getInstance().clearCacheEntry("Test", TENANT_DOMAIN);
+            }, removed::incrementAndGet));
+            finished.countDown();
+        }));
+
+        assertTrue(finished.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        assertFalse(addedWhileMarkRemoved.get());
+        assertEquals(added.get(), 1);
+        assertEquals(removed.get(), 1);
+    }
+}
@@ -23,11 +23,25 @@ import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
 
 import static org.testng.Assert.assertEquals;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 public class IdentityTenantUtilTest {
 
@@ -96,4 +110,76 @@ public class IdentityTenantUtilTest {
 
         assertEquals(IdentityTenantUtil.isSystemApplication(tenantDomain, clientID), expectedResult);
     }
+
+    @Test
+    public void testTenantResolutionIsCached() throws Exception {
+
+        RealmService realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getTenantId("abc.com")).thenReturn(1);
+        when(tenantManager.getTenantId("invalid.com")).thenReturn(-1);
+        when(tenantManager.getDomain(1)).thenReturn("abc.com");
+
+        identityTenantUtil.when(() -> IdentityTenantUtil.setRealmService(realmService)).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.setRealmService(null)).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(anyInt())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.clearTenantResolutionCache(anyInt())).thenCallRealMethod();
+        identityTenantUtil.when(IdentityTenantUtil::getTenantResolutionCacheStatistics).thenCallRealMethod();
+        IdentityTenantUtil.setRealmService(realmService);
+        TenantResolutionCacheStatistics initialStatistics = IdentityTenantUtil.getTenantResolutionCacheStatistics();
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class, CALLS_REAL_METHODS)) {
+            identityUtil.when(() -> IdentityUtil.getBooleanProperty(
+                    eq(IdentityCoreConstants.TENANT_RESOLUTION_CACHE_ENABLE), eq(false))).thenReturn(true);
+            assertEquals(IdentityTenantUtil.getTenantId("abc.com"), 1);
+            assertEquals(IdentityTenantUtil.getTenantId("abc.com"), 1);
+            assertEquals(IdentityTenantUtil.getTenantDomain(1), "abc.com");
+            verify(tenantManager, times(1)).getTenantId("abc.com");
+            verify(tenantManager, never()).getDomain(1);
+
+            for (int i = 0; i < 2; i++) {
+                try {
+                    IdentityTenantUtil.getTenantId("invalid.com");
+                    fail("Expected the tenant domain to be rejected.");
+                } catch (IdentityRuntimeException e) {
+                    // Expected.
+                }
+            }
+            verify(tenantManager, times(1)).getTenantId("invalid.com");
+
+            IdentityTenantUtil.clearTenantResolutionCache(1);
+            assertEquals(IdentityTenantUtil.getTenantDomain(1), "abc.com");
+            verify(tenantManager, times(1)).getDomain(1);
+
+            TenantResolutionCacheStatistics statistics = IdentityTenantUtil.getTenantResolutionCacheStatistics();
+            assertEquals(statistics.getTenantIdHits() - initialStatistics.getTenantIdHits(), 1);
+            assertEquals(statistics.getInvalidDomainHits() - initialStatistics.getInvalidDomainHits(), 1);
+            assertEquals(statistics.getTenantDomainHits() - initialStatistics.getTenantDomainHits(), 1);
+            assertTrue(statistics.getHitRatio() > 0);
+        } finally {
+            IdentityTenantUtil.setRealmService(null);
+        }
+    }
+
+    @Test
+    public void testTenantResolutionIsNotCachedByDefault() throws Exception {
+
+        RealmService realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getTenantId("xyz.com")).thenReturn(2);
+
+        identityTenantUtil.when(() -> IdentityTenantUtil.setRealmService(realmService)).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.setRealmService(null)).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenCallRealMethod();
+        IdentityTenantUtil.setRealmService(realmService);
+        try {
+            assertEquals(IdentityTenantUtil.getTenantId("xyz.com"), 2);
+            assertEquals(IdentityTenantUtil.getTenantId("xyz.com"), 2);
+            verify(tenantManager, times(2)).getTenantId("xyz.com");
+        } finally {
+            IdentityTenantUtil.setRealmService(null);
+        }
+    }
 }
@@ -78,6 +78,7 @@ import java.security.PublicKey;
 import java.security.SignatureException;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -88,6 +89,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.xml.namespace.QName;
@@ -287,6 +289,39 @@ public class IdentityUtilTest {
                 "= %s, value = %s", key, String.valueOf(value)));
     }
 
+    @Test
+    public void testGetTypedProperties() throws Exception {
+
+        Map<String, Object> mockConfig = new HashMap<>();
+        mockConfig.put("boolean", " true ");
+        mockConfig.put("int", "42");
+        mockConfig.put("invalidInt", "forty two");
+        mockConfig.put("outOfRangeInt", "4294967296");
+        mockConfig.put("duration", "15");
+        mockConfig.put("list", Arrays.asList("one", "two"));
+        setPrivateStaticField(IdentityUtil.class, "configuration", mockConfig);
+
+        assertTrue(IdentityUtil.getBooleanProperty("boolean", false));
+        assertTrue(IdentityUtil.getBooleanProperty("missing", true));
+        assertEquals(IdentityUtil.getIntProperty("int", 1), 42);
+        assertEquals(IdentityUtil.getIntProperty("invalidInt", 1), 1);
+        assertEquals(IdentityUtil.getIntProperty("outOfRangeInt", 1), 1);
+        assertEquals(IdentityUtil.getLongProperty("outOfRangeInt", 1L), 4294967296L);
+        assertEquals(IdentityUtil.getDurationProperty("duration", TimeUnit.MINUTES, Duration.ZERO),
+                Duration.ofMinutes(15));
+        assertEquals(IdentityUtil.getDurationProperty("missing", TimeUnit.MINUTES, Duration.ofSeconds(5)),
+                Duration.ofSeconds(5));
+        assertEquals(IdentityUtil.getPropertyAsList("list"), Arrays.asList("one", "two"));
+
+        // Memoized values are discarded when the configuration is replaced.
+        Map<String, Object> reloadedConfig = new HashMap<>();
+        reloadedConfig.put("int", "7");
+        setPrivateStaticField(IdentityUtil.class, "configuration", reloadedConfig);
+        assertEquals(IdentityUtil.getIntProperty("int", 1), 7);
+        assertFalse(IdentityUtil.getBooleanProperty("boolean", false));
+        assertTrue(IdentityUtil.getPropertyAsList("list").isEmpty());
+    }
+
 
     @Test
     public void testReadEventListenerProperty() throws Exception {
@@ -28,8 +28,10 @@ import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
+import org.wso2.carbon.identity.core.cache.TenantCacheBulkLoader;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementClientException;
@@ -64,11 +66,14 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class CacheBackedIdPMgtDAO {
 
     private static final Log log = LogFactory.getLog(CacheBackedIdPMgtDAO.class);
     private static final ExecutorService CACHE_CLEARING_EXECUTOR = Executors.newFixedThreadPool(3);
+    private static final TenantCacheBulkLoader IDP_BULK_LOADER =
+            new TenantCacheBulkLoader("IdentityProviderCache");
 
     private IdPManagementFacade idPManagementFacade = null;
 
@@ -243,6 +248,10 @@ public class CacheBackedIdPMgtDAO {
                     + ". Fetching entry from DB");
         }
 
+        if (!IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME.equals(idPName)) {
+            scheduleIdPsLoad(tenantId, tenantDomain);
+        }
+
         IdentityProvider identityProvider = idPManagementFacade.getIdPByName(dbConnection, idPName,
                                                                    tenantId, tenantDomain);
 
@@ -334,6 +343,7 @@ public class CacheBackedIdPMgtDAO {
                 log.debug("Cache entry not found for Identity Provider with resource ID: " + resourceId
                         + ". Fetching entry from DB");
             }
+            scheduleIdPsLoad(tenantId, tenantDomain);
             identityProvider = idPManagementFacade.getIDPbyResourceId(null, resourceId,
                     tenantId, tenantDomain);
 
@@ -612,7 +622,9 @@ public class CacheBackedIdPMgtDAO {
 
         userDefinedFederatedAuthenticatorsCache.clearCacheEntry(
                 new UserDefinedFederatedAuthenticatorsCacheKey(tenantId), tenantId);
-        return idPManagementFacade.addIdPWithResourceId(identityProvider, tenantId);
+        String resourceId = idPManagementFacade.addIdPWithResourceId(identityProvider, tenantId);
+        IDP_BULK_LOADER.invalidate(tenantDomain);
+        return resourceId;
     }
 
     /**
@@ -634,6 +646,9 @@ public class CacheBackedIdPMgtDAO {
                 tenantId, tenantDomain);
         idPManagementFacade.updateIdPWithResourceId(currentIdentityProvider.getResourceId(),
                 newIdentityProvider, currentIdentityProvider, tenantId);
+        // A load which started after the cache was cleared may have cached the identity provider before the update.
+        clearIdpCache(currentIdentityProvider.getIdentityProviderName(), currentIdentityProvider.getResourceId(),
+                tenantId, tenantDomain);
     }
 
     /**
@@ -652,10 +667,14 @@ public class CacheBackedIdPMgtDAO {
                     "Following properties will be deleted: " + propertyNames.toString());
         }
 
-        clearIdpCache(identityProvider.getIdentityProviderName(), identityProvider.getResourceId(),
-                IdentityTenantUtil.getTenantId(tenantDomain), tenantDomain);
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        clearIdpCache(identityProvider.getIdentityProviderName(), identityProvider.getResourceId(), tenantId,
+                tenantDomain);
         idPManagementFacade.deleteIdpProperties(Integer.parseInt(identityProvider.getId()),
                 propertyNames, tenantDomain);
+        // A load which started after the cache was cleared may have cached the identity provider before the update.
+        clearIdpCache(identityProvider.getIdentityProviderName(), identityProvider.getResourceId(), tenantId,
+                tenantDomain);
     }
 
     /**
@@ -693,6 +712,7 @@ public class CacheBackedIdPMgtDAO {
     public void deleteIdPs(int tenantId) throws IdentityProviderManagementException {
 
         idPManagementFacade.deleteIdPs(tenantId);
+        IDP_BULK_LOADER.invalidate(IdentityTenantUtil.getTenantDomain(tenantId));
         if (log.isDebugEnabled()) {
             log.debug(String.format("All Identity Providers of tenant:%d are deleted", tenantId));
         }
@@ -804,6 +824,70 @@ public class CacheBackedIdPMgtDAO {
         }
     }
 
+    /**
+     * Schedule a background load of the identity providers of the tenant into the caches with a bulk query, if bulk
+     * loading is enabled and the identity providers of the tenant were not loaded within the configured interval.
+     * This avoids loading the identity providers one by one when the caches of a tenant are cold. The lookup which
+     * triggers the load does not wait for it.
+     *
+     * @param tenantId     Tenant ID.
+     * @param tenantDomain Tenant domain.
+     */
+    private void scheduleIdPsLoad(int tenantId, String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain) ||
+                !Boolean.parseBoolean(IdentityUtil.getProperty(IdPManagementConstants.IDP_BULK_LOAD_ENABLED))) {
+            return;
+        }
+        IDP_BULK_LOADER.load(tenantDomain, TimeUnit.SECONDS.toMillis(getIntProperty(
+                IdPManagementConstants.IDP_BULK_LOAD_INTERVAL, IdPManagementConstants.DEFAULT_IDP_BULK_LOAD_INTERVAL)),
+                load -> loadIdPsToCache(tenantId, tenantDomain, load));
+    }
+
+    private void loadIdPsToCache(int tenantId, String tenantDomain, TenantCacheBulkLoader.Load load) {
+
+        try {
+            List<IdentityProvider> identityProviders = idPManagementFacade.getIdPsWithDetails(null, tenantId,
+                    tenantDomain, getIntProperty(IdPManagementConstants.IDP_BULK_LOAD_MAX_IDP_COUNT,
+                            IdPManagementConstants.DEFAULT_IDP_BULK_LOAD_MAX_IDP_COUNT));
+            if (identityProviders == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Identity Providers of tenant: " + tenantDomain + " are not loaded to the cache " +
+                            "since the count exceeds the bulk load limit.");
+                }
+                return;
+            }
+            for (IdentityProvider identityProvider : identityProviders) {
+                // Entries read before an identity provider of the tenant was modified may be stale.
+                if (!load.addIfCurrent(() -> addIdPCache(identityProvider, tenantDomain),
+                        () -> clearIdPCacheEntries(identityProvider, identityProvider.getIdentityProviderName(),
+                                identityProvider.getResourceId(), tenantDomain, tenantId))) {
+                    return;
+                }
+            }
+            if (log.isDebugEnabled()) {
+                log.debug(identityProviders.size() + " Identity Providers of tenant: " + tenantDomain +
+                        " are loaded to the cache.");
+            }
+        } catch (IdentityProviderManagementException e) {
+            log.warn("Error while loading the Identity Providers of tenant: " + tenantDomain + " to the cache.", e);
+        }
+    }
+
+    private int getIntProperty(String propertyName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for: " + propertyName + ". Using the default " +
+                        "value: " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
     public void clearIdpCache(String idPName, int tenantId, String tenantDomain)
             throws IdentityProviderManagementException {
 
@@ -813,6 +897,7 @@ public class CacheBackedIdPMgtDAO {
     public void clearIdpCache(String idPName, String resourceId, int tenantId, String tenantDomain) throws
             IdentityProviderManagementException {
 
+        IDP_BULK_LOADER.invalidate(tenantDomain);
         // clearing cache entries related to the IDP.
         IdentityProvider identityProvider;
         if (StringUtils.isNotBlank(resourceId)) {
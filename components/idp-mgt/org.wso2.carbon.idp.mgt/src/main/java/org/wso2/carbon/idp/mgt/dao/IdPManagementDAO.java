@@ -1050,19 +1050,6 @@ public class IdPManagementDAO {
         PreparedStatement prepStmt = null;
         ResultSet rs = null;
         List<IdentityProviderProperty> idpProperties = new ArrayList<IdentityProviderProperty>();
-        boolean isRecoveryNotificationPasswordRecoveryEnabled = false;
-        boolean isEmailLinkNotificationPasswordRecoveryEnabled = false;
-        boolean isEmailOTPNotificationPasswordRecoveryEnabled = false;
-        boolean isSmsOtpNotificationPasswordRecoveryEnabled = false;
-
-        boolean isUsernameRecoveryEnabled = false;
-        boolean isEmailUsernameRecoveryEnabled = false;
-        boolean isSmsUsernameRecoveryEnabled = false;
-
-        boolean isAdminForcePasswordResetEmailLinkEnabled = false;
-        boolean isAdminForcePasswordResetEmailOTPEnabled = false;
-        boolean isAdminForcePasswordResetSMSOTPEnabled = false;
-        boolean isAdminForcePasswordResetOfflineEnabled = false;
 
         try {
             String databaseProductName = dbConnection.getMetaData().getDatabaseProductName();
@@ -1073,67 +1060,9 @@ public class IdPManagementDAO {
             prepStmt.setInt(1, idpId);
             rs = prepStmt.executeQuery();
             while (rs.next()) {
-                IdentityProviderProperty property = new IdentityProviderProperty();
-                property.setName(rs.getString("NAME"));
-                if (IdPManagementConstants.NOTIFICATION_PASSWORD_ENABLE_PROPERTY.equals(property.getName())) {
-                    isRecoveryNotificationPasswordRecoveryEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.EMAIL_LINK_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isEmailLinkNotificationPasswordRecoveryEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.EMAIL_OTP_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isEmailOTPNotificationPasswordRecoveryEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.SMS_OTP_PASSWORD_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isSmsOtpNotificationPasswordRecoveryEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isUsernameRecoveryEnabled = Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.EMAIL_USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isEmailUsernameRecoveryEnabled = Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.SMS_USERNAME_RECOVERY_PROPERTY.equals(property.getName())) {
-                    isSmsUsernameRecoveryEnabled = Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_EMAIL_LINK_PROPERTY.equals(property.getName())) {
-                    isAdminForcePasswordResetEmailLinkEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_EMAIL_OTP_PROPERTY.equals(property.getName())) {
-                    isAdminForcePasswordResetEmailOTPEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_SMS_OTP_PROPERTY.equals(property.getName())) {
-                    isAdminForcePasswordResetSMSOTPEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_OFFLINE_PROPERTY.equals(property.getName())) {
-                    isAdminForcePasswordResetOfflineEnabled =
-                            Boolean.parseBoolean(rs.getString("VALUE"));
-                }
-                property.setValue(rs.getString("VALUE"));
-                property.setDisplayName(rs.getString("DISPLAY_NAME"));
-                idpProperties.add(property);
-            }
-            // If recovery notification are inconsistent, correct the configurations.
-            if (isRecoveryNotificationPasswordRecoveryEnabled && !isEmailLinkNotificationPasswordRecoveryEnabled &&
-                    !isEmailOTPNotificationPasswordRecoveryEnabled && !isSmsOtpNotificationPasswordRecoveryEnabled) {
-                performConfigCorrectionForPasswordRecoveryConfigs(dbConnection, tenantId, idpId, idpProperties);
-            }
-            // If username recovery configs are inconsistent, correct the configurations.
-            if (isUsernameRecoveryEnabled && !isEmailUsernameRecoveryEnabled && !isSmsUsernameRecoveryEnabled) {
-                performConfigCorrectionForUsernameRecoveryConfigs(dbConnection, tenantId, idpId, idpProperties);
-            }
-            // If admin force password reset configs are inconsistent, correct the configurations.
-            if (!isAdminForcePasswordResetEmailLinkEnabled && !isAdminForcePasswordResetEmailOTPEnabled
-                    && !isAdminForcePasswordResetSMSOTPEnabled && !isAdminForcePasswordResetOfflineEnabled) {
-                performConfigCorrectionForAdminForcedPasswordResetConfigs(idpProperties);
+                idpProperties.add(buildIdentityProviderProperty(rs));
             }
+            correctIdentityProperties(dbConnection, idpId, tenantId, idpProperties, true);
         } catch (SQLException e) {
             throw new SQLException("Error while retrieving IDP properties for IDP ID: " + idpId, e);
         } finally {
@@ -1142,6 +1071,96 @@ public class IdPManagementDAO {
         return idpProperties;
     }
 
+    private IdentityProviderProperty buildIdentityProviderProperty(ResultSet rs) throws SQLException {
+
+        IdentityProviderProperty property = new IdentityProviderProperty();
+        property.setName(rs.getString("NAME"));
+        property.setValue(rs.getString("VALUE"));
+        property.setDisplayName(rs.getString("DISPLAY_NAME"));
+        return property;
+    }
+
+    /**
+     * Correct the inconsistent recovery configurations of the given identity provider properties.
+     *
+     * @param dbConnection  Database connection.
+     * @param idpId         IDP Id.
+     * @param tenantId      Tenant Id.
+     * @param idpProperties Identity provider properties read from the database.
+     * @param persist       Whether the corrections which are persisted can be made. If not, the properties are
+     *                      left as they are when such a correction is required.
+     * @return False if a correction which is persisted is required but not made.
+     * @throws SQLException If an error occurs while persisting the corrected configurations.
+     */
+    private boolean correctIdentityProperties(Connection dbConnection, int idpId, int tenantId,
+                                              List<IdentityProviderProperty> idpProperties, boolean persist)
+            throws SQLException {
+
+        boolean isRecoveryNotificationPasswordRecoveryEnabled = false;
+        boolean isEmailLinkNotificationPasswordRecoveryEnabled = false;
+        boolean isEmailOTPNotificationPasswordRecoveryEnabled = false;
+        boolean isSmsOtpNotificationPasswordRecoveryEnabled = false;
+
+        boolean isUsernameRecoveryEnabled = false;
+        boolean isEmailUsernameRecoveryEnabled = false;
+        boolean isSmsUsernameRecoveryEnabled = false;
+
+        boolean isAdminForcePasswordResetEmailLinkEnabled = false;
+        boolean isAdminForcePasswordResetEmailOTPEnabled = false;
+        boolean isAdminForcePasswordResetSMSOTPEnabled = false;
+        boolean isAdminForcePasswordResetOfflineEnabled = false;
+
+        for (IdentityProviderProperty property : idpProperties) {
+            String name = property.getName();
+            boolean enabled = Boolean.parseBoolean(property.getValue());
+            if (IdPManagementConstants.NOTIFICATION_PASSWORD_ENABLE_PROPERTY.equals(name)) {
+                isRecoveryNotificationPasswordRecoveryEnabled = enabled;
+            } else if (IdPManagementConstants.EMAIL_LINK_PASSWORD_RECOVERY_PROPERTY.equals(name)) {
+                isEmailLinkNotificationPasswordRecoveryEnabled = enabled;
+            } else if (IdPManagementConstants.EMAIL_OTP_PASSWORD_RECOVERY_PROPERTY.equals(name)) {
+                isEmailOTPNotificationPasswordRecoveryEnabled = enabled;
+            } else if (IdPManagementConstants.SMS_OTP_PASSWORD_RECOVERY_PROPERTY.equals(name)) {
+                isSmsOtpNotificationPasswordRecoveryEnabled = enabled;
+            } else if (IdPManagementConstants.USERNAME_RECOVERY_PROPERTY.equals(name)) {
+                isUsernameRecoveryEnabled = enabled;
+            } else if (IdPManagementConstants.EMAIL_USERNAME_RECOVERY_PROPERTY.equals(name)) {
+                isEmailUsernameRecoveryEnabled = enabled;
+            } else if (IdPManagementConstants.SMS_USERNAME_RECOVERY_PROPERTY.equals(name)) {
+                isSmsUsernameRecoveryEnabled = enabled;
+            } else if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_EMAIL_LINK_PROPERTY.equals(name)) {
+                isAdminForcePasswordResetEmailLinkEnabled = enabled;
+            } else if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_EMAIL_OTP_PROPERTY.equals(name)) {
+                isAdminForcePasswordResetEmailOTPEnabled = enabled;
+            } else if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_SMS_OTP_PROPERTY.equals(name)) {
+                isAdminForcePasswordResetSMSOTPEnabled = enabled;
+            } else if (IdPManagementConstants.ENABLE_ADMIN_PASSWORD_RESET_OFFLINE_PROPERTY.equals(name)) {
+                isAdminForcePasswordResetOfflineEnabled = enabled;
+            }
+        }
+        boolean correctPasswordRecoveryConfigs = isRecoveryNotificationPasswordRecoveryEnabled &&
+                !isEmailLinkNotificationPasswordRecoveryEnabled && !isEmailOTPNotificationPasswordRecoveryEnabled &&
+                !isSmsOtpNotificationPasswordRecoveryEnabled;
+        boolean correctUsernameRecoveryConfigs = isUsernameRecoveryEnabled && !isEmailUsernameRecoveryEnabled &&
+                !isSmsUsernameRecoveryEnabled;
+        if (!persist && (correctPasswordRecoveryConfigs || correctUsernameRecoveryConfigs)) {
+            return false;
+        }
+        // If recovery notification are inconsistent, correct the configurations.
+        if (correctPasswordRecoveryConfigs) {
+            performConfigCorrectionForPasswordRecoveryConfigs(dbConnection, tenantId, idpId, idpProperties);
+        }
+        // If username recovery configs are inconsistent, correct the configurations.
+        if (correctUsernameRecoveryConfigs) {
+            performConfigCorrectionForUsernameRecoveryConfigs(dbConnection, tenantId, idpId, idpProperties);
+        }
+        // If admin force password reset configs are inconsistent, correct the configurations.
+        if (!isAdminForcePasswordResetEmailLinkEnabled && !isAdminForcePasswordResetEmailOTPEnabled
+                && !isAdminForcePasswordResetSMSOTPEnabled && !isAdminForcePasswordResetOfflineEnabled) {
+            performConfigCorrectionForAdminForcedPasswordResetConfigs(idpProperties);
+        }
+        return true;
+    }
+
     /**
      * Add Identity provider properties
      *
@@ -1244,18 +1263,8 @@ public class IdPManagementDAO {
             rs = prepStmt1.executeQuery();
 
             while (rs.next()) {
-                FederatedAuthenticatorConfig authnConfig = createFederatedAuthenticatorConfig(DefinedByType.valueOf(
-                                rs.getString(DEFINED_BY_COLUMN)));
                 int authnId = rs.getInt("ID");
-                authnConfig.setName(rs.getString("NAME"));
-
-                if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_ENABLED"))) {
-                    authnConfig.setEnabled(true);
-                } else {
-                    authnConfig.setEnabled(false);
-                }
-
-                authnConfig.setDisplayName(rs.getString("DISPLAY_NAME"));
+                FederatedAuthenticatorConfig authnConfig = buildFederatedAuthenticatorConfig(rs);
 
                 if (defaultAuthName != null && authnConfig.getName().equals(defaultAuthName)) {
                     federatedIdp.getDefaultAuthenticatorConfig().setDisplayName(authnConfig.getDisplayName());
@@ -1369,21 +1378,38 @@ public class IdPManagementDAO {
 
         Set<Property> properties = new HashSet<Property>();
         String sqlStmt = IdPManagementConstants.SQLQueries.GET_IDP_AUTH_PROPS_SQL;
-        PreparedStatement prepStmt = dbConnection.prepareStatement(sqlStmt);
-        prepStmt.setInt(1, authenticatorId);
-        ResultSet props = prepStmt.executeQuery();
-        while (props.next()) {
-            Property property = new Property();
-            property.setName(props.getString("PROPERTY_KEY"));
-            property.setValue(props.getString("PROPERTY_VALUE"));
-            if ((IdPManagementConstants.IS_TRUE_VALUE).equals(props.getString("IS_SECRET"))) {
-                property.setConfidential(true);
+        try (PreparedStatement prepStmt = dbConnection.prepareStatement(sqlStmt)) {
+            prepStmt.setInt(1, authenticatorId);
+            try (ResultSet props = prepStmt.executeQuery()) {
+                while (props.next()) {
+                    properties.add(buildFederatedAuthenticatorProperty(props));
+                }
             }
-            properties.add(property);
         }
         return properties;
     }
 
+    private FederatedAuthenticatorConfig buildFederatedAuthenticatorConfig(ResultSet rs) throws SQLException {
+
+        FederatedAuthenticatorConfig authnConfig = createFederatedAuthenticatorConfig(DefinedByType.valueOf(
+                rs.getString(DEFINED_BY_COLUMN)));
+        authnConfig.setName(rs.getString("NAME"));
+        authnConfig.setEnabled((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_ENABLED")));
+        authnConfig.setDisplayName(rs.getString("DISPLAY_NAME"));
+        return authnConfig;
+    }
+
+    private Property buildFederatedAuthenticatorProperty(ResultSet rs) throws SQLException {
+
+        Property property = new Property();
+        property.setName(rs.getString("PROPERTY_KEY"));
+        property.setValue(rs.getString("PROPERTY_VALUE"));
+        if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_SECRET"))) {
+            property.setConfidential(true);
+        }
+        return property;
+    }
+
     /**
      * Merges two sets of properties, ensuring that properties with the same name are not duplicated.
      *
@@ -1842,25 +1868,7 @@ public class IdPManagementDAO {
             rs = prepStmt.executeQuery();
 
             while (rs.next()) {
-                ClaimMapping claimMapping = new ClaimMapping();
-
-                // empty claim.
-                Claim remoteClaim = new Claim();
-
-                Claim localClaim = new Claim();
-                localClaim.setClaimUri(rs.getString("CLAIM_URI"));
-
-                claimMapping.setLocalClaim(localClaim);
-                claimMapping.setRemoteClaim(remoteClaim);
-                claimMapping.setDefaultValue(rs.getString("DEFAULT_VALUE"));
-
-                if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_REQUESTED"))) {
-                    claimMapping.setRequested(true);
-                } else if (rs.getString("IS_REQUESTED").equals(IdPManagementConstants.IS_TRUE_VALUE)) {
-                    claimMapping.setRequested(false);
-                }
-
-                claimMappings.add(claimMapping);
+                claimMappings.add(buildLocalIdPDefaultClaimMapping(rs));
             }
 
             claimConfig.setClaimMappings(claimMappings.toArray(new ClaimMapping[claimMappings
@@ -1873,6 +1881,26 @@ public class IdPManagementDAO {
         }
     }
 
+    private ClaimMapping buildLocalIdPDefaultClaimMapping(ResultSet rs) throws SQLException {
+
+        ClaimMapping claimMapping = new ClaimMapping();
+
+        // empty claim.
+        Claim remoteClaim = new Claim();
+
+        Claim localClaim = new Claim();
+        localClaim.setClaimUri(rs.getString("CLAIM_URI"));
+
+        claimMapping.setLocalClaim(localClaim);
+        claimMapping.setRemoteClaim(remoteClaim);
+        claimMapping.setDefaultValue(rs.getString("DEFAULT_VALUE"));
+
+        if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_REQUESTED"))) {
+            claimMapping.setRequested(true);
+        }
+        return claimMapping;
+    }
+
     /**
      * @param dbConnection
      * @param idPName
@@ -1923,24 +1951,7 @@ public class IdPManagementDAO {
             rs2 = prepStmt2.executeQuery();
 
             while (rs2.next()) {
-                ClaimMapping claimMapping = new ClaimMapping();
-
-                Claim idpClaim = new Claim();
-                idpClaim.setClaimUri(rs2.getString("CLAIM"));
-
-                Claim localClaim = new Claim();
-                localClaim.setClaimUri(rs2.getString("LOCAL_CLAIM"));
-
-                claimMapping.setLocalClaim(localClaim);
-                claimMapping.setRemoteClaim(idpClaim);
-                claimMapping.setDefaultValue(rs2.getString("DEFAULT_VALUE"));
-                if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs2.getString("IS_REQUESTED"))) {
-                    claimMapping.setRequested(true);
-                } else if ((IdPManagementConstants.IS_FALSE_VALUE).equals(rs2.getString("IS_REQUESTED"))) {
-                    claimMapping.setRequested(false);
-                }
-                claimMappings.add(claimMapping);
-
+                claimMappings.add(buildIdPClaimMapping(rs2));
             }
 
             claimConfig.setClaimMappings(claimMappings.toArray(new ClaimMapping[claimMappings
@@ -1953,6 +1964,27 @@ public class IdPManagementDAO {
         }
     }
 
+    private ClaimMapping buildIdPClaimMapping(ResultSet rs) throws SQLException {
+
+        ClaimMapping claimMapping = new ClaimMapping();
+
+        Claim idpClaim = new Claim();
+        idpClaim.setClaimUri(rs.getString("CLAIM"));
+
+        Claim localClaim = new Claim();
+        localClaim.setClaimUri(rs.getString("LOCAL_CLAIM"));
+
+        claimMapping.setLocalClaim(localClaim);
+        claimMapping.setRemoteClaim(idpClaim);
+        claimMapping.setDefaultValue(rs.getString("DEFAULT_VALUE"));
+        if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_REQUESTED"))) {
+            claimMapping.setRequested(true);
+        } else if ((IdPManagementConstants.IS_FALSE_VALUE).equals(rs.getString("IS_REQUESTED"))) {
+            claimMapping.setRequested(false);
+        }
+        return claimMapping;
+    }
+
     /**
      * @param dbConnection
      * @param idPName
@@ -2374,33 +2406,7 @@ public class IdPManagementDAO {
 
                         List<Property> provisioningProperties = new ArrayList<Property>();
                         while (rs2.next()) {
-                            Property property = new Property();
-                            String name = rs2.getString("PROPERTY_KEY");
-                            String value = rs2.getString("PROPERTY_VALUE");
-                            String blobValue = getBlobValue(rs2.getBinaryStream("PROPERTY_BLOB_VALUE"));
-
-                            String propertyType = rs2.getString("PROPERTY_TYPE");
-                            if (propertyType != null) {
-                                propertyType = propertyType.trim();
-                            }
-                            String isSecret = rs2.getString("IS_SECRET");
-
-                            property.setName(name);
-                            if (IdentityApplicationConstants.ConfigElements.PROPERTY_TYPE_BLOB.equals(propertyType)) {
-                                property.setValue(blobValue);
-                            } else {
-                                property.setValue(value);
-                            }
-
-                            property.setType(propertyType);
-
-                            if ((IdPManagementConstants.IS_TRUE_VALUE).equals(isSecret)) {
-                                property.setConfidential(true);
-                            } else {
-                                property.setConfidential(false);
-                            }
-
-                            provisioningProperties.add(property);
+                            provisioningProperties.add(buildProvisioningProperty(rs2));
                         }
                         provisioningConnector.setProvisioningProperties(provisioningProperties
                                 .toArray(new Property[provisioningProperties.size()]));
@@ -2420,6 +2426,36 @@ public class IdPManagementDAO {
         }
     }
 
+    private Property buildProvisioningProperty(ResultSet rs) throws SQLException, IdentityProviderManagementException {
+
+        Property property = new Property();
+        String name = rs.getString("PROPERTY_KEY");
+        String value = rs.getString("PROPERTY_VALUE");
+        String blobValue = getBlobValue(rs.getBinaryStream("PROPERTY_BLOB_VALUE"));
+
+        String propertyType = rs.getString("PROPERTY_TYPE");
+        if (propertyType != null) {
+            propertyType = propertyType.trim();
+        }
+        String isSecret = rs.getString("IS_SECRET");
+
+        property.setName(name);
+        if (IdentityApplicationConstants.ConfigElements.PROPERTY_TYPE_BLOB.equals(propertyType)) {
+            property.setValue(blobValue);
+        } else {
+            property.setValue(value);
+        }
+
+        property.setType(propertyType);
+
+        if ((IdPManagementConstants.IS_TRUE_VALUE).equals(isSecret)) {
+            property.setConfidential(true);
+        } else {
+            property.setConfidential(false);
+        }
+        return property;
+    }
+
     private String getBlobValue(InputStream is) throws IdentityProviderManagementException {
 
         if (is != null) {
@@ -3369,75 +3405,13 @@ public class IdPManagementDAO {
             rs = prepStmt.executeQuery();
 
             if (rs.next()) {
-                federatedIdp = new IdentityProvider();
-                idpId = rs.getInt("ID");
-                federatedIdp.setId(Integer.toString(idpId));
-                idPName = rs.getString("NAME");
-                federatedIdp.setIdentityProviderName(idPName);
-                resourceId = rs.getString("UUID");
-                federatedIdp.setResourceId(resourceId);
-                federatedIdp.setImageUrl(rs.getString("IMAGE_URL"));
-
-                if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_PRIMARY"))) {
-                    federatedIdp.setPrimary(true);
-                } else {
-                    federatedIdp.setPrimary(false);
-                }
-
-                federatedIdp.setHomeRealmId(rs.getString("HOME_REALM_ID"));
-                federatedIdp.setCertificate(getBlobValue(rs.getBinaryStream("CERTIFICATE")));
-                federatedIdp.setAlias(rs.getString("ALIAS"));
-
-                JustInTimeProvisioningConfig jitProConfig = new JustInTimeProvisioningConfig();
-                if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("INBOUND_PROV_ENABLED"))) {
-                    jitProConfig.setProvisioningEnabled(true);
-                } else {
-                    jitProConfig.setProvisioningEnabled(false);
-                }
-
-                jitProConfig.setProvisioningUserStore(rs.getString("INBOUND_PROV_USER_STORE_ID"));
-                federatedIdp.setJustInTimeProvisioningConfig(jitProConfig);
-
-                String userClaimUri = rs.getString("USER_CLAIM_URI");
-                String roleClaimUri = rs.getString("ROLE_CLAIM_URI");
-
-                String defaultAuthenticatorName = rs.getString("DEFAULT_AUTHENTICATOR_NAME");
-                String defaultProvisioningConnectorConfigName = rs.getString("DEFAULT_PRO_CONNECTOR_NAME");
-                federatedIdp.setIdentityProviderDescription(rs.getString("DESCRIPTION"));
-
-                // IS_FEDERATION_HUB_IDP
-                if (IdPManagementConstants.IS_TRUE_VALUE.equals(rs.getString("IS_FEDERATION_HUB"))) {
-                    federatedIdp.setFederationHub(true);
-                } else {
-                    federatedIdp.setFederationHub(false);
-                }
-
-                if (federatedIdp.getClaimConfig() == null) {
-                    federatedIdp.setClaimConfig(new ClaimConfig());
-                }
-
-                // IS_LOCAL_CLAIM_DIALECT
-                if (IdPManagementConstants.IS_TRUE_VALUE.equals(rs.getString("IS_LOCAL_CLAIM_DIALECT"))) {
-                    federatedIdp.getClaimConfig().setLocalClaimDialect(true);
-                } else {
-                    federatedIdp.getClaimConfig().setLocalClaimDialect(false);
-                }
-
-                federatedIdp.setProvisioningRole(rs.getString("PROVISIONING_ROLE"));
-
-                if (IdPManagementConstants.IS_TRUE_VALUE.equals(rs.getString("IS_ENABLED"))) {
-                    federatedIdp.setEnable(true);
-                } else {
-                    federatedIdp.setEnable(false);
-                }
-
-                federatedIdp.setDisplayName(rs.getString("DISPLAY_NAME"));
-
-                if (defaultProvisioningConnectorConfigName != null) {
-                    ProvisioningConnectorConfig defaultProConnector = new ProvisioningConnectorConfig();
-                    defaultProConnector.setName(defaultProvisioningConnectorConfigName);
-                    federatedIdp.setDefaultProvisioningConnectorConfig(defaultProConnector);
-                }
+                IdPRecord idpRecord = buildIdPRecord(rs);
+                federatedIdp = idpRecord.identityProvider;
+                idpId = idpRecord.idpId;
+                idPName = federatedIdp.getIdentityProviderName();
+                String userClaimUri = idpRecord.userClaimUri;
+                String roleClaimUri = idpRecord.roleClaimUri;
+                String defaultAuthenticatorName = idpRecord.defaultAuthenticatorName;
 
                 // get federated authenticators.
                 federatedIdp.setFederatedAuthenticatorConfigs(getFederatedAuthenticatorConfigs(
@@ -3511,6 +3485,389 @@ public class IdPManagementDAO {
         }
     }
 
+    /**
+     * Builds the identity provider from the basic information in the current row of the result set.
+     *
+     * @param rs Result set positioned on an IDP row.
+     * @return IDP record holding the identity provider and the columns needed to load its configurations.
+     * @throws SQLException                        If an error occurs while reading the row.
+     * @throws IdentityProviderManagementException If an error occurs while reading the certificate.
+     */
+    private IdPRecord buildIdPRecord(ResultSet rs) throws SQLException, IdentityProviderManagementException {
+
+        IdentityProvider federatedIdp = new IdentityProvider();
+        int idpId = rs.getInt("ID");
+        federatedIdp.setId(Integer.toString(idpId));
+        federatedIdp.setIdentityProviderName(rs.getString("NAME"));
+        federatedIdp.setResourceId(rs.getString("UUID"));
+        federatedIdp.setImageUrl(rs.getString("IMAGE_URL"));
+
+        if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_PRIMARY"))) {
+            federatedIdp.setPrimary(true);
+        } else {
+            federatedIdp.setPrimary(false);
+        }
+
+        federatedIdp.setHomeRealmId(rs.getString("HOME_REALM_ID"));
+        federatedIdp.setCertificate(getBlobValue(rs.getBinaryStream("CERTIFICATE")));
+        federatedIdp.setAlias(rs.getString("ALIAS"));
+
+        JustInTimeProvisioningConfig jitProConfig = new JustInTimeProvisioningConfig();
+        if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("INBOUND_PROV_ENABLED"))) {
+            jitProConfig.setProvisioningEnabled(true);
+        } else {
+            jitProConfig.setProvisioningEnabled(false);
+        }
+
+        jitProConfig.setProvisioningUserStore(rs.getString("INBOUND_PROV_USER_STORE_ID"));
+        federatedIdp.setJustInTimeProvisioningConfig(jitProConfig);
+
+        String userClaimUri = rs.getString("USER_CLAIM_URI");
+        String roleClaimUri = rs.getString("ROLE_CLAIM_URI");
+
+        String defaultAuthenticatorName = rs.getString("DEFAULT_AUTHENTICATOR_NAME");
+        String defaultProvisioningConnectorConfigName = rs.getString("DEFAULT_PRO_CONNECTOR_NAME");
+        federatedIdp.setIdentityProviderDescription(rs.getString("DESCRIPTION"));
+
+        // IS_FEDERATION_HUB_IDP
+        if (IdPManagementConstants.IS_TRUE_VALUE.equals(rs.getString("IS_FEDERATION_HUB"))) {
+            federatedIdp.setFederationHub(true);
+        } else {
+            federatedIdp.setFederationHub(false);
+        }
+
+        if (federatedIdp.getClaimConfig() == null) {
+            federatedIdp.setClaimConfig(new ClaimConfig());
+        }
+
+        // IS_LOCAL_CLAIM_DIALECT
+        if (IdPManagementConstants.IS_TRUE_VALUE.equals(rs.getString("IS_LOCAL_CLAIM_DIALECT"))) {
+            federatedIdp.getClaimConfig().setLocalClaimDialect(true);
+        } else {
+            federatedIdp.getClaimConfig().setLocalClaimDialect(false);
+        }
+
+        federatedIdp.setProvisioningRole(rs.getString("PROVISIONING_ROLE"));
+
+        if (IdPManagementConstants.IS_TRUE_VALUE.equals(rs.getString("IS_ENABLED"))) {
+            federatedIdp.setEnable(true);
+        } else {
+            federatedIdp.setEnable(false);
+        }
+
+        federatedIdp.setDisplayName(rs.getString("DISPLAY_NAME"));
+
+        if (defaultProvisioningConnectorConfigName != null) {
+            ProvisioningConnectorConfig defaultProConnector = new ProvisioningConnectorConfig();
+            defaultProConnector.setName(defaultProvisioningConnectorConfigName);
+            federatedIdp.setDefaultProvisioningConnectorConfig(defaultProConnector);
+        }
+        return new IdPRecord(federatedIdp, idpId, userClaimUri, roleClaimUri, defaultAuthenticatorName);
+    }
+
+    /**
+     * Retrieves the complete identity providers of a tenant, other than the resident identity provider, with a fixed
+     * number of queries for each batch of identity providers instead of a set of queries per identity provider.
+     * The database is not modified, so the identity providers whose recovery configurations need a correction to be
+     * persisted are left out, to be corrected by the lookup of the identity provider.
+     *
+     * @param dbConnection Optional. Database connection.
+     * @param tenantId     Tenant ID.
+     * @param tenantDomain Tenant domain.
+     * @param maxIdPCount  Maximum number of identity providers to load.
+     * @return Identity providers of the tenant, or null if the tenant has more identity providers than the limit.
+     * @throws IdentityProviderManagementException If an error occurs while retrieving the identity providers.
+     */
+    public List<IdentityProvider> getIdPsWithDetails(Connection dbConnection, int tenantId, String tenantDomain,
+                                                     int maxIdPCount) throws IdentityProviderManagementException {
+
+        boolean dbConnectionInitialized = true;
+        if (dbConnection == null) {
+            dbConnection = IdentityDatabaseUtil.getDBConnection(false);
+        } else {
+            dbConnectionInitialized = false;
+        }
+
+        try {
+            List<IdPRecord> idpRecords = new ArrayList<>();
+            try (PreparedStatement prepStmt = dbConnection.prepareStatement(
+                    IdPManagementConstants.SQLQueries.GET_IDPS_WITH_DETAILS_SQL)) {
+                prepStmt.setInt(1, tenantId);
+                prepStmt.setInt(2, MultitenantConstants.SUPER_TENANT_ID);
+                try (ResultSet rs = prepStmt.executeQuery()) {
+                    while (rs.next()) {
+                        if (idpRecords.size() >= maxIdPCount) {
+                            return null;
+                        }
+                        idpRecords.add(buildIdPRecord(rs));
+                    }
+                }
+            }
+
+            List<IdentityProvider> identityProviders = new ArrayList<>(idpRecords.size());
+            int batchSize = IdPManagementConstants.IDP_BULK_LOAD_BATCH_SIZE;
+            for (int i = 0; i < idpRecords.size(); i += batchSize) {
+                identityProviders.addAll(populateIdPDetails(dbConnection,
+                        idpRecords.subList(i, Math.min(i + batchSize, idpRecords.size())), tenantId, tenantDomain));
+            }
+            return identityProviders;
+        } catch (SQLException e) {
+            throw new IdentityProviderManagementException("Error occurred while retrieving the Identity Providers " +
+                    "of tenant: " + tenantDomain, e);
+        } catch (SecretManagementException e) {
+            throw new IdentityProviderManagementException("Error while retrieving secrets of the Identity " +
+                    "Providers of tenant: " + tenantDomain, e);
+        } finally {
+            if (dbConnectionInitialized) {
+                IdentityDatabaseUtil.closeConnection(dbConnection);
+            }
+        }
+    }
+
+    /**
+     * Loads the configurations of a batch of identity providers, with one query per configuration table, and
+     * completes the identity providers the same way {@link #getIDP} does.
+     */
+    private List<IdentityProvider> populateIdPDetails(Connection dbConnection, List<IdPRecord> idpRecords,
+                                                      int tenantId, String tenantDomain)
+            throws SQLException, IdentityProviderManagementException, SecretManagementException {
+
+        List<Integer> idpIds = new ArrayList<>(idpRecords.size());
+        for (IdPRecord idpRecord : idpRecords) {
+            idpIds.add(idpRecord.idpId);
+        }
+
+        Map<Integer, Set<FederatedAuthenticatorConfig>> authenticatorConfigs =
+                getFederatedAuthenticatorConfigs(dbConnection, idpIds);
+
+        Map<Integer, List<Claim>> idpClaims = new HashMap<>();
+        executeIdPBatchQuery(dbConnection, IdPManagementConstants.SQLQueries.GET_IDP_CLAIMS_BY_IDP_IDS_SQL, idpIds,
+                null, rs -> {
+                    Claim identityProviderClaim = new Claim();
+                    identityProviderClaim.setClaimId(rs.getInt("ID"));
+                    identityProviderClaim.setClaimUri(rs.getString("CLAIM"));
+                    idpClaims.computeIfAbsent(rs.getInt("IDP_ID"), key -> new ArrayList<>())
+                            .add(identityProviderClaim);
+                });
+        Map<Integer, List<ClaimMapping>> claimMappings = new HashMap<>();
+        executeIdPBatchQuery(dbConnection, IdPManagementConstants.SQLQueries.GET_IDP_CLAIM_MAPPINGS_BY_IDP_IDS_SQL,
+                idpIds, null, rs -> claimMappings.computeIfAbsent(rs.getInt("IDP_ID"), key -> new ArrayList<>())
+                        .add(buildIdPClaimMapping(rs)));
+        Map<Integer, List<ClaimMapping>> localClaimMappings = new HashMap<>();
+        executeIdPBatchQuery(dbConnection,
+                IdPManagementConstants.SQLQueries.GET_LOCAL_IDP_DEFAULT_CLAIM_VALUES_BY_IDP_IDS_SQL, idpIds, tenantId,
+                rs -> localClaimMappings.computeIfAbsent(rs.getInt("IDP_ID"), key -> new ArrayList<>())
+                        .add(buildLocalIdPDefaultClaimMapping(rs)));
+
+        Map<Integer, List<String>> idpRoles = new HashMap<>();
+        executeIdPBatchQuery(dbConnection, IdPManagementConstants.SQLQueries.GET_IDP_ROLES_BY_IDP_IDS_SQL, idpIds,
+                null, rs -> idpRoles.computeIfAbsent(rs.getInt("IDP_ID"), key -> new ArrayList<>())
+                        .add(rs.getString("ROLE")));
+        Map<Integer, List<RoleMapping>> roleMappings = new HashMap<>();
+        executeIdPBatchQuery(dbConnection, IdPManagementConstants.SQLQueries.GET_IDP_ROLE_MAPPINGS_BY_IDP_IDS_SQL,
+                idpIds, null, rs -> {
+                    LocalRole localRole = new LocalRole(rs.getString("USER_STORE_ID"), rs.getString("LOCAL_ROLE"));
+                    roleMappings.computeIfAbsent(rs.getInt("IDP_ID"), key -> new ArrayList<>())
+                            .add(new RoleMapping(localRole, rs.getString("ROLE")));
+                });
+
+        Map<Integer, List<IdPGroup>> idpGroups = new HashMap<>();
+        executeIdPBatchQuery(dbConnection, IdPManagementConstants.SQLQueries.GET_IDP_GROUPS_BY_IDP_IDS_SQL, idpIds,
+                null, rs -> {
+                    IdPGroup idPGroup = new IdPGroup();
+                    idPGroup.setIdpGroupName(rs.getString("GROUP_NAME"));
+                    idPGroup.setIdpGroupId(rs.getString("UUID"));
+                    idpGroups.computeIfAbsent(rs.getInt("IDP_ID"), key -> new ArrayList<>()).add(idPGroup);
+                });
+
+        Map<Integer, Map<String, ProvisioningConnectorConfig>> provisioningConnectors =
+                getProvisioningConnectorConfigs(dbConnection, idpIds, tenantId);
+
+        Map<Integer, List<IdentityProviderProperty>> idpProperties = new HashMap<>();
+        String metadataSqlStmt = isH2DB(dbConnection.getMetaData().getDatabaseProductName()) ?
+                IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_IDS_H2 :
+                IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_IDS;
+        executeIdPBatchQuery(dbConnection, metadataSqlStmt, idpIds, null,
+                rs -> idpProperties.computeIfAbsent(rs.getInt("IDP_ID"), key -> new ArrayList<>())
+                        .add(buildIdentityProviderProperty(rs)));
+
+        List<IdentityProvider> identityProviders = new ArrayList<>(idpRecords.size());
+        for (IdPRecord idpRecord : idpRecords) {
+            int idpId = idpRecord.idpId;
+            IdentityProvider federatedIdp = idpRecord.identityProvider;
+
+            Set<FederatedAuthenticatorConfig> federatedAuthenticatorConfigs =
+                    authenticatorConfigs.getOrDefault(idpId, Collections.emptySet());
+            federatedIdp.setFederatedAuthenticatorConfigs(
+                    federatedAuthenticatorConfigs.toArray(new FederatedAuthenticatorConfig[0]));
+            federatedIdp = decryptSystemDefinedFederatedAuthenticatorSecrets(tenantDomain, federatedIdp);
+            if (idpRecord.defaultAuthenticatorName != null) {
+                federatedIdp.setDefaultAuthenticatorConfig(IdentityApplicationManagementUtil
+                        .getFederatedAuthenticator(federatedIdp.getFederatedAuthenticatorConfigs(),
+                                idpRecord.defaultAuthenticatorName));
+            }
+
+            ClaimConfig claimConfig = new ClaimConfig();
+            claimConfig.setUserClaimURI(idpRecord.userClaimUri);
+            claimConfig.setRoleClaimURI(idpRecord.roleClaimUri);
+            if (federatedIdp.getClaimConfig().isLocalClaimDialect()) {
+                claimConfig.setLocalClaimDialect(true);
+                claimConfig.setClaimMappings(localClaimMappings.getOrDefault(idpId, Collections.emptyList())
+                        .toArray(new ClaimMapping[0]));
+            } else {
+                claimConfig.setIdpClaims(idpClaims.getOrDefault(idpId, Collections.emptyList())
+                        .toArray(new Claim[0]));
+                claimConfig.setClaimMappings(claimMappings.getOrDefault(idpId, Collections.emptyList())
+                        .toArray(new ClaimMapping[0]));
+            }
+            federatedIdp.setClaimConfig(claimConfig);
+
+            federatedIdp.setProvisioningConnectorConfigs(provisioningConnectors.getOrDefault(idpId,
+                    Collections.emptyMap()).values().toArray(new ProvisioningConnectorConfig[0]));
+            federatedIdp = decryptProvisioningConnectorConfigSecrets(tenantDomain, federatedIdp);
+
+            PermissionsAndRoleConfig permissionRoleConfiguration = new PermissionsAndRoleConfig();
+            permissionRoleConfiguration.setIdpRoles(idpRoles.getOrDefault(idpId, Collections.emptyList())
+                    .toArray(new String[0]));
+            permissionRoleConfiguration.setRoleMappings(roleMappings.getOrDefault(idpId, Collections.emptyList())
+                    .toArray(new RoleMapping[0]));
+            federatedIdp.setPermissionAndRoleConfig(permissionRoleConfiguration);
+
+            federatedIdp.setIdPGroupConfig(idpGroups.getOrDefault(idpId, Collections.emptyList())
+                    .toArray(new IdPGroup[0]));
+
+            List<IdentityProviderProperty> propertyList = idpProperties.getOrDefault(idpId, new ArrayList<>());
+            // The batch load does not modify the database. The single lookup persists the corrections instead.
+            if (!correctIdentityProperties(dbConnection, idpId, tenantId, propertyList, false)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Skipping the Identity Provider: " + federatedIdp.getIdentityProviderName() +
+                            " of tenant: " + tenantDomain + " since its recovery configurations need correction.");
+                }
+                continue;
+            }
+            propertyList = filterIdentityProperties(federatedIdp, propertyList);
+            federatedIdp.setIdpProperties(propertyList.toArray(new IdentityProviderProperty[0]));
+
+            identityProviders.add(federatedIdp);
+        }
+        return identityProviders;
+    }
+
+    /**
+     * Retrieves the federated authenticators of a batch of identity providers along with their properties.
+     *
+     * @return Federated authenticators keyed by the IDP ID.
+     */
+    private Map<Integer, Set<FederatedAuthenticatorConfig>> getFederatedAuthenticatorConfigs(
+            Connection dbConnection, List<Integer> idpIds) throws SQLException, IdentityProviderManagementException {
+
+        Map<Integer, FederatedAuthenticatorConfig> authenticatorsById = new HashMap<>();
+        Map<Integer, Integer> idpIdsByAuthenticatorId = new HashMap<>();
+        executeIdPBatchQuery(dbConnection, IdPManagementConstants.SQLQueries.GET_IDP_AUTHS_BY_IDP_IDS_SQL, idpIds,
+                null, rs -> {
+                    int authnId = rs.getInt("ID");
+                    idpIdsByAuthenticatorId.put(authnId, rs.getInt("IDP_ID"));
+                    authenticatorsById.put(authnId, buildFederatedAuthenticatorConfig(rs));
+                });
+
+        Map<Integer, Set<Property>> authenticatorProperties = new HashMap<>();
+        executeIdPBatchQuery(dbConnection, IdPManagementConstants.SQLQueries.GET_IDP_AUTH_PROPS_BY_IDP_IDS_SQL,
+                idpIds, null, rs -> authenticatorProperties.computeIfAbsent(rs.getInt("AUTHENTICATOR_ID"),
+                        key -> new HashSet<>()).add(buildFederatedAuthenticatorProperty(rs)));
+
+        // Authenticators are added to the sets only once their properties are set, as in the single IDP lookup.
+        Map<Integer, Set<FederatedAuthenticatorConfig>> authenticatorConfigs = new HashMap<>();
+        for (Map.Entry<Integer, FederatedAuthenticatorConfig> entry : authenticatorsById.entrySet()) {
+            FederatedAuthenticatorConfig authnConfig = entry.getValue();
+            Set<Property> properties = authenticatorProperties.getOrDefault(entry.getKey(), Collections.emptySet());
+            authnConfig.setProperties(properties.toArray(new Property[0]));
+            if (isEmailOTPAuthenticator(authnConfig.getName())) {
+                // This is to support backward compatibility.
+                updateEmailOTPCharTypeProperty(authnConfig, true);
+            }
+            authenticatorConfigs.computeIfAbsent(idpIdsByAuthenticatorId.get(entry.getKey()),
+                    key -> new HashSet<>()).add(authnConfig);
+        }
+        return authenticatorConfigs;
+    }
+
+    /**
+     * Retrieves the provisioning connectors of a batch of identity providers along with their properties.
+     *
+     * @return Provisioning connectors keyed by the connector type, keyed by the IDP ID.
+     */
+    private Map<Integer, Map<String, ProvisioningConnectorConfig>> getProvisioningConnectorConfigs(
+            Connection dbConnection, List<Integer> idpIds, int tenantId)
+            throws SQLException, IdentityProviderManagementException {
+
+        Map<Integer, Map<String, ProvisioningConnectorConfig>> provisioningConnectors = new HashMap<>();
+        Map<Integer, ProvisioningConnectorConfig> provisioningConnectorsById = new HashMap<>();
+        executeIdPBatchQuery(dbConnection,
+                IdPManagementConstants.SQLQueries.GET_IDP_PROVISIONING_CONFIGS_BY_IDP_IDS_SQL, idpIds, null, rs -> {
+                    Map<String, ProvisioningConnectorConfig> connectorsByType = provisioningConnectors
+                            .computeIfAbsent(rs.getInt("IDP_ID"), key -> new HashMap<>());
+                    String type = rs.getString("PROVISIONING_CONNECTOR_TYPE");
+                    // Only the first connector of a type is considered, as in the single IDP lookup.
+                    if (!connectorsByType.containsKey(type)) {
+                        ProvisioningConnectorConfig provisioningConnector = new ProvisioningConnectorConfig();
+                        provisioningConnector.setName(type);
+                        provisioningConnector.setEnabled(
+                                (IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_ENABLED")));
+                        provisioningConnector.setBlocking(
+                                (IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_BLOCKING")));
+                        connectorsByType.put(type, provisioningConnector);
+                        provisioningConnectorsById.put(rs.getInt("ID"), provisioningConnector);
+                    }
+                });
+
+        Map<Integer, List<Property>> provisioningProperties = new HashMap<>();
+        executeIdPBatchQuery(dbConnection,
+                IdPManagementConstants.SQLQueries.GET_IDP_PROVISIONING_PROPERTIES_BY_IDP_IDS_SQL, idpIds, tenantId,
+                rs -> {
+                    int configId = rs.getInt("PROVISIONING_CONFIG_ID");
+                    if (provisioningConnectorsById.containsKey(configId)) {
+                        provisioningProperties.computeIfAbsent(configId, key -> new ArrayList<>())
+                                .add(buildProvisioningProperty(rs));
+                    }
+                });
+        for (Map.Entry<Integer, ProvisioningConnectorConfig> entry : provisioningConnectorsById.entrySet()) {
+            entry.getValue().setProvisioningProperties(provisioningProperties.getOrDefault(entry.getKey(),
+                    Collections.emptyList()).toArray(new Property[0]));
+        }
+        return provisioningConnectors;
+    }
+
+    /**
+     * Executes a query restricted to a batch of identity providers through the IDP ID list placeholder.
+     *
+     * @param dbConnection Database connection.
+     * @param sqlQuery     Query with the IDP ID list placeholder.
+     * @param idpIds       IDP IDs.
+     * @param tenantId     Tenant ID bound before the IDP IDs, or null if the query is not restricted by tenant.
+     * @param rowHandler   Handler of each row of the result.
+     */
+    private void executeIdPBatchQuery(Connection dbConnection, String sqlQuery, List<Integer> idpIds,
+                                      Integer tenantId, IdPRowHandler rowHandler)
+            throws SQLException, IdentityProviderManagementException {
+
+        String placeholders = String.join(",", Collections.nCopies(idpIds.size(), "?"));
+        String sqlStmt = sqlQuery.replace(IdPManagementConstants.IDP_ID_LIST_PLACEHOLDER, placeholders);
+        try (PreparedStatement prepStmt = dbConnection.prepareStatement(sqlStmt)) {
+            int index = 1;
+            if (tenantId != null) {
+                prepStmt.setInt(index++, tenantId);
+            }
+            for (Integer idpId : idpIds) {
+                prepStmt.setInt(index++, idpId);
+            }
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    rowHandler.handle(rs);
+                }
+            }
+        }
+    }
+
     /**
      * Decrypts the secrets of system defined federated authenticators if there are any.
      *
@@ -7219,4 +7576,35 @@ public class IdPManagementDAO {
         }
         updateIdentityProviderProperties(dbConnection, idpId, idpProperties, tenantId);
     }
+
+    /**
+     * Basic information of an identity provider read from the IDP table.
+     */
+    private static class IdPRecord {
+
+        private final IdentityProvider identityProvider;
+        private final int idpId;
+        private final String userClaimUri;
+        private final String roleClaimUri;
+        private final String defaultAuthenticatorName;
+
+        private IdPRecord(IdentityProvider identityProvider, int idpId, String userClaimUri, String roleClaimUri,
+                          String defaultAuthenticatorName) {
+
+            this.identityProvider = identityProvider;
+            this.idpId = idpId;
+            this.userClaimUri = userClaimUri;
+            this.roleClaimUri = roleClaimUri;
+            this.defaultAuthenticatorName = defaultAuthenticatorName;
+        }
+    }
+
+    /**
+     * Handles a row of a query executed for a batch of identity providers.
+     */
+    @FunctionalInterface
+    private interface IdPRowHandler {
+
+        void handle(ResultSet rs) throws SQLException, IdentityProviderManagementException;
+    }
 }
@@ -97,6 +97,19 @@ public class IdPManagementFacade {
         return dao.getCountOfFilteredIdPs(tenantId, expressionConditions);
     }
 
+    public List<IdentityProvider> getIdPsWithDetails(Connection dbConnection, int tenantId, String tenantDomain,
+                                                     int maxIdPCount) throws IdentityProviderManagementException {
+
+        List<IdentityProvider> identityProviders = dao.getIdPsWithDetails(dbConnection, tenantId, tenantDomain,
+                maxIdPCount);
+        if (identityProviders != null) {
+            for (IdentityProvider identityProvider : identityProviders) {
+                populateEndpointConfig(identityProvider, tenantDomain);
+            }
+        }
+        return identityProviders;
+    }
+
     public IdentityProvider getIdPByName(Connection dbConnection, String idPName, int tenantId, String tenantDomain)
             throws IdentityProviderManagementException {
 
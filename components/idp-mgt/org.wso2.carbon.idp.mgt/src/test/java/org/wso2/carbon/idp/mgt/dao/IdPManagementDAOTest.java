@@ -984,6 +984,89 @@ public class IdPManagementDAOTest {
         }
     }
 
+    @Test
+    public void testGetIdPsWithDetails() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+
+            List<IdentityProvider> idps = idPManagementDAO.getIdPsWithDetails(connection, SAMPLE_TENANT_ID,
+                    TENANT_DOMAIN, 10);
+            assertEquals(idps.size(), idPManagementDAO.getIdPs(connection, SAMPLE_TENANT_ID, TENANT_DOMAIN).size());
+            assertTrue(idps.size() > 0);
+            for (IdentityProvider idp : idps) {
+                IdentityProvider expectedIdp = idPManagementDAO.getIdPByName(connection,
+                        idp.getIdentityProviderName(), SAMPLE_TENANT_ID, TENANT_DOMAIN);
+                assertEquals(idp.getResourceId(), expectedIdp.getResourceId());
+                assertEquals(idp.getCertificate(), expectedIdp.getCertificate());
+                assertEquals(idp.getFederatedAuthenticatorConfigs().length,
+                        expectedIdp.getFederatedAuthenticatorConfigs().length);
+                assertEquals(getLength(idp.getClaimConfig().getIdpClaims()),
+                        getLength(expectedIdp.getClaimConfig().getIdpClaims()));
+                assertEquals(getLength(idp.getClaimConfig().getClaimMappings()),
+                        getLength(expectedIdp.getClaimConfig().getClaimMappings()));
+                assertEquals(idp.getProvisioningConnectorConfigs().length,
+                        expectedIdp.getProvisioningConnectorConfigs().length);
+                assertEquals(idp.getPermissionAndRoleConfig().getIdpRoles().length,
+                        expectedIdp.getPermissionAndRoleConfig().getIdpRoles().length);
+                assertEquals(idp.getPermissionAndRoleConfig().getRoleMappings().length,
+                        expectedIdp.getPermissionAndRoleConfig().getRoleMappings().length);
+                assertEquals(idp.getIdPGroupConfig().length, expectedIdp.getIdPGroupConfig().length);
+                assertEquals(idp.getIdpProperties().length, expectedIdp.getIdpProperties().length);
+            }
+
+            // Tenants with more identity providers than the limit are not loaded.
+            assertNull(idPManagementDAO.getIdPsWithDetails(connection, SAMPLE_TENANT_ID, TENANT_DOMAIN,
+                    idps.size() - 1));
+        }
+    }
+
+    @Test
+    public void testGetIdPsWithDetailsDoesNotCorrectRecoveryConfigs() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+
+            // Password recovery is enabled without any of the recovery options, which is corrected on lookup.
+            IdentityProvider inconsistentIdp = new IdentityProvider();
+            inconsistentIdp.setIdentityProviderName("inconsistentRecoveryIdP");
+            IdentityProviderProperty recoveryProperty = new IdentityProviderProperty();
+            recoveryProperty.setName(IdPManagementConstants.NOTIFICATION_PASSWORD_ENABLE_PROPERTY);
+            recoveryProperty.setValue("true");
+            inconsistentIdp.setIdpProperties(new IdentityProviderProperty[]{recoveryProperty});
+            idPManagementDAO.addIdP(inconsistentIdp, SAMPLE_TENANT_ID);
+
+            List<IdentityProvider> idps = idPManagementDAO.getIdPsWithDetails(connection, SAMPLE_TENANT_ID,
+                    TENANT_DOMAIN, 10);
+            for (IdentityProvider idp : idps) {
+                assertFalse("inconsistentRecoveryIdP".equals(idp.getIdentityProviderName()));
+            }
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "SELECT COUNT(*) FROM IDP_METADATA WHERE NAME = ? AND IDP_ID IN " +
+                            "(SELECT ID FROM IDP WHERE NAME = ?)")) {
+                ps.setString(1, IdPManagementConstants.EMAIL_LINK_PASSWORD_RECOVERY_PROPERTY);
+                ps.setString(2, "inconsistentRecoveryIdP");
+                try (ResultSet rs = ps.executeQuery()) {
+                    assertTrue(rs.next());
+                    assertEquals(rs.getInt(1), 0);
+                }
+            }
+        }
+    }
+
+    private int getLength(Object[] array) {
+
+        return array == null ? 0 : array.length;
+    }
+
     @Test
     public void testDeleteIdpProperties() throws Exception {
 
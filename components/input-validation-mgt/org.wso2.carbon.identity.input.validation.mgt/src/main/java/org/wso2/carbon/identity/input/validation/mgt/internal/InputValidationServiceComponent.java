@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -30,7 +30,9 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.input.validation.mgt.listener.DataTypeValidationListener;
+import org.wso2.carbon.identity.input.validation.mgt.listener.InputValidationIdentityProviderMgtListener;
 import org.wso2.carbon.identity.input.validation.mgt.listener.InputValidationListener;
+import org.wso2.carbon.identity.input.validation.mgt.listener.InputValidationUserStoreConfigListener;
 import org.wso2.carbon.identity.input.validation.mgt.model.FieldValidationConfigurationHandler;
 import org.wso2.carbon.identity.input.validation.mgt.model.Validator;
 import org.wso2.carbon.identity.input.validation.mgt.model.handlers.PasswordValidationConfigurationHandler;
@@ -48,7 +50,10 @@ import org.wso2.carbon.identity.input.validation.mgt.model.validators.UpperCaseV
 import org.wso2.carbon.identity.input.validation.mgt.services.InputValidationManagementService;
 import org.wso2.carbon.identity.input.validation.mgt.services.InputValidationManagementServiceImpl;
 import org.wso2.carbon.identity.input.validation.mgt.userinfo.UserInfoHandlerImpl;
+import org.wso2.carbon.identity.user.store.configuration.deployer.listener.UserStoreDeploymentListener;
+import org.wso2.carbon.identity.user.store.configuration.listener.UserStoreConfigListener;
 import org.wso2.carbon.idp.mgt.IdpManager;
+import org.wso2.carbon.idp.mgt.listener.IdentityProviderMgtListener;
 import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.utils.multitenancy.userinfo.UserInfoHandler;
 
@@ -107,6 +112,16 @@ public class InputValidationServiceComponent {
             context.getBundleContext().registerService(FieldValidationConfigurationHandler.class.getName(),
                     new UsernameValidationConfigurationHandler(), null);
 
+            // Register listeners to invalidate the cached validation plans.
+            context.getBundleContext().registerService(IdentityProviderMgtListener.class.getName(),
+                    new InputValidationIdentityProviderMgtListener(), null);
+            InputValidationUserStoreConfigListener userStoreConfigListener =
+                    new InputValidationUserStoreConfigListener();
+            context.getBundleContext().registerService(UserStoreConfigListener.class.getName(),
+                    userStoreConfigListener, null);
+            context.getBundleContext().registerService(UserStoreDeploymentListener.class.getName(),
+                    userStoreConfigListener, null);
+
         } catch (Throwable throwable) {
             log.error("Error while activating Input Validation Service Component.", throwable);
         }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.input.validation.mgt.listener;
+
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.input.validation.mgt.services.InputValidationManagementServiceImpl;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+import org.wso2.carbon.idp.mgt.listener.AbstractIdentityProviderMgtListener;
+
+import java.util.List;
+
+/**
+ * Identity provider management listener to remove the cached validation plan of a tenant once the resident identity
+ * provider of the tenant, which holds the password policy, is changed.
+ */
+public class InputValidationIdentityProviderMgtListener extends AbstractIdentityProviderMgtListener {
+
+    @Override
+    public boolean doPostAddResidentIdP(IdentityProvider identityProvider, String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        InputValidationManagementServiceImpl.clearValidationPlan(tenantDomain);
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateResidentIdP(IdentityProvider identityProvider, String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        InputValidationManagementServiceImpl.clearValidationPlan(tenantDomain);
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteResidentIdpProperties(List<String> propertyNames, String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        InputValidationManagementServiceImpl.clearValidationPlan(tenantDomain);
+        return true;
+    }
+
+    @Override
+    public int getDefaultOrderId() {
+
+        return 20;
+    }
+}
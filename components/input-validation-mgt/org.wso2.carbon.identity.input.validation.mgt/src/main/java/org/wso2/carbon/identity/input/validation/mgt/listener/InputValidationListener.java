@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2024, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -28,11 +28,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtClientException;
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtException;
-import org.wso2.carbon.identity.input.validation.mgt.internal.InputValidationDataHolder;
-import org.wso2.carbon.identity.input.validation.mgt.model.RulesConfiguration;
-import org.wso2.carbon.identity.input.validation.mgt.model.ValidationConfiguration;
-import org.wso2.carbon.identity.input.validation.mgt.model.ValidationContext;
-import org.wso2.carbon.identity.input.validation.mgt.model.Validator;
+import org.wso2.carbon.identity.input.validation.mgt.model.ValidationPlan;
 import org.wso2.carbon.identity.input.validation.mgt.services.InputValidationManagementService;
 import org.wso2.carbon.identity.input.validation.mgt.services.InputValidationManagementServiceImpl;
 import org.wso2.carbon.identity.mgt.policy.PolicyViolationException;
@@ -43,12 +39,9 @@ import org.wso2.carbon.user.core.UserStoreException;
 import org.wso2.carbon.user.core.UserStoreManager;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.ERROR_CODE_PREFIX;
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.PASSWORD;
@@ -163,27 +156,22 @@ public class InputValidationListener extends AbstractIdentityUserOperationEventL
 
         int tenantId = userStoreManager.getTenantId();
         String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantId);
-        Map<String, Validator> validators = InputValidationDataHolder.getValidators();
 
-        List<ValidationConfiguration> configurations;
         try {
-            configurations = inputValidationMgtService.getInputValidationConfiguration(tenantDomain);
+            ValidationPlan validationPlan = inputValidationMgtService.getValidationPlan(tenantDomain);
 
             /* Validate provide value for each field in the `inputValuesForFieldsMap` against the configurations of the
              corresponding field. */
-            for (String field: inputValuesForFieldsMap.keySet()) {
-                ValidationConfiguration configuration = configurations.stream().filter(config ->
-                        field.equalsIgnoreCase(config.getField())).collect(Collectors.toList()).get(0);
-                if (configuration != null) {
+            for (Map.Entry<String, String> fieldWithValue : inputValuesForFieldsMap.entrySet()) {
+                String field = fieldWithValue.getKey();
+                if (validationPlan.hasField(field)) {
                     try {
                         if (PASSWORD.equals(field)) {
                             UserCoreUtil.setSkipPasswordPatternValidationThreadLocal(true);
                         } else if (USERNAME.equals(field)) {
                             UserCoreUtil.setSkipUsernamePatternValidationThreadLocal(true);
                         }
-                        String valueProvidedForField = inputValuesForFieldsMap.get(field);
-                        validateAgainstConfiguration(configuration, validators, field, valueProvidedForField,
-                                tenantDomain);
+                        validationPlan.validate(field, fieldWithValue.getValue());
                     } catch (InputValidationMgtClientException e) {
                         if (LOG.isDebugEnabled()) {
                             LOG.debug(new StringFormattedMessage("Failed to validate %s for user. " +
@@ -200,27 +188,6 @@ public class InputValidationListener extends AbstractIdentityUserOperationEventL
         return true;
     }
 
-    private boolean validateAgainstConfiguration(ValidationConfiguration configuration, Map<String, Validator>
-            validators, String field, String value, String tenantDomain) throws InputValidationMgtClientException {
-
-        List<RulesConfiguration> rules = new ArrayList<>();
-        if (configuration.getRegEx() != null) {
-            rules = configuration.getRegEx();
-        } else if (configuration.getRules() != null) {
-            rules = configuration.getRules();
-        }
-        for (RulesConfiguration rule: rules) {
-            Validator validator = validators.get(rule.getValidatorName());
-            ValidationContext context = new ValidationContext();
-            context.setField(field);
-            context.setValue(value);
-            context.setTenantDomain(tenantDomain);
-            context.setProperties(rule.getProperties());
-            validator.validate(context);
-        }
-        return true;
-    }
-
     /**
      * Skip username validation when sharing users to sub-organizations.
      *
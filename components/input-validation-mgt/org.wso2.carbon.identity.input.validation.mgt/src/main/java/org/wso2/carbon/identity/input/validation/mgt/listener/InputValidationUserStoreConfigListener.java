@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.input.validation.mgt.listener;
+
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants.UserStoreState;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.input.validation.mgt.services.InputValidationManagementServiceImpl;
+import org.wso2.carbon.identity.user.store.configuration.deployer.listener.UserStoreDeploymentListener;
+import org.wso2.carbon.identity.user.store.configuration.dto.UserStoreDTO;
+import org.wso2.carbon.identity.user.store.configuration.listener.AbstractUserStoreConfigListener;
+import org.wso2.carbon.user.api.UserStoreException;
+
+/**
+ * User store configuration listener to remove the cached validation plan of a tenant once a user store of the tenant,
+ * which holds the default username and password patterns, is changed. The plan is removed again once the user store
+ * configuration is deployed, since a plan rebuilt between the pre hooks and the deployment holds the old patterns.
+ */
+public class InputValidationUserStoreConfigListener extends AbstractUserStoreConfigListener
+        implements UserStoreDeploymentListener {
+
+    @Override
+    public void onUserStorePreAdd(int tenantId, UserStoreDTO userStoreDTO) throws UserStoreException {
+
+        clearValidationPlan(tenantId);
+    }
+
+    @Override
+    public void onUserStorePreUpdate(int tenantId, UserStoreDTO userStoreDTO, boolean isStateChange)
+            throws UserStoreException {
+
+        clearValidationPlan(tenantId);
+    }
+
+    @Override
+    public void onUserStorePreStateChange(UserStoreState state, int tenantId, String userStoreName)
+            throws UserStoreException {
+
+        clearValidationPlan(tenantId);
+    }
+
+    @Override
+    public void onUserStoreNamePostUpdate(int tenantId, String currentUserStoreName, String newUserStoreName)
+            throws UserStoreException {
+
+        clearValidationPlan(tenantId);
+    }
+
+    @Override
+    public void onUserStorePostDelete(int tenantId, String userStoreName) throws UserStoreException {
+
+        clearValidationPlan(tenantId);
+    }
+
+    @Override
+    public void onUserStorePostDeploy(int tenantId, String fileName) {
+
+        clearValidationPlan(tenantId);
+    }
+
+    @Override
+    public void onUserStorePostUndeploy(int tenantId, String fileName) {
+
+        clearValidationPlan(tenantId);
+    }
+
+    private void clearValidationPlan(int tenantId) {
+
+        InputValidationManagementServiceImpl.clearValidationPlan(IdentityTenantUtil.getTenantDomain(tenantId));
+    }
+}
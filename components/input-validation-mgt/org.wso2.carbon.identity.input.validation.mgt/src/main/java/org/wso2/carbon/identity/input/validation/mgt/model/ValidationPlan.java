@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.input.validation.mgt.model;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtClientException;
+import org.wso2.carbon.identity.input.validation.mgt.model.validators.JsRegExValidator;
+import org.wso2.carbon.identity.input.validation.mgt.utils.ValidationPatternRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.PatternSyntaxException;
+
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.JS_REGEX;
+
+/**
+ * Immutable snapshot of the input validation configuration of a tenant, indexed by field. Field names are matched
+ * case-insensitively.
+ * <p>
+ * The rules of a field are resolved once when the plan is built, and the regex patterns of the rules are compiled up
+ * front, so validating a field costs a single lookup plus the checks of its validators. Validators are resolved by
+ * name when a value is validated, so that a validator registered or unregistered later is honoured without
+ * rebuilding the plan.
+ */
+public class ValidationPlan {
+
+    private static final Log LOG = LogFactory.getLog(ValidationPlan.class);
+
+    private final String tenantDomain;
+    private final Map<String, ValidationConfiguration> configurations;
+    private final Map<String, List<RulesConfiguration>> rules;
+    private final Map<String, String> fieldsByLowerCaseName;
+    private final Map<String, Validator> validators;
+
+    /**
+     * @param tenantDomain   Tenant domain.
+     * @param configurations Validation configurations of the tenant. If a field has several configurations, the first
+     *                       one is used.
+     * @param validators     Validators by name.
+     */
+    public ValidationPlan(String tenantDomain, List<ValidationConfiguration> configurations,
+                          Map<String, Validator> validators) {
+
+        this.tenantDomain = tenantDomain;
+        this.validators = validators != null ? validators : Collections.emptyMap();
+        Map<String, ValidationConfiguration> configurationsByField = new HashMap<>();
+        Map<String, List<RulesConfiguration>> rulesByField = new HashMap<>();
+        Map<String, String> fieldsByLowerCase = new HashMap<>();
+        if (configurations != null) {
+            for (ValidationConfiguration configuration : configurations) {
+                if (configuration == null || configuration.getField() == null ||
+                        configurationsByField.containsKey(configuration.getField())) {
+                    continue;
+                }
+                fieldsByLowerCase.putIfAbsent(configuration.getField().toLowerCase(Locale.ENGLISH),
+                        configuration.getField());
+                ValidationConfiguration copy = new ValidationConfiguration();
+                copy.setField(configuration.getField());
+                copy.setRules(copyRules(configuration.getRules()));
+                copy.setRegEx(copyRules(configuration.getRegEx()));
+                configurationsByField.put(copy.getField(), copy);
+                // Regex rules take precedence over the other rules.
+                List<RulesConfiguration> fieldRules = copy.getRegEx() != null ? copy.getRegEx() : copy.getRules();
+                rulesByField.put(copy.getField(), fieldRules != null ? fieldRules : Collections.emptyList());
+            }
+        }
+        this.configurations = Collections.unmodifiableMap(configurationsByField);
+        this.rules = Collections.unmodifiableMap(rulesByField);
+        this.fieldsByLowerCaseName = Collections.unmodifiableMap(fieldsByLowerCase);
+    }
+
+    /**
+     * Get the tenant domain of the plan.
+     *
+     * @return Tenant domain.
+     */
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * Check whether the plan has a validation configuration for the field.
+     *
+     * @param field Name of the field.
+     * @return True if the field is configured.
+     */
+    public boolean hasField(String field) {
+
+        return resolveField(field) != null;
+    }
+
+    /**
+     * Get the validation configuration of a field. The configuration must not be modified.
+     *
+     * @param field Name of the field.
+     * @return Validation configuration of the field, or null if the field is not configured.
+     */
+    public ValidationConfiguration getConfiguration(String field) {
+
+        String configuredField = resolveField(field);
+        return configuredField != null ? configurations.get(configuredField) : null;
+    }
+
+    /**
+     * Validate the value of a field against the rules configured for the field. Rules of which the validator is not
+     * available are skipped with a warning.
+     *
+     * @param field Name of the field.
+     * @param value Value of the field.
+     * @throws InputValidationMgtClientException If the value does not satisfy a rule.
+     */
+    public void validate(String field, String value) throws InputValidationMgtClientException {
+
+        String configuredField = resolveField(field);
+        List<RulesConfiguration> fieldRules = configuredField != null ? rules.get(configuredField) : null;
+        if (fieldRules == null || fieldRules.isEmpty()) {
+            return;
+        }
+        ValidationContext context = new ValidationContext();
+        context.setField(field);
+        context.setValue(value);
+        context.setTenantDomain(tenantDomain);
+        for (RulesConfiguration rule : fieldRules) {
+            Validator validator = validators.get(rule.getValidatorName());
+            if (validator == null) {
+                LOG.warn("Skipping the rule of the unavailable validator: " + rule.getValidatorName() +
+                        " for the field: " + field + " in tenant: " + tenantDomain);
+                continue;
+            }
+            context.setProperties(rule.getProperties());
+            validator.validate(context);
+        }
+    }
+
+    /**
+     * Resolve the configured name of a field, preferring an exact match over a case-insensitive match.
+     *
+     * @param field Name of the field.
+     * @return Configured name of the field, or null if the field is not configured.
+     */
+    private String resolveField(String field) {
+
+        if (field == null) {
+            return null;
+        }
+        if (configurations.containsKey(field)) {
+            return field;
+        }
+        return fieldsByLowerCaseName.get(field.toLowerCase(Locale.ENGLISH));
+    }
+
+    private List<RulesConfiguration> copyRules(List<RulesConfiguration> rules) {
+
+        if (rules == null) {
+            return null;
+        }
+        List<RulesConfiguration> copies = new ArrayList<>(rules.size());
+        for (RulesConfiguration rule : rules) {
+            Map<String, String> properties = rule.getProperties() != null ?
+                    Collections.unmodifiableMap(new HashMap<>(rule.getProperties())) : Collections.emptyMap();
+            copies.add(new RulesConfiguration(rule.getValidatorName(), properties));
+            compilePattern(rule.getValidatorName(), properties);
+        }
+        return Collections.unmodifiableList(copies);
+    }
+
+    private void compilePattern(String validatorName, Map<String, String> properties) {
+
+        if (!JsRegExValidator.class.getSimpleName().equals(validatorName) || properties.get(JS_REGEX) == null) {
+            return;
+        }
+        try {
+            ValidationPatternRegistry.getPattern(tenantDomain, JsRegExValidator.toJavaRegex(properties.get(JS_REGEX)));
+        } catch (PatternSyntaxException e) {
+            // The validator reports the invalid regex when a value is validated against it.
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Invalid regex configured for " + validatorName + " in tenant: " + tenantDomain, e);
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.input.validation.mgt.model.ValidationContext;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.DEFAULT_EMAIL_JAVA_REGEX_PATTERN;
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.ENABLE_VALIDATOR;
@@ -39,6 +40,8 @@ import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Erro
  */
 public class EmailFormatValidator extends AbstractRulesValidator {
 
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(DEFAULT_EMAIL_JAVA_REGEX_PATTERN);
+
     private final List<String> allowedFields = new ArrayList<String>() {{
         add(USERNAME);
     }};
@@ -70,7 +73,7 @@ public class EmailFormatValidator extends AbstractRulesValidator {
                 throw new InputValidationMgtClientException(ERROR_INPUT_VALUE_NULL.getCode(),
                         ERROR_INPUT_VALUE_NULL.getMessage(), ERROR_INPUT_VALUE_NULL.getDescription());
             }
-            if (Boolean.parseBoolean(attributesMap.get(ENABLE_VALIDATOR)) && !value.matches(emailRegEx)) {
+            if (Boolean.parseBoolean(attributesMap.get(ENABLE_VALIDATOR)) && !EMAIL_PATTERN.matcher(value).matches()) {
                 throw new InputValidationMgtClientException(ERROR_VALIDATION_EMAIL_FORMAT_MISMATCH.getCode(),
                         ERROR_VALIDATION_EMAIL_FORMAT_MISMATCH.getMessage(),
                         String.format(ERROR_VALIDATION_EMAIL_FORMAT_MISMATCH.getDescription(), field, emailRegEx));
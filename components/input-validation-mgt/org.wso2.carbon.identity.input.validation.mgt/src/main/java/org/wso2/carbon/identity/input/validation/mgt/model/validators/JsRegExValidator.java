@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -22,12 +22,11 @@ import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtClientException;
 import org.wso2.carbon.identity.input.validation.mgt.model.Property;
 import org.wso2.carbon.identity.input.validation.mgt.model.ValidationContext;
+import org.wso2.carbon.identity.input.validation.mgt.utils.ValidationPatternRegistry;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.JS_REGEX;
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.PASSWORD;
@@ -59,12 +58,10 @@ public class JsRegExValidator extends AbstractRegExValidator {
 
         if (attributesMap.containsKey(JS_REGEX)) {
             String jsRegex = attributesMap.get(JS_REGEX);
-            // Convert to Java regex.
-            javaRegex = jsRegex.replaceAll("//", "/");
+            javaRegex = toJavaRegex(jsRegex);
 
-            Pattern pattern = Pattern.compile(javaRegex);
-            Matcher matcher = pattern.matcher(value);
-            valid = matcher.matches();
+            valid = ValidationPatternRegistry.matches(
+                    ValidationPatternRegistry.getPattern(context.getTenantDomain(), javaRegex), value);
         }
         if (!valid) {
             throw new InputValidationMgtClientException(ERROR_CODE_REGEX_MISMATCH.getCode(),
@@ -74,6 +71,17 @@ public class JsRegExValidator extends AbstractRegExValidator {
         return true;
     }
 
+    /**
+     * Convert a JavaScript regex to the Java regex it is validated against.
+     *
+     * @param jsRegex JavaScript regex.
+     * @return Java regex.
+     */
+    public static String toJavaRegex(String jsRegex) {
+
+        return jsRegex.replaceAll("//", "/");
+    }
+
     @Override
     public List<Property> getConfigurationProperties() {
 
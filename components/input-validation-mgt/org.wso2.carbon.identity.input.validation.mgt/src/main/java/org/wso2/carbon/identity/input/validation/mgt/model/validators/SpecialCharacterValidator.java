@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -55,10 +55,9 @@ public class SpecialCharacterValidator extends AbstractRulesValidator {
         Map<String, String> attributesMap = context.getProperties();
 
         for (int i = 0; i < value.length(); i++) {
-            if (value.substring(i, i + 1).matches("[^A-Za-z0-9]")) {
+            if (isSpecialCharacter(value.charAt(i))) {
                 countSpecial++;
             }
-
         }
         if (attributesMap.containsKey(MIN_LENGTH)) {
             int min = Integer.parseInt(attributesMap.get(MIN_LENGTH));
@@ -78,4 +77,10 @@ public class SpecialCharacterValidator extends AbstractRulesValidator {
         }
         return true;
     }
+
+    private static boolean isSpecialCharacter(char character) {
+
+        return !((character >= 'A' && character <= 'Z') || (character >= 'a' && character <= 'z') ||
+                (character >= '0' && character <= '9'));
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -22,6 +22,7 @@ import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationM
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtServerException;
 import org.wso2.carbon.identity.input.validation.mgt.model.FieldValidationConfigurationHandler;
 import org.wso2.carbon.identity.input.validation.mgt.model.ValidationConfiguration;
+import org.wso2.carbon.identity.input.validation.mgt.model.ValidationPlan;
 import org.wso2.carbon.identity.input.validation.mgt.model.Validator;
 import org.wso2.carbon.identity.input.validation.mgt.model.ValidatorConfiguration;
 
@@ -69,6 +70,20 @@ public interface InputValidationManagementService {
         return new ValidationConfiguration();
     }
 
+    /**
+     * Method to get the validation plan of a tenant, which validates the values of the fields against the input
+     * validation configuration of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Validation plan.
+     * @throws InputValidationMgtException If an error occurred in getting configuration.
+     */
+    default ValidationPlan getValidationPlan(String tenantDomain) throws InputValidationMgtException {
+
+        return new ValidationPlan(tenantDomain, getInputValidationConfiguration(tenantDomain),
+                getValidators(tenantDomain));
+    }
+
     /**
      * Method to get validator configurations.
      *
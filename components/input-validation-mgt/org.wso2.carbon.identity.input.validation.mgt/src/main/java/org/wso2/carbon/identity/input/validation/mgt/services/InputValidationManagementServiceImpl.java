@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -31,6 +31,8 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.input.validation.mgt.cache.ValidationPlanCache;
+import org.wso2.carbon.identity.input.validation.mgt.cache.ValidationPlanCacheEntry;
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtClientException;
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtException;
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtServerException;
@@ -38,11 +40,13 @@ import org.wso2.carbon.identity.input.validation.mgt.internal.InputValidationDat
 import org.wso2.carbon.identity.input.validation.mgt.model.FieldValidationConfigurationHandler;
 import org.wso2.carbon.identity.input.validation.mgt.model.RulesConfiguration;
 import org.wso2.carbon.identity.input.validation.mgt.model.ValidationConfiguration;
+import org.wso2.carbon.identity.input.validation.mgt.model.ValidationPlan;
 import org.wso2.carbon.identity.input.validation.mgt.model.Validator;
 import org.wso2.carbon.identity.input.validation.mgt.model.ValidatorConfiguration;
 import org.wso2.carbon.identity.input.validation.mgt.model.validators.AbstractRegExValidator;
 import org.wso2.carbon.identity.input.validation.mgt.model.validators.LengthValidator;
 import org.wso2.carbon.identity.input.validation.mgt.utils.Constants;
+import org.wso2.carbon.identity.input.validation.mgt.utils.ValidationPatternRegistry;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
 import org.wso2.carbon.idp.mgt.IdpManager;
 
@@ -148,6 +152,49 @@ public class InputValidationManagementServiceImpl implements InputValidationMana
         return getConfigurationFromUserStore(tenantDomain, field);
     }
 
+    /**
+     * Method to get the validation plan of a tenant. The plan is cached until the input validation configuration or
+     * the user store configuration of the tenant is changed.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Validation plan.
+     * @throws InputValidationMgtException If an error occurred in getting configuration.
+     */
+    @Override
+    public ValidationPlan getValidationPlan(String tenantDomain) throws InputValidationMgtException {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return new ValidationPlan(tenantDomain, getInputValidationConfiguration(tenantDomain),
+                    getValidators(tenantDomain));
+        }
+        ValidationPlanCacheEntry cacheEntry = ValidationPlanCache.getInstance().getValueFromCache(tenantDomain,
+                tenantDomain);
+        if (cacheEntry != null && cacheEntry.getValidationPlan() != null) {
+            return cacheEntry.getValidationPlan();
+        }
+        ValidationPlan validationPlan = new ValidationPlan(tenantDomain,
+                getInputValidationConfiguration(tenantDomain), getValidators(tenantDomain));
+        ValidationPlanCache.getInstance().addToCache(tenantDomain, new ValidationPlanCacheEntry(validationPlan),
+                tenantDomain);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Validation plan is built for the tenant: " + tenantDomain);
+        }
+        return validationPlan;
+    }
+
+    /**
+     * Method to remove the cached validation plan of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clearValidationPlan(String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        ValidationPlanCache.getInstance().clearCacheEntry(tenantDomain, tenantDomain);
+    }
+
     @Override
     public List<ValidatorConfiguration> getValidatorConfigurations (String tenantDomain)
             throws InputValidationMgtException {
@@ -271,6 +318,8 @@ public class InputValidationManagementServiceImpl implements InputValidationMana
             // Update the existing resource.
             updatedResource = updateResource(newResource, tenantDomain);
         }
+        ValidationPatternRegistry.clear(tenantDomain);
+        clearValidationPlan(tenantDomain);
 
         // Execute post actions of validation configuration update.
         FieldValidationConfigurationHandler handler = InputValidationDataHolder
@@ -306,6 +355,8 @@ public class InputValidationManagementServiceImpl implements InputValidationMana
                 }
             }
         }
+        ValidationPatternRegistry.clear(tenantDomain);
+        clearValidationPlan(tenantDomain);
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -56,6 +56,9 @@ public class Constants {
     public static final String PW_POLICY_MIN_LENGTH = "passwordPolicy.min.length";
     public static final String PW_POLICY_MAX_LENGTH = "passwordPolicy.max.length";
     public static final String PW_POLICY_PATTERN = "passwordPolicy.pattern";
+    public static final String MAX_CACHED_REGEX_PATTERNS = "InputValidation.MaxCachedRegexPatterns";
+    public static final int DEFAULT_MAX_CACHED_REGEX_PATTERNS = 1000;
+    public static final String REGEX_MATCH_TIMEOUT = "InputValidation.RegexMatchTimeoutInMillis";
 
     /**
      * Class contains the configuration related constants.
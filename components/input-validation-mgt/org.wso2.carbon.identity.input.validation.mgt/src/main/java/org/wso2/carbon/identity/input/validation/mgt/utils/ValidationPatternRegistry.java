@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.input.validation.mgt.utils;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.DEFAULT_MAX_CACHED_REGEX_PATTERNS;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.MAX_CACHED_REGEX_PATTERNS;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.REGEX_MATCH_TIMEOUT;
+
+/**
+ * Registry of the compiled regex patterns used by the input validators.
+ * <p>
+ * Patterns are compiled once per tenant and regex, and reused until the validation configuration of the tenant is
+ * updated. Since a regex is part of its key, a pattern is never used for a regex other than its own, and the registry
+ * is cleared once it holds the maximum number of patterns. Matching can optionally be bounded by a time budget, so
+ * that a pattern prone to catastrophic backtracking cannot hold a request thread indefinitely.
+ */
+public class ValidationPatternRegistry {
+
+    private static final Log LOG = LogFactory.getLog(ValidationPatternRegistry.class);
+    // Number of character reads between the checks of the match time budget.
+    private static final int TIME_CHECK_INTERVAL = 1024;
+    private static final Map<PatternKey, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    private ValidationPatternRegistry() {
+
+    }
+
+    /**
+     * Get the compiled pattern of the regex configured for the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param regex        Regex.
+     * @return Compiled pattern.
+     * @throws java.util.regex.PatternSyntaxException If the regex is invalid.
+     */
+    public static Pattern getPattern(String tenantDomain, String regex) {
+
+        PatternKey key = new PatternKey(tenantDomain, regex);
+        Pattern pattern = PATTERNS.get(key);
+        if (pattern != null) {
+            return pattern;
+        }
+        pattern = Pattern.compile(regex);
+        int maxPatterns = IdentityUtil.getIntProperty(MAX_CACHED_REGEX_PATTERNS, DEFAULT_MAX_CACHED_REGEX_PATTERNS);
+        if (maxPatterns > 0) {
+            if (PATTERNS.size() >= maxPatterns) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Clearing the compiled validation patterns since the limit: " + maxPatterns +
+                            " is reached.");
+                }
+                PATTERNS.clear();
+            }
+            Pattern existingPattern = PATTERNS.putIfAbsent(key, pattern);
+            if (existingPattern != null) {
+                return existingPattern;
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * Check whether the entire value matches the pattern, within the configured match time budget.
+     *
+     * @param pattern Compiled pattern.
+     * @param value   Value to match.
+     * @return True if the value matches the pattern, false if it does not match or the time budget is exceeded.
+     */
+    public static boolean matches(Pattern pattern, String value) {
+
+        long timeout = IdentityUtil.getLongProperty(REGEX_MATCH_TIMEOUT, 0L);
+        if (timeout <= 0) {
+            return pattern.matcher(value).matches();
+        }
+        try {
+            return pattern.matcher(new TimeBoundCharSequence(value,
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout))).matches();
+        } catch (MatchTimeoutException e) {
+            LOG.warn("Matching the input against the validation pattern: " + pattern.pattern() +
+                    " exceeded the time budget of " + timeout + " ms. Hence the input is treated as invalid.");
+            return false;
+        }
+    }
+
+    /**
+     * Remove the compiled patterns of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clear(String tenantDomain) {
+
+        PATTERNS.keySet().removeIf(key -> StringUtils.equals(key.tenantDomain, tenantDomain));
+    }
+
+    /**
+     * Remove the compiled patterns of all the tenants.
+     */
+    public static void clear() {
+
+        PATTERNS.clear();
+    }
+
+    /**
+     * Key of a compiled pattern.
+     */
+    private static final class PatternKey {
+
+        private final String tenantDomain;
+        private final String regex;
+
+        private PatternKey(String tenantDomain, String regex) {
+
+            this.tenantDomain = tenantDomain;
+            this.regex = regex;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PatternKey)) {
+                return false;
+            }
+            PatternKey that = (PatternKey) o;
+            return Objects.equals(tenantDomain, that.tenantDomain) && regex.equals(that.regex);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantDomain, regex);
+        }
+    }
+
+    /**
+     * Character sequence which fails the match once the deadline has passed.
+     */
+    private static final class TimeBoundCharSequence implements CharSequence {
+
+        private final CharSequence value;
+        private final long deadline;
+        private int readCount;
+
+        private TimeBoundCharSequence(CharSequence value, long deadline) {
+
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public char charAt(int index) {
+
+            if (++readCount % TIME_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                throw new MatchTimeoutException();
+            }
+            return value.charAt(index);
+        }
+
+        @Override
+        public int length() {
+
+            return value.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+
+            return new TimeBoundCharSequence(value.subSequence(start, end), deadline);
+        }
+
+        @Override
+        public String toString() {
+
+            return value.toString();
+        }
+    }
+
+    /**
+     * Thrown when the match time budget is exceeded.
+     */
+    private static final class MatchTimeoutException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private MatchTimeoutException() {
+
+            super(null, null, false, false);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2022-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -28,10 +28,13 @@ import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationMa
 import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
+import org.wso2.carbon.identity.input.validation.mgt.cache.ValidationPlanCache;
+import org.wso2.carbon.identity.input.validation.mgt.cache.ValidationPlanCacheEntry;
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtException;
 import org.wso2.carbon.identity.input.validation.mgt.internal.InputValidationDataHolder;
 import org.wso2.carbon.identity.input.validation.mgt.model.RulesConfiguration;
 import org.wso2.carbon.identity.input.validation.mgt.model.ValidationConfiguration;
+import org.wso2.carbon.identity.input.validation.mgt.model.ValidationPlan;
 import org.wso2.carbon.identity.input.validation.mgt.model.Validator;
 import org.wso2.carbon.identity.input.validation.mgt.model.ValidatorConfiguration;
 import org.wso2.carbon.identity.input.validation.mgt.model.validators.LengthValidator;
@@ -39,12 +42,14 @@ import org.wso2.carbon.identity.input.validation.mgt.services.InputValidationMan
 import org.wso2.carbon.identity.input.validation.mgt.services.InputValidationManagementServiceImpl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
@@ -64,18 +69,24 @@ public class InputValidationManagementServiceTest {
     private String fieldPassword = "password";
     private String fieldUsername = "username";
     private MockedStatic<InputValidationDataHolder> inputValidationDataHolder;
+    private MockedStatic<ValidationPlanCache> validationPlanCacheStatic;
+    private ValidationPlanCache validationPlanCache;
 
     @BeforeMethod
     public void setup() {
 
         service = new InputValidationManagementServiceImpl();
         inputValidationDataHolder = mockStatic(InputValidationDataHolder.class);
+        validationPlanCache = mock(ValidationPlanCache.class);
+        validationPlanCacheStatic = mockStatic(ValidationPlanCache.class);
+        validationPlanCacheStatic.when(ValidationPlanCache::getInstance).thenReturn(validationPlanCache);
     }
 
     @AfterMethod
     public void tearDown() {
 
         inputValidationDataHolder.close();
+        validationPlanCacheStatic.close();
     }
 
     @Test
@@ -175,6 +186,31 @@ public class InputValidationManagementServiceTest {
                 INPUT_VAL_CONFIG_RESOURCE_TYPE_NAME, nonExistingResourceName);
     }
 
+    @Test
+    public void getValidationPlanTest() throws Exception {
+
+        ConfigurationManager configurationManager = mock(ConfigurationManager.class);
+        when(InputValidationDataHolder.getConfigurationManager()).thenReturn(configurationManager);
+        when(InputValidationDataHolder.getValidators()).thenReturn(getValidators());
+        when(configurationManager.getResourcesByType(INPUT_VAL_CONFIG_RESOURCE_TYPE_NAME)).thenReturn(getResources());
+
+        // The plan is built from the configurations and cached.
+        ValidationPlan validationPlan = service.getValidationPlan(tenantName);
+        Assert.assertTrue(validationPlan.hasField(fieldPassword));
+        Assert.assertTrue(validationPlan.hasField(fieldUsername));
+        verify(validationPlanCache).addToCache(eq(tenantName), any(ValidationPlanCacheEntry.class), eq(tenantName));
+
+        // The cached plan is used without reading the configurations again.
+        when(validationPlanCache.getValueFromCache(tenantName, tenantName))
+                .thenReturn(new ValidationPlanCacheEntry(validationPlan));
+        Assert.assertSame(service.getValidationPlan(tenantName), validationPlan);
+        verify(configurationManager, times(1)).getResourcesByType(INPUT_VAL_CONFIG_RESOURCE_TYPE_NAME);
+
+        // The cached plan is removed once the configurations are reverted.
+        service.revertInputValidationConfiguration(Collections.singletonList(fieldPassword), tenantName);
+        verify(validationPlanCache).clearCacheEntry(tenantName, tenantName);
+    }
+
     private Resources getResources() {
 
         Resources resources = new Resources();
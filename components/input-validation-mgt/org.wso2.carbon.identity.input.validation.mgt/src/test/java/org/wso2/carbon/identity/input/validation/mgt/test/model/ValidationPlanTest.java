@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.input.validation.mgt.test.model;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtClientException;
+import org.wso2.carbon.identity.input.validation.mgt.model.RulesConfiguration;
+import org.wso2.carbon.identity.input.validation.mgt.model.ValidationConfiguration;
+import org.wso2.carbon.identity.input.validation.mgt.model.ValidationPlan;
+import org.wso2.carbon.identity.input.validation.mgt.model.Validator;
+import org.wso2.carbon.identity.input.validation.mgt.model.validators.JsRegExValidator;
+import org.wso2.carbon.identity.input.validation.mgt.model.validators.LengthValidator;
+import org.wso2.carbon.identity.input.validation.mgt.utils.ValidationPatternRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.JS_REGEX;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.MIN_LENGTH;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.PASSWORD;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.USERNAME;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.DEFAULT_MAX_CACHED_REGEX_PATTERNS;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.MAX_CACHED_REGEX_PATTERNS;
+
+/**
+ * Testing the ValidationPlan class.
+ */
+public class ValidationPlanTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String REGEX = "^[a-z]+$";
+    private MockedStatic<IdentityUtil> identityUtil;
+
+    @BeforeMethod
+    public void setup() {
+
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.getIntProperty(MAX_CACHED_REGEX_PATTERNS,
+                DEFAULT_MAX_CACHED_REGEX_PATTERNS)).thenReturn(DEFAULT_MAX_CACHED_REGEX_PATTERNS);
+        ValidationPatternRegistry.clear();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        ValidationPatternRegistry.clear();
+        identityUtil.close();
+    }
+
+    @Test
+    public void testValidateAgainstRules() throws Exception {
+
+        ValidationPlan validationPlan = new ValidationPlan(TENANT_DOMAIN, Collections.singletonList(
+                buildRulesConfiguration(PASSWORD, "5")), getValidators());
+
+        validationPlan.validate(PASSWORD, "password");
+        assertFalse(isValid(validationPlan, PASSWORD, "pass"));
+    }
+
+    @Test
+    public void testRegExTakesPrecedenceOverRules() throws Exception {
+
+        ValidationConfiguration configuration = buildRulesConfiguration(PASSWORD, "10");
+        configuration.setRegEx(Collections.singletonList(new RulesConfiguration(
+                JsRegExValidator.class.getSimpleName(), Collections.singletonMap(JS_REGEX, REGEX))));
+        ValidationPlan validationPlan = new ValidationPlan(TENANT_DOMAIN, Collections.singletonList(configuration),
+                getValidators());
+
+        // The pattern is compiled when the plan is built.
+        identityUtil.verify(() -> IdentityUtil.getIntProperty(MAX_CACHED_REGEX_PATTERNS,
+                DEFAULT_MAX_CACHED_REGEX_PATTERNS));
+        validationPlan.validate(PASSWORD, "short");
+        assertFalse(isValid(validationPlan, PASSWORD, "Short1"));
+    }
+
+    @Test
+    public void testPlanIsNotAffectedByConfigurationChanges() throws Exception {
+
+        ValidationConfiguration configuration = buildRulesConfiguration(PASSWORD, "5");
+        List<ValidationConfiguration> configurations = new ArrayList<>();
+        configurations.add(configuration);
+        // Only the first configuration of a field is used.
+        configurations.add(buildRulesConfiguration(PASSWORD, "1"));
+        ValidationPlan validationPlan = new ValidationPlan(TENANT_DOMAIN, configurations, getValidators());
+
+        configuration.getRules().get(0).getProperties().put(MIN_LENGTH, "1");
+        configuration.getRules().clear();
+
+        assertFalse(isValid(validationPlan, PASSWORD, "pass"));
+        assertEquals(validationPlan.getConfiguration(PASSWORD).getRules().get(0).getProperties().get(MIN_LENGTH),
+                "5");
+    }
+
+    @Test
+    public void testFieldsAreMatchedCaseInsensitively() throws Exception {
+
+        ValidationPlan validationPlan = new ValidationPlan(TENANT_DOMAIN, Collections.singletonList(
+                buildRulesConfiguration("Password", "5")), getValidators());
+
+        assertTrue(validationPlan.hasField(PASSWORD));
+        assertEquals(validationPlan.getConfiguration(PASSWORD).getField(), "Password");
+        assertFalse(isValid(validationPlan, PASSWORD, "pass"));
+    }
+
+    @Test
+    public void testUnknownFieldsAndValidatorsAreSkipped() throws Exception {
+
+        ValidationPlan validationPlan = new ValidationPlan(TENANT_DOMAIN, Collections.singletonList(
+                buildRulesConfiguration(PASSWORD, "5")), Collections.emptyMap());
+
+        assertTrue(validationPlan.hasField(PASSWORD));
+        assertFalse(validationPlan.hasField(USERNAME));
+        assertNull(validationPlan.getConfiguration(USERNAME));
+        validationPlan.validate(USERNAME, "a");
+        validationPlan.validate(PASSWORD, "pass");
+    }
+
+    private boolean isValid(ValidationPlan validationPlan, String field, String value) {
+
+        try {
+            validationPlan.validate(field, value);
+            return true;
+        } catch (InputValidationMgtClientException e) {
+            return false;
+        }
+    }
+
+    private ValidationConfiguration buildRulesConfiguration(String field, String minLength) {
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put(MIN_LENGTH, minLength);
+        List<RulesConfiguration> rules = new ArrayList<>();
+        rules.add(new RulesConfiguration(LengthValidator.class.getSimpleName(), properties));
+
+        ValidationConfiguration configuration = new ValidationConfiguration();
+        configuration.setField(field);
+        configuration.setRules(rules);
+        return configuration;
+    }
+
+    private Map<String, Validator> getValidators() {
+
+        Map<String, Validator> validators = new HashMap<>();
+        validators.put(LengthValidator.class.getSimpleName(), new LengthValidator());
+        validators.put(JsRegExValidator.class.getSimpleName(), new JsRegExValidator());
+        return validators;
+    }
+}
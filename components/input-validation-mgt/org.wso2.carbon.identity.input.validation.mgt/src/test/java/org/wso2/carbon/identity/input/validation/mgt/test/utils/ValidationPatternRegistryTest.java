@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.input.validation.mgt.test.utils;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.input.validation.mgt.utils.ValidationPatternRegistry;
+
+import java.util.regex.Pattern;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.DEFAULT_MAX_CACHED_REGEX_PATTERNS;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.MAX_CACHED_REGEX_PATTERNS;
+import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.REGEX_MATCH_TIMEOUT;
+
+/**
+ * Testing the ValidationPatternRegistry class.
+ */
+public class ValidationPatternRegistryTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String OTHER_TENANT_DOMAIN = "abc.com";
+    private static final String REGEX = "^[a-z]+$";
+    private MockedStatic<IdentityUtil> identityUtil;
+
+    @BeforeMethod
+    public void setup() {
+
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.getIntProperty(MAX_CACHED_REGEX_PATTERNS,
+                DEFAULT_MAX_CACHED_REGEX_PATTERNS)).thenReturn(DEFAULT_MAX_CACHED_REGEX_PATTERNS);
+        ValidationPatternRegistry.clear();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        ValidationPatternRegistry.clear();
+        identityUtil.close();
+    }
+
+    @Test
+    public void testPatternIsCompiledOncePerTenant() {
+
+        Pattern pattern = ValidationPatternRegistry.getPattern(TENANT_DOMAIN, REGEX);
+        assertSame(ValidationPatternRegistry.getPattern(TENANT_DOMAIN, REGEX), pattern);
+        assertNotSame(ValidationPatternRegistry.getPattern(OTHER_TENANT_DOMAIN, REGEX), pattern);
+    }
+
+    @Test
+    public void testClearTenantPatterns() {
+
+        Pattern pattern = ValidationPatternRegistry.getPattern(TENANT_DOMAIN, REGEX);
+        Pattern otherTenantPattern = ValidationPatternRegistry.getPattern(OTHER_TENANT_DOMAIN, REGEX);
+
+        ValidationPatternRegistry.clear(TENANT_DOMAIN);
+
+        assertNotSame(ValidationPatternRegistry.getPattern(TENANT_DOMAIN, REGEX), pattern);
+        assertSame(ValidationPatternRegistry.getPattern(OTHER_TENANT_DOMAIN, REGEX), otherTenantPattern);
+    }
+
+    @Test
+    public void testMatches() {
+
+        Pattern pattern = ValidationPatternRegistry.getPattern(TENANT_DOMAIN, REGEX);
+        assertTrue(ValidationPatternRegistry.matches(pattern, "abc"));
+        assertFalse(ValidationPatternRegistry.matches(pattern, "abc1"));
+    }
+
+    @Test
+    public void testMatchExceedingTimeBudgetFails() {
+
+        identityUtil.when(() -> IdentityUtil.getLongProperty(eq(REGEX_MATCH_TIMEOUT), anyLong())).thenReturn(1L);
+        // The back reference prevents the regex engine from optimizing away the exponential backtracking.
+        Pattern pattern = ValidationPatternRegistry.getPattern(TENANT_DOMAIN, "^(a+)+\\1$");
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            value.append('a');
+        }
+        value.append('!');
+
+        assertFalse(ValidationPatternRegistry.matches(pattern, value.toString()));
+        assertTrue(ValidationPatternRegistry.matches(pattern, "aaaa"));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2021-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -37,7 +37,14 @@ import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.UserStoreClientException;
 import org.wso2.carbon.user.core.UserStoreException;
 import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 import org.wso2.carbon.user.core.listener.UserOperationEventListener;
+import org.wso2.carbon.user.core.model.Condition;
+import org.wso2.carbon.user.core.model.ExpressionCondition;
+import org.wso2.carbon.user.core.model.ExpressionOperation;
+import org.wso2.carbon.user.core.model.OperationalCondition;
+import org.wso2.carbon.user.core.model.OperationalOperation;
+import org.wso2.carbon.user.core.model.UserClaimSearchEntry;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
 import java.time.Instant;
@@ -45,8 +52,11 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.core.util.IdentityCoreConstants.MULTI_ATTRIBUTE_SEPARATOR;
@@ -65,6 +75,8 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
     private static final String SCOPE_WITHIN_USERSTORE = "ScopeWithinUserstore";
     private static final String USERNAME_CLAIM = "http://wso2.org/claims/username";
     private static final String CREATED_TIME_CLAIM = "http://wso2.org/claims/created";
+    // Batched lookups which return this many users fall back to the per claim lookups.
+    private static final int BATCHED_LOOKUP_USER_LIMIT = 100;
 
     @Override
     public int getExecutionOrderId() {
@@ -134,7 +146,8 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
             String tenantDomain = getTenantDomain(userStoreManager);
             ClaimConstants.ClaimUniquenessScope uniquenessScope = getClaimUniquenessScope(claimURI, tenantDomain);
             if (shouldValidateUniqueness(uniquenessScope)) {
-                return !isClaimDuplicated(userName, claimURI, claimValue, profile, userStoreManager, uniquenessScope);
+                return !isClaimDuplicated(userName, claimURI, claimValue, profile,
+                        new UniquenessCheckContext(userStoreManager), uniquenessScope);
             }
         } catch (org.wso2.carbon.user.api.UserStoreException | ClaimMetadataException e) {
             log.error("Error while retrieving details. " + e.getMessage(), e);
@@ -169,7 +182,8 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
                                       UserStoreManager userStoreManager, Object credential) throws UserStoreException {
 
         List<String> duplicateClaims = new ArrayList<>();
-        processClaims(username, claims, profile, userStoreManager, credential, true, duplicateClaims);
+        processClaims(username, claims, profile, new UniquenessCheckContext(userStoreManager), credential, true,
+                duplicateClaims);
 
         if (!duplicateClaims.isEmpty()) {
             throwDuplicateClaimException(duplicateClaims);
@@ -188,7 +202,7 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
                                                   UserStoreManager userStoreManager, Object credential)
             throws UserStoreException {
 
-        processClaims(null, claims, null, userStoreManager, credential, false, null);
+        processClaims(null, claims, null, new UniquenessCheckContext(userStoreManager), credential, false, null);
     }
 
     /**
@@ -197,42 +211,199 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
      * @param username         The username of the user (nullable if not checking duplicates).
      * @param claims           A map of claim URIs and their values.
      * @param profile          The user profile (nullable if not checking duplicates).
-     * @param userStoreManager The user store manager handling claims.
+     * @param context          The uniqueness check context of the operation.
      * @param credential       The user's password.
      * @param duplicateClaims  A list to collect duplicate claims (used only if checking duplicates).
      * @throws UserStoreException If a policy violation occurs.
      */
     private void processClaims(String username, Map<String, String> claims, String profile,
-                               UserStoreManager userStoreManager, Object credential, boolean checkForDuplicates,
+                               UniquenessCheckContext context, Object credential, boolean checkForDuplicates,
                                List<String> duplicateClaims) throws UserStoreException {
 
-        String tenantDomain = getTenantDomain(userStoreManager);
+        Map<String, ClaimConstants.ClaimUniquenessScope> uniquenessScopes;
+        try {
+            // Resolve the uniqueness scopes of all the claims at once instead of fetching the claims per claim.
+            uniquenessScopes = getClaimUniquenessScopes(getTenantDomain(context.userStoreManager));
+        } catch (ClaimMetadataException e) {
+            log.error("Error while getting claim metadata for the claims to be validated.", e);
+            return;
+        }
 
+        Map<String, String> checkedClaims = new LinkedHashMap<>();
+        Map<String, String> singleValuedClaims = new HashMap<>();
+        Set<String> duplicateClaimUris = new HashSet<>();
         for (Map.Entry<String, String> claim : claims.entrySet()) {
-            try {
-                String claimKey = claim.getKey();
-                String claimValue = claim.getValue();
-                ClaimConstants.ClaimUniquenessScope uniquenessScope = getClaimUniquenessScope(claimKey, tenantDomain);
-
-                if (StringUtils.isNotEmpty(claimValue) && shouldValidateUniqueness(uniquenessScope)) {
-                    Claim claimObject = getClaimObject(userStoreManager, claimKey);
-                    if (claimObject == null) {
-                        continue;
+            String claimKey = claim.getKey();
+            String claimValue = claim.getValue();
+            ClaimConstants.ClaimUniquenessScope uniquenessScope = uniquenessScopes.getOrDefault(claimKey,
+                    ClaimConstants.ClaimUniquenessScope.NONE);
+
+            if (StringUtils.isNotEmpty(claimValue) && shouldValidateUniqueness(uniquenessScope)) {
+                Claim claimObject = context.getClaim(claimKey);
+                if (claimObject == null) {
+                    continue;
+                }
+
+                // Checks whether allowed login identifiers are equal to the password
+                validatePasswordNotEqualToClaim(credential, claimObject, claimValue);
+
+                if (!checkForDuplicates) {
+                    continue;
+                }
+                checkedClaims.put(claimKey, getClaimDisplayTag(claimObject, claimKey));
+                if (claimObject.isMultiValued()) {
+                    if (isClaimDuplicated(username, claimKey, claimValue, profile, context, uniquenessScope)) {
+                        duplicateClaimUris.add(claimKey);
                     }
+                } else {
+                    singleValuedClaims.put(claimKey, claimValue);
+                }
+            }
+        }
+
+        if (checkForDuplicates && !singleValuedClaims.isEmpty()) {
+            // Single valued claims are looked up together, so that all of them are checked with one user store query.
+            duplicateClaimUris.addAll(getDuplicatedClaims(username, singleValuedClaims, uniquenessScopes, profile,
+                    context));
+        }
+        for (Map.Entry<String, String> checkedClaim : checkedClaims.entrySet()) {
+            if (duplicateClaimUris.contains(checkedClaim.getKey())) {
+                duplicateClaims.add(checkedClaim.getValue());
+            }
+        }
+    }
+
+    /**
+     * Finds the single valued claims whose values are held by other users. The claims are looked up with one batched
+     * query per user store when the user store manager supports it, and with one query per claim otherwise.
+     *
+     * @param username         The username of the user whose claims are being validated.
+     * @param claimValues      The claim values to be validated, keyed by the claim URI.
+     * @param uniquenessScopes The uniqueness scopes of the claims, keyed by the claim URI.
+     * @param profile          The user profile.
+     * @param context          The uniqueness check context of the operation.
+     * @return The URIs of the claims whose values are held by other users.
+     * @throws UserStoreException If an error occurs while looking up the users holding the claim values.
+     */
+    private Set<String> getDuplicatedClaims(String username, Map<String, String> claimValues,
+                                            Map<String, ClaimConstants.ClaimUniquenessScope> uniquenessScopes,
+                                            String profile, UniquenessCheckContext context)
+            throws UserStoreException {
+
+        String domainName = context.getDomainName();
+        UserStoreManager userStoreMgrFromRealm = context.getUserStoreManagerFromRealm();
+        Set<String> duplicatedClaims = new HashSet<>();
+
+        Map<String, List<String>> claimValueHolders = null;
+        if (claimValues.size() > 1 && userStoreMgrFromRealm instanceof AbstractUserStoreManager) {
+            claimValueHolders = getClaimValueHolders(claimValues, uniquenessScopes, profile, domainName,
+                    (AbstractUserStoreManager) userStoreMgrFromRealm);
+        }
+        for (Map.Entry<String, String> claim : claimValues.entrySet()) {
+            String claimUri = claim.getKey();
+            boolean claimDuplicated;
+            if (claimValueHolders != null) {
+                claimDuplicated = isClaimHeldByOtherUser(username, claimUri,
+                        claimValueHolders.get(claimUri).toArray(new String[0]), domainName, userStoreMgrFromRealm);
+            } else {
+                claimDuplicated = isClaimDuplicatedInUserStore(username, claimUri, claim.getValue(), profile,
+                        domainName, userStoreMgrFromRealm, uniquenessScopes.get(claimUri));
+            }
+            if (claimDuplicated) {
+                duplicatedClaims.add(claimUri);
+            }
+        }
+        return duplicatedClaims;
+    }
+
+    /**
+     * Looks up the users holding any of the given claim values with one query per user store, and attributes the
+     * users to the claims using their claim values.
+     *
+     * @return The domain qualified names of the users holding each claim value, keyed by the claim URI, or null if
+     * the users cannot be resolved with batched queries.
+     */
+    private Map<String, List<String>> getClaimValueHolders(
+            Map<String, String> claimValues, Map<String, ClaimConstants.ClaimUniquenessScope> uniquenessScopes,
+            String profile, String domainName, AbstractUserStoreManager userStoreManager) throws UserStoreException {
+
+        Map<String, List<String>> claimValueHolders = new HashMap<>();
+        for (String claimUri : claimValues.keySet()) {
+            claimValueHolders.put(claimUri, new ArrayList<>());
+        }
+
+        UserStoreManager domainUserStoreManager = userStoreManager;
+        while (domainUserStoreManager != null) {
+            String searchDomain = UserCoreUtil.getDomainName(domainUserStoreManager.getRealmConfiguration());
+            domainUserStoreManager = domainUserStoreManager.getSecondaryUserStoreManager();
+
+            Map<String, String> domainClaimValues = new HashMap<>();
+            for (Map.Entry<String, String> claim : claimValues.entrySet()) {
+                if (!ClaimConstants.ClaimUniquenessScope.WITHIN_USERSTORE.equals(uniquenessScopes.get(claim.getKey()))
+                        || searchDomain.equalsIgnoreCase(domainName)) {
+                    domainClaimValues.put(claim.getKey(), claim.getValue());
+                }
+            }
+            if (domainClaimValues.isEmpty()) {
+                continue;
+            }
 
-                    // Checks whether allowed login identifiers are equal to the password
-                    validatePasswordNotEqualToClaim(credential, claimObject, claimValue);
+            String[] userList;
+            try {
+                userList = userStoreManager.getUserList(buildClaimValuesCondition(domainClaimValues), searchDomain,
+                        profile, BATCHED_LOOKUP_USER_LIMIT, 1, null, null);
+            } catch (UserStoreException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Batched claim value lookup is not supported by the user store domain: " +
+                            searchDomain + ". Looking up the claim values one by one.", e);
+                }
+                return null;
+            }
+            if (userList.length == 0) {
+                continue;
+            }
+            if (userList.length >= BATCHED_LOOKUP_USER_LIMIT) {
+                return null;
+            }
 
-                    // Check for duplicate claims if required
-                    if (checkForDuplicates && isClaimDuplicated(username, claimKey, claimValue, profile,
-                            userStoreManager, uniquenessScope)) {
-                        duplicateClaims.add(getClaimDisplayTag(claimObject, claimKey));
+            String[] domainUserList = new String[userList.length];
+            for (int i = 0; i < userList.length; i++) {
+                domainUserList[i] = UserCoreUtil.addDomainToName(UserCoreUtil.removeDomainFromName(userList[i]),
+                        searchDomain);
+            }
+            UserClaimSearchEntry[] userClaimSearchEntries = userStoreManager.getUsersClaimValues(domainUserList,
+                    domainClaimValues.keySet().toArray(new String[0]), profile);
+            for (UserClaimSearchEntry userClaimSearchEntry : userClaimSearchEntries) {
+                Map<String, String> userClaims = userClaimSearchEntry.getClaims();
+                String user = UserCoreUtil.addDomainToName(
+                        UserCoreUtil.removeDomainFromName(userClaimSearchEntry.getUserName()), searchDomain);
+                boolean claimMatched = false;
+                for (Map.Entry<String, String> claim : domainClaimValues.entrySet()) {
+                    if (userClaims != null && claim.getValue().equals(userClaims.get(claim.getKey()))) {
+                        claimValueHolders.get(claim.getKey()).add(user);
+                        claimMatched = true;
                     }
                 }
-            } catch (ClaimMetadataException e) {
-                log.error("Error while getting claim metadata for claimUri: " + claim.getKey() + ".", e);
+                if (!claimMatched) {
+                    // The user store matched a value in a way which cannot be attributed to a claim, e.g. ignoring
+                    // the case of the value.
+                    return null;
+                }
             }
         }
+        return claimValueHolders;
+    }
+
+    private Condition buildClaimValuesCondition(Map<String, String> claimValues) {
+
+        Condition condition = null;
+        for (Map.Entry<String, String> claim : claimValues.entrySet()) {
+            Condition claimCondition = new ExpressionCondition(ExpressionOperation.EQ.toString(), claim.getKey(),
+                    claim.getValue());
+            condition = condition == null ? claimCondition :
+                    new OperationalCondition(OperationalOperation.OR.toString(), condition, claimCondition);
+        }
+        return condition;
     }
 
     /**
@@ -305,27 +476,51 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
     }
 
     private boolean isClaimDuplicated(String username, String claimUri, String claimValue, String profile,
-                                      UserStoreManager userStoreManager,
+                                      UniquenessCheckContext context,
                                       ClaimConstants.ClaimUniquenessScope uniquenessScope) throws UserStoreException {
 
-        String domainName = userStoreManager.getRealmConfiguration().getUserStoreProperty(
-                UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME);
-        Claim claim = getClaimObject(userStoreManager, claimUri);
-        String[] userList;
+        String domainName = context.getDomainName();
+        Claim claim = context.getClaim(claimUri);
         // Get UserStoreManager from realm since the received one might be for a secondary user store
-        UserStoreManager userStoreMgrFromRealm = getUserstoreManager(userStoreManager.getTenantId());
+        UserStoreManager userStoreMgrFromRealm = context.getUserStoreManagerFromRealm();
 
         if (claim != null && claim.isMultiValued()) {
             return isMultiValuedClaimDuplicated(username, claimUri, claimValue, profile, userStoreMgrFromRealm,
                     domainName, uniquenessScope);
         }
 
+        return isClaimDuplicatedInUserStore(username, claimUri, claimValue, profile, domainName,
+                userStoreMgrFromRealm, uniquenessScope);
+    }
+
+    private boolean isClaimDuplicatedInUserStore(String username, String claimUri, String claimValue, String profile,
+                                                 String domainName, UserStoreManager userStoreMgrFromRealm,
+                                                 ClaimConstants.ClaimUniquenessScope uniquenessScope)
+            throws UserStoreException {
+
+        String[] userList;
         if (ClaimConstants.ClaimUniquenessScope.WITHIN_USERSTORE.equals(uniquenessScope)) {
             String claimValueWithDomain = domainName + UserCoreConstants.DOMAIN_SEPARATOR + claimValue;
             userList = userStoreMgrFromRealm.getUserList(claimUri, claimValueWithDomain, profile);
         } else {
             userList = userStoreMgrFromRealm.getUserList(claimUri, claimValue, profile);
         }
+        return isClaimHeldByOtherUser(username, claimUri, userList, domainName, userStoreMgrFromRealm);
+    }
+
+    /**
+     * Decides whether a claim value is held by a user other than the given user. When several users hold the value,
+     * the earliest created user keeps it.
+     *
+     * @param username              The username of the user whose claim is being validated.
+     * @param claimUri              The claim URI.
+     * @param userList              The domain qualified names of the users holding the claim value.
+     * @param domainName            The user store domain of the user.
+     * @param userStoreMgrFromRealm UserStoreManager to retrieve user claim values.
+     * @return True if the claim value is held by another user.
+     */
+    private boolean isClaimHeldByOtherUser(String username, String claimUri, String[] userList, String domainName,
+                                           UserStoreManager userStoreMgrFromRealm) {
 
         String usernameWithUserStoreDomain = UserCoreUtil.addDomainToName(username, domainName);
         if (userList.length == 0) {
@@ -387,6 +582,37 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
                 .findFirst()
                 .orElse(null);
 
+        return resolveClaimUniquenessScope(targetLocalClaim, claimUri);
+    }
+
+    /**
+     * Determines the uniqueness validation scopes of all the local claims of the tenant, so that the claims of an
+     * operation are resolved with a single claim metadata lookup.
+     *
+     * @param tenantDomain The tenant domain where the claims exist
+     * @return The uniqueness scopes of the claims which should be validated, keyed by the claim URI
+     * @throws ClaimMetadataException If there is an error accessing claim metadata
+     */
+    private Map<String, ClaimConstants.ClaimUniquenessScope> getClaimUniquenessScopes(String tenantDomain)
+            throws ClaimMetadataException {
+
+        List<LocalClaim> localClaims = UniqueClaimUserOperationDataHolder.getInstance()
+                .getClaimMetadataManagementService().getLocalClaims(tenantDomain);
+
+        Map<String, ClaimConstants.ClaimUniquenessScope> uniquenessScopes = new HashMap<>();
+        for (LocalClaim localClaim : localClaims) {
+            ClaimConstants.ClaimUniquenessScope uniquenessScope =
+                    resolveClaimUniquenessScope(localClaim, localClaim.getClaimURI());
+            if (shouldValidateUniqueness(uniquenessScope)) {
+                uniquenessScopes.putIfAbsent(localClaim.getClaimURI(), uniquenessScope);
+            }
+        }
+        return uniquenessScopes;
+    }
+
+    private ClaimConstants.ClaimUniquenessScope resolveClaimUniquenessScope(LocalClaim targetLocalClaim,
+                                                                            String claimUri) {
+
         if (targetLocalClaim != null) {
             String uniquenessScope = targetLocalClaim.getClaimProperty(ClaimConstants.CLAIM_UNIQUENESS_SCOPE_PROPERTY);
             if (StringUtils.isNotBlank(uniquenessScope)) {
@@ -434,7 +660,8 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
         try {
             ClaimConstants.ClaimUniquenessScope uniquenessScope = getClaimUniquenessScope(USERNAME_CLAIM, tenantDomain);
             if (shouldValidateUniqueness(uniquenessScope) &&
-                    isClaimDuplicated(username, USERNAME_CLAIM, username, null, userStoreManager, uniquenessScope)) {
+                    isClaimDuplicated(username, USERNAME_CLAIM, username, null,
+                            new UniquenessCheckContext(userStoreManager), uniquenessScope)) {
 
                 errorMessage = "Username " + LoggerUtils.getMaskedContent(username) +
                         " is already in use by a different user!";
@@ -598,4 +825,50 @@ public class UniqueClaimUserOperationEventListener extends AbstractIdentityUserO
                 .map(Map.Entry::getKey)
                 .orElse(null);
     }
+
+    private String getUserStoreDomain(UserStoreManager userStoreManager) {
+
+        return userStoreManager.getRealmConfiguration().getUserStoreProperty(
+                UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME);
+    }
+
+    /**
+     * Details of the user store which are resolved once per uniqueness check and shared by the checked claims.
+     */
+    private class UniquenessCheckContext {
+
+        private final UserStoreManager userStoreManager;
+        private final Map<String, Claim> claims = new HashMap<>();
+        private String domainName;
+        private UserStoreManager userStoreManagerFromRealm;
+
+        private UniquenessCheckContext(UserStoreManager userStoreManager) {
+
+            this.userStoreManager = userStoreManager;
+        }
+
+        private String getDomainName() {
+
+            if (domainName == null) {
+                domainName = getUserStoreDomain(userStoreManager);
+            }
+            return domainName;
+        }
+
+        private UserStoreManager getUserStoreManagerFromRealm() throws UserStoreException {
+
+            if (userStoreManagerFromRealm == null) {
+                userStoreManagerFromRealm = getUserstoreManager(userStoreManager.getTenantId());
+            }
+            return userStoreManagerFromRealm;
+        }
+
+        private Claim getClaim(String claimUri) {
+
+            if (!claims.containsKey(claimUri)) {
+                claims.put(claimUri, getClaimObject(userStoreManager, claimUri));
+            }
+            return claims.get(claimUri);
+        }
+    }
 }
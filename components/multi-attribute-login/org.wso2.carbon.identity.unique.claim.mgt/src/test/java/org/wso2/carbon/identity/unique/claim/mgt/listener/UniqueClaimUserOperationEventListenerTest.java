@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -43,6 +43,9 @@ import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.UserStoreClientException;
 import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.user.core.model.Condition;
+import org.wso2.carbon.user.core.model.UserClaimSearchEntry;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tenant.TenantManager;
 
@@ -58,6 +61,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -447,6 +451,124 @@ public class UniqueClaimUserOperationEventListenerTest {
         when(mockIdentityEventListenerConfig.getProperties()).thenReturn(properties);
     }
 
+    @DataProvider(name = "batchedClaimLookupProvider")
+    public Object[][] batchedClaimLookupProvider() {
+
+        return new Object[][]{
+                // The other user holds the email, but not the mobile.
+                {new String[]{"otherUser"}, "sample@wso2.com", "0777777777", true},
+                // The other user holds neither value.
+                {new String[0], null, null, false},
+                // The other user holds the email in a different case, which cannot be attributed to a claim.
+                {new String[]{"otherUser"}, "SAMPLE@wso2.com", "0777777777", false}
+        };
+    }
+
+    @Test(dataProvider = "batchedClaimLookupProvider")
+    public void testClaimsAreLookedUpWithOneQueryPerUserStore(String[] batchedUserList, String otherUserEmail,
+                                                              String otherUserMobile, boolean expectDuplicateEmail)
+            throws Exception {
+
+        AbstractUserStoreManager abstractUserStoreManager = mockForBatchedClaimLookup();
+        when(abstractUserStoreManager.getUserList(any(Condition.class), eq("PRIMARY"), eq("default"), anyInt(),
+                anyInt(), any(), any())).thenReturn(batchedUserList);
+        Map<String, String> otherUserClaims = new HashMap<>();
+        otherUserClaims.put(EMAIL_CLAIM_URI, otherUserEmail);
+        otherUserClaims.put(MOBILE_CLAIM_URI, otherUserMobile);
+        UserClaimSearchEntry userClaimSearchEntry = new UserClaimSearchEntry();
+        userClaimSearchEntry.setUserName("otherUser");
+        userClaimSearchEntry.setClaims(otherUserClaims);
+        when(abstractUserStoreManager.getUsersClaimValues(any(String[].class), any(String[].class), eq("default")))
+                .thenReturn(new UserClaimSearchEntry[]{userClaimSearchEntry});
+        when(abstractUserStoreManager.getUserList(anyString(), anyString(), anyString())).thenReturn(new String[0]);
+
+        String errorMessage = null;
+        try {
+            uniqueClaimUserOperationEventListener.doPreSetUserClaimValues("testUser", getBatchedClaims(), "default",
+                    abstractUserStoreManager);
+        } catch (UserStoreClientException e) {
+            errorMessage = e.getMessage();
+        }
+
+        Assert.assertEquals(errorMessage != null, expectDuplicateEmail);
+        if (expectDuplicateEmail) {
+            Assert.assertTrue(errorMessage.contains("Email"));
+            Assert.assertFalse(errorMessage.contains("Mobile"));
+        }
+        verify(abstractUserStoreManager, times(1)).getUserList(any(Condition.class), eq("PRIMARY"), eq("default"),
+                anyInt(), anyInt(), any(), any());
+        // A user who cannot be attributed to a claim makes the claims be looked up one by one.
+        int perClaimLookups = batchedUserList.length > 0 && !expectDuplicateEmail ? 1 : 0;
+        verify(abstractUserStoreManager, times(perClaimLookups)).getUserList(EMAIL_CLAIM_URI, "sample@wso2.com",
+                "default");
+        verify(abstractUserStoreManager, times(perClaimLookups)).getUserList(MOBILE_CLAIM_URI, "0711234567",
+                "default");
+    }
+
+    @Test
+    public void testClaimsAreLookedUpOneByOneWhenBatchedLookupIsNotSupported() throws Exception {
+
+        AbstractUserStoreManager abstractUserStoreManager = mockForBatchedClaimLookup();
+        when(abstractUserStoreManager.getUserList(any(Condition.class), anyString(), anyString(), anyInt(), anyInt(),
+                any(), any())).thenThrow(new org.wso2.carbon.user.core.UserStoreException("Unsupported operation."));
+        when(abstractUserStoreManager.getUserList(EMAIL_CLAIM_URI, "sample@wso2.com", "default"))
+                .thenReturn(new String[]{"otherUser"});
+        when(abstractUserStoreManager.getUserList(MOBILE_CLAIM_URI, "0711234567", "default"))
+                .thenReturn(new String[0]);
+
+        try {
+            uniqueClaimUserOperationEventListener.doPreSetUserClaimValues("testUser", getBatchedClaims(), "default",
+                    abstractUserStoreManager);
+            Assert.fail("Duplicate email should be rejected.");
+        } catch (UserStoreClientException e) {
+            Assert.assertEquals(e.getErrorCode(), ERROR_CODE_DUPLICATE_SINGLE_CLAIM.getCode());
+        }
+        verify(abstractUserStoreManager).getUserList(EMAIL_CLAIM_URI, "sample@wso2.com", "default");
+        verify(abstractUserStoreManager).getUserList(MOBILE_CLAIM_URI, "0711234567", "default");
+    }
+
+    private Map<String, String> getBatchedClaims() {
+
+        Map<String, String> claims = new HashMap<>();
+        claims.put(EMAIL_CLAIM_URI, "sample@wso2.com");
+        claims.put(MOBILE_CLAIM_URI, "0711234567");
+        return claims;
+    }
+
+    private AbstractUserStoreManager mockForBatchedClaimLookup() throws Exception {
+
+        AbstractUserStoreManager abstractUserStoreManager = mock(AbstractUserStoreManager.class);
+        when(abstractUserStoreManager.getClaimManager()).thenReturn(claimManager);
+        RealmConfiguration realmConfiguration = mock(RealmConfiguration.class);
+        when(abstractUserStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+        when(realmConfiguration.getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME))
+                .thenReturn("PRIMARY");
+        when(abstractUserStoreManager.getTenantId()).thenReturn(-1234);
+        UserRealm userRealm = mock(UserRealm.class);
+        when(realmService.getTenantUserRealm(-1234)).thenReturn(userRealm);
+        when(userRealm.getUserStoreManager()).thenReturn(abstractUserStoreManager);
+
+        List<LocalClaim> localClaims = new ArrayList<>();
+        for (String claimUri : new String[]{EMAIL_CLAIM_URI, MOBILE_CLAIM_URI}) {
+            LocalClaim localClaim = new LocalClaim(claimUri);
+            localClaim.setClaimProperty(ClaimConstants.CLAIM_UNIQUENESS_SCOPE_PROPERTY,
+                    ClaimConstants.ClaimUniquenessScope.ACROSS_USERSTORES.toString());
+            localClaims.add(localClaim);
+        }
+        when(claimMetadataManagementService.getLocalClaims(anyString())).thenReturn(localClaims);
+        Claim claimEmail = new Claim();
+        claimEmail.setClaimUri(EMAIL_CLAIM_URI);
+        claimEmail.setDisplayTag("Email");
+        when(claimManager.getClaim(EMAIL_CLAIM_URI)).thenReturn(claimEmail);
+        Claim claimMobile = new Claim();
+        claimMobile.setClaimUri(MOBILE_CLAIM_URI);
+        claimMobile.setDisplayTag("Mobile");
+        when(claimManager.getClaim(MOBILE_CLAIM_URI)).thenReturn(claimMobile);
+
+        doReturn(true).when(uniqueClaimUserOperationEventListener).isEnable();
+        return abstractUserStoreManager;
+    }
+
     @AfterMethod
     public void tearDown() throws Exception {
 
@@ -19,36 +19,46 @@
 
 package org.wso2.carbon.identity.notification.mgt;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.notification.mgt.bean.PublisherEvent;
-import org.wso2.carbon.identity.notification.mgt.internal.NotificationManagementServiceDataHolder;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * This has a queue inside. All publishers add events to this queue and this event distribution task is responsible
- * for distributing these events to Notification sending modules
+ * All publishers add events through this event distribution task, which is responsible for distributing these events
+ * to Notification sending modules.
+ * <p>
+ * Each module has a bounded queue and a limited number of threads, so that a slow module neither holds the threads of
+ * the other modules nor lets the pending events grow without a limit. The modules which may be subscribed to an event
+ * are indexed by the event name, so that only those modules are asked whether they are subscribed to the event.
  */
 public class EventDistributionTask implements Runnable {
 
     private static final Log log = LogFactory.getLog(NotificationSender.class);
 
     /**
-     * Queue used to add events by publishers.
+     * Queues of the registered message sending modules.
      */
-    private BlockingDeque<PublisherEvent> eventQueue;
+    private volatile List<NotificationModuleQueue> moduleQueues = Collections.emptyList();
     /**
-     * Registered message sending modules.
+     * Queues of the modules which may be subscribed to an event, by event name.
      */
-    private List<NotificationSendingModule> notificationSendingModules;
+    private final Map<String, List<NotificationModuleQueue>> eventIndex = new ConcurrentHashMap<>();
     /**
-     * Condition to break event distribution task
+     * Dispatch configurations of the modules.
      */
-    private volatile boolean running;
+    private final Properties dispatchProperties;
+    /**
+     * Default number of events sent by a module at a time.
+     */
+    private final int threadPoolSize;
 
     /**
      * Overridden constructor to initiate notification sending modules and thread pool size
@@ -57,56 +67,181 @@ public class EventDistributionTask implements Runnable {
      * @param threadPoolSize             Size of thread pool for notification sending components
      */
     public EventDistributionTask(List<NotificationSendingModule> notificationSendingModules, int threadPoolSize) {
-        this.notificationSendingModules = notificationSendingModules;
-        this.eventQueue = new LinkedBlockingDeque<PublisherEvent>();
-        NotificationManagementServiceDataHolder.getInstance().setThreadPool(Executors.newFixedThreadPool(threadPoolSize));
+        this(notificationSendingModules, threadPoolSize, new Properties());
     }
 
+    /**
+     * Overridden constructor to initiate notification sending modules with their dispatch configurations.
+     *
+     * @param notificationSendingModules List of notification sending modules registered
+     * @param threadPoolSize             Default number of events sent by a module at a time
+     * @param dispatchProperties         Dispatch configurations, such as the queue capacity of the modules
+     */
+    public EventDistributionTask(List<NotificationSendingModule> notificationSendingModules, int threadPoolSize,
+                                 Properties dispatchProperties) {
+        this.threadPoolSize = threadPoolSize;
+        this.dispatchProperties = dispatchProperties != null ? dispatchProperties : new Properties();
+        for (NotificationSendingModule module : notificationSendingModules) {
+            addModule(module);
+        }
+    }
+
+    /**
+     * Distribute the event to the queues of the modules subscribed to it.
+     *
+     * @param publisherEvent Publisher event
+     */
     public void addEventToQueue(PublisherEvent publisherEvent) {
-        this.eventQueue.add(publisherEvent);
+        for (NotificationModuleQueue moduleQueue : getModuleQueues(publisherEvent.getEventName())) {
+            NotificationSendingModule module = moduleQueue.getModule();
+            // If the module is subscribed to the event, module will be executed.
+            try {
+                if (module.isSubscribed(publisherEvent)) {
+                    moduleQueue.enqueue(publisherEvent);
+                }
+            } catch (NotificationManagementException e) {
+                log.error("Error while getting subscription status from notification module " + module.
+                        getModuleName(), e);
+            }
+        }
     }
 
+    /**
+     * Events are distributed to the module queues as they are added, hence there is nothing to run.
+     *
+     * @deprecated Events are distributed by {@link #addEventToQueue(PublisherEvent)}.
+     */
+    @Deprecated
     @Override
     public void run() {
-        running = true;
-        // Run forever until stop the bundle. Will stop in eventQueue.take()
-        while (running) {
+    }
+
+    /**
+     * Register a notification sending module.
+     *
+     * @param module Notification sending module
+     */
+    public synchronized void addModule(NotificationSendingModule module) {
+        for (NotificationModuleQueue moduleQueue : moduleQueues) {
+            if (moduleQueue.getModule() == module) {
+                return;
+            }
+        }
+        List<NotificationModuleQueue> newModuleQueues = new ArrayList<>(moduleQueues);
+        newModuleQueues.add(createModuleQueue(module));
+        moduleQueues = Collections.unmodifiableList(newModuleQueues);
+        eventIndex.clear();
+    }
+
+    /**
+     * Unregister a notification sending module. The events already in its queue are still sent.
+     *
+     * @param module Notification sending module
+     */
+    public synchronized void removeModule(NotificationSendingModule module) {
+        List<NotificationModuleQueue> newModuleQueues = new ArrayList<>(moduleQueues);
+        for (NotificationModuleQueue moduleQueue : moduleQueues) {
+            if (moduleQueue.getModule() == module) {
+                newModuleQueues.remove(moduleQueue);
+                moduleQueue.shutdown();
+            }
+        }
+        moduleQueues = Collections.unmodifiableList(newModuleQueues);
+        eventIndex.clear();
+    }
+
+    /**
+     * Get the queues of the registered modules, which expose their queue depth and latency metrics.
+     *
+     * @return Queues of the registered modules
+     */
+    public List<NotificationModuleQueue> getModuleQueues() {
+        return moduleQueues;
+    }
+
+    public synchronized void shutdown() {
+        for (NotificationModuleQueue moduleQueue : moduleQueues) {
+            moduleQueue.shutdown();
+        }
+        moduleQueues = Collections.emptyList();
+        eventIndex.clear();
+    }
+
+    private List<NotificationModuleQueue> getModuleQueues(String eventName) {
+        if (eventName == null) {
+            return moduleQueues;
+        }
+        List<NotificationModuleQueue> indexedModuleQueues = eventIndex.get(eventName);
+        if (indexedModuleQueues != null) {
+            return indexedModuleQueues;
+        }
+        List<NotificationModuleQueue> currentModuleQueues = moduleQueues;
+        indexedModuleQueues = new ArrayList<>();
+        for (NotificationModuleQueue moduleQueue : currentModuleQueues) {
+            if (moduleQueue.mayBeSubscribed(eventName)) {
+                indexedModuleQueues.add(moduleQueue);
+            }
+        }
+        indexedModuleQueues = Collections.unmodifiableList(indexedModuleQueues);
+        // Index only if the modules have not changed meanwhile, and bound the index by the number of event names.
+        synchronized (this) {
+            if (currentModuleQueues == moduleQueues &&
+                    eventIndex.size() < NotificationMgtConstants.MAX_INDEXED_EVENT_NAMES) {
+                eventIndex.put(eventName, indexedModuleQueues);
+            }
+        }
+        return indexedModuleQueues;
+    }
+
+    private NotificationModuleQueue createModuleQueue(NotificationSendingModule module) {
+        int concurrency = getIntProperty(module, NotificationMgtConstants.Configs.DISPATCH_CONCURRENCY,
+                threadPoolSize);
+        int capacity = getIntProperty(module, NotificationMgtConstants.Configs.DISPATCH_QUEUE_CAPACITY,
+                NotificationMgtConstants.DISPATCH_QUEUE_DEFAULT_CAPACITY);
+        NotificationModuleQueue.OverflowPolicy overflowPolicy = NotificationModuleQueue.OverflowPolicy.DROP_NEWEST;
+        String overflowPolicyValue = getProperty(module, NotificationMgtConstants.Configs.DISPATCH_OVERFLOW_POLICY);
+        if (StringUtils.isNotBlank(overflowPolicyValue)) {
             try {
-                final PublisherEvent event = eventQueue.take();
-                for (final NotificationSendingModule module : notificationSendingModules) {
-                    // If the module is subscribed to the event, module will be executed.
-                    try {
-                        if (module.isSubscribed(event)) {
-                            // Create a runnable and submit to the thread pool for sending message.
-                            Runnable msgSender = new Runnable() {
-                                @Override
-                                public void run() {
-                                    if (log.isDebugEnabled()) {
-                                        log.debug("Executing " + module.getModuleName() + " on event" + event.
-                                                getEventName());
-                                    }
-                                    try {
-                                        module.sendMessage(event);
-                                    } catch (NotificationManagementException e) {
-                                        log.error("Error while invoking notification sending module " + module.
-                                                getModuleName(), e);
-                                    }
-                                }
-                            };
-                            NotificationManagementServiceDataHolder.getInstance().getThreadPool().submit(msgSender);
-                        }
-                    } catch (NotificationManagementException e) {
-                        log.error("Error while getting subscription status from notification module " + module.
-                                getModuleName(), e);
-                    }
+                overflowPolicy = NotificationModuleQueue.OverflowPolicy.valueOf(overflowPolicyValue.trim());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid overflow policy: " + overflowPolicyValue + " for notification sending module " +
+                        module.getModuleName() + ". Hence using " + overflowPolicy);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Registering notification sending module " + module.getModuleName() + " with concurrency: " +
+                    concurrency + ", queue capacity: " + capacity + " and overflow policy: " + overflowPolicy);
+        }
+        return new NotificationModuleQueue(module, concurrency, capacity, overflowPolicy);
+    }
+
+    private int getIntProperty(NotificationSendingModule module, String name, int defaultValue) {
+        String value = getProperty(module, name);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                int intValue = Integer.parseInt(value.trim());
+                if (intValue > 0) {
+                    return intValue;
                 }
-            } catch (InterruptedException e) {
-                log.error("Error while picking up event from event queue", e);
+            } catch (NumberFormatException e) {
+                // Falls back to the default value below.
             }
+            log.warn("Invalid value: " + value + " for " + name + " of notification sending module " +
+                    module.getModuleName() + ". Hence using " + defaultValue);
         }
+        return defaultValue;
     }
 
-    public void shutdown() {
-        this.running = false;
+    /**
+     * Get a dispatch property of the module, eg dispatch.moduleName.queueCapacity, falling back to the property of all
+     * the modules, eg dispatch.queueCapacity.
+     */
+    private String getProperty(NotificationSendingModule module, String name) {
+        String value = dispatchProperties.getProperty(NotificationMgtConstants.Configs.DISPATCH + "." +
+                module.getModuleName() + "." + name);
+        if (value == null) {
+            value = dispatchProperties.getProperty(NotificationMgtConstants.Configs.DISPATCH + "." + name);
+        }
+        return value;
     }
 }
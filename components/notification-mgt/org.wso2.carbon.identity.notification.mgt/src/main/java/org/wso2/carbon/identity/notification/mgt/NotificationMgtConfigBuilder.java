@@ -63,6 +63,10 @@ public class NotificationMgtConfigBuilder {
      * Thread pool size for message sending task
      */
     private String threadPoolSize;
+    /**
+     * Dispatch configurations of the message sending modules
+     */
+    private Properties dispatchProperties;
 
     /**
      * Load properties file and set Module properties
@@ -73,6 +77,7 @@ public class NotificationMgtConfigBuilder {
     public NotificationMgtConfigBuilder(BundleContext bundleContext) throws NotificationManagementException {
         notificationMgtConfigProperties = loadProperties(bundleContext);
         setThreadPoolSize();
+        setDispatchProperties();
         resolveSecrets();
         moduleConfiguration = new HashMap<String, ModuleConfiguration>();
         build();
@@ -86,6 +91,15 @@ public class NotificationMgtConfigBuilder {
                 THREAD_POOL_SIZE);
     }
 
+    /**
+     * Sets the dispatch configurations read from configurations, eg dispatch.queueCapacity and
+     * dispatch.email.overflowPolicy
+     */
+    private void setDispatchProperties() {
+        dispatchProperties = NotificationManagementUtils.getPropertiesWithPrefix(NotificationMgtConstants.Configs.
+                DISPATCH + ".", notificationMgtConfigProperties);
+    }
+
     /**
      * Load properties which are defined in msg-mgt.properties file
      *
@@ -231,6 +245,10 @@ public class NotificationMgtConfigBuilder {
         return threadPoolSize;
     }
 
+    public Properties getDispatchProperties() {
+        return dispatchProperties;
+    }
+
     /**
      * There can be sensitive information like passwords in configuration file. If they are encrypted using secure
      * vault, this method will resolve them and replace with original values.
@@ -26,6 +26,8 @@ public class NotificationMgtConstants {
 
     public static final String MODULE_CONFIG_FILE = "msg-mgt.properties";
     public static final int THREAD_POOL_DEFAULT_SIZE = 5;
+    public static final int DISPATCH_QUEUE_DEFAULT_CAPACITY = 1000;
+    public static final int MAX_INDEXED_EVENT_NAMES = 1000;
 
     private NotificationMgtConstants() {
     }
@@ -34,6 +36,10 @@ public class NotificationMgtConstants {
         public static final String MODULE_NAME = "module.name";
         public static final String SUBSCRIPTION = "subscription";
         public static final String THREAD_POOL_SIZE = "threadPool.size";
+        public static final String DISPATCH = "dispatch";
+        public static final String DISPATCH_CONCURRENCY = "concurrency";
+        public static final String DISPATCH_QUEUE_CAPACITY = "queueCapacity";
+        public static final String DISPATCH_OVERFLOW_POLICY = "overflowPolicy";
 
         private Configs() {
         }
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.notification.mgt;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.notification.mgt.bean.PublisherEvent;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded queue of the events to be sent by a notification sending module.
+ * <p>
+ * Events are sent by at most the configured number of threads of the module, so that a slow module does not hold the
+ * threads of the other modules. Once the queue is full, an event is handled according to the overflow policy of the
+ * module. The queue keeps the counts of the events sent, dropped and failed, and the time the events waited in the
+ * queue and took to be sent.
+ */
+public class NotificationModuleQueue {
+
+    private static final Log log = LogFactory.getLog(NotificationModuleQueue.class);
+    private static final long THREAD_KEEP_ALIVE_TIME = 60L;
+
+    private final NotificationSendingModule module;
+    private final Set<String> subscribedEventNames;
+    private final OverflowPolicy overflowPolicy;
+    private final int capacity;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong totalQueueTime = new AtomicLong();
+    private final AtomicLong totalSendTime = new AtomicLong();
+    private final AtomicLong maxQueueTime = new AtomicLong();
+    private final AtomicLong maxSendTime = new AtomicLong();
+
+    /**
+     * Policies for an event which does not fit in the queue of a module.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Drop the event.
+         */
+        DROP_NEWEST,
+        /**
+         * Drop the oldest event in the queue, to make room for the event.
+         */
+        DROP_OLDEST,
+        /**
+         * Send the event on the thread which published it, which slows down the publisher.
+         */
+        CALLER_RUNS
+    }
+
+    /**
+     * @param module         Notification sending module.
+     * @param concurrency    Maximum number of events sent by the module at a time.
+     * @param capacity       Maximum number of events waiting to be sent by the module.
+     * @param overflowPolicy Policy for an event which does not fit in the queue.
+     */
+    public NotificationModuleQueue(NotificationSendingModule module, int concurrency, int capacity,
+                                   OverflowPolicy overflowPolicy) {
+
+        this.module = module;
+        Set<String> eventNames = module.getSubscribedEventNames();
+        this.subscribedEventNames = eventNames != null ? Collections.unmodifiableSet(new HashSet<>(eventNames)) : null;
+        this.overflowPolicy = overflowPolicy;
+        this.capacity = capacity;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, THREAD_KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(capacity), runnable -> {
+            Thread thread = new Thread(runnable, "NotificationSender-" + module.getModuleName() + "-" +
+                    threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, (runnable, pool) -> handleOverflow(runnable));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Check whether the module can be subscribed to the events with the given name, without asking the module.
+     *
+     * @param eventName Name of the event.
+     * @return False if the module is not subscribed to the events with the given name, true otherwise.
+     */
+    boolean mayBeSubscribed(String eventName) {
+
+        return subscribedEventNames == null || subscribedEventNames.contains(eventName);
+    }
+
+    /**
+     * Add the event to the queue, to be sent by the module.
+     *
+     * @param event Publisher event.
+     */
+    void enqueue(PublisherEvent event) {
+
+        if (executor.isShutdown()) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        executor.execute(new SendTask(event));
+    }
+
+    void shutdown() {
+
+        executor.shutdown();
+    }
+
+    public NotificationSendingModule getModule() {
+
+        return module;
+    }
+
+    public String getModuleName() {
+
+        return module.getModuleName();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+
+        return overflowPolicy;
+    }
+
+    public int getCapacity() {
+
+        return capacity;
+    }
+
+    public int getConcurrency() {
+
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * @return Number of events waiting in the queue.
+     */
+    public int getQueueDepth() {
+
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return Number of events being sent.
+     */
+    public int getActiveCount() {
+
+        return executor.getActiveCount();
+    }
+
+    /**
+     * @return Number of events sent by the module, including the ones which failed.
+     */
+    public long getSentCount() {
+
+        return sentCount.get();
+    }
+
+    /**
+     * @return Number of events dropped since the queue was full or shut down.
+     */
+    public long getDroppedCount() {
+
+        return droppedCount.get();
+    }
+
+    /**
+     * @return Number of events the module failed to send.
+     */
+    public long getFailedCount() {
+
+        return failedCount.get();
+    }
+
+    /**
+     * @return Average time the sent events waited in the queue in milliseconds.
+     */
+    public long getAverageQueueTime() {
+
+        long count = sentCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalQueueTime.get() / count);
+    }
+
+    /**
+     * @return Maximum time a sent event waited in the queue in milliseconds.
+     */
+    public long getMaxQueueTime() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxQueueTime.get());
+    }
+
+    /**
+     * @return Average time taken to send an event in milliseconds.
+     */
+    public long getAverageSendTime() {
+
+        long count = sentCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalSendTime.get() / count);
+    }
+
+    /**
+     * @return Maximum time taken to send an event in milliseconds.
+     */
+    public long getMaxSendTime() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxSendTime.get());
+    }
+
+    private void handleOverflow(Runnable task) {
+
+        if (executor.isShutdown()) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        switch (overflowPolicy) {
+            case CALLER_RUNS:
+                task.run();
+                return;
+            case DROP_OLDEST:
+                if (executor.getQueue().poll() != null) {
+                    droppedCount.incrementAndGet();
+                }
+                if (executor.getQueue().offer(task)) {
+                    return;
+                }
+                break;
+            default:
+                break;
+        }
+        droppedCount.incrementAndGet();
+        if (log.isDebugEnabled()) {
+            log.debug("Dropping an event of notification sending module " + module.getModuleName() + " since its " +
+                    "queue of " + capacity + " events is full.");
+        }
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Sends an event with the module.
+     */
+    private final class SendTask implements Runnable {
+
+        private final PublisherEvent event;
+        private final long enqueueTime = System.nanoTime();
+
+        private SendTask(PublisherEvent event) {
+
+            this.event = event;
+        }
+
+        @Override
+        public void run() {
+
+            long startTime = System.nanoTime();
+            if (log.isDebugEnabled()) {
+                log.debug("Executing " + module.getModuleName() + " on event" + event.getEventName());
+            }
+            try {
+                module.sendMessage(event);
+            } catch (NotificationManagementException | RuntimeException e) {
+                failedCount.incrementAndGet();
+                log.error("Error while invoking notification sending module " + module.getModuleName(), e);
+            } finally {
+                long queueTime = startTime - enqueueTime;
+                long sendTime = System.nanoTime() - startTime;
+                totalQueueTime.addAndGet(queueTime);
+                totalSendTime.addAndGet(sendTime);
+                updateMax(maxQueueTime, queueTime);
+                updateMax(maxSendTime, sendTime);
+                sentCount.incrementAndGet();
+            }
+        }
+    }
+}
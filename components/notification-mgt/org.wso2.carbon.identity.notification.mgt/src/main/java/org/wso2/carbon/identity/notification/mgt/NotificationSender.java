@@ -24,6 +24,7 @@ import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.identity.notification.mgt.bean.PublisherEvent;
 
 import java.util.List;
+import java.util.Properties;
 
 /**
  * The service class exposed from this bundle. This will take care of triggering all registered message sending
@@ -52,11 +53,24 @@ public class NotificationSender {
      * @param notificationSendingModules Set of notification sending modules registered
      */
     public NotificationSender(List<NotificationSendingModule> notificationSendingModules, int threadPoolSize) {
-        this.eventDistributionTask = new EventDistributionTask(notificationSendingModules, threadPoolSize);
+        this(notificationSendingModules, threadPoolSize, new Properties());
+    }
+
+    /**
+     * Overridden to initiate event distribution task towards notification sending modules with their dispatch
+     * configurations.
+     *
+     * @param notificationSendingModules Set of notification sending modules registered
+     * @param threadPoolSize             Default number of events sent by a module at a time
+     * @param dispatchProperties         Dispatch configurations, such as the queue capacity of the modules
+     */
+    public NotificationSender(List<NotificationSendingModule> notificationSendingModules, int threadPoolSize,
+                              Properties dispatchProperties) {
         if (log.isDebugEnabled()) {
             log.debug("Starting event distribution task from Notification Management component");
         }
-        new Thread(eventDistributionTask).start();
+        this.eventDistributionTask = new EventDistributionTask(notificationSendingModules, threadPoolSize,
+                dispatchProperties);
     }
 
     /**
@@ -78,6 +92,33 @@ public class NotificationSender {
         eventDistributionTask.addEventToQueue(event);
     }
 
+    /**
+     * Register a notification sending module which is bound after the service is started.
+     *
+     * @param module Notification sending module
+     */
+    public void addNotificationSendingModule(NotificationSendingModule module) {
+        eventDistributionTask.addModule(module);
+    }
+
+    /**
+     * Unregister a notification sending module.
+     *
+     * @param module Notification sending module
+     */
+    public void removeNotificationSendingModule(NotificationSendingModule module) {
+        eventDistributionTask.removeModule(module);
+    }
+
+    /**
+     * Get the queues of the registered modules, which expose their queue depth and latency metrics.
+     *
+     * @return Queues of the registered modules
+     */
+    public List<NotificationModuleQueue> getModuleQueues() {
+        return eventDistributionTask.getModuleQueues();
+    }
+
     public void stopService() {
         eventDistributionTask.shutdown();
     }
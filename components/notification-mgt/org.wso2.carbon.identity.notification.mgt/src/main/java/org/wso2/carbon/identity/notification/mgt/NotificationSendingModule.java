@@ -22,6 +22,8 @@ package org.wso2.carbon.identity.notification.mgt;
 import org.wso2.carbon.identity.notification.mgt.bean.ModuleConfiguration;
 import org.wso2.carbon.identity.notification.mgt.bean.PublisherEvent;
 
+import java.util.Set;
+
 /**
  * This interface is used to implement a MessageSender. All services which expose through this
  * interface are registered as Message Sending modules and fires on relevant events whenever
@@ -66,4 +68,16 @@ public interface NotificationSendingModule {
      */
     public boolean isSubscribed(PublisherEvent event) throws NotificationManagementException;
 
+    /**
+     * Names of the events this module can be subscribed to. Events with other names are not passed to
+     * {@link #isSubscribed(PublisherEvent)} of this module. Modules which decide their subscriptions only by the
+     * content of the events should return null.
+     *
+     * @return Names of the events this module can be subscribed to, or null if it can be subscribed to any event.
+     */
+    default Set<String> getSubscribedEventNames() {
+
+        return null;
+    }
+
 }
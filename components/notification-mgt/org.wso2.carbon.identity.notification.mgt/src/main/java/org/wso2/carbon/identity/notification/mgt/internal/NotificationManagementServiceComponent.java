@@ -37,6 +37,7 @@ import org.wso2.carbon.identity.notification.mgt.bean.ModuleConfiguration;
 import javax.mail.MessageRemovedException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
 
 @SuppressWarnings("unused")
 @Component(
@@ -96,7 +97,8 @@ public class NotificationManagementServiceComponent {
                 log.debug("Notification mgt thread pool size " + threadPoolSize);
             }
             // Register Notification sender as the service class
-            notificationSender = new NotificationSender(notificationSendingModules, threadPoolSize);
+            notificationSender = new NotificationSender(notificationSendingModules, threadPoolSize,
+                    configBuilder != null ? configBuilder.getDispatchProperties() : new Properties());
             context.getBundleContext().registerService(NotificationSender.class.getName(), notificationSender, null);
             if (log.isDebugEnabled()) {
                 log.debug("Notification Management bundle is activated");
@@ -146,6 +148,10 @@ public class NotificationManagementServiceComponent {
         try {
             module.init(moduleConfiguration);
             notificationSendingModules.add(module);
+            // Modules bound after the activation are registered with the running notification sender.
+            if (notificationSender != null) {
+                notificationSender.addNotificationSendingModule(module);
+            }
         } catch (NotificationManagementException e) {
             log.error("Error while initializing Notification sending module " + module.getModuleName(), e);
         }
@@ -162,6 +168,9 @@ public class NotificationManagementServiceComponent {
             log.debug("Removing a message module " + module.getModuleName());
         }
         notificationSendingModules.remove(module);
+        if (notificationSender != null) {
+            notificationSender.removeNotificationSendingModule(module);
+        }
     }
 }
 
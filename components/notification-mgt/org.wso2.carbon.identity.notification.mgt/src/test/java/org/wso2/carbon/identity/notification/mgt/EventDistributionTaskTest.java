@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.notification.mgt;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.notification.mgt.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.notification.mgt.bean.PublisherEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link EventDistributionTask}.
+ */
+public class EventDistributionTaskTest {
+
+    private static final String LOGIN_EVENT = "login";
+    private static final String LOGOUT_EVENT = "logout";
+
+    private EventDistributionTask eventDistributionTask;
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (eventDistributionTask != null) {
+            eventDistributionTask.shutdown();
+        }
+    }
+
+    @Test
+    public void testEventIsOfferedOnlyToModulesIndexedForItsName() throws Exception {
+
+        RecordingModule loginModule = new RecordingModule("loginModule", LOGIN_EVENT);
+        RecordingModule logoutModule = new RecordingModule("logoutModule", LOGOUT_EVENT);
+        RecordingModule allEventsModule = new RecordingModule("allEventsModule");
+        eventDistributionTask = new EventDistributionTask(Arrays.asList(loginModule, logoutModule,
+                allEventsModule), 1);
+
+        eventDistributionTask.addEventToQueue(new PublisherEvent(LOGIN_EVENT));
+        eventDistributionTask.addEventToQueue(new PublisherEvent(LOGIN_EVENT));
+
+        assertEquals(loginModule.subscriptionChecks.get(), 2);
+        assertEquals(logoutModule.subscriptionChecks.get(), 0);
+        assertEquals(allEventsModule.subscriptionChecks.get(), 2);
+        loginModule.awaitSentEvents(LOGIN_EVENT, LOGIN_EVENT);
+        allEventsModule.awaitSentEvents(LOGIN_EVENT, LOGIN_EVENT);
+        assertTrue(logoutModule.getSentEventNames().isEmpty());
+    }
+
+    @Test
+    public void testEventIsNotSentToModuleWhichIsNotSubscribed() throws Exception {
+
+        RecordingModule module = new RecordingModule("module");
+        module.subscribed = false;
+        eventDistributionTask = new EventDistributionTask(Collections.singletonList(module), 1);
+
+        eventDistributionTask.addEventToQueue(new PublisherEvent(LOGIN_EVENT));
+
+        assertEquals(module.subscriptionChecks.get(), 1);
+        assertTrue(module.getSentEventNames().isEmpty());
+        assertEquals(eventDistributionTask.getModuleQueues().get(0).getSentCount(), 0);
+    }
+
+    @Test
+    public void testAddModuleRefreshesEventIndex() throws Exception {
+
+        RecordingModule loginModule = new RecordingModule("loginModule", LOGIN_EVENT);
+        eventDistributionTask = new EventDistributionTask(Collections.singletonList(loginModule), 1);
+        // Indexes the modules of the login event.
+        eventDistributionTask.addEventToQueue(new PublisherEvent(LOGIN_EVENT));
+
+        RecordingModule newModule = new RecordingModule("newModule", LOGIN_EVENT);
+        eventDistributionTask.addModule(newModule);
+        // Adding the same module again does not register it twice.
+        eventDistributionTask.addModule(newModule);
+        eventDistributionTask.addEventToQueue(new PublisherEvent(LOGIN_EVENT));
+
+        assertEquals(eventDistributionTask.getModuleQueues().size(), 2);
+        loginModule.awaitSentEvents(LOGIN_EVENT, LOGIN_EVENT);
+        newModule.awaitSentEvents(LOGIN_EVENT);
+    }
+
+    @Test
+    public void testRemoveModuleRefreshesEventIndex() throws Exception {
+
+        RecordingModule loginModule = new RecordingModule("loginModule", LOGIN_EVENT);
+        RecordingModule removedModule = new RecordingModule("removedModule", LOGIN_EVENT);
+        eventDistributionTask = new EventDistributionTask(Arrays.asList(loginModule, removedModule), 1);
+        eventDistributionTask.addEventToQueue(new PublisherEvent(LOGIN_EVENT));
+        removedModule.awaitSentEvents(LOGIN_EVENT);
+
+        eventDistributionTask.removeModule(removedModule);
+        eventDistributionTask.addEventToQueue(new PublisherEvent(LOGIN_EVENT));
+
+        assertEquals(eventDistributionTask.getModuleQueues().size(), 1);
+        assertEquals(removedModule.subscriptionChecks.get(), 1);
+        loginModule.awaitSentEvents(LOGIN_EVENT, LOGIN_EVENT);
+        assertEquals(removedModule.getSentEventNames(), Collections.singletonList(LOGIN_EVENT));
+    }
+
+    @Test
+    public void testDispatchPropertiesOfModuleOverrideGlobalProperties() throws Exception {
+
+        Properties dispatchProperties = new Properties();
+        dispatchProperties.setProperty("dispatch.queueCapacity", "10");
+        dispatchProperties.setProperty("dispatch.overflowPolicy", "DROP_OLDEST");
+        dispatchProperties.setProperty("dispatch.customModule.queueCapacity", "20");
+        dispatchProperties.setProperty("dispatch.customModule.concurrency", "3");
+        eventDistributionTask = new EventDistributionTask(Arrays.asList(new RecordingModule("customModule"),
+                new RecordingModule("defaultModule")), 2, dispatchProperties);
+
+        NotificationModuleQueue customModuleQueue = eventDistributionTask.getModuleQueues().get(0);
+        assertEquals(customModuleQueue.getCapacity(), 20);
+        assertEquals(customModuleQueue.getConcurrency(), 3);
+        assertEquals(customModuleQueue.getOverflowPolicy(), NotificationModuleQueue.OverflowPolicy.DROP_OLDEST);
+        NotificationModuleQueue defaultModuleQueue = eventDistributionTask.getModuleQueues().get(1);
+        assertEquals(defaultModuleQueue.getCapacity(), 10);
+        assertEquals(defaultModuleQueue.getConcurrency(), 2);
+    }
+
+    /**
+     * Notification sending module which records the sent events and the subscription checks.
+     */
+    private static class RecordingModule implements NotificationSendingModule {
+
+        private final String moduleName;
+        private final Set<String> subscribedEventNames;
+        private final List<String> sentEventNames = new ArrayList<>();
+        private final AtomicInteger subscriptionChecks = new AtomicInteger();
+        private volatile boolean subscribed = true;
+
+        private RecordingModule(String moduleName, String... subscribedEventNames) {
+
+            this.moduleName = moduleName;
+            this.subscribedEventNames = subscribedEventNames.length > 0 ?
+                    new HashSet<>(Arrays.asList(subscribedEventNames)) : null;
+        }
+
+        @Override
+        public synchronized void sendMessage(PublisherEvent publisherEvent) {
+
+            sentEventNames.add(publisherEvent.getEventName());
+            notifyAll();
+        }
+
+        @Override
+        public String getModuleName() {
+
+            return moduleName;
+        }
+
+        @Override
+        public void init(ModuleConfiguration moduleConfiguration) {
+
+        }
+
+        @Override
+        public boolean isSubscribed(PublisherEvent event) {
+
+            subscriptionChecks.incrementAndGet();
+            return subscribed;
+        }
+
+        @Override
+        public Set<String> getSubscribedEventNames() {
+
+            return subscribedEventNames;
+        }
+
+        private synchronized List<String> getSentEventNames() {
+
+            return new ArrayList<>(sentEventNames);
+        }
+
+        private synchronized void awaitSentEvents(String... eventNames) throws InterruptedException {
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (sentEventNames.size() < eventNames.length && System.currentTimeMillis() < deadline) {
+                wait(100);
+            }
+            assertEquals(sentEventNames, Arrays.asList(eventNames));
+        }
+    }
+}
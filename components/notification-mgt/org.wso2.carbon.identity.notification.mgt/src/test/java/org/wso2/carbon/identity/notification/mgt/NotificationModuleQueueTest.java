@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.notification.mgt;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.notification.mgt.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.notification.mgt.bean.PublisherEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link NotificationModuleQueue}.
+ */
+public class NotificationModuleQueueTest {
+
+    private static final String BLOCKING_EVENT = "blockingEvent";
+
+    private NotificationModuleQueue moduleQueue;
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (moduleQueue != null) {
+            moduleQueue.shutdown();
+        }
+    }
+
+    @Test
+    public void testDropNewestDropsEventWhenQueueIsFull() throws Exception {
+
+        RecordingModule module = new RecordingModule(null);
+        moduleQueue = new NotificationModuleQueue(module, 1, 1, NotificationModuleQueue.OverflowPolicy.DROP_NEWEST);
+
+        fillQueue(module);
+        moduleQueue.enqueue(new PublisherEvent("third"));
+        module.release.countDown();
+
+        module.awaitSentCount(2);
+        assertEquals(module.getSentEventNames(), Arrays.asList(BLOCKING_EVENT, "second"));
+        assertEquals(moduleQueue.getDroppedCount(), 1);
+    }
+
+    @Test
+    public void testDropOldestReplacesQueuedEventWhenQueueIsFull() throws Exception {
+
+        RecordingModule module = new RecordingModule(null);
+        moduleQueue = new NotificationModuleQueue(module, 1, 1, NotificationModuleQueue.OverflowPolicy.DROP_OLDEST);
+
+        fillQueue(module);
+        moduleQueue.enqueue(new PublisherEvent("third"));
+        module.release.countDown();
+
+        module.awaitSentCount(2);
+        assertEquals(module.getSentEventNames(), Arrays.asList(BLOCKING_EVENT, "third"));
+        assertEquals(moduleQueue.getDroppedCount(), 1);
+    }
+
+    @Test
+    public void testCallerRunsSendsEventOnPublisherThreadWhenQueueIsFull() throws Exception {
+
+        RecordingModule module = new RecordingModule(null);
+        moduleQueue = new NotificationModuleQueue(module, 1, 1, NotificationModuleQueue.OverflowPolicy.CALLER_RUNS);
+
+        fillQueue(module);
+        moduleQueue.enqueue(new PublisherEvent("third"));
+
+        // The overflowing event is sent before enqueue returns, on the publisher thread.
+        assertEquals(module.getSentEventNames(), Collections.singletonList("third"));
+        assertEquals(module.senderThreads.get(0), Thread.currentThread().getName());
+        module.release.countDown();
+
+        module.awaitSentCount(3);
+        awaitQueueSentCount(3);
+        assertEquals(moduleQueue.getDroppedCount(), 0);
+    }
+
+    @Test
+    public void testEventsAreDroppedAfterShutdown() throws Exception {
+
+        RecordingModule module = new RecordingModule(null);
+        moduleQueue = new NotificationModuleQueue(module, 1, 10, NotificationModuleQueue.OverflowPolicy.CALLER_RUNS);
+
+        moduleQueue.shutdown();
+        moduleQueue.enqueue(new PublisherEvent("first"));
+
+        assertTrue(module.getSentEventNames().isEmpty());
+        assertEquals(moduleQueue.getDroppedCount(), 1);
+    }
+
+    @Test
+    public void testMayBeSubscribed() throws Exception {
+
+        moduleQueue = new NotificationModuleQueue(new RecordingModule(new HashSet<>(Arrays.asList("first"))), 1, 1,
+                NotificationModuleQueue.OverflowPolicy.DROP_NEWEST);
+        assertTrue(moduleQueue.mayBeSubscribed("first"));
+        assertFalse(moduleQueue.mayBeSubscribed("second"));
+
+        NotificationModuleQueue unindexedModuleQueue = new NotificationModuleQueue(new RecordingModule(null), 1, 1,
+                NotificationModuleQueue.OverflowPolicy.DROP_NEWEST);
+        assertTrue(unindexedModuleQueue.mayBeSubscribed("second"));
+        unindexedModuleQueue.shutdown();
+    }
+
+    /**
+     * Waits until the queue counts the sent events, which it does after the module returns.
+     */
+    private void awaitQueueSentCount(long count) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (moduleQueue.getSentCount() < count && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(moduleQueue.getSentCount(), count);
+    }
+
+    /**
+     * Occupies the sender thread with a blocking event and the queue with a second event.
+     */
+    private void fillQueue(RecordingModule module) throws Exception {
+
+        moduleQueue.enqueue(new PublisherEvent(BLOCKING_EVENT));
+        assertTrue(module.blocked.await(5, TimeUnit.SECONDS));
+        moduleQueue.enqueue(new PublisherEvent("second"));
+        assertEquals(moduleQueue.getQueueDepth(), 1);
+    }
+
+    /**
+     * Notification sending module which records the sent events, and blocks on the blocking event until released.
+     */
+    private static class RecordingModule implements NotificationSendingModule {
+
+        private final Set<String> subscribedEventNames;
+        private final List<String> sentEventNames = new ArrayList<>();
+        private final List<String> senderThreads = new ArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private RecordingModule(Set<String> subscribedEventNames) {
+
+            this.subscribedEventNames = subscribedEventNames;
+        }
+
+        @Override
+        public void sendMessage(PublisherEvent publisherEvent) {
+
+            if (BLOCKING_EVENT.equals(publisherEvent.getEventName())) {
+                blocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (this) {
+                sentEventNames.add(publisherEvent.getEventName());
+                senderThreads.add(Thread.currentThread().getName());
+                notifyAll();
+            }
+        }
+
+        @Override
+        public String getModuleName() {
+
+            return "recordingModule";
+        }
+
+        @Override
+        public void init(ModuleConfiguration moduleConfiguration) {
+
+        }
+
+        @Override
+        public boolean isSubscribed(PublisherEvent event) {
+
+            return true;
+        }
+
+        @Override
+        public Set<String> getSubscribedEventNames() {
+
+            return subscribedEventNames;
+        }
+
+        private synchronized List<String> getSentEventNames() {
+
+            return new ArrayList<>(sentEventNames);
+        }
+
+        private synchronized void awaitSentCount(int count) throws InterruptedException {
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (sentEventNames.size() < count && System.currentTimeMillis() < deadline) {
+                wait(100);
+            }
+            assertEquals(sentEventNames.size(), count);
+        }
+    }
+}
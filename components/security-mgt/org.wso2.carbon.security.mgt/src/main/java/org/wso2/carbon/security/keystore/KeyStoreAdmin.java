@@ -34,7 +34,6 @@ import org.wso2.carbon.registry.core.Registry;
 import org.wso2.carbon.security.SecurityConfigException;
 import org.wso2.carbon.security.SecurityConstants;
 import org.wso2.carbon.security.keystore.service.CertData;
-import org.wso2.carbon.security.keystore.service.CertDataDetail;
 import org.wso2.carbon.security.keystore.service.KeyStoreData;
 import org.wso2.carbon.security.keystore.service.PaginatedCertData;
 import org.wso2.carbon.security.keystore.service.PaginatedKeyStoreData;
@@ -49,7 +48,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.Key;
 import java.security.KeyStore;
-import java.security.KeyStoreException;
 import java.security.PrivateKey;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.CertificateException;
@@ -66,6 +64,7 @@ public class KeyStoreAdmin {
 
     private static final Log log = LogFactory.getLog(KeyStoreAdmin.class);
     private final KeyStoreManager keyStoreManager;
+    private final int tenantId;
     private boolean includeCert = false;
 
     /**
@@ -78,7 +77,7 @@ public class KeyStoreAdmin {
     @Deprecated
     public KeyStoreAdmin(int tenantId, Registry registry) {
 
-        keyStoreManager = KeyStoreManager.getInstance(tenantId);
+        this(tenantId);
     }
 
     /**
@@ -89,6 +88,7 @@ public class KeyStoreAdmin {
     public KeyStoreAdmin(int tenantId) {
 
         keyStoreManager = KeyStoreManager.getInstance(tenantId);
+        this.tenantId = tenantId;
     }
 
     public boolean isIncludeCert() {
@@ -172,6 +172,7 @@ public class KeyStoreAdmin {
                 privateKeyPasswordChar = pvtkeyPass.toCharArray();
             }
             keyStoreManager.addKeyStore(content, filename, passwordChar, provider, type, privateKeyPasswordChar);
+            KeyStoreCertificateCatalogue.invalidate(tenantId, filename);
         } catch (SecurityException e) {
             String msg = "Error when adding a keyStore";
             log.error(msg, e);
@@ -193,6 +194,7 @@ public class KeyStoreAdmin {
 
         try {
             keyStoreManager.addKeyStore(content, filename, password.toCharArray(), provider, type, null);
+            KeyStoreCertificateCatalogue.invalidate(tenantId, filename);
         } catch (SecurityException e) {
             String msg = "Error when adding a trustStore";
             log.error(msg, e);
@@ -204,6 +206,7 @@ public class KeyStoreAdmin {
 
         try {
             keyStoreManager.deleteStore(keyStoreName);
+            KeyStoreCertificateCatalogue.invalidate(tenantId, keyStoreName);
         } catch (SecurityException e) {
             String msg = "Error when deleting a keyStore";
             log.error(msg, e);
@@ -230,6 +233,7 @@ public class KeyStoreAdmin {
             ks.setCertificateEntry(fileName, cert);
 
             this.keyStoreManager.updateKeyStore(keyStoreName, ks);
+            KeyStoreCertificateCatalogue.invalidate(tenantId, keyStoreName);
 
             if (KeyStoreUtil.isTrustStore(keyStoreName)) {
                 System.setProperty(IdentityUtil.PROP_TRUST_STORE_UPDATE_REQUIRED, "true");
@@ -266,6 +270,7 @@ public class KeyStoreAdmin {
             ks.setCertificateEntry(alias, cert);
 
             this.keyStoreManager.updateKeyStore(keyStoreName, ks);
+            KeyStoreCertificateCatalogue.invalidate(tenantId, keyStoreName);
 
             if (KeyStoreUtil.isTrustStore(keyStoreName)) {
                 System.setProperty(IdentityUtil.PROP_TRUST_STORE_UPDATE_REQUIRED, "true");
@@ -297,6 +302,7 @@ public class KeyStoreAdmin {
 
             ks.deleteEntry(alias);
             this.keyStoreManager.updateKeyStore(keyStoreName, ks);
+            KeyStoreCertificateCatalogue.invalidate(tenantId, keyStoreName);
 
             if (KeyStoreUtil.isTrustStore(keyStoreName)) {
                 System.setProperty(IdentityUtil.PROP_TRUST_STORE_UPDATE_REQUIRED, Boolean.TRUE.toString());
@@ -442,27 +448,8 @@ public class KeyStoreAdmin {
 
     private CertData fillCertData(X509Certificate cert, String alise, Format formatter)
             throws CertificateEncodingException {
-        CertData certData = null;
 
-        if (includeCert) {
-            certData = new CertDataDetail();
-        } else {
-            certData = new CertData();
-        }
-        certData.setAlias(alise);
-        certData.setSubjectDN(cert.getSubjectDN().getName());
-        certData.setIssuerDN(cert.getIssuerDN().getName());
-        certData.setSerialNumber(cert.getSerialNumber());
-        certData.setVersion(cert.getVersion());
-        certData.setNotAfter(formatter.format(cert.getNotAfter()));
-        certData.setNotBefore(formatter.format(cert.getNotBefore()));
-        certData.setPublicKey(Base64.encode(cert.getPublicKey().getEncoded()));
-
-        if (includeCert) {
-            ((CertDataDetail) certData).setCertificate(cert);
-        }
-
-        return certData;
+        return KeyStoreCertificateCatalogue.createCertData(cert, alise, formatter, includeCert);
     }
 
     private byte[] readBytesFromFile(String filePath) throws IOException {
@@ -546,31 +533,6 @@ public class KeyStoreAdmin {
         return paginatedCertData;
     }
 
-    /**
-     * This method is used internally for the filtering purposes.
-     *
-     * @param filter      Filter string.
-     * @param certDataSet Certificate or key array.
-     * @return Cert Data array after filtering.
-     */
-    private static CertData[] doFilter(String filter, CertData[] certDataSet) {
-
-        if (certDataSet != null && certDataSet.length != 0) {
-            String regPattern = filter.replace("*", ".*");
-            List<CertData> certDataList = new ArrayList<CertData>();
-
-            for (CertData cert : certDataSet) {
-                if (cert != null && cert.getAlias().toLowerCase().matches(regPattern.toLowerCase())) {
-                    certDataList.add(cert);
-                }
-            }
-
-            return (CertData[]) certDataList.toArray(new CertData[0]);
-        } else {
-            return new CertData[0];
-        }
-    }
-
     /**
      * Gets the keystore info by keystore name with its certificates and key certificates.
      *
@@ -592,19 +554,15 @@ public class KeyStoreAdmin {
             // Get keystore type.
             String keyStoreType = keyStore.getType();
 
-            // Extract certificates from aliases as list.
-            List<CertData> certDataList = getCertificates(keyStore);
-            List<CertData> keyCertDataList = getKeyCertificates(keyStore);
+            // Get the certificates and key certificates from the catalogue of the keystore.
+            KeyStoreCertificateCatalogue catalogue =
+                    KeyStoreCertificateCatalogue.getCatalogue(tenantId, keyStoreName, keyStore);
 
-            // Create a certificate array.
-            CertData[] certs = certDataList.toArray(new CertData[certDataList.size()]);
             // Get paginated certificates.
-            PaginatedCertData paginatedCerts = doPaging(pageNumber, certs);
-
-            // Create a key certificate array.
-            CertData[] keyCerts = keyCertDataList.toArray(new CertData[keyCertDataList.size()]);
+            PaginatedCertData paginatedCerts = doPaging(pageNumber, catalogue.getCertificates(null, includeCert));
             // Get paginated key certificates.
-            PaginatedCertData paginatedKeyCerts = doPaging(pageNumber, keyCerts);
+            PaginatedCertData paginatedKeyCerts = doPaging(pageNumber,
+                    catalogue.getKeyCertificates(null, includeCert));
 
             // Fill information about the keystore to PaginatedKeyStoreData.
             PaginatedKeyStoreData keyStoreData = fillPaginatedKeyStoreData(keyStoreName, keyStoreType,
@@ -640,12 +598,13 @@ public class KeyStoreAdmin {
             // Get keystore type.
             String keyStoreType = keyStore.getType();
 
-            // Extract certificates from aliases as list.
-            List<CertData> certDataList = getCertificates(keyStore);
-            List<CertData> keyCertDataList = getKeyCertificates(keyStore);
-            // Filter and paginate certs and keyCerts.
-            PaginatedCertData paginatedCerts = filterAndPaginateCerts(certDataList, filter, pageNumber);
-            PaginatedCertData paginatedKeyCerts = filterAndPaginateCerts(keyCertDataList, filter, pageNumber);
+            // Filter the certificates and key certificates from the catalogue of the keystore.
+            KeyStoreCertificateCatalogue catalogue =
+                    KeyStoreCertificateCatalogue.getCatalogue(tenantId, keyStoreName, keyStore);
+            // Paginate filtered certs and keyCerts.
+            PaginatedCertData paginatedCerts = doPaging(pageNumber, catalogue.getCertificates(filter, includeCert));
+            PaginatedCertData paginatedKeyCerts = doPaging(pageNumber,
+                    catalogue.getKeyCertificates(filter, includeCert));
             // Fill information about the keystore to PaginatedKeyStoreData.
             PaginatedKeyStoreData keyStoreData = fillPaginatedKeyStoreData(keyStoreName, keyStoreType,
                     paginatedCerts, paginatedKeyCerts);
@@ -677,75 +636,6 @@ public class KeyStoreAdmin {
         return keyStoreData;
     }
 
-    /**
-     * Get certificates related to alias from the keystore.
-     *
-     * @param keyStore Keystore
-     * @return List of certificate data.
-     * @throws KeyStoreException
-     * @throws CertificateEncodingException
-     */
-    private List<CertData> getCertificates(KeyStore keyStore)
-            throws KeyStoreException, CertificateEncodingException {
-
-        Enumeration<String> aliases = keyStore.aliases();
-        // Create lists for cert and key lists.
-        List<CertData> certDataList = new ArrayList<>();
-        Format formatter = new SimpleDateFormat("dd/MM/yyyy");
-
-        while (aliases.hasMoreElements()) {
-            String alias = aliases.nextElement();
-            X509Certificate cert = (X509Certificate) keyStore.getCertificate(alias);
-            if (keyStore.isCertificateEntry(alias)) {
-                certDataList.add(fillCertData(cert, alias, formatter));
-            }
-        }
-        return certDataList;
-    }
-
-    /**
-     * Get key certificates related to alias from the keystore.
-     *
-     * @param keyStore Keystore
-     * @return List of certificate data.
-     * @throws KeyStoreException
-     * @throws CertificateEncodingException
-     */
-    private List<CertData> getKeyCertificates(KeyStore keyStore)
-            throws KeyStoreException, CertificateEncodingException {
-
-        Enumeration<String> aliases = keyStore.aliases();
-        // Create lists for cert and key lists.
-        List<CertData> certDataList = new ArrayList<>();
-        Format formatter = new SimpleDateFormat("dd/MM/yyyy");
-
-        while (aliases.hasMoreElements()) {
-            String alias = aliases.nextElement();
-            X509Certificate cert = (X509Certificate) keyStore.getCertificate(alias);
-            if (keyStore.isKeyEntry(alias)) {
-                certDataList.add(fillCertData(cert, alias, formatter));
-            }
-        }
-        return certDataList;
-    }
-
-    /**
-     * Filter and paginate certificate list.
-     *
-     * @param certDataList Certificate list.
-     * @param filterString Filter text.
-     * @param pageNumber   Page number.
-     * @return Paginated and Filtered Certificate Data.
-     */
-    private PaginatedCertData filterAndPaginateCerts(List<CertData> certDataList, String filterString, int pageNumber) {
-
-        PaginatedCertData paginatedCerts;
-        CertData[] certs = certDataList.toArray(new CertData[0]);
-        certs = (doFilter(filterString, certs));
-        paginatedCerts = doPaging(pageNumber, certs);
-        return paginatedCerts;
-    }
-
     /**
      * Load the default trust store (allowed only for super tenant).
      *
@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.security.keystore;
+
+import org.apache.axiom.om.util.Base64;
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.security.keystore.service.CertData;
+import org.wso2.carbon.security.keystore.service.CertDataDetail;
+
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.text.Format;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Catalogue of the certificate metadata of keystores, used to browse and filter the certificates of a keystore.
+ * <p>
+ * The certificates of a keystore are parsed once, sorted by alias and reused for all the pages and filters, until
+ * the catalogue is invalidated by a change to the keystore through {@link KeyStoreAdmin}. A catalogue is also rebuilt
+ * if the keystore manager returns another keystore instance, or the number of entries of the keystore has changed,
+ * so that a keystore reloaded after a change on another node is not served from a stale catalogue.
+ */
+public class KeyStoreCertificateCatalogue {
+
+    private static final int MAX_CATALOGUES = 1000;
+    private static final String DATE_FORMAT = "dd/MM/yyyy";
+    private static final char WILDCARD = '*';
+    private static final Comparator<Entry> ALIAS_ORDER = Comparator.comparing((Entry entry) -> entry.lowerCaseAlias)
+            .thenComparing(entry -> entry.alias);
+    private static final Map<CatalogueKey, KeyStoreCertificateCatalogue> CATALOGUES = new ConcurrentHashMap<>();
+
+    private final KeyStore keyStore;
+    private final int size;
+    private final List<Entry> certificates;
+    private final List<Entry> keyCertificates;
+
+    private KeyStoreCertificateCatalogue(KeyStore keyStore, int size, List<Entry> certificates,
+                                         List<Entry> keyCertificates) {
+
+        this.keyStore = keyStore;
+        this.size = size;
+        this.certificates = certificates;
+        this.keyCertificates = keyCertificates;
+    }
+
+    /**
+     * Get the catalogue of the keystore.
+     *
+     * @param tenantId     Tenant id.
+     * @param keyStoreName Name of the keystore.
+     * @param keyStore     Keystore.
+     * @return Catalogue of the keystore.
+     * @throws KeyStoreException If the keystore is not loaded.
+     */
+    public static KeyStoreCertificateCatalogue getCatalogue(int tenantId, String keyStoreName, KeyStore keyStore)
+            throws KeyStoreException {
+
+        CatalogueKey key = new CatalogueKey(tenantId, keyStoreName);
+        KeyStoreCertificateCatalogue catalogue = CATALOGUES.get(key);
+        if (catalogue != null && catalogue.keyStore == keyStore && catalogue.size == keyStore.size()) {
+            return catalogue;
+        }
+        catalogue = build(keyStore);
+        if (CATALOGUES.size() >= MAX_CATALOGUES) {
+            CATALOGUES.clear();
+        }
+        CATALOGUES.put(key, catalogue);
+        return catalogue;
+    }
+
+    /**
+     * Remove the catalogue of the keystore, once the keystore is changed.
+     *
+     * @param tenantId     Tenant id.
+     * @param keyStoreName Name of the keystore.
+     */
+    public static void invalidate(int tenantId, String keyStoreName) {
+
+        CATALOGUES.remove(new CatalogueKey(tenantId, keyStoreName));
+    }
+
+    /**
+     * Remove the catalogues of all the keystores.
+     */
+    public static void clear() {
+
+        CATALOGUES.clear();
+    }
+
+    /**
+     * Create the certificate data of a certificate.
+     *
+     * @param cert        Certificate.
+     * @param alias       Alias of the certificate.
+     * @param formatter   Formatter of the validity dates.
+     * @param includeCert Whether to include the certificate in the certificate data.
+     * @return Certificate data.
+     * @throws CertificateEncodingException If the public key of the certificate can not be encoded.
+     */
+    static CertData createCertData(X509Certificate cert, String alias, Format formatter, boolean includeCert)
+            throws CertificateEncodingException {
+
+        CertData certData;
+        if (includeCert) {
+            certData = new CertDataDetail();
+        } else {
+            certData = new CertData();
+        }
+        certData.setAlias(alias);
+        certData.setSubjectDN(cert.getSubjectDN().getName());
+        certData.setIssuerDN(cert.getIssuerDN().getName());
+        certData.setSerialNumber(cert.getSerialNumber());
+        certData.setVersion(cert.getVersion());
+        certData.setNotAfter(formatter.format(cert.getNotAfter()));
+        certData.setNotBefore(formatter.format(cert.getNotBefore()));
+        certData.setPublicKey(Base64.encode(cert.getPublicKey().getEncoded()));
+
+        if (includeCert) {
+            ((CertDataDetail) certData).setCertificate(cert);
+        }
+
+        return certData;
+    }
+
+    /**
+     * Get the certificate entries of the keystore, sorted by alias.
+     *
+     * @param filter      Alias filter, in which '*' matches any sequence of characters. All the certificates are
+     *                    returned if the filter is null.
+     * @param includeCert Whether to include the certificates in the certificate data.
+     * @return Certificate data.
+     * @throws CertificateEncodingException If the public key of a certificate can not be encoded.
+     */
+    public CertData[] getCertificates(String filter, boolean includeCert) throws CertificateEncodingException {
+
+        return toCertData(filter(certificates, filter), includeCert);
+    }
+
+    /**
+     * Get the key entries of the keystore, sorted by alias.
+     *
+     * @param filter      Alias filter, in which '*' matches any sequence of characters. All the key certificates are
+     *                    returned if the filter is null.
+     * @param includeCert Whether to include the certificates in the certificate data.
+     * @return Certificate data.
+     * @throws CertificateEncodingException If the public key of a certificate can not be encoded.
+     */
+    public CertData[] getKeyCertificates(String filter, boolean includeCert) throws CertificateEncodingException {
+
+        return toCertData(filter(keyCertificates, filter), includeCert);
+    }
+
+    private static KeyStoreCertificateCatalogue build(KeyStore keyStore) throws KeyStoreException {
+
+        // Read before the aliases, so that an entry added while building invalidates the catalogue.
+        int size = keyStore.size();
+        List<Entry> certificates = new ArrayList<>();
+        List<Entry> keyCertificates = new ArrayList<>();
+        Enumeration<String> aliases = keyStore.aliases();
+        while (aliases.hasMoreElements()) {
+            String alias = aliases.nextElement();
+            if (keyStore.isCertificateEntry(alias)) {
+                certificates.add(new Entry(alias, (X509Certificate) keyStore.getCertificate(alias)));
+            } else if (keyStore.isKeyEntry(alias)) {
+                keyCertificates.add(new Entry(alias, (X509Certificate) keyStore.getCertificate(alias)));
+            }
+        }
+        certificates.sort(ALIAS_ORDER);
+        keyCertificates.sort(ALIAS_ORDER);
+        return new KeyStoreCertificateCatalogue(keyStore, size, Collections.unmodifiableList(certificates),
+                Collections.unmodifiableList(keyCertificates));
+    }
+
+    private static List<Entry> filter(List<Entry> entries, String filter) {
+
+        if (filter == null) {
+            return entries;
+        }
+        String lowerCaseFilter = filter.toLowerCase(Locale.ENGLISH);
+        int wildcardIndex = lowerCaseFilter.indexOf(WILDCARD);
+        if (wildcardIndex < 0) {
+            return getPrefixRange(entries, lowerCaseFilter, true);
+        }
+        if (wildcardIndex == lowerCaseFilter.length() - 1) {
+            return getPrefixRange(entries, lowerCaseFilter.substring(0, wildcardIndex), false);
+        }
+        String[] segments = StringUtils.splitPreserveAllTokens(lowerCaseFilter, WILDCARD);
+        List<Entry> filteredEntries = new ArrayList<>();
+        for (Entry entry : getPrefixRange(entries, segments[0], false)) {
+            if (matches(entry.lowerCaseAlias, segments)) {
+                filteredEntries.add(entry);
+            }
+        }
+        return filteredEntries;
+    }
+
+    /**
+     * Get the entries whose alias starts with the prefix, or is equal to it, using the alias order of the entries.
+     */
+    private static List<Entry> getPrefixRange(List<Entry> entries, String prefix, boolean exactMatch) {
+
+        if (prefix.isEmpty() && !exactMatch) {
+            return entries;
+        }
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries.get(mid).lowerCaseAlias.compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int end = low;
+        while (end < entries.size() && (exactMatch ? entries.get(end).lowerCaseAlias.equals(prefix) :
+                entries.get(end).lowerCaseAlias.startsWith(prefix))) {
+            end++;
+        }
+        return entries.subList(low, end);
+    }
+
+    /**
+     * Check whether the alias matches the segments of a filter, which were separated by wildcards.
+     */
+    private static boolean matches(String alias, String[] segments) {
+
+        String lastSegment = segments[segments.length - 1];
+        if (!alias.startsWith(segments[0]) || !alias.endsWith(lastSegment) ||
+                alias.length() < segments[0].length() + lastSegment.length()) {
+            return false;
+        }
+        int index = segments[0].length();
+        int end = alias.length() - lastSegment.length();
+        for (int i = 1; i < segments.length - 1; i++) {
+            index = alias.indexOf(segments[i], index);
+            if (index < 0 || index + segments[i].length() > end) {
+                return false;
+            }
+            index += segments[i].length();
+        }
+        return true;
+    }
+
+    private static CertData[] toCertData(List<Entry> entries, boolean includeCert)
+            throws CertificateEncodingException {
+
+        CertData[] certData = new CertData[entries.size()];
+        for (int i = 0; i < certData.length; i++) {
+            certData[i] = entries.get(i).getCertData(includeCert);
+        }
+        return certData;
+    }
+
+    /**
+     * Certificate entry of a keystore.
+     */
+    private static final class Entry {
+
+        private final String alias;
+        private final String lowerCaseAlias;
+        private final X509Certificate certificate;
+        private volatile CertData certData;
+        private volatile CertData certDataDetail;
+
+        private Entry(String alias, X509Certificate certificate) {
+
+            this.alias = alias;
+            this.lowerCaseAlias = alias.toLowerCase(Locale.ENGLISH);
+            this.certificate = certificate;
+        }
+
+        private CertData getCertData(boolean includeCert) throws CertificateEncodingException {
+
+            CertData result = includeCert ? certDataDetail : certData;
+            if (result == null) {
+                // A formatter per entry since the formatter is not thread safe.
+                result = createCertData(certificate, alias, new SimpleDateFormat(DATE_FORMAT), includeCert);
+                if (includeCert) {
+                    certDataDetail = result;
+                } else {
+                    certData = result;
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Key of the catalogue of a keystore.
+     */
+    private static final class CatalogueKey {
+
+        private final int tenantId;
+        private final String keyStoreName;
+
+        private CatalogueKey(int tenantId, String keyStoreName) {
+
+            this.tenantId = tenantId;
+            this.keyStoreName = keyStoreName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CatalogueKey)) {
+                return false;
+            }
+            CatalogueKey that = (CatalogueKey) o;
+            return tenantId == that.tenantId && Objects.equals(keyStoreName, that.keyStoreName);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantId, keyStoreName);
+        }
+    }
+}
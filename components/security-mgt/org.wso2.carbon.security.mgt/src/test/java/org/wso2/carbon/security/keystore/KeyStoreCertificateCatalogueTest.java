@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.security.keystore;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.security.keystore.service.CertData;
+import org.wso2.carbon.security.keystore.service.CertDataDetail;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link KeyStoreCertificateCatalogue}.
+ */
+public class KeyStoreCertificateCatalogueTest {
+
+    private static final String KEYSTORE_NAME = "wso2carbon.jks";
+    private static final String KEYSTORE_PASSWORD = "wso2carbon";
+    private static final String KEYSTORE_ALIAS = "wso2carbon";
+    private static final int TENANT_ID = -1234;
+
+    private KeyStore keyStore;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        KeyStore sourceKeyStore = KeyStore.getInstance("JKS");
+        try (InputStream inputStream = new FileInputStream(Paths.get(System.getProperty("user.dir"), "src", "test",
+                "resources", "repository", "resources", "security", KEYSTORE_NAME).toString())) {
+            sourceKeyStore.load(inputStream, KEYSTORE_PASSWORD.toCharArray());
+        }
+        Certificate certificate = sourceKeyStore.getCertificate(KEYSTORE_ALIAS);
+
+        keyStore = KeyStore.getInstance("JKS");
+        keyStore.load(null, null);
+        for (String alias : new String[]{"delta", "alphabet", "gamma-alpha", "alpha", "beta"}) {
+            keyStore.setCertificateEntry(alias, certificate);
+        }
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        KeyStoreCertificateCatalogue.clear();
+    }
+
+    @DataProvider(name = "filterDataProvider")
+    public Object[][] filterDataProvider() {
+
+        return new Object[][]{
+                {null, new String[]{"alpha", "alphabet", "beta", "delta", "gamma-alpha"}},
+                {"*", new String[]{"alpha", "alphabet", "beta", "delta", "gamma-alpha"}},
+                {"ALPHA", new String[]{"alpha"}},
+                {"alpha*", new String[]{"alpha", "alphabet"}},
+                {"*alpha", new String[]{"alpha", "gamma-alpha"}},
+                {"*ph*", new String[]{"alpha", "alphabet", "gamma-alpha"}},
+                {"a*a", new String[]{"alpha"}},
+                {"g*a*a", new String[]{"gamma-alpha"}},
+                {"alph.", new String[0]},
+                {"epsilon*", new String[0]}
+        };
+    }
+
+    @Test(dataProvider = "filterDataProvider")
+    public void testGetCertificates(String filter, String[] expectedAliases) throws Exception {
+
+        CertData[] certificates = KeyStoreCertificateCatalogue.getCatalogue(TENANT_ID, KEYSTORE_NAME, keyStore)
+                .getCertificates(filter, false);
+
+        assertEquals(Arrays.stream(certificates).map(CertData::getAlias).toArray(String[]::new), expectedAliases);
+    }
+
+    @Test
+    public void testGetCertificatesWithCertificateDetails() throws Exception {
+
+        KeyStoreCertificateCatalogue catalogue =
+                KeyStoreCertificateCatalogue.getCatalogue(TENANT_ID, KEYSTORE_NAME, keyStore);
+
+        CertData certData = catalogue.getCertificates("alpha", false)[0];
+        CertData certDataDetail = catalogue.getCertificates("alpha", true)[0];
+        assertEquals(certData.getClass(), CertData.class);
+        assertTrue(certDataDetail instanceof CertDataDetail);
+        assertEquals(certDataDetail.getSubjectDN(), certData.getSubjectDN());
+        assertEquals(catalogue.getKeyCertificates(null, false).length, 0);
+    }
+
+    @Test
+    public void testCatalogueIsRebuiltOnceKeyStoreIsChanged() throws Exception {
+
+        KeyStoreCertificateCatalogue catalogue =
+                KeyStoreCertificateCatalogue.getCatalogue(TENANT_ID, KEYSTORE_NAME, keyStore);
+        assertSame(KeyStoreCertificateCatalogue.getCatalogue(TENANT_ID, KEYSTORE_NAME, keyStore), catalogue);
+
+        keyStore.setCertificateEntry("epsilon", keyStore.getCertificate("alpha"));
+        KeyStoreCertificateCatalogue updatedCatalogue =
+                KeyStoreCertificateCatalogue.getCatalogue(TENANT_ID, KEYSTORE_NAME, keyStore);
+        assertNotSame(updatedCatalogue, catalogue);
+        assertEquals(updatedCatalogue.getCertificates("epsilon", false).length, 1);
+
+        KeyStoreCertificateCatalogue.invalidate(TENANT_ID, KEYSTORE_NAME);
+        assertNotSame(KeyStoreCertificateCatalogue.getCatalogue(TENANT_ID, KEYSTORE_NAME, keyStore),
+                updatedCatalogue);
+    }
+}
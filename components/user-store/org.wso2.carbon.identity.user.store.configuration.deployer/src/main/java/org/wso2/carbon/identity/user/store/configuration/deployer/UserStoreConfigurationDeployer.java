@@ -30,9 +30,11 @@ import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.api.ServerConfigurationService;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.core.util.CryptoException;
 import org.wso2.carbon.identity.user.store.configuration.deployer.exception.UserStoreConfigurationDeployerException;
 import org.wso2.carbon.identity.user.store.configuration.deployer.internal.UserStoreConfigComponent;
+import org.wso2.carbon.identity.user.store.configuration.deployer.listener.UserStoreDeploymentListener;
 import org.wso2.carbon.identity.user.store.configuration.deployer.util.UserStoreConfigurationConstants;
 import org.wso2.carbon.identity.user.store.configuration.deployer.util.UserStoreUtil;
 import org.wso2.carbon.user.api.Property;
@@ -163,6 +165,11 @@ public class UserStoreConfigurationDeployer extends AbstractDeployer {
 
             UserStoreDeploymentManager userStoreDeploymentManager = new UserStoreDeploymentManager();
             userStoreDeploymentManager.deploy(deploymentFileData.getAbsolutePath());
+
+            int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+            for (UserStoreDeploymentListener listener : UserStoreConfigComponent.getUserStoreDeploymentListeners()) {
+                listener.onUserStorePostDeploy(tenantId, deploymentFileData.getAbsolutePath());
+            }
         }
     }
 
@@ -179,6 +186,12 @@ public class UserStoreConfigurationDeployer extends AbstractDeployer {
             if (!UserStoreConfigurationConstants.ENC_EXTENSION.equalsIgnoreCase(ext)) {
                 UserStoreDeploymentManager userStoreDeploymentManager = new UserStoreDeploymentManager();
                 userStoreDeploymentManager.undeploy(fileName);
+
+                int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+                for (UserStoreDeploymentListener listener :
+                        UserStoreConfigComponent.getUserStoreDeploymentListeners()) {
+                    listener.onUserStorePostUndeploy(tenantId, fileName);
+                }
             }
         }
     }
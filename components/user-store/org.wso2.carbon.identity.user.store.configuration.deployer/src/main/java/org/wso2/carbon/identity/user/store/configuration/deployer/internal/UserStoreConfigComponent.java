@@ -29,6 +29,7 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.base.api.ServerConfigurationService;
+import org.wso2.carbon.identity.user.store.configuration.deployer.listener.UserStoreDeploymentListener;
 import org.wso2.carbon.identity.user.store.configuration.deployer.util.UserStoreConfigurationConstants;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.utils.CarbonUtils;
@@ -36,6 +37,8 @@ import org.wso2.carbon.utils.ConfigurationContextService;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Component(
         name = "identity.user.store.org.wso2.carbon.identity.user.store.configuration.component",
@@ -45,6 +48,8 @@ public class UserStoreConfigComponent {
     private static final Log log = LogFactory.getLog(UserStoreConfigComponent.class);
     private static RealmService realmService = null;
     private static ServerConfigurationService serverConfigurationService = null;
+    private static final List<UserStoreDeploymentListener> userStoreDeploymentListeners =
+            new CopyOnWriteArrayList<>();
 
     public static RealmService getRealmService() {
         return realmService;
@@ -142,6 +147,31 @@ public class UserStoreConfigComponent {
         UserStoreConfigComponent.serverConfigurationService = null;
     }
 
+    public static List<UserStoreDeploymentListener> getUserStoreDeploymentListeners() {
+        return userStoreDeploymentListeners;
+    }
+
+    @Reference(
+            name = "user.store.deployment.listener",
+            service = UserStoreDeploymentListener.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetUserStoreDeploymentListener"
+    )
+    protected void setUserStoreDeploymentListener(UserStoreDeploymentListener userStoreDeploymentListener) {
+        if (log.isDebugEnabled()) {
+            log.debug("Setting the UserStoreDeploymentListener " + userStoreDeploymentListener.getClass().getName());
+        }
+        userStoreDeploymentListeners.add(userStoreDeploymentListener);
+    }
+
+    protected void unsetUserStoreDeploymentListener(UserStoreDeploymentListener userStoreDeploymentListener) {
+        if (log.isDebugEnabled()) {
+            log.debug("Unsetting the UserStoreDeploymentListener " + userStoreDeploymentListener.getClass().getName());
+        }
+        userStoreDeploymentListeners.remove(userStoreDeploymentListener);
+    }
+
     /**
      * This method invoked when the bundle get activated, it touches the super-tenants user store
      * configuration with latest time stamp. This invokes undeploy and deploy method
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.configuration.deployer.listener;
+
+/**
+ * Listener notified by the user store configuration deployer once a user store configuration file has been
+ * deployed or undeployed and the realm of the tenant reflects the change.
+ */
+public interface UserStoreDeploymentListener {
+
+    /**
+     * Invoked after a user store configuration file is deployed.
+     *
+     * @param tenantId Id of the tenant that owns the user store.
+     * @param fileName Absolute path of the deployed user store configuration file.
+     */
+    void onUserStorePostDeploy(int tenantId, String fileName);
+
+    /**
+     * Invoked after a user store configuration file is undeployed.
+     *
+     * @param tenantId Id of the tenant that owned the user store.
+     * @param fileName Name of the undeployed user store configuration file.
+     */
+    void onUserStorePostUndeploy(int tenantId, String fileName);
+}
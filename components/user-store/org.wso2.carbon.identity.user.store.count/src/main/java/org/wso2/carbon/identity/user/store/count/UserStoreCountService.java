@@ -20,16 +20,30 @@ package org.wso2.carbon.identity.user.store.count;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.user.store.count.dto.PairDTO;
 import org.wso2.carbon.identity.user.store.count.exception.UserStoreCounterException;
 import org.wso2.carbon.identity.user.store.count.internal.UserStoreCountDSComponent;
+import org.wso2.carbon.identity.user.store.count.internal.UserStoreCountDataHolder;
 import org.wso2.carbon.identity.user.store.count.jdbc.internal.InternalStoreCountConstants;
+import org.wso2.carbon.identity.user.store.count.util.UserStoreCountCache;
 import org.wso2.carbon.identity.user.store.count.util.UserStoreCountUtils;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.UserCoreConstants;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Service class that expose count functionality for underline user stores on users, roles and claims.
@@ -48,14 +62,16 @@ public class UserStoreCountService {
     public PairDTO[] countUsers(String filter) throws UserStoreCounterException {
 
         Set<String> userStoreDomains = UserStoreCountUtils.getCountEnabledUserStores();
+        Map<String, Future<Long>> countFutures = submitCounts(userStoreDomains,
+                domain -> getUserCount(UserStoreCountUtils.USERNAME_CLAIM, domain, filter));
+        long deadline = getDeadline();
         PairDTO[] userCounts = new PairDTO[userStoreDomains.size()];
         int i = 0;
 
-        for (String userStoreDomain : userStoreDomains) {
-            String filterWithDomain = getFilterWithDomain(userStoreDomain, filter);
-            long count = -1L;
+        for (Map.Entry<String, Future<Long>> countFuture : countFutures.entrySet()) {
+            String userStoreDomain = countFuture.getKey();
             try {
-                count = getUserCountWithClaims(UserStoreCountUtils.USERNAME_CLAIM, filterWithDomain);
+                long count = getCount(countFuture.getValue(), deadline);
                 userCounts[i] = new PairDTO(userStoreDomain, Long.toString(count));
             } catch (UserStoreCounterException e) {
                 userCounts[i] = new PairDTO(userStoreDomain, "Error while getting user count");
@@ -75,15 +91,18 @@ public class UserStoreCountService {
     public PairDTO[] countRoles(String filter) throws UserStoreCounterException {
 
         Set<String> userStoreDomains = UserStoreCountUtils.getCountEnabledUserStores();
+        Set<String> roleDomains = new LinkedHashSet<>(userStoreDomains);
+        roleDomains.add(UserCoreConstants.INTERNAL_DOMAIN);
+        roleDomains.add(InternalStoreCountConstants.APPLICATION_DOMAIN);
+        Map<String, Future<Long>> countFutures = submitCounts(roleDomains, domain -> getRoleCount(domain, filter));
+        long deadline = getDeadline();
         // Add 2 more for the counts of Internal, Application domains.
         PairDTO[] roleCounts = new PairDTO[userStoreDomains.size() + 2];
         int i = 0;
 
         for (String userStoreDomain : userStoreDomains) {
-            long count = -1L;
-            String filterWithDomain = getFilterWithDomain(userStoreDomain, filter);
             try {
-                count = getRoleCount(filterWithDomain);
+                long count = getCount(countFutures.get(userStoreDomain), deadline);
                 roleCounts[i] = new PairDTO(userStoreDomain, Long.toString(count));
             } catch (UserStoreCounterException e) {
                 roleCounts[i] = new PairDTO(userStoreDomain, "Error while getting role count");
@@ -91,13 +110,10 @@ public class UserStoreCountService {
             }
             i++;
         }
-        String internalDomainFilter = UserCoreConstants.INTERNAL_DOMAIN + UserCoreConstants.DOMAIN_SEPARATOR + filter;
-        String applicationDomainFilter = InternalStoreCountConstants.APPLICATION_DOMAIN +
-                UserCoreConstants.DOMAIN_SEPARATOR + filter;
         roleCounts[i] = new PairDTO(UserCoreConstants.INTERNAL_DOMAIN, String.valueOf(
-                getRoleCount(internalDomainFilter)));
+                getCount(countFutures.get(UserCoreConstants.INTERNAL_DOMAIN), deadline)));
         roleCounts[++i] = new PairDTO(InternalStoreCountConstants.APPLICATION_DOMAIN, String.valueOf(
-                getRoleCount(applicationDomainFilter)));
+                getCount(countFutures.get(InternalStoreCountConstants.APPLICATION_DOMAIN), deadline)));
 
         return roleCounts;
     }
@@ -112,14 +128,17 @@ public class UserStoreCountService {
     public PairDTO[] countClaim(String claimURI, String valueFilter) throws UserStoreCounterException {
 
         Set<String> userStoreDomains = UserStoreCountUtils.getCountEnabledUserStores();
+        Map<String, Future<Long>> countFutures = submitCounts(userStoreDomains,
+                domain -> getUserCount(claimURI, domain, valueFilter));
+        long deadline = getDeadline();
         PairDTO[] claimCounts = new PairDTO[userStoreDomains.size()];
         int i = 0;
 
-        for (String userStoreDomain : userStoreDomains) {
+        for (Map.Entry<String, Future<Long>> countFuture : countFutures.entrySet()) {
+            String userStoreDomain = countFuture.getKey();
             long count = -1L;
-            String filterWithDomain = getFilterWithDomain(userStoreDomain, valueFilter);
             try {
-                count = getUserCountWithClaims(claimURI, filterWithDomain);
+                count = getCount(countFuture.getValue(), deadline);
             } catch (UserStoreCounterException e) {
                 log.error("Error while getting user count with claim : " + claimURI + ", from user store domain : "
                         + userStoreDomain, e);
@@ -138,8 +157,7 @@ public class UserStoreCountService {
      */
     public long countUsersInDomain(String filter, String domain) throws UserStoreCounterException {
 
-        String filterWithDomain = getFilterWithDomain(domain, filter);
-        return getUserCountWithClaims(UserStoreCountUtils.USERNAME_CLAIM, filterWithDomain);
+        return getUserCount(UserStoreCountUtils.USERNAME_CLAIM, domain, filter);
     }
 
     /**
@@ -150,8 +168,7 @@ public class UserStoreCountService {
      */
     public long countRolesInDomain(String filter, String domain) throws UserStoreCounterException {
 
-        String filterWithDomain = getFilterWithDomain(domain, filter);
-        return getRoleCount(filterWithDomain);
+        return getRoleCount(domain, filter);
     }
 
     /**
@@ -164,8 +181,7 @@ public class UserStoreCountService {
     public long countByClaimInDomain(String claimURI, String valueFilter, String domain)
             throws UserStoreCounterException {
 
-        String filterWithDomain = getFilterWithDomain(domain, valueFilter);
-        return getUserCountWithClaims(claimURI, filterWithDomain);
+        return getUserCount(claimURI, domain, valueFilter);
     }
 
     /**
@@ -181,6 +197,108 @@ public class UserStoreCountService {
 
     }
 
+    /**
+     * Submit the counting of each of the given domains to the count executor, so that the user stores are counted
+     * concurrently. The counts are done in the calling thread if the executor is not available.
+     *
+     * @param domains user store domains to be counted.
+     * @param counter counter of a single domain.
+     * @return futures of the counts by each domain, in the iteration order of the given domains.
+     */
+    private Map<String, Future<Long>> submitCounts(Set<String> domains, DomainCounter counter) {
+
+        ExecutorService countExecutor = UserStoreCountDataHolder.getInstance().getCountExecutor();
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        Map<String, Future<Long>> countFutures = new LinkedHashMap<>();
+        for (String domain : domains) {
+            Callable<Long> countTask = () -> {
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                    carbonContext.setTenantId(tenantId);
+                    carbonContext.setTenantDomain(tenantDomain);
+                    return counter.count(domain);
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            };
+            FutureTask<Long> countFuture = new FutureTask<>(countTask);
+            if (countExecutor == null || domains.size() == 1) {
+                countFuture.run();
+            } else {
+                try {
+                    countExecutor.execute(countFuture);
+                } catch (RejectedExecutionException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("User store count executor rejected the count of domain : " + domain +
+                                ". Hence counting in the calling thread.");
+                    }
+                    countFuture.run();
+                }
+            }
+            countFutures.put(domain, countFuture);
+        }
+        return countFutures;
+    }
+
+    private long getDeadline() {
+
+        return System.currentTimeMillis() + UserStoreCountUtils.getCountTimeout();
+    }
+
+    private long getCount(Future<Long> countFuture, long deadline) throws UserStoreCounterException {
+
+        try {
+            return countFuture.get(Math.max(deadline - System.currentTimeMillis(), 0L), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            countFuture.cancel(true);
+            throw new UserStoreCounterException("Timed out while retrieving the count", e);
+        } catch (InterruptedException e) {
+            countFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new UserStoreCounterException("Interrupted while retrieving the count", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UserStoreCounterException) {
+                throw (UserStoreCounterException) e.getCause();
+            }
+            throw new UserStoreCounterException("Error occurred while retrieving the count", e.getCause());
+        }
+    }
+
+    /**
+     * Get the count of users of the domain having claim values matching the filter, from the count cache if
+     * available.
+     *
+     * @param claimURI    claim uri.
+     * @param domain      user store domain.
+     * @param valueFilter filter that filter the users, without the domain.
+     * @return user count.
+     * @throws UserStoreCounterException UserStoreCounterException.
+     */
+    private long getUserCount(String claimURI, String domain, String valueFilter) throws UserStoreCounterException {
+
+        UserStoreCountCache countCache = UserStoreCountCache.getInstance();
+        Long count = countCache.getUserCount(tenantId, domain, claimURI, valueFilter);
+        if (count == null) {
+            long generation = countCache.getGeneration(tenantId, domain);
+            count = getUserCountWithClaims(claimURI, getFilterWithDomain(domain, valueFilter));
+            countCache.putUserCount(tenantId, domain, claimURI, valueFilter, count, generation);
+        }
+        return count;
+    }
+
+    private long getRoleCount(String domain, String filter) throws UserStoreCounterException {
+
+        UserStoreCountCache countCache = UserStoreCountCache.getInstance();
+        Long count = countCache.getRoleCount(tenantId, domain, filter);
+        if (count == null) {
+            long generation = countCache.getGeneration(tenantId, domain);
+            count = getRoleCount(getFilterWithDomain(domain, filter));
+            countCache.putRoleCount(tenantId, domain, filter, count, generation);
+        }
+        return count;
+    }
+
     /**
      * Get User count.
      *
@@ -253,4 +371,13 @@ public class UserStoreCountService {
             throw new UserStoreCounterException("Error while retrieving userStoreManager");
         }
     }
+
+    /**
+     * Counts the users or roles of a single user store domain.
+     */
+    @FunctionalInterface
+    private interface DomainCounter {
+
+        long count(String domain) throws UserStoreCounterException;
+    }
 }
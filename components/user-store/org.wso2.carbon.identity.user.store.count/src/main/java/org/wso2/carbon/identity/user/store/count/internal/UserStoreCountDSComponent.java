@@ -23,17 +23,30 @@ import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
+import org.wso2.carbon.identity.user.store.configuration.listener.UserStoreConfigListener;
 import org.wso2.carbon.identity.user.store.count.AbstractCountRetrieverFactory;
 import org.wso2.carbon.identity.user.store.count.exception.UserStoreCounterException;
 import org.wso2.carbon.identity.user.store.count.jdbc.JDBCCountRetrieverFactory;
 import org.wso2.carbon.identity.user.store.count.jdbc.internal.InternalCountRetrieverFactory;
+import org.wso2.carbon.identity.user.store.count.listener.UserStoreCountCacheListener;
+import org.wso2.carbon.identity.user.store.count.listener.UserStoreCountConfigListener;
+import org.wso2.carbon.identity.user.store.count.util.UserStoreCountUtils;
+import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.user.core.service.RealmService;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * User store count OSGi service component.
  */
@@ -44,6 +57,7 @@ import org.wso2.carbon.user.core.service.RealmService;
 public class UserStoreCountDSComponent {
 
     private static final Log log = LogFactory.getLog(UserStoreCountDSComponent.class);
+    private static final long COUNT_THREAD_KEEP_ALIVE_TIME = 60L;
 
     public static RealmService getRealmService() {
         return UserStoreCountDataHolder.getInstance().getRealmService();
@@ -84,6 +98,7 @@ public class UserStoreCountDSComponent {
     }
 
     @SuppressWarnings("unchecked")
+    @Activate
     protected void activate(ComponentContext ctxt) {
         BundleContext bundleContext = ctxt.getBundleContext();
         UserStoreCountDataHolder.getInstance().setBundleContext(bundleContext);
@@ -102,14 +117,47 @@ public class UserStoreCountDSComponent {
         } else {
             log.error("Identity User Store Count -  JDBCUserStoreCountRetriever could not be registered.");
         }
+
+        UserStoreCountDataHolder.getInstance().setCountExecutor(createCountExecutor());
+        bundleContext.registerService(UserOperationEventListener.class.getName(), new UserStoreCountCacheListener(),
+                null);
+        bundleContext.registerService(UserStoreConfigListener.class.getName(), new UserStoreCountConfigListener(),
+                null);
     }
 
+    @Deactivate
     protected void deactivate(ComponentContext ctxt) {
         if (log.isDebugEnabled()) {
             log.debug("User store count bundle is deactivated");
         }
 
         UserStoreCountDataHolder.getInstance().setBundleContext(null);
+        ExecutorService countExecutor = UserStoreCountDataHolder.getInstance().getCountExecutor();
+        if (countExecutor != null) {
+            countExecutor.shutdownNow();
+            UserStoreCountDataHolder.getInstance().setCountExecutor(null);
+        }
+    }
+
+    /**
+     * Create the executor which counts the user stores in parallel. A count rejected by the executor when its queue
+     * is full is done in the calling thread by the user store count service.
+     *
+     * @return count executor
+     */
+    private static ExecutorService createCountExecutor() {
+
+        int poolSize = UserStoreCountUtils.getCountThreadPoolSize();
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor countExecutor = new ThreadPoolExecutor(poolSize, poolSize, COUNT_THREAD_KEEP_ALIVE_TIME,
+                TimeUnit.SECONDS, new ArrayBlockingQueue<>(UserStoreCountUtils.getCountThreadPoolQueueSize()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "UserStoreCounter-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        countExecutor.allowCoreThreadTimeOut(true);
+        return countExecutor;
     }
 
     @Reference(
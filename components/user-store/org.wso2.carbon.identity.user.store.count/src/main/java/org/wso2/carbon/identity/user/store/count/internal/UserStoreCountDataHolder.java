@@ -24,6 +24,7 @@ import org.wso2.carbon.user.core.service.RealmService;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 /**
  * DataHolder for count users and roles in user store.
@@ -34,6 +35,7 @@ public class UserStoreCountDataHolder {
     private BundleContext bundleContext = null;
     private RealmService realmService = null;
     private Map<String, AbstractCountRetrieverFactory> countRetrieverFactories = new HashMap<>();
+    private ExecutorService countExecutor = null;
 
     private UserStoreCountDataHolder() {
 
@@ -63,4 +65,12 @@ public class UserStoreCountDataHolder {
         return countRetrieverFactories;
     }
 
+    public ExecutorService getCountExecutor() {
+        return countExecutor;
+    }
+
+    public void setCountExecutor(ExecutorService countExecutor) {
+        this.countExecutor = countExecutor;
+    }
+
 }
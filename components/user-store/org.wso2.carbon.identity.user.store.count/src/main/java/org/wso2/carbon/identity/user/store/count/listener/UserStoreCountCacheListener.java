@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count.listener;
+
+import org.wso2.carbon.identity.core.AbstractIdentityUserOperationEventListener;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.user.store.count.util.UserStoreCountCache;
+import org.wso2.carbon.user.api.Permission;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.util.UserCoreUtil;
+
+import java.util.Map;
+
+/**
+ * User operation event listener which keeps the cached user and role counts in sync with the changes done to the
+ * user stores through this node.
+ */
+public class UserStoreCountCacheListener extends AbstractIdentityUserOperationEventListener {
+
+    private final UserStoreCountCache userStoreCountCache;
+
+    public UserStoreCountCacheListener() {
+
+        this(UserStoreCountCache.getInstance());
+    }
+
+    UserStoreCountCacheListener(UserStoreCountCache userStoreCountCache) {
+
+        this.userStoreCountCache = userStoreCountCache;
+    }
+
+    @Override
+    public int getExecutionOrderId() {
+
+        int orderId = getOrderId();
+        if (orderId != IdentityCoreConstants.EVENT_LISTENER_ORDER_ID) {
+            return orderId;
+        }
+        return 95;
+    }
+
+    @Override
+    public boolean doPostAddUser(String userName, Object credential, String[] roleList, Map<String, String> claims,
+                                 String profile, UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (isEnable() && userStoreCountCache.isEnabled()) {
+            userStoreCountCache.onUsersChanged(userStoreManager.getTenantId(),
+                    getDomain(userStoreManager), 1);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteUser(String userName, UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (isEnable() && userStoreCountCache.isEnabled()) {
+            userStoreCountCache.onUsersChanged(userStoreManager.getTenantId(),
+                    getDomain(userStoreManager), -1);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostAddRole(String roleName, String[] userList, Permission[] permissions,
+                                 UserStoreManager userStoreManager) throws UserStoreException {
+
+        onRolesChanged(roleName, userStoreManager);
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteRole(String roleName, UserStoreManager userStoreManager) throws UserStoreException {
+
+        onRolesChanged(roleName, userStoreManager);
+        return true;
+    }
+
+    private void onRolesChanged(String roleName, UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (!isEnable() || !userStoreCountCache.isEnabled()) {
+            return;
+        }
+        // Internal and application roles carry their domain in the role name.
+        String domain = UserCoreUtil.extractDomainFromName(roleName);
+        userStoreCountCache.onRolesChanged(userStoreManager.getTenantId(), domain);
+        userStoreCountCache.onRolesChanged(userStoreManager.getTenantId(), getDomain(userStoreManager));
+    }
+
+    private String getDomain(UserStoreManager userStoreManager) {
+
+        return UserCoreUtil.getDomainName(userStoreManager.getRealmConfiguration());
+    }
+}
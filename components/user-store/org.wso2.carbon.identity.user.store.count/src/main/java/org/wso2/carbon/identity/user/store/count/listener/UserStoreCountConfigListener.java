@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count.listener;
+
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants.UserStoreState;
+import org.wso2.carbon.identity.user.store.configuration.listener.AbstractUserStoreConfigListener;
+import org.wso2.carbon.identity.user.store.count.util.UserStoreCountCache;
+import org.wso2.carbon.user.api.UserStoreException;
+
+/**
+ * User store configuration listener which discards the cached counts of a tenant once one of its user stores is
+ * renamed, deleted or its state is changed, since the cached counts are kept per user store domain.
+ */
+public class UserStoreCountConfigListener extends AbstractUserStoreConfigListener {
+
+    private final UserStoreCountCache userStoreCountCache;
+
+    public UserStoreCountConfigListener() {
+
+        this(UserStoreCountCache.getInstance());
+    }
+
+    UserStoreCountConfigListener(UserStoreCountCache userStoreCountCache) {
+
+        this.userStoreCountCache = userStoreCountCache;
+    }
+
+    @Override
+    public void onUserStoreNamePostUpdate(int tenantId, String currentUserStoreName, String newUserStoreName)
+            throws UserStoreException {
+
+        clearCounts(tenantId);
+    }
+
+    @Override
+    public void onUserStorePostDelete(int tenantId, String userStoreName) throws UserStoreException {
+
+        clearCounts(tenantId);
+    }
+
+    @Override
+    public void onUserStorePreStateChange(UserStoreState state, int tenantId, String userStoreName)
+            throws UserStoreException {
+
+        clearCounts(tenantId);
+    }
+
+    private void clearCounts(int tenantId) {
+
+        if (isEnable() && userStoreCountCache.isEnabled()) {
+            userStoreCountCache.clear(tenantId);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node local cache of user and role counts of user store domains. The cache is disabled by default.
+ * <p>
+ * Filtered counts are kept for a short period. The total user count of a domain is maintained as a counter which is
+ * adjusted by the user add and delete events of this node, so it is kept for a longer refresh interval after which
+ * it is reconciled with the user store to pick the changes made through other nodes.
+ * <p>
+ * Every change to the users or roles of a domain advances the generation of the domain. A count read from the user
+ * store is cached only if the generation of its domain did not change while it was read, since the count may not
+ * include the change.
+ */
+public class UserStoreCountCache {
+
+    private static final Log log = LogFactory.getLog(UserStoreCountCache.class);
+
+    private static final String CACHE_ENABLE_PROPERTY = "UserStoreCount.Cache.Enable";
+    private static final String CACHE_TIMEOUT_PROPERTY = "UserStoreCount.Cache.TimeoutInSeconds";
+    private static final String COUNTER_REFRESH_INTERVAL_PROPERTY =
+            "UserStoreCount.Cache.CounterRefreshIntervalInSeconds";
+    private static final String CACHE_MAX_ENTRIES_PROPERTY = "UserStoreCount.Cache.MaxEntriesPerDomain";
+    private static final long DEFAULT_CACHE_TIMEOUT_SECONDS = 60L;
+    private static final long DEFAULT_COUNTER_REFRESH_INTERVAL_SECONDS = 600L;
+    private static final int DEFAULT_MAX_ENTRIES_PER_DOMAIN = 100;
+    private static final String TOTAL_COUNT_FILTER = "*";
+    private static final String ROLE_COUNT_TYPE = "ROLE";
+    private static final String KEY_SEPARATOR = "|";
+
+    private static final UserStoreCountCache instance = new UserStoreCountCache();
+
+    private final boolean enabled;
+    private final long timeoutNanos;
+    private final long counterRefreshIntervalNanos;
+    private final int maxEntriesPerDomain;
+    private final Map<String, Map<String, CountEntry>> domainCounts = new ConcurrentHashMap<>();
+    private final Map<String, Long> domainGenerations = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> tenantGenerations = new ConcurrentHashMap<>();
+
+    private UserStoreCountCache() {
+
+        this(Boolean.parseBoolean(IdentityUtil.getProperty(CACHE_ENABLE_PROPERTY)),
+                getLongProperty(CACHE_TIMEOUT_PROPERTY, DEFAULT_CACHE_TIMEOUT_SECONDS),
+                getLongProperty(COUNTER_REFRESH_INTERVAL_PROPERTY, DEFAULT_COUNTER_REFRESH_INTERVAL_SECONDS),
+                (int) getLongProperty(CACHE_MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES_PER_DOMAIN));
+    }
+
+    UserStoreCountCache(boolean enabled, long timeoutSeconds, long counterRefreshIntervalSeconds,
+                        int maxEntriesPerDomain) {
+
+        this.enabled = enabled;
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        this.counterRefreshIntervalNanos = TimeUnit.SECONDS.toNanos(counterRefreshIntervalSeconds);
+        this.maxEntriesPerDomain = maxEntriesPerDomain;
+    }
+
+    public static UserStoreCountCache getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get the generation of the domain, which is to be taken before reading a count from the user store and passed
+     * when caching the count.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     * @return Generation of the domain.
+     */
+    public long getGeneration(int tenantId, String domain) {
+
+        return tenantGenerations.getOrDefault(tenantId, 0L) +
+                domainGenerations.getOrDefault(getDomainKey(tenantId, domain), 0L);
+    }
+
+    /**
+     * Get the cached count of users of the domain having claim values matching the filter.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     * @param claimURI Claim URI.
+     * @param filter   Filter of the claim values, without the domain.
+     * @return Cached count or null if the count is not cached.
+     */
+    public Long getUserCount(int tenantId, String domain, String claimURI, String filter) {
+
+        return get(tenantId, domain, claimURI + KEY_SEPARATOR + filter);
+    }
+
+    /**
+     * Cache the count of users of the domain having claim values matching the filter.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     * @param claimURI Claim URI.
+     * @param filter     Filter of the claim values, without the domain.
+     * @param count      User count.
+     * @param generation Generation of the domain taken before the count was read.
+     */
+    public void putUserCount(int tenantId, String domain, String claimURI, String filter, long count,
+                             long generation) {
+
+        boolean totalUserCount = UserStoreCountUtils.USERNAME_CLAIM.equals(claimURI) &&
+                TOTAL_COUNT_FILTER.equals(filter);
+        put(tenantId, domain, claimURI + KEY_SEPARATOR + filter, count,
+                totalUserCount ? counterRefreshIntervalNanos : timeoutNanos, generation);
+    }
+
+    /**
+     * Get the cached count of roles of the domain matching the filter.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     * @param filter   Filter of the role names, without the domain.
+     * @return Cached count or null if the count is not cached.
+     */
+    public Long getRoleCount(int tenantId, String domain, String filter) {
+
+        return get(tenantId, domain, ROLE_COUNT_TYPE + KEY_SEPARATOR + filter);
+    }
+
+    /**
+     * Cache the count of roles of the domain matching the filter.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     * @param filter     Filter of the role names, without the domain.
+     * @param count      Role count.
+     * @param generation Generation of the domain taken before the count was read.
+     */
+    public void putRoleCount(int tenantId, String domain, String filter, long count, long generation) {
+
+        put(tenantId, domain, ROLE_COUNT_TYPE + KEY_SEPARATOR + filter, count, timeoutNanos, generation);
+    }
+
+    /**
+     * Update the cached counts of a domain once a user is added to or deleted from it. The total user count is
+     * adjusted by the given delta while the other user counts of the domain are discarded.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     * @param delta    Change of the number of users.
+     */
+    public void onUsersChanged(int tenantId, String domain, int delta) {
+
+        advanceGeneration(tenantId, domain);
+        Map<String, CountEntry> counts = domainCounts.get(getDomainKey(tenantId, domain));
+        if (counts == null) {
+            return;
+        }
+        String totalUserCountKey = UserStoreCountUtils.USERNAME_CLAIM + KEY_SEPARATOR + TOTAL_COUNT_FILTER;
+        counts.entrySet().removeIf(entry -> !entry.getKey().startsWith(ROLE_COUNT_TYPE + KEY_SEPARATOR) &&
+                !entry.getKey().equals(totalUserCountKey));
+        counts.computeIfPresent(totalUserCountKey, (key, entry) ->
+                new CountEntry(Math.max(entry.count + delta, 0L), entry.expiryNanoTime));
+    }
+
+    /**
+     * Discard the cached role counts of a domain once a role is added to or deleted from it.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     */
+    public void onRolesChanged(int tenantId, String domain) {
+
+        advanceGeneration(tenantId, domain);
+        Map<String, CountEntry> counts = domainCounts.get(getDomainKey(tenantId, domain));
+        if (counts != null) {
+            counts.keySet().removeIf(key -> key.startsWith(ROLE_COUNT_TYPE + KEY_SEPARATOR));
+        }
+    }
+
+    /**
+     * Discard all the cached counts of a tenant.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void clear(int tenantId) {
+
+        tenantGenerations.merge(tenantId, 1L, Long::sum);
+        domainCounts.keySet().removeIf(key -> key.startsWith(tenantId + KEY_SEPARATOR));
+    }
+
+    private Long get(int tenantId, String domain, String countKey) {
+
+        if (!enabled) {
+            return null;
+        }
+        Map<String, CountEntry> counts = domainCounts.get(getDomainKey(tenantId, domain));
+        if (counts == null) {
+            return null;
+        }
+        CountEntry entry = counts.get(countKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiryNanoTime - System.nanoTime() <= 0) {
+            counts.remove(countKey, entry);
+            return null;
+        }
+        return entry.count;
+    }
+
+    private void put(int tenantId, String domain, String countKey, long count, long validityNanos,
+                     long generation) {
+
+        if (!enabled) {
+            return;
+        }
+        Map<String, CountEntry> counts = domainCounts.computeIfAbsent(getDomainKey(tenantId, domain),
+                key -> new ConcurrentHashMap<>());
+        if (counts.size() >= maxEntriesPerDomain && !counts.containsKey(countKey)) {
+            long now = System.nanoTime();
+            counts.values().removeIf(entry -> entry.expiryNanoTime - now <= 0);
+            if (counts.size() >= maxEntriesPerDomain) {
+                if (log.isDebugEnabled()) {
+                    log.debug("User store count cache is full for the domain: " + domain + " of tenant: " +
+                            tenantId + ". Hence the count is not cached.");
+                }
+                return;
+            }
+        }
+        CountEntry entry = new CountEntry(count, System.nanoTime() + validityNanos);
+        if (getGeneration(tenantId, domain) != generation) {
+            return;
+        }
+        counts.put(countKey, entry);
+        // A change which happened while the entry was being added may have missed the entry.
+        if (getGeneration(tenantId, domain) != generation) {
+            counts.remove(countKey, entry);
+        }
+    }
+
+    private void advanceGeneration(int tenantId, String domain) {
+
+        domainGenerations.merge(getDomainKey(tenantId, domain), 1L, Long::sum);
+    }
+
+    private String getDomainKey(int tenantId, String domain) {
+
+        return tenantId + KEY_SEPARATOR + StringUtils.upperCase(domain);
+    }
+
+    private static long getLongProperty(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for " + property + ". Using the default value: " +
+                        defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    private static class CountEntry {
+
+        private final long count;
+        private final long expiryNanoTime;
+
+        private CountEntry(long count, long expiryNanoTime) {
+
+            this.count = count;
+            this.expiryNanoTime = expiryNanoTime;
+        }
+    }
+}
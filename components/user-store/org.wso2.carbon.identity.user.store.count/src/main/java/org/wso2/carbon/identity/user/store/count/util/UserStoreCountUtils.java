@@ -45,6 +45,12 @@ public class UserStoreCountUtils {
     public static final String COUNT_RETRIEVER_CLASS = "CountRetrieverClass";
     private static final Log log = LogFactory.getLog(UserStoreCountUtils.class);
     public static final String USERNAME_CLAIM = "http://wso2.org/claims/username";
+    public static final String COUNT_THREAD_POOL_SIZE = "UserStoreCount.ThreadPoolSize";
+    public static final String COUNT_THREAD_POOL_QUEUE_SIZE = "UserStoreCount.ThreadPoolQueueSize";
+    public static final String COUNT_TIMEOUT = "UserStoreCount.TimeoutInMillis";
+    public static final int DEFAULT_COUNT_THREAD_POOL_SIZE = 10;
+    public static final int DEFAULT_COUNT_THREAD_POOL_QUEUE_SIZE = 100;
+    public static final long DEFAULT_COUNT_TIMEOUT = 30000L;
 
     /**
      * Get the available list of user store domains
@@ -236,4 +242,52 @@ public class UserStoreCountUtils {
         }
         return isEnabled;
     }
+
+    /**
+     * Get the configured number of threads used to count the user stores in parallel.
+     *
+     * @return thread pool size
+     */
+    public static int getCountThreadPoolSize() {
+
+        return (int) getPositiveLongProperty(COUNT_THREAD_POOL_SIZE, DEFAULT_COUNT_THREAD_POOL_SIZE);
+    }
+
+    /**
+     * Get the configured number of counts which can wait for a thread to count the user stores in parallel.
+     *
+     * @return thread pool queue size
+     */
+    public static int getCountThreadPoolQueueSize() {
+
+        return (int) getPositiveLongProperty(COUNT_THREAD_POOL_QUEUE_SIZE, DEFAULT_COUNT_THREAD_POOL_QUEUE_SIZE);
+    }
+
+    /**
+     * Get the configured time to wait for the counts of the user stores of a single request.
+     *
+     * @return timeout in milliseconds
+     */
+    public static long getCountTimeout() {
+
+        return getPositiveLongProperty(COUNT_TIMEOUT, DEFAULT_COUNT_TIMEOUT);
+    }
+
+    private static long getPositiveLongProperty(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                long longValue = Long.parseLong(value.trim());
+                if (longValue > 0) {
+                    return longValue;
+                }
+            } catch (NumberFormatException e) {
+                // Fall back to the default value below.
+            }
+            log.warn("Invalid value: " + value + " configured for " + property + ". Using the default value: " +
+                    defaultValue);
+        }
+        return defaultValue;
+    }
 }
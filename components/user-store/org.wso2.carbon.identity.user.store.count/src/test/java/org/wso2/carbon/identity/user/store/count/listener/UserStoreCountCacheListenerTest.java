@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count.listener;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants.UserStoreState;
+import org.wso2.carbon.identity.user.store.count.util.UserStoreCountCache;
+import org.wso2.carbon.user.api.RealmConfiguration;
+import org.wso2.carbon.user.core.UserStoreConfigConstants;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests of {@link UserStoreCountCacheListener} and {@link UserStoreCountConfigListener}.
+ */
+public class UserStoreCountCacheListenerTest {
+
+    private static final int TENANT_ID = 1;
+    private static final String DOMAIN = "SECONDARY";
+
+    private UserStoreCountCache cache;
+    private UserStoreManager userStoreManager;
+
+    @BeforeMethod
+    public void setUp() {
+
+        cache = mock(UserStoreCountCache.class);
+        when(cache.isEnabled()).thenReturn(true);
+        RealmConfiguration realmConfiguration = mock(RealmConfiguration.class);
+        when(realmConfiguration.getUserStoreProperty(UserStoreConfigConstants.DOMAIN_NAME)).thenReturn(DOMAIN);
+        userStoreManager = mock(UserStoreManager.class);
+        when(userStoreManager.getTenantId()).thenReturn(TENANT_ID);
+        when(userStoreManager.getRealmConfiguration()).thenReturn(realmConfiguration);
+    }
+
+    @Test
+    public void testUserChangesAdjustUserCounts() throws Exception {
+
+        UserStoreCountCacheListener listener = new UserStoreCountCacheListener(cache);
+
+        listener.doPostAddUser("user", "password", new String[0], Collections.emptyMap(), null, userStoreManager);
+        listener.doPostDeleteUser("user", userStoreManager);
+
+        verify(cache).onUsersChanged(TENANT_ID, DOMAIN, 1);
+        verify(cache).onUsersChanged(TENANT_ID, DOMAIN, -1);
+    }
+
+    @Test
+    public void testRoleChangesDiscardRoleCounts() throws Exception {
+
+        UserStoreCountCacheListener listener = new UserStoreCountCacheListener(cache);
+
+        listener.doPostAddRole(DOMAIN + "/role", new String[0], null, userStoreManager);
+        listener.doPostDeleteRole(DOMAIN + "/role", userStoreManager);
+
+        verify(cache, times(4)).onRolesChanged(TENANT_ID, DOMAIN);
+    }
+
+    @Test
+    public void testDisabledCacheIsNotUpdated() throws Exception {
+
+        when(cache.isEnabled()).thenReturn(false);
+        UserStoreCountCacheListener listener = new UserStoreCountCacheListener(cache);
+
+        listener.doPostAddUser("user", "password", new String[0], Collections.emptyMap(), null, userStoreManager);
+        listener.doPostAddRole(DOMAIN + "/role", new String[0], null, userStoreManager);
+        new UserStoreCountConfigListener(cache).onUserStorePostDelete(TENANT_ID, DOMAIN);
+
+        verify(cache, never()).onUsersChanged(anyInt(), anyString(), anyInt());
+        verify(cache, never()).onRolesChanged(anyInt(), anyString());
+        verify(cache, never()).clear(anyInt());
+    }
+
+    @Test
+    public void testUserStoreChangesClearTenantCounts() throws Exception {
+
+        UserStoreCountConfigListener listener = new UserStoreCountConfigListener(cache);
+
+        listener.onUserStoreNamePostUpdate(TENANT_ID, DOMAIN, "TERTIARY");
+        listener.onUserStorePostDelete(TENANT_ID, DOMAIN);
+        listener.onUserStorePreStateChange(UserStoreState.DISABLED, TENANT_ID, DOMAIN);
+
+        verify(cache, times(3)).clear(TENANT_ID);
+    }
+}
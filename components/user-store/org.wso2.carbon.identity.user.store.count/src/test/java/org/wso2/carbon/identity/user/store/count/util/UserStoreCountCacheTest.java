@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count.util;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests of {@link UserStoreCountCache}.
+ */
+public class UserStoreCountCacheTest {
+
+    private static final int TENANT_ID = 1;
+    private static final int OTHER_TENANT_ID = 2;
+    private static final String DOMAIN = "SECONDARY";
+    private static final String EMAIL_CLAIM = "http://wso2.org/claims/emailaddress";
+    private static final String TOTAL_FILTER = "*";
+
+    private UserStoreCountCache cache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        cache = new UserStoreCountCache(true, 60, 600, 3);
+    }
+
+    @Test
+    public void testCacheIsDisabledByDefault() {
+
+        assertFalse(UserStoreCountCache.getInstance().isEnabled());
+    }
+
+    @Test
+    public void testDisabledCacheDoesNotCacheCounts() {
+
+        UserStoreCountCache disabledCache = new UserStoreCountCache(false, 60, 600, 3);
+        disabledCache.putRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER, 5, disabledCache.getGeneration(TENANT_ID,
+                DOMAIN));
+
+        assertNull(disabledCache.getRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER));
+    }
+
+    @Test
+    public void testCountsAreCachedPerDomain() {
+
+        cache.putUserCount(TENANT_ID, DOMAIN, EMAIL_CLAIM, "*@wso2.com", 3, cache.getGeneration(TENANT_ID, DOMAIN));
+        cache.putRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER, 7, cache.getGeneration(TENANT_ID, DOMAIN));
+
+        assertEquals(cache.getUserCount(TENANT_ID, "secondary", EMAIL_CLAIM, "*@wso2.com"), Long.valueOf(3));
+        assertEquals(cache.getRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER), Long.valueOf(7));
+        assertNull(cache.getRoleCount(OTHER_TENANT_ID, DOMAIN, TOTAL_FILTER));
+        assertNull(cache.getRoleCount(TENANT_ID, "PRIMARY", TOTAL_FILTER));
+    }
+
+    @Test
+    public void testExpiredCountsAreNotReturned() {
+
+        UserStoreCountCache expiringCache = new UserStoreCountCache(true, 0, 0, 3);
+        expiringCache.putRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER, 7, expiringCache.getGeneration(TENANT_ID,
+                DOMAIN));
+
+        assertNull(expiringCache.getRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER));
+    }
+
+    @Test
+    public void testCountsAreNotCachedBeyondMaxEntries() {
+
+        long generation = cache.getGeneration(TENANT_ID, DOMAIN);
+        cache.putRoleCount(TENANT_ID, DOMAIN, "a*", 1, generation);
+        cache.putRoleCount(TENANT_ID, DOMAIN, "b*", 2, generation);
+        cache.putRoleCount(TENANT_ID, DOMAIN, "c*", 3, generation);
+        cache.putRoleCount(TENANT_ID, DOMAIN, "d*", 4, generation);
+
+        assertEquals(cache.getRoleCount(TENANT_ID, DOMAIN, "c*"), Long.valueOf(3));
+        assertNull(cache.getRoleCount(TENANT_ID, DOMAIN, "d*"));
+    }
+
+    @Test
+    public void testUserChangesAdjustTotalCountAndDiscardFilteredCounts() {
+
+        long generation = cache.getGeneration(TENANT_ID, DOMAIN);
+        cache.putUserCount(TENANT_ID, DOMAIN, UserStoreCountUtils.USERNAME_CLAIM, TOTAL_FILTER, 10, generation);
+        cache.putUserCount(TENANT_ID, DOMAIN, EMAIL_CLAIM, "*@wso2.com", 3, generation);
+        cache.putRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER, 7, generation);
+
+        cache.onUsersChanged(TENANT_ID, DOMAIN, 1);
+        cache.onUsersChanged(TENANT_ID, DOMAIN, 1);
+        cache.onUsersChanged(TENANT_ID, DOMAIN, -1);
+
+        assertEquals(cache.getUserCount(TENANT_ID, DOMAIN, UserStoreCountUtils.USERNAME_CLAIM, TOTAL_FILTER),
+                Long.valueOf(11));
+        assertNull(cache.getUserCount(TENANT_ID, DOMAIN, EMAIL_CLAIM, "*@wso2.com"));
+        assertEquals(cache.getRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER), Long.valueOf(7));
+    }
+
+    @Test
+    public void testRoleChangesDiscardRoleCounts() {
+
+        long generation = cache.getGeneration(TENANT_ID, DOMAIN);
+        cache.putUserCount(TENANT_ID, DOMAIN, UserStoreCountUtils.USERNAME_CLAIM, TOTAL_FILTER, 10, generation);
+        cache.putRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER, 7, generation);
+
+        cache.onRolesChanged(TENANT_ID, DOMAIN);
+
+        assertNull(cache.getRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER));
+        assertEquals(cache.getUserCount(TENANT_ID, DOMAIN, UserStoreCountUtils.USERNAME_CLAIM, TOTAL_FILTER),
+                Long.valueOf(10));
+    }
+
+    @Test
+    public void testCountReadBeforeChangeIsNotCached() {
+
+        long userCountGeneration = cache.getGeneration(TENANT_ID, DOMAIN);
+        cache.onUsersChanged(TENANT_ID, DOMAIN, 1);
+        cache.putUserCount(TENANT_ID, DOMAIN, UserStoreCountUtils.USERNAME_CLAIM, TOTAL_FILTER, 10,
+                userCountGeneration);
+
+        long roleCountGeneration = cache.getGeneration(TENANT_ID, DOMAIN);
+        cache.onRolesChanged(TENANT_ID, DOMAIN);
+        cache.putRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER, 7, roleCountGeneration);
+
+        assertNull(cache.getUserCount(TENANT_ID, DOMAIN, UserStoreCountUtils.USERNAME_CLAIM, TOTAL_FILTER));
+        assertNull(cache.getRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER));
+    }
+
+    @Test
+    public void testClearDiscardsCountsOfTenant() {
+
+        long generation = cache.getGeneration(TENANT_ID, DOMAIN);
+        cache.putRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER, 7, generation);
+        cache.putRoleCount(OTHER_TENANT_ID, DOMAIN, TOTAL_FILTER, 8, cache.getGeneration(OTHER_TENANT_ID, DOMAIN));
+
+        cache.clear(TENANT_ID);
+        // A count read before the tenant was cleared.
+        cache.putRoleCount(TENANT_ID, DOMAIN, "a*", 1, generation);
+
+        assertNull(cache.getRoleCount(TENANT_ID, DOMAIN, TOTAL_FILTER));
+        assertNull(cache.getRoleCount(TENANT_ID, DOMAIN, "a*"));
+        assertEquals(cache.getRoleCount(OTHER_TENANT_ID, DOMAIN, TOTAL_FILTER), Long.valueOf(8));
+    }
+}
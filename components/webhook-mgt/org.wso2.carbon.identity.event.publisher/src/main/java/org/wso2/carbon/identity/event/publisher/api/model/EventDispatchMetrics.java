@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.publisher.api.model;
+
+/**
+ * Model class for a snapshot of the asynchronous event dispatch statistics.
+ */
+public class EventDispatchMetrics {
+
+    private final long deliveredCount;
+    private final long retriedCount;
+    private final long failedCount;
+    private final long callerPublishedCount;
+    private final long queuedCount;
+    private final long totalDeliveryLagInMillis;
+    private final long maxDeliveryLagInMillis;
+
+    public EventDispatchMetrics(long deliveredCount, long retriedCount, long failedCount, long callerPublishedCount,
+                                long queuedCount, long totalDeliveryLagInMillis, long maxDeliveryLagInMillis) {
+
+        this.deliveredCount = deliveredCount;
+        this.retriedCount = retriedCount;
+        this.failedCount = failedCount;
+        this.callerPublishedCount = callerPublishedCount;
+        this.queuedCount = queuedCount;
+        this.totalDeliveryLagInMillis = totalDeliveryLagInMillis;
+        this.maxDeliveryLagInMillis = maxDeliveryLagInMillis;
+    }
+
+    /**
+     * Get the number of events delivered to the event publishers.
+     *
+     * @return Delivered event count.
+     */
+    public long getDeliveredCount() {
+
+        return deliveredCount;
+    }
+
+    /**
+     * Get the number of delivery retries scheduled after failed deliveries.
+     *
+     * @return Retry count.
+     */
+    public long getRetriedCount() {
+
+        return retriedCount;
+    }
+
+    /**
+     * Get the number of events dropped after exhausting the delivery retries.
+     *
+     * @return Failed event count.
+     */
+    public long getFailedCount() {
+
+        return failedCount;
+    }
+
+    /**
+     * Get the number of events published on the caller's thread since the dispatch queue was full.
+     *
+     * @return Caller published event count.
+     */
+    public long getCallerPublishedCount() {
+
+        return callerPublishedCount;
+    }
+
+    /**
+     * Get the number of events currently waiting in the dispatch queues.
+     *
+     * @return Queued event count.
+     */
+    public long getQueuedCount() {
+
+        return queuedCount;
+    }
+
+    /**
+     * Get the total time between the publishing and the delivery of the delivered events.
+     *
+     * @return Total delivery lag in milliseconds.
+     */
+    public long getTotalDeliveryLagInMillis() {
+
+        return totalDeliveryLagInMillis;
+    }
+
+    /**
+     * Get the maximum time between the publishing and the delivery of an event.
+     *
+     * @return Maximum delivery lag in milliseconds.
+     */
+    public long getMaxDeliveryLagInMillis() {
+
+        return maxDeliveryLagInMillis;
+    }
+}
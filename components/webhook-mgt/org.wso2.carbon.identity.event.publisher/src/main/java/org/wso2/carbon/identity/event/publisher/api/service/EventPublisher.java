@@ -22,6 +22,8 @@ import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherExce
 import org.wso2.carbon.identity.event.publisher.api.model.EventContext;
 import org.wso2.carbon.identity.event.publisher.api.model.SecurityEventTokenPayload;
 
+import java.util.List;
+
 /**
  * The EventPublisher interface.
  */
@@ -50,4 +52,29 @@ public interface EventPublisher {
      * @throws EventPublisherException If the event publisher cannot handle the event context.
      */
     boolean canHandleEvent(EventContext eventContext) throws EventPublisherException;
+
+    /**
+     * Check whether the event publisher can publish several events of the same event context at once.
+     *
+     * @return True if {@link #publishBatch(List, EventContext)} is natively supported.
+     */
+    default boolean supportsBatchPublishing() {
+
+        return false;
+    }
+
+    /**
+     * Publish the given events, which share the same event context, to the intermediate hub.
+     *
+     * @param payloads     Event payloads.
+     * @param eventContext Event Context.
+     * @throws EventPublisherException If an error occurs while publishing the events.
+     */
+    default void publishBatch(List<SecurityEventTokenPayload> payloads, EventContext eventContext)
+            throws EventPublisherException {
+
+        for (SecurityEventTokenPayload payload : payloads) {
+            publish(payload, eventContext);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -19,11 +19,15 @@
 package org.wso2.carbon.identity.event.publisher.internal.component;
 
 import org.wso2.carbon.identity.event.publisher.api.service.EventPublisher;
+import org.wso2.carbon.identity.event.publisher.internal.service.impl.EventDispatcher;
 import org.wso2.carbon.identity.webhook.metadata.api.model.Adapter;
 import org.wso2.carbon.identity.webhook.metadata.api.service.EventAdapterMetadataService;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Event publisher Component Service Holder.
@@ -33,9 +37,14 @@ public class EventPublisherComponentServiceHolder {
 
     private static final EventPublisherComponentServiceHolder INSTANCE =
             new EventPublisherComponentServiceHolder();
-    private List<EventPublisher> eventPublishers = new ArrayList<>();
+    private volatile List<EventPublisher> eventPublishers = new ArrayList<>();
     private EventAdapterMetadataService eventAdapterMetadataService;
     private Adapter webhookAdapter;
+    private EventDispatcher eventDispatcher;
+    private final Map<String, EventPublisher> eventPublishersByAdapter = new ConcurrentHashMap<>();
+    // Incremented whenever the registered event publishers change, so that a lookup which raced with the change does
+    // not cache the event publisher it resolved from the previous event publishers.
+    private final AtomicLong eventPublishersGeneration = new AtomicLong();
 
     private EventPublisherComponentServiceHolder() {
 
@@ -61,9 +70,12 @@ public class EventPublisherComponentServiceHolder {
      *
      * @param eventPublisher Event publisher implementation.
      */
-    public void addEventPublisher(EventPublisher eventPublisher) {
+    public synchronized void addEventPublisher(EventPublisher eventPublisher) {
 
-        eventPublishers.add(eventPublisher);
+        List<EventPublisher> publishers = copyEventPublishers();
+        publishers.add(eventPublisher);
+        eventPublishers = publishers;
+        clearEventPublishersByAdapter();
     }
 
     /**
@@ -71,9 +83,12 @@ public class EventPublisherComponentServiceHolder {
      *
      * @param eventPublisher Event publisher implementation.
      */
-    public void removeEventPublisher(EventPublisher eventPublisher) {
+    public synchronized void removeEventPublisher(EventPublisher eventPublisher) {
 
-        eventPublishers.remove(eventPublisher);
+        List<EventPublisher> publishers = copyEventPublishers();
+        publishers.remove(eventPublisher);
+        eventPublishers = publishers;
+        clearEventPublishersByAdapter();
     }
 
     /**
@@ -81,9 +96,61 @@ public class EventPublisherComponentServiceHolder {
      *
      * @param eventPublishers List of event publishers.
      */
-    public void setEventPublishers(List<EventPublisher> eventPublishers) {
+    public synchronized void setEventPublishers(List<EventPublisher> eventPublishers) {
 
         this.eventPublishers = eventPublishers;
+        clearEventPublishersByAdapter();
+    }
+
+    /**
+     * Get the event publisher associated with the given adapter. The resolved event publisher is cached until the
+     * registered event publishers change.
+     *
+     * @param adapter Adapter name.
+     * @return Event publisher or null if no event publisher is associated with the adapter.
+     */
+    public EventPublisher getEventPublisher(String adapter) {
+
+        EventPublisher eventPublisher = eventPublishersByAdapter.get(adapter);
+        if (eventPublisher != null) {
+            return eventPublisher;
+        }
+        long generation = eventPublishersGeneration.get();
+        EventPublisher resolvedEventPublisher = resolveEventPublisher(adapter);
+        if (resolvedEventPublisher == null) {
+            return null;
+        }
+        // Cached only if the event publishers did not change since the lookup started. The check runs while holding
+        // the entry, hence a clear which follows a change waits for it and then removes the cached event publisher.
+        eventPublishersByAdapter.computeIfAbsent(adapter, key ->
+                generation == eventPublishersGeneration.get() ? resolvedEventPublisher : null);
+        return resolvedEventPublisher;
+    }
+
+    private EventPublisher resolveEventPublisher(String adapter) {
+
+        List<EventPublisher> publishers = eventPublishers;
+        if (publishers == null) {
+            return null;
+        }
+        for (EventPublisher publisher : publishers) {
+            if (adapter.equals(publisher.getAssociatedAdapter())) {
+                return publisher;
+            }
+        }
+        return null;
+    }
+
+    private List<EventPublisher> copyEventPublishers() {
+
+        List<EventPublisher> publishers = eventPublishers;
+        return publishers == null ? new ArrayList<>() : new ArrayList<>(publishers);
+    }
+
+    private void clearEventPublishersByAdapter() {
+
+        eventPublishersGeneration.incrementAndGet();
+        eventPublishersByAdapter.clear();
     }
 
     /**
@@ -125,4 +192,24 @@ public class EventPublisherComponentServiceHolder {
 
         this.webhookAdapter = webhookAdapter;
     }
+
+    /**
+     * Get the asynchronous event dispatcher.
+     *
+     * @return EventDispatcher instance or null if asynchronous dispatch is disabled.
+     */
+    public EventDispatcher getEventDispatcher() {
+
+        return eventDispatcher;
+    }
+
+    /**
+     * Set the asynchronous event dispatcher.
+     *
+     * @param eventDispatcher EventDispatcher instance.
+     */
+    public void setEventDispatcher(EventDispatcher eventDispatcher) {
+
+        this.eventDispatcher = eventDispatcher;
+    }
 }
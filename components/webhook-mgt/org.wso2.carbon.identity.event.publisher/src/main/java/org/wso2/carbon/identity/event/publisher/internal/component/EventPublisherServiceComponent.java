@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.event.publisher.internal.component;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.BundleContext;
@@ -28,8 +29,10 @@ import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.publisher.api.service.EventPublisher;
 import org.wso2.carbon.identity.event.publisher.api.service.EventPublisherService;
+import org.wso2.carbon.identity.event.publisher.internal.service.impl.EventDispatcher;
 import org.wso2.carbon.identity.event.publisher.internal.service.impl.EventPublisherServiceImpl;
 import org.wso2.carbon.identity.webhook.metadata.api.model.Adapter;
 import org.wso2.carbon.identity.webhook.metadata.api.service.EventAdapterMetadataService;
@@ -46,6 +49,21 @@ public class EventPublisherServiceComponent {
 
     private static final Log LOG = LogFactory.getLog(EventPublisherServiceComponent.class);
 
+    private static final String ASYNC_DISPATCH_ENABLE = "EventPublisher.AsyncDispatch.Enable";
+    private static final String ASYNC_DISPATCH_THREAD_POOL_SIZE = "EventPublisher.AsyncDispatch.ThreadPoolSize";
+    private static final String ASYNC_DISPATCH_QUEUE_SIZE = "EventPublisher.AsyncDispatch.QueueSize";
+    private static final String ASYNC_DISPATCH_BATCH_SIZE = "EventPublisher.AsyncDispatch.BatchSize";
+    private static final String ASYNC_DISPATCH_MAX_RETRY_COUNT = "EventPublisher.AsyncDispatch.MaxRetryCount";
+    private static final String ASYNC_DISPATCH_RETRY_INTERVAL = "EventPublisher.AsyncDispatch.RetryIntervalInMillis";
+    private static final String ASYNC_DISPATCH_SHUTDOWN_TIMEOUT =
+            "EventPublisher.AsyncDispatch.ShutdownTimeoutInMillis";
+    private static final int DEFAULT_THREAD_POOL_SIZE = 4;
+    private static final int DEFAULT_QUEUE_SIZE = 1000;
+    private static final int DEFAULT_BATCH_SIZE = 20;
+    private static final int DEFAULT_MAX_RETRY_COUNT = 3;
+    private static final int DEFAULT_RETRY_INTERVAL_IN_MILLIS = 1000;
+    private static final int DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLIS = 5000;
+
     /**
      * Activate the component.
      *
@@ -62,6 +80,17 @@ public class EventPublisherServiceComponent {
             EventPublisherComponentServiceHolder.getInstance()
                     .setWebhookAdapter(adapter);
 
+            if (Boolean.parseBoolean(IdentityUtil.getProperty(ASYNC_DISPATCH_ENABLE))) {
+                EventPublisherComponentServiceHolder.getInstance().setEventDispatcher(new EventDispatcher(
+                        getIntProperty(ASYNC_DISPATCH_THREAD_POOL_SIZE, DEFAULT_THREAD_POOL_SIZE, 1),
+                        getIntProperty(ASYNC_DISPATCH_QUEUE_SIZE, DEFAULT_QUEUE_SIZE, 1),
+                        getIntProperty(ASYNC_DISPATCH_BATCH_SIZE, DEFAULT_BATCH_SIZE, 1),
+                        getIntProperty(ASYNC_DISPATCH_MAX_RETRY_COUNT, DEFAULT_MAX_RETRY_COUNT, 0),
+                        getIntProperty(ASYNC_DISPATCH_RETRY_INTERVAL, DEFAULT_RETRY_INTERVAL_IN_MILLIS, 1),
+                        getIntProperty(ASYNC_DISPATCH_SHUTDOWN_TIMEOUT, DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLIS, 0)));
+                LOG.debug("Asynchronous event dispatch is enabled.");
+            }
+
             // Register the EventPublisherService
             bundleContext.registerService(EventPublisherService.class.getName(),
                     EventPublisherServiceImpl.getInstance(), null);
@@ -81,6 +110,11 @@ public class EventPublisherServiceComponent {
     protected void deactivate(ComponentContext context) {
 
         try {
+            EventDispatcher eventDispatcher = EventPublisherComponentServiceHolder.getInstance().getEventDispatcher();
+            if (eventDispatcher != null) {
+                eventDispatcher.shutdown();
+                EventPublisherComponentServiceHolder.getInstance().setEventDispatcher(null);
+            }
             LOG.debug("EventPublisherService is deactivated");
         } catch (Throwable e) {
             LOG.error("Error while deactivating EventPublisherService", e);
@@ -127,4 +161,22 @@ public class EventPublisherServiceComponent {
         EventPublisherComponentServiceHolder.getInstance().setEventAdapterMetadataService(null);
         LOG.debug("EventAdapterMetadataService unset in EventPublisherComponentServiceHolder bundle.");
     }
+
+    private static int getIntProperty(String property, int defaultValue, int minValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                int intValue = Integer.parseInt(value.trim());
+                if (intValue >= minValue) {
+                    return intValue;
+                }
+            } catch (NumberFormatException e) {
+                // Fall back to the default value below.
+            }
+            LOG.warn("Invalid value: " + value + " configured for " + property + ". Using the default value: " +
+                    defaultValue);
+        }
+        return defaultValue;
+    }
 }
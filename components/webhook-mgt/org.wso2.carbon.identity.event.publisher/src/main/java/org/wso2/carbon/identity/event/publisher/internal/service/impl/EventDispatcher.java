@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.publisher.internal.service.impl;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.event.publisher.api.model.EventContext;
+import org.wso2.carbon.identity.event.publisher.api.model.EventDispatchMetrics;
+import org.wso2.carbon.identity.event.publisher.api.model.SecurityEventTokenPayload;
+import org.wso2.carbon.identity.event.publisher.api.service.EventPublisher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Asynchronous dispatch stage of the event publisher service.
+ * <p>
+ * Events are queued on a bounded queue per subscriber channel, identified by the tenant domain and the event URI of
+ * the event, so that a slow hub of one channel does not delay or overflow the events of the other channels. The
+ * queues are drained by a shared pool of workers, where a queue is drained by at most one worker at a time and up to
+ * the batch size at a time, keeping the events of a channel in order. Consecutive events of the same event context
+ * are published as a batch when the event publisher supports it. An event is published on the caller's thread when
+ * its queue is full instead of being dropped.
+ * <p>
+ * Failed deliveries are retried in memory with an exponential back off. The retries are not persisted, as the event
+ * payloads are defined by the adapters and cannot be serialized and replayed generically, hence the retries which
+ * are pending when the server stops are attempted once while shutting down.
+ */
+public class EventDispatcher {
+
+    private static final Log log = LogFactory.getLog(EventDispatcher.class);
+
+    private final Map<String, SubscriberQueue> queues = new ConcurrentHashMap<>();
+    private final int queueSize;
+    private final int batchSize;
+    private final int maxRetryCount;
+    private final long retryIntervalInMillis;
+    private final long shutdownTimeoutInMillis;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryScheduler;
+    private final Set<DispatchTask> pendingRetries = ConcurrentHashMap.newKeySet();
+    private volatile boolean accepting = true;
+
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder retriedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder callerPublishedCount = new LongAdder();
+    private final LongAdder totalDeliveryLag = new LongAdder();
+    private final AtomicLong maxDeliveryLag = new AtomicLong();
+
+    public EventDispatcher(int threadPoolSize, int queueSize, int batchSize, int maxRetryCount,
+                           long retryIntervalInMillis, long shutdownTimeoutInMillis) {
+
+        this.queueSize = queueSize;
+        this.batchSize = batchSize;
+        this.maxRetryCount = maxRetryCount;
+        this.retryIntervalInMillis = retryIntervalInMillis;
+        this.shutdownTimeoutInMillis = shutdownTimeoutInMillis;
+        this.workers = Executors.newFixedThreadPool(threadPoolSize,
+                new DaemonThreadFactory("event-publisher-dispatch"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                new DaemonThreadFactory("event-publisher-retry"));
+    }
+
+    /**
+     * Queue the given event to be published by the given event publisher.
+     *
+     * @param eventPublisher Event publisher of the active adapter.
+     * @param payload        Security event token payload.
+     * @param eventContext   Event context.
+     * @return False if the event could not be queued, in which case the caller should publish it.
+     */
+    public boolean dispatch(EventPublisher eventPublisher, SecurityEventTokenPayload payload,
+                            EventContext eventContext) {
+
+        if (accepting && enqueue(new DispatchTask(eventPublisher, payload, eventContext))) {
+            return true;
+        }
+        callerPublishedCount.increment();
+        if (log.isDebugEnabled()) {
+            log.debug("Event dispatch queue is full or closed for tenant: " + eventContext.getTenantDomain() +
+                    " and event: " + eventContext.getEventUri() + ". Publishing the event on the caller's thread.");
+        }
+        return false;
+    }
+
+    /**
+     * Get the dispatch statistics.
+     *
+     * @return Event dispatch metrics.
+     */
+    public EventDispatchMetrics getMetrics() {
+
+        return new EventDispatchMetrics(deliveredCount.sum(), retriedCount.sum(), failedCount.sum(),
+                callerPublishedCount.sum(), getQueuedCount(), totalDeliveryLag.sum(), maxDeliveryLag.get());
+    }
+
+    /**
+     * Stop accepting events and deliver the queued events and the pending retries, waiting up to the shutdown
+     * timeout for them to be delivered.
+     */
+    public void shutdown() {
+
+        accepting = false;
+        // Pending retries are attempted right away, and a delivery which fails again is not retried.
+        retryScheduler.shutdownNow();
+        for (DispatchTask task : pendingRetries) {
+            runRetry(task);
+        }
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(shutdownTimeoutInMillis, TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        long pendingCount = getQueuedCount();
+        if (pendingCount > 0) {
+            log.warn(pendingCount + " queued events were not delivered within " + shutdownTimeoutInMillis +
+                    " ms of shutting down the event dispatcher.");
+        }
+    }
+
+    private boolean enqueue(DispatchTask task) {
+
+        String subscriberKey = getSubscriberKey(task.eventContext);
+        while (true) {
+            SubscriberQueue queue = queues.computeIfAbsent(subscriberKey, SubscriberQueue::new);
+            if (!queue.offer(task)) {
+                return false;
+            }
+            if (queue.isActive()) {
+                schedule(queue);
+                return true;
+            }
+            // The queue was removed as idle while the task was being added. Move the task to a new queue unless the
+            // worker picked it up before closing the queue.
+            if (queue.queue.remove(task)) {
+                continue;
+            }
+            return true;
+        }
+    }
+
+    private void schedule(SubscriberQueue queue) {
+
+        if (!queue.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            workers.execute(queue);
+        } catch (RejectedExecutionException e) {
+            // The dispatcher is shutting down, hence the queue is drained on the current thread.
+            queue.run();
+        }
+    }
+
+    private long getQueuedCount() {
+
+        long queuedCount = 0;
+        for (SubscriberQueue queue : queues.values()) {
+            queuedCount += queue.queue.size();
+        }
+        return queuedCount;
+    }
+
+    private static String getSubscriberKey(EventContext eventContext) {
+
+        return eventContext.getTenantDomain() + ":" + eventContext.getEventUri();
+    }
+
+    private void deliver(List<DispatchTask> tasks) {
+
+        DispatchTask first = tasks.get(0);
+        String tenantDomain = first.eventContext.getTenantDomain();
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            if (StringUtils.isNotBlank(tenantDomain)) {
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            }
+            if (tasks.size() > 1) {
+                List<SecurityEventTokenPayload> payloads = new ArrayList<>(tasks.size());
+                for (DispatchTask task : tasks) {
+                    payloads.add(task.payload);
+                }
+                first.eventPublisher.publishBatch(payloads, first.eventContext);
+            } else {
+                first.eventPublisher.publish(first.payload, first.eventContext);
+            }
+            for (DispatchTask task : tasks) {
+                recordDelivery(task);
+            }
+        } catch (Throwable e) {
+            for (DispatchTask task : tasks) {
+                scheduleRetry(task, e);
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    private void recordDelivery(DispatchTask task) {
+
+        long lag = System.currentTimeMillis() - task.publishedTime;
+        deliveredCount.increment();
+        totalDeliveryLag.add(lag);
+        maxDeliveryLag.accumulateAndGet(lag, Math::max);
+    }
+
+    private void scheduleRetry(DispatchTask task, Throwable error) {
+
+        if (task.attempt >= maxRetryCount || !accepting) {
+            failedCount.increment();
+            log.error("Failed to publish the event: " + task.payload.getJti() + " of tenant: " +
+                    task.eventContext.getTenantDomain() + " after " + (task.attempt + 1) + " attempts.", error);
+            return;
+        }
+        task.attempt++;
+        // The retry is tracked before it is scheduled, so that a shutdown in between still attempts it.
+        pendingRetries.add(task);
+        retriedCount.increment();
+        if (log.isDebugEnabled()) {
+            log.debug("Failed to publish the event: " + task.payload.getJti() + ". Retry attempt: " + task.attempt +
+                    " is scheduled.", error);
+        }
+        long delay = retryIntervalInMillis << Math.min(task.attempt - 1, 10);
+        try {
+            retryScheduler.schedule(() -> runRetry(task), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            if (pendingRetries.remove(task)) {
+                failedCount.increment();
+                log.error("Unable to schedule a retry for the event: " + task.payload.getJti(), error);
+            }
+        }
+    }
+
+    private void runRetry(DispatchTask task) {
+
+        if (!pendingRetries.remove(task)) {
+            return;
+        }
+        if (!enqueue(task)) {
+            // The queue is backed up, hence the retry is handed to the workers instead of being delivered on the
+            // retry scheduler thread, which would hold up the retries of the other channels.
+            try {
+                workers.execute(() -> deliver(Collections.singletonList(task)));
+            } catch (RejectedExecutionException e) {
+                // The dispatcher is shutting down, hence the retry is delivered on the current thread.
+                deliver(Collections.singletonList(task));
+            }
+        }
+    }
+
+    private static boolean isSameBatch(DispatchTask first, DispatchTask other) {
+
+        EventContext firstContext = first.eventContext;
+        EventContext otherContext = other.eventContext;
+        return first.eventPublisher == other.eventPublisher &&
+                Objects.equals(firstContext.getTenantDomain(), otherContext.getTenantDomain()) &&
+                Objects.equals(firstContext.getEventUri(), otherContext.getEventUri()) &&
+                Objects.equals(firstContext.getEventProfileName(), otherContext.getEventProfileName()) &&
+                Objects.equals(firstContext.getEventProfileVersion(), otherContext.getEventProfileVersion());
+    }
+
+    /**
+     * Bounded queue of the events of a subscriber channel, drained by at most one worker at a time.
+     */
+    private class SubscriberQueue implements Runnable {
+
+        private final String subscriberKey;
+        private final BlockingQueue<DispatchTask> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final AtomicBoolean active = new AtomicBoolean(true);
+
+        private SubscriberQueue(String subscriberKey) {
+
+            this.subscriberKey = subscriberKey;
+            this.queue = new LinkedBlockingQueue<>(queueSize);
+        }
+
+        private boolean offer(DispatchTask task) {
+
+            return queue.offer(task);
+        }
+
+        private boolean isActive() {
+
+            return active.get();
+        }
+
+        @Override
+        public void run() {
+
+            List<DispatchTask> drained = new ArrayList<>(batchSize);
+            do {
+                queue.drainTo(drained, batchSize);
+                deliverInBatches(drained);
+                drained.clear();
+                // While shutting down, the queue is drained by this worker instead of being handed to another one.
+            } while (!accepting && !queue.isEmpty() && !Thread.currentThread().isInterrupted());
+
+            scheduled.set(false);
+            if (!queue.isEmpty()) {
+                schedule(this);
+            } else if (accepting && active.compareAndSet(true, false)) {
+                // Remove the idle queue so that the queues of the channels which are no longer in use do not pile up.
+                queues.remove(subscriberKey, this);
+                if (!queue.isEmpty()) {
+                    schedule(this);
+                }
+            }
+        }
+
+        private void deliverInBatches(List<DispatchTask> drained) {
+
+            int start = 0;
+            while (start < drained.size()) {
+                DispatchTask first = drained.get(start);
+                int end = start + 1;
+                if (first.eventPublisher.supportsBatchPublishing()) {
+                    while (end < drained.size() && isSameBatch(first, drained.get(end))) {
+                        end++;
+                    }
+                }
+                deliver(new ArrayList<>(drained.subList(start, end)));
+                start = end;
+            }
+        }
+    }
+
+    /**
+     * Thread factory creating named daemon threads.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        private DaemonThreadFactory(String namePrefix) {
+
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * An event waiting to be delivered.
+     */
+    private static class DispatchTask {
+
+        private final EventPublisher eventPublisher;
+        private final SecurityEventTokenPayload payload;
+        private final EventContext eventContext;
+        private final long publishedTime = System.currentTimeMillis();
+        private int attempt;
+
+        private DispatchTask(EventPublisher eventPublisher, SecurityEventTokenPayload payload,
+                             EventContext eventContext) {
+
+            this.eventPublisher = eventPublisher;
+            this.payload = payload;
+            this.eventContext = eventContext;
+        }
+    }
+}
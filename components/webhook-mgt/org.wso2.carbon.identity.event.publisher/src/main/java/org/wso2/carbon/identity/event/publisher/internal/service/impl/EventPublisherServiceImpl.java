@@ -24,14 +24,13 @@ import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.identity.event.publisher.api.constant.ErrorMessage;
 import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherException;
 import org.wso2.carbon.identity.event.publisher.api.model.EventContext;
+import org.wso2.carbon.identity.event.publisher.api.model.EventDispatchMetrics;
 import org.wso2.carbon.identity.event.publisher.api.model.SecurityEventTokenPayload;
 import org.wso2.carbon.identity.event.publisher.api.service.EventPublisher;
 import org.wso2.carbon.identity.event.publisher.api.service.EventPublisherService;
 import org.wso2.carbon.identity.event.publisher.internal.component.EventPublisherComponentServiceHolder;
 import org.wso2.carbon.identity.event.publisher.internal.util.EventPublisherExceptionHandler;
 
-import java.util.List;
-
 /**
  * Implementation of the EventPublisherService interface.
  * This class provides implementation for event publisher operations.
@@ -70,10 +69,25 @@ public class EventPublisherServiceImpl implements EventPublisherService {
 
         EventPublisher adapterManager = retrieveAdapterManager(webhookAdapter);
 
+        EventDispatcher eventDispatcher = EventPublisherComponentServiceHolder.getInstance().getEventDispatcher();
+        if (eventDispatcher != null && eventDispatcher.dispatch(adapterManager, eventPayload, eventContext)) {
+            return;
+        }
         log.debug("Invoking registered event publisher: " + adapterManager.getClass().getName());
         adapterManager.publish(eventPayload, eventContext);
     }
 
+    /**
+     * Get the statistics of the asynchronous event dispatch.
+     *
+     * @return Event dispatch metrics or null if asynchronous dispatch is disabled.
+     */
+    public EventDispatchMetrics getDispatchMetrics() {
+
+        EventDispatcher eventDispatcher = EventPublisherComponentServiceHolder.getInstance().getEventDispatcher();
+        return eventDispatcher != null ? eventDispatcher.getMetrics() : null;
+    }
+
     @Override
     public boolean canHandleEvent(EventContext eventContext) throws EventPublisherException {
 
@@ -91,13 +105,9 @@ public class EventPublisherServiceImpl implements EventPublisherService {
 
     private EventPublisher retrieveAdapterManager(String adapter) throws EventPublisherException {
 
-        List<EventPublisher> managers =
-                EventPublisherComponentServiceHolder.getInstance().getEventPublishers();
-
-        for (EventPublisher manager : managers) {
-            if (adapter.equals(manager.getAssociatedAdapter())) {
-                return manager;
-            }
+        EventPublisher manager = EventPublisherComponentServiceHolder.getInstance().getEventPublisher(adapter);
+        if (manager != null) {
+            return manager;
         }
 
         throw EventPublisherExceptionHandler.handleServerException(ErrorMessage.ERROR_CODE_EVENT_PUBLISHER_NOT_FOUND);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -84,4 +84,29 @@ public class EventPublisherComponentServiceHolderTest {
         publishers.add(publisher2);
         Assert.assertTrue(holder.getEventPublishers().contains(publisher2));
     }
+
+    @Test
+    public void testGetEventPublisherIsNotCachedAfterRemoval() {
+
+        Mockito.when(publisher1.getAssociatedAdapter()).thenReturn("webhook");
+        holder.addEventPublisher(publisher1);
+        Assert.assertSame(holder.getEventPublisher("webhook"), publisher1);
+
+        holder.removeEventPublisher(publisher1);
+        Assert.assertNull(holder.getEventPublisher("webhook"));
+    }
+
+    @Test
+    public void testGetEventPublisherRacingWithRemovalIsNotCached() {
+
+        // The event publisher is removed while the lookup is resolving it.
+        Mockito.when(publisher1.getAssociatedAdapter()).thenAnswer(invocation -> {
+            holder.removeEventPublisher(publisher1);
+            return "webhook";
+        });
+        holder.addEventPublisher(publisher1);
+
+        Assert.assertSame(holder.getEventPublisher("webhook"), publisher1);
+        Assert.assertNull(holder.getEventPublisher("webhook"));
+    }
 }
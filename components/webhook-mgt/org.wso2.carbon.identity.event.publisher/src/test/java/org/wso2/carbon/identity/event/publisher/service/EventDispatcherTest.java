@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.publisher.service;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.identity.event.publisher.api.exception.EventPublisherException;
+import org.wso2.carbon.identity.event.publisher.api.model.EventContext;
+import org.wso2.carbon.identity.event.publisher.api.model.EventDispatchMetrics;
+import org.wso2.carbon.identity.event.publisher.api.model.SecurityEventTokenPayload;
+import org.wso2.carbon.identity.event.publisher.api.service.EventPublisher;
+import org.wso2.carbon.identity.event.publisher.internal.service.impl.EventDispatcher;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for EventDispatcher.
+ */
+public class EventDispatcherTest {
+
+    private EventDispatcher eventDispatcher;
+
+    @BeforeClass
+    public void setupClass() {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome, "conf").toString());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (eventDispatcher != null) {
+            eventDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testEventsAreDeliveredAsynchronously() throws Exception {
+
+        eventDispatcher = new EventDispatcher(2, 10, 5, 0, 10, 5000);
+        RecordingEventPublisher eventPublisher = new RecordingEventPublisher(false, 3);
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(eventDispatcher.dispatch(eventPublisher, buildPayload("jti-" + i),
+                    buildEventContext("event-uri")));
+        }
+
+        Assert.assertTrue(eventPublisher.delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(eventPublisher.publishedJtis.size(), 3);
+        Assert.assertEquals(eventPublisher.batchCount.get(), 0);
+        waitForDeliveredCount(3);
+    }
+
+    @Test
+    public void testEventsOfSameContextAreBatched() throws Exception {
+
+        eventDispatcher = new EventDispatcher(1, 10, 10, 0, 10, 5000);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEventPublisher eventPublisher = new RecordingEventPublisher(true, 4) {
+            @Override
+            public void publish(SecurityEventTokenPayload payload, EventContext eventContext)
+                    throws EventPublisherException {
+
+                // Hold the worker on the first event so that the rest of the events are queued.
+                blocked.countDown();
+                awaitQuietly(release);
+                super.publish(payload, eventContext);
+            }
+        };
+
+        eventDispatcher.dispatch(eventPublisher, buildPayload("jti-0"), buildEventContext("event-uri"));
+        Assert.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < 4; i++) {
+            eventDispatcher.dispatch(eventPublisher, buildPayload("jti-" + i), buildEventContext("event-uri"));
+        }
+        release.countDown();
+
+        Assert.assertTrue(eventPublisher.delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(eventPublisher.batchCount.get(), 1);
+        Assert.assertEquals(eventPublisher.publishedJtis.size(), 4);
+    }
+
+    @Test
+    public void testFailedDeliveryIsRetried() throws Exception {
+
+        eventDispatcher = new EventDispatcher(1, 10, 1, 2, 10, 5000);
+        AtomicInteger attempts = new AtomicInteger();
+        RecordingEventPublisher eventPublisher = new RecordingEventPublisher(false, 1) {
+            @Override
+            public void publish(SecurityEventTokenPayload payload, EventContext eventContext)
+                    throws EventPublisherException {
+
+                if (attempts.incrementAndGet() == 1) {
+                    throw new EventPublisherException("E", "msg", "desc");
+                }
+                super.publish(payload, eventContext);
+            }
+        };
+
+        eventDispatcher.dispatch(eventPublisher, buildPayload("jti-0"), buildEventContext("event-uri"));
+
+        Assert.assertTrue(eventPublisher.delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(attempts.get(), 2);
+        EventDispatchMetrics metrics = waitForDeliveredCount(1);
+        Assert.assertEquals(metrics.getRetriedCount(), 1);
+        Assert.assertEquals(metrics.getFailedCount(), 0);
+    }
+
+    @Test
+    public void testFullQueueIsHandedBackToCaller() throws Exception {
+
+        eventDispatcher = new EventDispatcher(1, 1, 1, 0, 10, 5000);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEventPublisher eventPublisher = new RecordingEventPublisher(false, 2) {
+            @Override
+            public void publish(SecurityEventTokenPayload payload, EventContext eventContext)
+                    throws EventPublisherException {
+
+                blocked.countDown();
+                awaitQuietly(release);
+                super.publish(payload, eventContext);
+            }
+        };
+
+        Assert.assertTrue(eventDispatcher.dispatch(eventPublisher, buildPayload("jti-0"),
+                buildEventContext("event-uri")));
+        Assert.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(eventDispatcher.dispatch(eventPublisher, buildPayload("jti-1"),
+                buildEventContext("event-uri")));
+        Assert.assertFalse(eventDispatcher.dispatch(eventPublisher, buildPayload("jti-2"),
+                buildEventContext("event-uri")));
+        release.countDown();
+
+        Assert.assertTrue(eventPublisher.delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(eventDispatcher.getMetrics().getCallerPublishedCount(), 1);
+    }
+
+    @Test
+    public void testSlowSubscriberDoesNotBlockOtherSubscribers() throws Exception {
+
+        eventDispatcher = new EventDispatcher(2, 1, 1, 0, 10, 5000);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEventPublisher eventPublisher = new RecordingEventPublisher(false, 4) {
+            @Override
+            public void publish(SecurityEventTokenPayload payload, EventContext eventContext)
+                    throws EventPublisherException {
+
+                if ("slow-event-uri".equals(eventContext.getEventUri())) {
+                    blocked.countDown();
+                    awaitQuietly(release);
+                }
+                super.publish(payload, eventContext);
+            }
+        };
+
+        Assert.assertTrue(eventDispatcher.dispatch(eventPublisher, buildPayload("jti-0"),
+                buildEventContext("slow-event-uri")));
+        Assert.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(eventDispatcher.dispatch(eventPublisher, buildPayload("jti-1"),
+                buildEventContext("slow-event-uri")));
+
+        // The queue of the slow subscriber is full, while the other subscriber still gets its events delivered.
+        Assert.assertFalse(eventDispatcher.dispatch(eventPublisher, buildPayload("jti-2"),
+                buildEventContext("slow-event-uri")));
+        Assert.assertTrue(eventDispatcher.dispatch(eventPublisher, buildPayload("jti-3"),
+                buildEventContext("other-event-uri")));
+        waitForDeliveredCount(1);
+        Assert.assertEquals(eventPublisher.publishedJtis, Collections.singletonList("jti-3"));
+
+        release.countDown();
+        waitForDeliveredCount(3);
+    }
+
+    @Test
+    public void testFailedDeliveryIsNotRetriedWhenRetryCountIsZero() throws Exception {
+
+        eventDispatcher = new EventDispatcher(1, 10, 1, 0, 10, 5000);
+        AtomicInteger attempts = new AtomicInteger();
+        RecordingEventPublisher eventPublisher = new RecordingEventPublisher(false, 1) {
+            @Override
+            public void publish(SecurityEventTokenPayload payload, EventContext eventContext)
+                    throws EventPublisherException {
+
+                attempts.incrementAndGet();
+                throw new EventPublisherException("E", "msg", "desc");
+            }
+        };
+
+        eventDispatcher.dispatch(eventPublisher, buildPayload("jti-0"), buildEventContext("event-uri"));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (eventDispatcher.getMetrics().getFailedCount() < 1 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        EventDispatchMetrics metrics = eventDispatcher.getMetrics();
+        Assert.assertEquals(metrics.getFailedCount(), 1);
+        Assert.assertEquals(metrics.getRetriedCount(), 0);
+        Assert.assertEquals(attempts.get(), 1);
+    }
+
+    @Test
+    public void testShutdownDeliversQueuedEvents() throws Exception {
+
+        eventDispatcher = new EventDispatcher(1, 10, 1, 0, 10, 5000);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEventPublisher eventPublisher = new RecordingEventPublisher(false, 3) {
+            @Override
+            public void publish(SecurityEventTokenPayload payload, EventContext eventContext)
+                    throws EventPublisherException {
+
+                blocked.countDown();
+                awaitQuietly(release);
+                super.publish(payload, eventContext);
+            }
+        };
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(eventDispatcher.dispatch(eventPublisher, buildPayload("jti-" + i),
+                    buildEventContext("event-uri")));
+        }
+        Assert.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        eventDispatcher.shutdown();
+
+        Assert.assertEquals(eventPublisher.publishedJtis.size(), 3);
+        EventDispatchMetrics metrics = eventDispatcher.getMetrics();
+        Assert.assertEquals(metrics.getDeliveredCount(), 3);
+        Assert.assertEquals(metrics.getQueuedCount(), 0);
+
+        // Events published after the shutdown are handed back to the caller.
+        Assert.assertFalse(eventDispatcher.dispatch(eventPublisher, buildPayload("jti-3"),
+                buildEventContext("event-uri")));
+    }
+
+    @Test
+    public void testShutdownAttemptsPendingRetries() throws Exception {
+
+        eventDispatcher = new EventDispatcher(1, 10, 1, 1, 60000, 5000);
+        AtomicInteger attempts = new AtomicInteger();
+        RecordingEventPublisher eventPublisher = new RecordingEventPublisher(false, 1) {
+            @Override
+            public void publish(SecurityEventTokenPayload payload, EventContext eventContext)
+                    throws EventPublisherException {
+
+                if (attempts.incrementAndGet() == 1) {
+                    throw new EventPublisherException("E", "msg", "desc");
+                }
+                super.publish(payload, eventContext);
+            }
+        };
+
+        eventDispatcher.dispatch(eventPublisher, buildPayload("jti-0"), buildEventContext("event-uri"));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (eventDispatcher.getMetrics().getRetriedCount() < 1 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        eventDispatcher.shutdown();
+
+        Assert.assertEquals(attempts.get(), 2);
+        Assert.assertEquals(eventDispatcher.getMetrics().getDeliveredCount(), 1);
+    }
+
+    private EventDispatchMetrics waitForDeliveredCount(long deliveredCount) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        EventDispatchMetrics metrics = eventDispatcher.getMetrics();
+        while (metrics.getDeliveredCount() < deliveredCount && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+            metrics = eventDispatcher.getMetrics();
+        }
+        Assert.assertEquals(metrics.getDeliveredCount(), deliveredCount);
+        return metrics;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SecurityEventTokenPayload buildPayload(String jti) {
+
+        return SecurityEventTokenPayload.builder().jti(jti).events(Collections.emptyMap()).build();
+    }
+
+    private static EventContext buildEventContext(String eventUri) {
+
+        return EventContext.builder().eventUri(eventUri).build();
+    }
+
+    /**
+     * Event publisher which records the published events.
+     */
+    private static class RecordingEventPublisher implements EventPublisher {
+
+        private final boolean batchSupported;
+        private final CountDownLatch delivered;
+        private final List<String> publishedJtis = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger batchCount = new AtomicInteger();
+
+        private RecordingEventPublisher(boolean batchSupported, int expectedEventCount) {
+
+            this.batchSupported = batchSupported;
+            this.delivered = new CountDownLatch(expectedEventCount);
+        }
+
+        @Override
+        public String getAssociatedAdapter() {
+
+            return "webSubHubAdapter";
+        }
+
+        @Override
+        public void publish(SecurityEventTokenPayload payload, EventContext eventContext)
+                throws EventPublisherException {
+
+            publishedJtis.add(payload.getJti());
+            delivered.countDown();
+        }
+
+        @Override
+        public boolean canHandleEvent(EventContext eventContext) {
+
+            return true;
+        }
+
+        @Override
+        public boolean supportsBatchPublishing() {
+
+            return batchSupported;
+        }
+
+        @Override
+        public void publishBatch(List<SecurityEventTokenPayload> payloads, EventContext eventContext) {
+
+            batchCount.incrementAndGet();
+            for (SecurityEventTokenPayload payload : payloads) {
+                publishedJtis.add(payload.getJti());
+                delivered.countDown();
+            }
+        }
+    }
+}
@@ -35,6 +35,10 @@ import org.wso2.carbon.identity.workflow.mgt.bean.Parameter;
 import org.wso2.carbon.identity.workflow.mgt.bean.RequestParameter;
 import org.wso2.carbon.identity.workflow.mgt.bean.Workflow;
 import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowAssociation;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationBinding;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationCache;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationCacheEntry;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationCacheKey;
 import org.wso2.carbon.identity.workflow.mgt.dao.RequestEntityRelationshipDAO;
 import org.wso2.carbon.identity.workflow.mgt.dao.WorkflowDAO;
 import org.wso2.carbon.identity.workflow.mgt.dao.WorkflowRequestAssociationDAO;
@@ -52,10 +56,13 @@ import org.wso2.carbon.identity.workflow.mgt.util.WorkflowRequestStatus;
 import org.wso2.carbon.identity.workflow.mgt.workflow.AbstractWorkflow;
 import org.wso2.carbon.user.api.UserStoreException;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Workflow Executor Manager class.
@@ -64,6 +71,9 @@ public class WorkFlowExecutorManager {
 
     private static final Log log = LogFactory.getLog(WorkFlowExecutorManager.class);
     private static WorkFlowExecutorManager instance = new WorkFlowExecutorManager();
+    private static final int MAX_COMPILED_CONDITIONS = 1000;
+
+    private final Map<String, AXIOMXPath> compiledConditions = new ConcurrentHashMap<>();
 
     private WorkFlowExecutorManager() {
 
@@ -96,15 +106,12 @@ public class WorkFlowExecutorManager {
         if (StringUtils.isBlank(workFlowRequest.getUuid())) {
             workFlowRequest.setUuid(UUID.randomUUID().toString());
         }
-        OMElement xmlRequest = WorkflowRequestBuilder.buildXMLRequest(workFlowRequest);
-        WorkflowRequestAssociationDAO requestAssociationDAO = new WorkflowRequestAssociationDAO();
-        WorkflowDAO workflowDAO = new WorkflowDAO();
-        List<WorkflowAssociation> associations =
-                requestAssociationDAO.getWorkflowAssociationsForRequest(workFlowRequest.getEventType(), workFlowRequest
-                        .getTenantId());
-        if (CollectionUtils.isEmpty(associations)) {
+        List<WorkflowAssociationBinding> associationBindings =
+                getAssociationBindings(workFlowRequest.getEventType(), workFlowRequest.getTenantId());
+        if (CollectionUtils.isEmpty(associationBindings)) {
             return new WorkflowExecutorResult(ExecutorResultState.NO_ASSOCIATION);
         }
+        OMElement xmlRequest = WorkflowRequestBuilder.buildXMLRequest(workFlowRequest);
         String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
         Map<String, Object> ruleEvaluationContextData = new HashMap<>();
         ruleEvaluationContextData.put("eventType", workFlowRequest.getEventType());
@@ -119,7 +126,8 @@ public class WorkFlowExecutorManager {
         }
         boolean workflowEngaged = false;
         boolean requestSaved = false;
-        for (WorkflowAssociation association : associations) {
+        for (WorkflowAssociationBinding associationBinding : associationBindings) {
+            WorkflowAssociation association = associationBinding.getAssociation();
             try {
                 String conditionForEvaluation = association.getAssociationCondition();
                 boolean isConditionSatisfied = false;
@@ -134,8 +142,7 @@ public class WorkFlowExecutorManager {
                             .evaluate(conditionForEvaluation, flowContext, tenantDomain);
                     isConditionSatisfied = result.isRuleSatisfied();
                 } else {
-                    AXIOMXPath axiomxPath = new AXIOMXPath(conditionForEvaluation);
-                    isConditionSatisfied = axiomxPath.booleanValueOf(xmlRequest);
+                    isConditionSatisfied = getCompiledCondition(conditionForEvaluation).booleanValueOf(xmlRequest);
                 }
                 // If condition is satisfied (or no rule configured), engage approval workflow.
                 if (isConditionSatisfied) {
@@ -159,11 +166,10 @@ public class WorkFlowExecutorManager {
                     String relationshipId = UUID.randomUUID().toString();
                     WorkflowRequest requestToSend = workFlowRequest.clone();
                     requestToSend.setUuid(relationshipId);
-                    Workflow workflow = workflowDAO.getWorkflow(association.getWorkflowId());
+                    Workflow workflow = associationBinding.getWorkflow();
                     AbstractWorkflow templateImplementation = WorkflowServiceDataHolder.getInstance()
                             .getWorkflowImpls().get(workflow.getTemplateId()).get(workflow.getWorkflowImplId());
-                    List<Parameter> parameterList = workflowDAO.getWorkflowParams(association.getWorkflowId());
-                    templateImplementation.execute(requestToSend, parameterList);
+                    templateImplementation.execute(requestToSend, associationBinding.getParameters());
                     workflowRequestAssociationDAO.addNewRelationship(relationshipId, association.getWorkflowId(),
                             workFlowRequest
                                     .getUuid(), WorkflowRequestStatus.PENDING
@@ -259,6 +265,62 @@ public class WorkFlowExecutorManager {
         }
     }
 
+    /**
+     * Get the workflow associations of the given event type along with the workflows they are bound to. The
+     * associations are served from the workflow association cache, which is cleared whenever a workflow or an
+     * association of the tenant changes.
+     *
+     * @param eventType Event type of the request.
+     * @param tenantId  Tenant ID of the request.
+     * @return Workflow association bindings of the event type.
+     * @throws InternalWorkflowException If an error occurs while retrieving the associations.
+     */
+    private List<WorkflowAssociationBinding> getAssociationBindings(String eventType, int tenantId)
+            throws InternalWorkflowException {
+
+        WorkflowAssociationCacheKey cacheKey = new WorkflowAssociationCacheKey(eventType);
+        WorkflowAssociationCacheEntry cacheEntry =
+                WorkflowAssociationCache.getInstance().getValueFromCache(cacheKey, tenantId);
+        if (cacheEntry != null) {
+            return cacheEntry.getAssociationBindings();
+        }
+
+        WorkflowRequestAssociationDAO requestAssociationDAO = new WorkflowRequestAssociationDAO();
+        WorkflowDAO workflowDAO = new WorkflowDAO();
+        List<WorkflowAssociation> associations =
+                requestAssociationDAO.getWorkflowAssociationsForRequest(eventType, tenantId);
+        List<WorkflowAssociationBinding> associationBindings = new ArrayList<>(associations.size());
+        for (WorkflowAssociation association : associations) {
+            Workflow workflow = workflowDAO.getWorkflow(association.getWorkflowId());
+            List<Parameter> parameterList = workflow != null ?
+                    workflowDAO.getWorkflowParams(association.getWorkflowId()) : Collections.emptyList();
+            associationBindings.add(new WorkflowAssociationBinding(association, workflow, parameterList));
+        }
+        WorkflowAssociationCache.getInstance().addToCache(cacheKey,
+                new WorkflowAssociationCacheEntry(associationBindings), tenantId);
+        return associationBindings;
+    }
+
+    /**
+     * Get the compiled XPath expression of an association condition. Compiled expressions are only evaluated and
+     * never modified, hence they are shared between the requests.
+     *
+     * @param condition XPath association condition.
+     * @return Compiled XPath expression.
+     * @throws JaxenException If the condition is not a valid XPath expression.
+     */
+    private AXIOMXPath getCompiledCondition(String condition) throws JaxenException {
+
+        AXIOMXPath compiledCondition = compiledConditions.get(condition);
+        if (compiledCondition == null) {
+            compiledCondition = new AXIOMXPath(condition);
+            if (compiledConditions.size() < MAX_COMPILED_CONDITIONS) {
+                compiledConditions.put(condition, compiledCondition);
+            }
+        }
+        return compiledCondition;
+    }
+
     private boolean isAllWorkflowsCompleted(WorkflowRequestAssociationDAO workflowRequestAssociationDAO, String
             requestId) throws InternalWorkflowException {
 
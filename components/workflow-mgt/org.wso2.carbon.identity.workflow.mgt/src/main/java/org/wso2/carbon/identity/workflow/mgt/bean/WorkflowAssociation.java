@@ -18,10 +18,14 @@
 
 package org.wso2.carbon.identity.workflow.mgt.bean;
 
+import java.io.Serializable;
+
 /**
  * Workflow Association class.
  */
-public class WorkflowAssociation {
+public class WorkflowAssociation implements Serializable {
+
+    private static final long serialVersionUID = 3418570329646385412L;
 
     private int associationId;
     private String associationName;
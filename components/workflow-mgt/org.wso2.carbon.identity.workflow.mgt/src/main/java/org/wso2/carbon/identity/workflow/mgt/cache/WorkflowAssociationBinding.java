@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.cache;
+
+import org.wso2.carbon.identity.workflow.mgt.bean.Parameter;
+import org.wso2.carbon.identity.workflow.mgt.bean.Workflow;
+import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowAssociation;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A workflow association together with the workflow and the workflow parameters it is bound to.
+ */
+public class WorkflowAssociationBinding implements Serializable {
+
+    private static final long serialVersionUID = -7440126938315720643L;
+    private final WorkflowAssociation association;
+    private final Workflow workflow;
+    private final List<Parameter> parameters;
+
+    public WorkflowAssociationBinding(WorkflowAssociation association, Workflow workflow,
+                                      List<Parameter> parameters) {
+
+        this.association = association;
+        this.workflow = workflow;
+        this.parameters = parameters;
+    }
+
+    public WorkflowAssociation getAssociation() {
+
+        return association;
+    }
+
+    public Workflow getWorkflow() {
+
+        return workflow;
+    }
+
+    public List<Parameter> getParameters() {
+
+        return parameters;
+    }
+}
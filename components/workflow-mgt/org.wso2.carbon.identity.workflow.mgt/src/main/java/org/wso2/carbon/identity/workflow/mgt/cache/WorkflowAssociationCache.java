@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.CarbonUtils;
+
+/**
+ * Cache of the workflow associations of an event type, maintained per tenant.
+ */
+public class WorkflowAssociationCache extends BaseCache<WorkflowAssociationCacheKey, WorkflowAssociationCacheEntry> {
+
+    private static final String CACHE_NAME = "WorkflowAssociationCache";
+
+    private static final WorkflowAssociationCache INSTANCE = new WorkflowAssociationCache();
+
+    private WorkflowAssociationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get workflow association cache instance.
+     *
+     * @return Workflow association cache instance.
+     */
+    public static WorkflowAssociationCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        return INSTANCE;
+    }
+}
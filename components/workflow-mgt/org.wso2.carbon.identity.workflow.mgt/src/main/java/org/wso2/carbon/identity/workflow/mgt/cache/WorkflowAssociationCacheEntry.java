@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.List;
+
+/**
+ * Cache entry holding the workflow associations of an event type. An empty list is cached as well, so that events
+ * without any association are resolved without a database lookup.
+ */
+public class WorkflowAssociationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 6803254617318296471L;
+    private final List<WorkflowAssociationBinding> associationBindings;
+
+    public WorkflowAssociationCacheEntry(List<WorkflowAssociationBinding> associationBindings) {
+
+        this.associationBindings = associationBindings;
+    }
+
+    public List<WorkflowAssociationBinding> getAssociationBindings() {
+
+        return associationBindings;
+    }
+}
@@ -40,6 +40,7 @@ import org.wso2.carbon.identity.workflow.mgt.WorkflowManagementService;
 import org.wso2.carbon.identity.workflow.mgt.WorkflowManagementServiceImpl;
 import org.wso2.carbon.identity.workflow.mgt.extension.WorkflowRequestHandler;
 import org.wso2.carbon.identity.workflow.mgt.handler.WorkflowPendingUserAuthnHandler;
+import org.wso2.carbon.identity.workflow.mgt.listener.WorkflowAssociationCacheListener;
 import org.wso2.carbon.identity.workflow.mgt.listener.WorkflowAuditLogger;
 import org.wso2.carbon.identity.workflow.mgt.listener.WorkflowExecutorAuditLogger;
 import org.wso2.carbon.identity.workflow.mgt.listener.WorkflowExecutorManagerListener;
@@ -83,6 +84,8 @@ public class WorkflowMgtServiceComponent {
             WorkflowServiceDataHolder.getInstance().setBundleContext(bundleContext);
             ServiceRegistration serviceRegistration = context.getBundleContext()
                     .registerService(WorkflowListener.class.getName(), new WorkflowAuditLogger(), null);
+            context.getBundleContext().registerService(WorkflowListener.class.getName(),
+                    new WorkflowAssociationCacheListener(), null);
             context.getBundleContext()
                     .registerService(WorkflowExecutorManagerListener.class.getName(), new WorkflowExecutorAuditLogger(),
                             null);
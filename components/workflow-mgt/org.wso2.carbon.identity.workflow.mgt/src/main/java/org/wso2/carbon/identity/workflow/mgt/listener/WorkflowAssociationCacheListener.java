@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.workflow.mgt.bean.Parameter;
+import org.wso2.carbon.identity.workflow.mgt.bean.Workflow;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationCache;
+import org.wso2.carbon.identity.workflow.mgt.exception.WorkflowException;
+
+import java.util.List;
+
+/**
+ * Workflow listener which clears the workflow association cache of a tenant whenever a workflow or a workflow
+ * association of the tenant is changed.
+ */
+public class WorkflowAssociationCacheListener extends AbstractWorkflowListener {
+
+    private static final Log log = LogFactory.getLog(WorkflowAssociationCacheListener.class);
+
+    /**
+     * The cached associations become stale without this listener, hence it cannot be disabled.
+     *
+     * @return True.
+     */
+    @Override
+    public boolean isEnable() {
+
+        return true;
+    }
+
+    @Override
+    public void doPostAddWorkflow(Workflow workflowDTO, List<Parameter> parameterList, int tenantId)
+            throws WorkflowException {
+
+        clearCache(tenantId);
+    }
+
+    @Override
+    public void doPostDeleteWorkflow(Workflow workflow) throws WorkflowException {
+
+        clearCache(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+    }
+
+    @Override
+    public void doPostDeleteWorkflows(int tenantId) throws WorkflowException {
+
+        clearCache(tenantId);
+    }
+
+    @Override
+    public void doPostAddAssociation(String associationName, String workflowId, String eventId, String condition)
+            throws WorkflowException {
+
+        clearCache(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+    }
+
+    @Override
+    public void doPostRemoveAssociation(int associationId) throws WorkflowException {
+
+        clearCache(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+    }
+
+    @Override
+    public void doPostChangeAssociationState(String associationId, boolean isEnable) throws WorkflowException {
+
+        clearCache(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+    }
+
+    @Override
+    public void doPostUpdateAssociation(String associationId, String associationName, String workflowId,
+                                        String eventId, String condition, boolean isEnable) {
+
+        clearCache(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+    }
+
+    private void clearCache(int tenantId) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Clearing the workflow association cache of tenant: " + tenantId);
+        }
+        WorkflowAssociationCache.getInstance().clear(tenantId);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.workflow.mgt.listener;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.workflow.mgt.bean.Workflow;
+import org.wso2.carbon.identity.workflow.mgt.cache.WorkflowAssociationCache;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for WorkflowAssociationCacheListener.
+ */
+public class WorkflowAssociationCacheListenerTest {
+
+    private static final int TENANT_ID = 1;
+
+    private MockedStatic<WorkflowAssociationCache> workflowAssociationCacheMockedStatic;
+    private MockedStatic<PrivilegedCarbonContext> privilegedCarbonContextMockedStatic;
+    private WorkflowAssociationCache workflowAssociationCache;
+    private WorkflowAssociationCacheListener listener;
+
+    @BeforeMethod
+    public void setUp() {
+
+        workflowAssociationCache = mock(WorkflowAssociationCache.class);
+        workflowAssociationCacheMockedStatic = mockStatic(WorkflowAssociationCache.class);
+        workflowAssociationCacheMockedStatic.when(WorkflowAssociationCache::getInstance)
+                .thenReturn(workflowAssociationCache);
+
+        PrivilegedCarbonContext carbonContext = mock(PrivilegedCarbonContext.class);
+        when(carbonContext.getTenantId()).thenReturn(TENANT_ID);
+        privilegedCarbonContextMockedStatic = mockStatic(PrivilegedCarbonContext.class);
+        privilegedCarbonContextMockedStatic.when(PrivilegedCarbonContext::getThreadLocalCarbonContext)
+                .thenReturn(carbonContext);
+
+        listener = new WorkflowAssociationCacheListener();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        workflowAssociationCacheMockedStatic.close();
+        privilegedCarbonContextMockedStatic.close();
+    }
+
+    @Test
+    public void testListenerIsAlwaysEnabled() {
+
+        assertTrue(listener.isEnable());
+    }
+
+    @Test
+    public void testCacheClearedOnWorkflowChanges() throws Exception {
+
+        listener.doPostAddWorkflow(new Workflow(), Collections.emptyList(), TENANT_ID);
+        listener.doPostDeleteWorkflow(new Workflow());
+        listener.doPostDeleteWorkflows(TENANT_ID);
+
+        verify(workflowAssociationCache, times(3)).clear(TENANT_ID);
+    }
+
+    @Test
+    public void testCacheClearedOnAssociationChanges() throws Exception {
+
+        listener.doPostAddAssociation("association", "workflowId", "ADD_USER", null);
+        listener.doPostRemoveAssociation(1);
+        listener.doPostChangeAssociationState("1", false);
+        listener.doPostUpdateAssociation("1", "association", "workflowId", "ADD_USER", null, true);
+
+        verify(workflowAssociationCache, times(4)).clear(TENANT_ID);
+    }
+}
@@ -346,6 +346,15 @@ CREATE TABLE IDN_AUTH_TEMP_SESSION_STORE (
             PRIMARY KEY (SESSION_ID, SESSION_TYPE, TIME_CREATED, OPERATION)
 );
 
+CREATE TABLE IF NOT EXISTS IDN_AUTH_SESSION_CLEANUP_LEASE (
+            PARTITION_NAME VARCHAR(100) NOT NULL,
+            OWNER_ID VARCHAR(255) NOT NULL,
+            EXPIRY_TIME BIGINT NOT NULL,
+            CURSOR_TIME_CREATED BIGINT,
+            CURSOR_SESSION_ID VARCHAR(100),
+            PRIMARY KEY (PARTITION_NAME)
+);
+
 CREATE TABLE IF NOT EXISTS IDN_AUTH_USER (
             USER_ID VARCHAR(255) NOT NULL,
             USER_NAME VARCHAR(255) NOT NULL,
@@ -1959,6 +1968,7 @@ CREATE INDEX IDX_IDN_AUTH_SESSION_TIME ON IDN_AUTH_SESSION_STORE (TIME_CREATED);
 CREATE INDEX IDX_IDN_AUTH_SSTR_ST_OP_ID_TM ON IDN_AUTH_SESSION_STORE (OPERATION, SESSION_TYPE, SESSION_ID, TIME_CREATED);
 CREATE INDEX IDX_IDN_AUTH_SSTR_ET_ID ON IDN_AUTH_SESSION_STORE (EXPIRY_TIME, SESSION_ID);
 CREATE INDEX IDX_IDN_AUTH_SSTR_ID_ST_TM ON IDN_AUTH_SESSION_STORE (SESSION_ID, SESSION_TYPE, TIME_CREATED);
+CREATE INDEX IDX_IDN_AUTH_SSTR_OP_TM_ID ON IDN_AUTH_SESSION_STORE (OPERATION, TIME_CREATED, SESSION_ID);
 CREATE INDEX IDX_IDN_AUTH_SSTR_TID_SID ON IDN_AUTH_SESSION_STORE (TENANT_ID, SESSION_ID);
 
 -- IDN_AUTH_SESSION_META_DATA --
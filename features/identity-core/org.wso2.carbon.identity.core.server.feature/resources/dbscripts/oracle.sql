@@ -434,6 +434,16 @@ CREATE TABLE IDN_AUTH_TEMP_SESSION_STORE (
 
 /
 
+CREATE TABLE IDN_AUTH_SESSION_CLEANUP_LEASE (
+            PARTITION_NAME VARCHAR(100) NOT NULL,
+            OWNER_ID VARCHAR(255) NOT NULL,
+            EXPIRY_TIME NUMBER(19) NOT NULL,
+            CURSOR_TIME_CREATED NUMBER(19),
+            CURSOR_SESSION_ID VARCHAR(100),
+            PRIMARY KEY (PARTITION_NAME)
+)
+/
+
 CREATE TABLE IDN_AUTH_USER (
             USER_ID VARCHAR(255) NOT NULL,
             USER_NAME VARCHAR(255) NOT NULL,
@@ -3134,6 +3144,8 @@ CREATE INDEX IDX_IDN_AUTH_SSTR_ET_ID ON IDN_AUTH_SESSION_STORE (EXPIRY_TIME, SES
 /
 CREATE INDEX IDX_IDN_AUTH_SSTR_ID_ST_TM ON IDN_AUTH_SESSION_STORE (SESSION_ID, SESSION_TYPE, TIME_CREATED DESC)
 /
+CREATE INDEX IDX_IDN_AUTH_SSTR_OP_TM_ID ON IDN_AUTH_SESSION_STORE (OPERATION, TIME_CREATED, SESSION_ID)
+/
 CREATE INDEX IDX_IDN_AUTH_SSTR_TID_SID ON IDN_AUTH_SESSION_STORE (TENANT_ID, SESSION_ID)
 /
 